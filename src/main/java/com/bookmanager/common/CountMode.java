@@ -0,0 +1,23 @@
+package com.bookmanager.common;
+
+/**
+ * 목록 조회 시 전체 건수 계산 방식 (countMode 요청 파라미터)
+ */
+public enum CountMode {
+
+    /**
+     * 정확한 전체 건수 (COUNT 쿼리 실행, 기존 Page 응답)
+     */
+    EXACT,
+
+    /**
+     * 전체 건수 없음 (size + 1건 조회로 다음 페이지 여부만 판단)
+     */
+    NONE,
+
+    /**
+     * 캐시된 근사 전체 건수 (오래된 값은 백그라운드에서 다시 계산)
+     */
+    APPROX
+
+}
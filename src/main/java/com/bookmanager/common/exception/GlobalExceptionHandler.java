@@ -4,6 +4,8 @@ import com.bookmanager.common.response.ApiResponse;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -64,6 +66,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * VersionConflictException / OptimisticLockingFailureException 처리
+     * 다른 요청이 먼저 수정한 도서를 수정하려 할 때 409 CONFLICT 응답 반환
+     *
+     * @param ex VersionConflictException 또는 Dirty Checking UPDATE의 버전 불일치
+     * @return ResponseEntity<ApiResponse<Void>>
+     */
+    @ExceptionHandler({VersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ApiResponse<Void>> handleVersionConflictException(RuntimeException ex) {
+        log.warn("VersionConflictException: {}", ex.getMessage());
+
+        String message = ex instanceof VersionConflictException
+            ? ex.getMessage()
+            : "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 수정해주세요.";
+        ApiResponse<Void> response = ApiResponse.fail(message, "VERSION_CONFLICT");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * ReadOnlyModeException 처리
+     * 데이터베이스 장애 중 쓰기 요청은 503 SERVICE_UNAVAILABLE + Retry-After 응답 반환
+     *
+     * @param ex ReadOnlyModeException
+     * @return ResponseEntity<ApiResponse<Void>>
+     */
+    @ExceptionHandler(ReadOnlyModeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleReadOnlyModeException(ReadOnlyModeException ex) {
+        log.warn("ReadOnlyModeException: {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.fail(ex.getMessage(), "READ_ONLY_MODE");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(response);
+    }
+
     /**
      * IllegalStateException 처리
      * 비즈니스 로직 위반 시 400 BAD_REQUEST 응답 반환
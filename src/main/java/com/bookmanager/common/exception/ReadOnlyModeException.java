@@ -0,0 +1,23 @@
+package com.bookmanager.common.exception;
+
+/**
+ * 데이터베이스 장애로 읽기 전용 모드일 때 쓰기 요청에서 발생하는 예외
+ * 커넥션 풀에서 기다리지 않고 바로 거부 (503 SERVICE_UNAVAILABLE + Retry-After)
+ */
+public class ReadOnlyModeException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ReadOnlyModeException(long retryAfterSeconds, Throwable cause) {
+        super("데이터베이스 장애로 읽기 전용 모드입니다. 잠시 후 다시 시도해주세요.", cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 클라이언트가 다시 시도하기까지 기다릴 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.bookmanager.common.exception;
+
+/**
+ * 수정 요청의 버전이 현재 버전과 다를 때 발생하는 예외 (낙관적 잠금 충돌)
+ * 그 사이 다른 요청이 먼저 수정했으므로 다시 조회한 뒤 수정해야 함 (409 CONFLICT)
+ */
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * 도서 ID와 버전을 포함한 예외 메시지 생성
+     */
+    public static VersionConflictException withBookId(String bookId, long expected, long current) {
+        return new VersionConflictException("다른 요청이 먼저 도서를 수정했습니다. 다시 조회한 뒤 수정해주세요. "
+            + "(ID: " + bookId + ", 요청 버전: " + expected + ", 현재 버전: " + current + ")");
+    }
+
+    /**
+     * 도서 ID를 포함한 예외 메시지 생성 (현재 버전을 모르는 경우)
+     */
+    public static VersionConflictException withBookId(String bookId) {
+        return new VersionConflictException("다른 요청이 먼저 도서를 수정했습니다. 다시 조회한 뒤 수정해주세요. "
+            + "(ID: " + bookId + ")");
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.bookmanager.common.repository;
+
+import java.util.List;
+
+/**
+ * 대량 저장용 Repository 조각 (Spring Data fragment)
+ * 구현체는 BatchSaveRepositoryImpl (이름 규칙으로 Spring Data가 자동 연결)
+ *
+ * saveAll()은 엔티티를 영속성 컨텍스트에 계속 쌓아 두므로 10만 건 단위에서는
+ * flush 때 dirty checking 비용과 메모리가 함께 늘어남
+ * → hibernate.jdbc.batch_size 건마다 flush + clear
+ */
+public interface BatchSaveRepository<T> {
+
+    /**
+     * 엔티티 목록을 JDBC 배치 INSERT로 저장
+     * 반환된 엔티티는 준영속(detached) 상태
+     * (같은 트랜잭션에서 먼저 조회한 엔티티도 clear로 함께 준영속 상태가 됨)
+     */
+    <S extends T> List<S> saveAllBatched(Iterable<S> entities);
+
+}
@@ -0,0 +1,56 @@
+package com.bookmanager.common.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * BatchSaveRepository 구현체
+ *
+ * Book, Member는 ID를 직접 할당(UUID v7)하므로 Hibernate JDBC 배치가 동작함
+ * (IDENTITY 전략이면 INSERT마다 생성된 키를 읽어야 해서 배치가 꺼짐)
+ */
+public class BatchSaveRepositoryImpl<T> implements BatchSaveRepository<T> {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BatchSaveRepositoryImpl(
+        EntityManager entityManager,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:1000}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> saveAllBatched(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        int pending = 0;
+        for (S entity : entities) {
+            // Persistable.isNew()가 true면 SELECT 없이 persist, 아니면 merge (save()와 같은 판단)
+            if (entity instanceof Persistable<?> persistable && !persistable.isNew()) {
+                saved.add(entityManager.merge(entity));
+            } else {
+                entityManager.persist(entity);
+                saved.add(entity);
+            }
+            if (++pending == batchSize) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        flushAndClear();
+        return saved;
+    }
+
+    // 배치 크기만큼 모이면 INSERT를 보내고 영속성 컨텍스트를 비움 (메모리 일정하게 유지)
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.bookmanager.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ *
+ * OFFSET 없이 "마지막으로 받은 항목 다음부터" 조회하므로 몇 번째 페이지든 조회 비용이 같음
+ * 다음 페이지는 nextCursor를 after 파라미터로 넘겨서 조회 (hasNext = false이면 nextCursor = null)
+ *
+ * 조회 시 size + 1건을 가져와 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+ */
+@Getter
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 페이지 크기 검증 후 실제 조회할 건수(size + 1) 반환
+     *
+     * @throws IllegalArgumentException 페이지 크기가 1 ~ MAX_SIZE 범위를 벗어난 경우
+     */
+    public static int fetchSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_SIZE + " 사이여야 합니다.");
+        }
+        return size + 1;
+    }
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지 생성
+     *
+     * @param rows 조회 결과 (최대 size + 1건)
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 마지막 항목의 커서 생성 함수
+     * @param mapper 응답 DTO 변환 함수
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.bookmanager.common.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/**
+ * COUNT 쿼리 없는 페이지 응답 (countMode = NONE / APPROX)
+ *
+ * Page 응답과 같은 이름의 필드(content, number, size, numberOfElements, first, last, empty)를 유지해
+ * 기존 클라이언트가 그대로 읽을 수 있도록 함
+ * - totalElements: 근사값이거나 없을 수 있음 (totalElementsExact로 구분)
+ * - totalElementsAsOf: 근사값을 계산한 시점
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int number;
+    private int size;
+    private int numberOfElements;
+    private boolean first;
+    private boolean last;
+    private boolean empty;
+    private boolean hasNext;
+
+    private Long totalElements;
+    private Boolean totalElementsExact;
+
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    private Instant totalElementsAsOf;
+
+    /**
+     * Slice 조회 결과로 응답 생성 (전체 건수 없음)
+     */
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return SliceResponse.<T>builder()
+            .content(slice.getContent())
+            .number(slice.getNumber())
+            .size(slice.getSize())
+            .numberOfElements(slice.getNumberOfElements())
+            .first(slice.isFirst())
+            .last(slice.isLast())
+            .empty(slice.isEmpty())
+            .hasNext(slice.hasNext())
+            .build();
+    }
+
+    /**
+     * 전체 건수를 포함한 응답 생성
+     *
+     * @param exact 정확한 값 여부 (마지막 페이지에서 직접 계산한 경우 등)
+     */
+    public static <T> SliceResponse<T> from(Slice<T> slice, long totalElements, boolean exact, Instant asOf) {
+        SliceResponse<T> response = from(slice);
+        response.totalElements = totalElements;
+        response.totalElementsExact = exact;
+        response.totalElementsAsOf = asOf;
+        return response;
+    }
+
+}
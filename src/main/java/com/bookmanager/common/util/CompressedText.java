@@ -0,0 +1,129 @@
+package com.bookmanager.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트(도서 설명 등)를 압축해서 바이너리 컬럼에 저장하기 위한 인코딩
+ *
+ * 첫 바이트는 형식 헤더 → 압축 알고리즘을 바꿔도 기존 행은 그대로 읽을 수 있음
+ * - RAW (0x00): [헤더][UTF-8 바이트] - 짧거나 압축해도 줄지 않는 텍스트
+ * - ZLIB (0x01): [헤더][원본 길이 4바이트, little-endian][zlib 스트림]
+ *   헤더 뒤 레이아웃은 MySQL COMPRESS()와 같으므로 기존 TEXT 컬럼을 SQL만으로 변환 가능
+ *   (CONCAT(0x01, COMPRESS(description)))
+ *
+ * Deflater/Inflater는 생성 시 네이티브 메모리를 할당하므로 스레드마다 하나씩 재사용
+ */
+public final class CompressedText {
+
+    public static final byte RAW = 0x00;
+    public static final byte ZLIB = 0x01;
+
+    // 이보다 짧은 UTF-8 텍스트는 압축 이득보다 헤더/CPU 비용이 커서 그대로 저장
+    static final int MIN_COMPRESS_BYTES = 128;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private CompressedText() {
+    }
+
+    /**
+     * @return 형식 헤더가 붙은 바이트, text가 null이면 null
+     */
+    public static byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = deflate(utf8);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] raw = new byte[utf8.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(utf8, 0, raw, 1, utf8.length);
+        return raw;
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 형식이거나 압축 데이터가 손상된 경우
+     */
+    public static String decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("형식 헤더가 없는 압축 텍스트입니다.");
+        }
+        return switch (bytes[0]) {
+            case RAW -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case ZLIB -> inflate(bytes);
+            default -> throw new IllegalArgumentException("지원하지 않는 압축 텍스트 형식입니다: " + bytes[0]);
+        };
+    }
+
+    // 압축 결과가 원본보다 작지 않으면 null
+    private static byte[] deflate(byte[] utf8) {
+        Deflater deflater = DEFLATER.get();
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            byte[] out = new byte[utf8.length];
+            out[0] = ZLIB;
+            out[1] = (byte) utf8.length;
+            out[2] = (byte) (utf8.length >>> 8);
+            out[3] = (byte) (utf8.length >>> 16);
+            out[4] = (byte) (utf8.length >>> 24);
+            int length = 5;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    return null;
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    private static String inflate(byte[] bytes) {
+        if (bytes.length < 5) {
+            // MySQL COMPRESS('')는 빈 문자열
+            return "";
+        }
+        int length = (bytes[1] & 0xff) | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff) << 16 | (bytes[4] & 0xff) << 24;
+        if (length < 0) {
+            throw new IllegalArgumentException("압축 텍스트 길이가 올바르지 않습니다: " + length);
+        }
+        Inflater inflater = INFLATER.get();
+        try {
+            inflater.setInput(bytes, 5, bytes.length - 5);
+            byte[] utf8 = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(utf8, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("압축 텍스트가 손상되었습니다.");
+                }
+                read += n;
+            }
+            // 원본 길이만큼 읽은 뒤 남은 체크섬(Adler-32)까지 확인 → 길이는 맞지만 내용이 손상된 경우 검출
+            if (!inflater.finished() && (inflater.inflate(new byte[1]) != 0 || !inflater.finished())) {
+                throw new IllegalArgumentException("압축 텍스트가 손상되었습니다.");
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 텍스트가 손상되었습니다.", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.bookmanager.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * (생성 시간, ID) 복합 정렬용 커서
+ *
+ * 생성 시간이 같은 행이 여러 개여도 ID로 순서를 확정하므로 페이지 경계에서 누락/중복이 없음
+ * 클라이언트에는 "epochSecond.nano|id"를 Base64 URL-safe로 인코딩한 불투명 문자열로 전달
+ */
+public record KeysetCursor(Instant createdAt, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + "." + createdAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * ID만 쓰는 커서(bookId/memberId 내림차순 조회)의 형식 확인, null/빈 값은 첫 페이지
+     * BinaryUuidType은 UUID가 아닌 문자열을 NULL로 바인딩하므로 빈 마지막 페이지 대신 400으로 처리
+     *
+     * @throws IllegalArgumentException UUID 형식이 아닌 경우
+     */
+    public static void validateId(String after) {
+        if (after != null && !after.isBlank() && !UuidBinary.isValid(after)) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + after);
+        }
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            int dot = raw.indexOf('.');
+            Instant createdAt = Instant.ofEpochSecond(
+                Long.parseLong(raw.substring(0, dot)), Long.parseLong(raw.substring(dot + 1, separator)));
+            String id = raw.substring(separator + 1);
+            if (!UuidBinary.isValid(id)) {
+                throw new IllegalArgumentException("UUID 형식이 아닙니다: " + id);
+            }
+            return new KeysetCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            // Base64/숫자 형식 오류, 구분자 누락(substring 범위 오류), UUID가 아닌 ID 모두 잘못된 커서로 처리
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.bookmanager.common.util;
+
+/**
+ * UUID 문자열(36자) ↔ 16바이트 변환
+ *
+ * DB에는 BINARY(16)으로 저장하고 API/도메인에서는 문자열 그대로 사용
+ * UUID v7은 앞 48비트가 시간이므로 바이트 순서 그대로 저장하면
+ * 바이트 비교 순서 = 소문자 문자열 비교 순서 (keyset/커서 조회 순서 유지)
+ */
+public final class UuidBinary {
+
+    public static final int BYTES = 16;
+
+    // keyset 조회 시작점 (모든 UUID보다 작거나 같음)
+    public static final String MIN = "00000000-0000-0000-0000-000000000000";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private UuidBinary() {
+    }
+
+    /**
+     * @throws IllegalArgumentException 8-4-4-4-12 형식의 16진수 UUID가 아닌 경우
+     */
+    public static byte[] toBytes(String uuid) {
+        if (!isValid(uuid)) {
+            throw new IllegalArgumentException("UUID 형식이 아닙니다: " + uuid);
+        }
+        byte[] bytes = new byte[BYTES];
+        int index = 0;
+        for (int i = 0; i < BYTES; i++) {
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                index++;
+            }
+            bytes[i] = (byte) (hexValue(uuid.charAt(index)) << 4 | hexValue(uuid.charAt(index + 1)));
+            index += 2;
+        }
+        return bytes;
+    }
+
+    public static String toString(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("UUID는 16바이트여야 합니다: " + bytes.length);
+        }
+        char[] chars = new char[36];
+        int index = 0;
+        for (int i = 0; i < BYTES; i++) {
+            if (i == 4 || i == 6 || i == 8 || i == 10) {
+                chars[index++] = '-';
+            }
+            chars[index++] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[index++] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    public static boolean isValid(String uuid) {
+        if (uuid == null || uuid.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = uuid.charAt(i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : hexValue(c) >= 0;
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.bookmanager.common.util;
 
-import com.github.f4b6a3.uuid.UuidCreator;
-
 public class UuidV7Creator {
 
+    private static final UuidV7Generator GENERATOR = new UuidV7Generator();
+
     public static String create() {
-        return UuidCreator.getTimeOrderedEpoch().toString();
+        return GENERATOR.create();
+    }
+
+    // 대량 등록용 (count개를 생성 순서대로 반환)
+    public static String[] create(int count) {
+        return GENERATOR.create(count);
     }
 
 }
@@ -0,0 +1,118 @@
+package com.bookmanager.common.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID v7 생성기 (RFC 9562, 스레드별 단조 증가 카운터)
+ *
+ * 비트 구성
+ * - 48비트: Unix epoch 밀리초
+ * - 4비트: 버전(7)
+ * - 42비트: 카운터 (rand_a 12비트 + rand_b 상위 30비트), 밀리초가 바뀌면 난수로 다시 시작
+ * - 2비트: variant(10)
+ * - 32비트: 스레드 고유 난수 (스레드마다 처음 한 번 SecureRandom으로 생성)
+ *
+ * 상태를 스레드별로 두므로 락/CAS 없이 생성하고, 같은 스레드 안에서는 같은 밀리초여도 항상 증가
+ * 서로 다른 스레드의 ID는 스레드 난수 32비트로 구분
+ * (같은 밀리초에 두 스레드의 카운터 41비트 시작값과 스레드 난수 32비트가 모두 같아야 충돌)
+ */
+public final class UuidV7Generator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long COUNTER_MAX = (1L << 42) - 1;
+    // 밀리초가 바뀔 때 최상위 비트를 0으로 시작해 2^41번 이상 증가할 여유를 둠
+    private static final long COUNTER_SEED_MASK = (1L << 41) - 1;
+
+    private static final SecureRandom NODE_RANDOM = new SecureRandom();
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> states = ThreadLocal.withInitial(() -> new State(NODE_RANDOM.nextInt()));
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 고정/역행시키기 위한 생성자
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public String create() {
+        State state = states.get();
+        state.next(clock.getAsLong());
+        return state.format();
+    }
+
+    /**
+     * count개를 한 번에 생성 (대량 등록용, 스레드 상태 조회와 char 버퍼를 한 번만 사용)
+     * 결과는 생성 순서대로 증가
+     */
+    public String[] create(int count) {
+        State state = states.get();
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            state.next(clock.getAsLong());
+            ids[i] = state.format();
+        }
+        return ids;
+    }
+
+    /**
+     * 스레드별 생성 상태 (마지막 밀리초, 카운터, 스레드 난수, 문자열 버퍼)
+     */
+    private static final class State {
+
+        private final long node;
+        private final char[] buffer = new char[36];
+        private long millis = -1;
+        private long counter;
+        private long msb;
+        private long lsb;
+
+        private State(int node) {
+            this.node = node & 0xffff_ffffL;
+            buffer[8] = '-';
+            buffer[13] = '-';
+            buffer[18] = '-';
+            buffer[23] = '-';
+        }
+
+        private void next(long now) {
+            // 시계가 뒤로 가면 마지막 밀리초를 유지하고 카운터만 증가
+            if (now > millis) {
+                millis = now;
+                counter = ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK;
+            } else if (++counter > COUNTER_MAX) {
+                // 같은 밀리초에 카운터를 다 쓰면 다음 밀리초를 미리 사용해 증가 순서 유지
+                millis++;
+                counter = ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK;
+            }
+            msb = millis << 16 | VERSION | counter >>> 30;
+            lsb = VARIANT | (counter & 0x3fff_ffffL) << 32 | node;
+        }
+
+        private String format() {
+            hex(msb >>> 32, 8, 0);
+            hex(msb >>> 16, 4, 9);
+            hex(msb, 4, 14);
+            hex(lsb >>> 48, 4, 19);
+            hex(lsb, 12, 24);
+            return new String(buffer);
+        }
+
+        // value의 하위 digits자리를 16진수로 offset부터 기록
+        private void hex(long value, int digits, int offset) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                buffer[i] = HEX[(int) value & 0xf];
+                value >>>= 4;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.bookmanager.config;
+
+import com.bookmanager.common.util.CompressedText;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 긴 텍스트 속성을 압축된 바이너리 컬럼(BLOB)으로 저장하는 JPA 컨버터
+ *
+ * 형식 헤더와 압축 방식은 CompressedText 참고
+ * JPQL에서 속성을 직접 조회해도(SELECT d.description) 컨버터가 적용되어 문자열로 반환
+ *
+ * 사용: @Convert(converter = CompressedTextConverter.class) + @Column(columnDefinition = "BLOB")
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return CompressedText.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return CompressedText.decode(dbData);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.bookmanager.config.datasource;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * 기본 DB(프라이머리) 상태 감시
+ *
+ * - 능동: probe-interval마다 커넥션을 받아 isValid 확인 (성공하면 정상, 실패하면 장애)
+ * - 수동: 요청 처리 중 커넥션/타임아웃 오류가 나면 markDown으로 바로 장애 전환 (다음 확인 성공 시 복구)
+ *
+ * 장애 상태에서는 요청이 커넥션 풀에서 기다리지 않도록 호출하는 쪽에서 DB를 건너뜀 (읽기는 스냅샷, 쓰기는 거부)
+ * 확인용 커넥션 대기는 커넥션 풀의 connection-timeout을 따르므로 확인은 별도 스레드에서만 실행
+ */
+@Slf4j
+public class DataSourceHealthMonitor {
+
+    private final DataSource dataSource;
+    private final long probeIntervalMillis;
+    private final int probeTimeoutSeconds;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "datasource-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // null이면 정상, 장애 중이면 장애를 처음 감지한 시각
+    private volatile Instant downSince;
+
+    public DataSourceHealthMonitor(DataSource dataSource, long probeIntervalMillis, long probeTimeoutMillis) {
+        this.dataSource = dataSource;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.probeTimeoutSeconds = (int) Math.max(1, (probeTimeoutMillis + 999) / 1000);
+    }
+
+    /**
+     * 주기적 상태 확인 시작
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::probe, 0, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isDown() {
+        return downSince != null;
+    }
+
+    /**
+     * 장애를 처음 감지한 시각 (정상이면 null)
+     */
+    public Instant downSince() {
+        return downSince;
+    }
+
+    /**
+     * 다음 상태 확인까지 남은 최대 시간 (초), 쓰기 거부 응답의 Retry-After
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (probeIntervalMillis + 999) / 1000);
+    }
+
+    /**
+     * 요청 처리 중 DB 오류 → 장애 상태로 전환
+     */
+    public void markDown(Throwable cause) {
+        if (downSince == null) {
+            downSince = Instant.now();
+            log.warn("데이터베이스 장애 감지, 읽기 전용 모드로 전환 - Error: {}", cause.getMessage());
+        }
+    }
+
+    /**
+     * DB 상태 이상으로 볼 수 있는 오류인지 (커넥션 획득 실패, 연결 끊김, 쿼리 타임아웃)
+     * 제약 조건 위반, 락 충돌 등 요청 자체의 오류는 포함하지 않음
+     */
+    public static boolean isConnectivityFailure(Throwable error) {
+        return error instanceof CannotCreateTransactionException
+            || error instanceof DataAccessResourceFailureException
+            || error instanceof TransientDataAccessResourceException
+            || error instanceof QueryTimeoutException
+            || error instanceof RecoverableDataAccessException;
+    }
+
+    void probe() {
+        boolean valid;
+        Exception error = null;
+        try (Connection connection = dataSource.getConnection()) {
+            valid = connection.isValid(probeTimeoutSeconds);
+        } catch (Exception e) {
+            valid = false;
+            error = e;
+        }
+
+        if (valid && downSince != null) {
+            log.info("데이터베이스 복구 확인, 읽기 전용 모드 해제 - Down since: {}", downSince);
+            downSince = null;
+        } else if (!valid && downSince == null) {
+            downSince = Instant.now();
+            log.warn("데이터베이스 상태 확인 실패, 읽기 전용 모드로 전환 - Error: {}",
+                error != null ? error.getMessage() : "isValid = false");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.bookmanager.config.datasource;
+
+/**
+ * 라우팅 대상 데이터소스
+ */
+public enum DataSourceType {
+
+    // 쓰기 + 읽기-후-쓰기 (원본 DB)
+    PRIMARY,
+
+    // readOnly 트랜잭션 (비동기 복제본, 지연 있음)
+    REPLICA
+
+}
@@ -0,0 +1,120 @@
+package com.bookmanager.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 쓰기 직후 같은 클라이언트의 읽기는 프라이머리로 보냄 (read-your-writes)
+ *
+ * 쓰기 트랜잭션이 커넥션을 가져가면 응답에 쓰기 시각 쿠키를 붙이고,
+ * 쿠키의 시각이 sticky-window 안이면 그 요청의 readOnly 트랜잭션도 프라이머리 사용
+ * - 상태를 쿠키에만 두므로 인스턴스가 여러 대여도 동작 (세션/공유 저장소 불필요)
+ * - sticky-window는 리플리카의 평소 복제 지연보다 넉넉하게 설정
+ * - 같은 요청 안에서는 쓰기 이후의 읽기도 프라이머리 사용
+ *
+ * 요청 스레드의 상태만 보므로 비동기 응답(카탈로그 내보내기)의 별도 스레드는 항상 리플리카
+ */
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "bookstore-last-write";
+
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesFilter(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        RequestState state = new RequestState(response, withinWindow(request), stickyWindowMillis);
+        CURRENT.set(state);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 현재 요청의 readOnly 트랜잭션을 프라이머리로 보내야 하는지
+     */
+    static boolean pinnedToPrimary() {
+        RequestState state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    /**
+     * 현재 요청에서 프라이머리 쓰기 발생 → 이후 읽기는 프라이머리 + 응답에 쓰기 시각 쿠키
+     * 요청 밖(스케줄러, 백그라운드 스레드)이면 무시
+     */
+    static void recordWrite() {
+        RequestState state = CURRENT.get();
+        if (state == null || state.written) {
+            return;
+        }
+        state.written = true;
+        state.pinned = true;
+        // 스트리밍 응답처럼 이미 헤더가 전송된 경우 쿠키는 생략 (다음 요청은 리플리카)
+        if (!state.response.isCommitted()) {
+            state.response.addCookie(cookie(state.stickyWindowMillis));
+        }
+    }
+
+    private boolean withinWindow(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName())) {
+                continue;
+            }
+            try {
+                long lastWrite = Long.parseLong(cookie.getValue());
+                return lastWrite <= now && now - lastWrite < stickyWindowMillis;
+            } catch (NumberFormatException e) {
+                log.debug("쓰기 시각 쿠키 형식 오류 - Value: {}", cookie.getValue());
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static Cookie cookie(long stickyWindowMillis) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        // 창이 지나면 브라우저도 쿠키를 버리도록 (서버는 쿠키 값의 시각으로 다시 확인)
+        cookie.setMaxAge((int) Math.max(1, (stickyWindowMillis + 999) / 1000));
+        return cookie;
+    }
+
+    /**
+     * 요청 스레드에서만 접근하는 상태
+     */
+    private static class RequestState {
+
+        private final HttpServletResponse response;
+        private final long stickyWindowMillis;
+        private boolean pinned;
+        private boolean written;
+
+        RequestState(HttpServletResponse response, boolean pinned, long stickyWindowMillis) {
+            this.response = response;
+            this.pinned = pinned;
+            this.stickyWindowMillis = stickyWindowMillis;
+        }
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.bookmanager.config.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * H2 두 개(프라이머리/리플리카)로 비동기 복제 지연을 흉내내는 로컬/테스트용 복제기
+ *
+ * interval마다 프라이머리 전체를 한 스냅숏으로 읽고 lag 후에 리플리카에 한 트랜잭션으로 반영
+ * → 리플리카는 항상 lag ~ lag + interval 전의 프라이머리 상태
+ * - 스냅숏 순서대로만 반영 (실제 복제처럼 리플리카가 과거로 되돌아가지 않음)
+ * - 프라이머리 스키마(SCRIPT NODATA)가 바뀌면 리플리카 스키마를 다시 생성
+ * - 테이블 전체 복사이므로 테스트 규모 데이터 전용 (MySQL 운영 환경에서는 사용하지 않음)
+ */
+@Slf4j
+public class ReplicaLagSimulator implements SmartLifecycle {
+
+    private final DataSource primary;
+    private final String replicaUrl;
+    private final String username;
+    private final String password;
+    private final long lagMillis;
+    private final long intervalMillis;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-simulator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 아래 필드는 executor 스레드에서만 접근
+    private long capturedSequence;
+    private long appliedSequence;
+    private List<String> appliedSchema = List.of();
+
+    private volatile boolean running;
+
+    public ReplicaLagSimulator(DataSource primary, String replicaUrl, String username, String password,
+                               long lagMillis, long intervalMillis) {
+        this.primary = primary;
+        this.replicaUrl = replicaUrl;
+        this.username = username;
+        this.password = password;
+        this.lagMillis = lagMillis;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * 컨텍스트 초기화(Hibernate 스키마 생성) 이후 시작 → 첫 동기화는 바로 반영해서 리플리카 스키마 준비
+     */
+    @Override
+    public void start() {
+        syncNow();
+        executor.scheduleWithFixedDelay(this::captureSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("리플리카 복제 지연 시뮬레이션 시작 - Lag: {}ms, Interval: {}ms", lagMillis, intervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 지연 없이 지금의 프라이머리 상태를 리플리카에 반영 (테스트에서 복제 완료 시점 제어용)
+     */
+    public void syncNow() {
+        try {
+            executor.submit(() -> {
+                apply(capture());
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리플리카 동기화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("리플리카 동기화에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void captureSafely() {
+        try {
+            Snapshot snapshot = capture();
+            executor.schedule(() -> applySafely(snapshot), lagMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("프라이머리 스냅숏 실패 (다음 주기에 재시도) - Error: {}", e.getMessage());
+        }
+    }
+
+    private void applySafely(Snapshot snapshot) {
+        try {
+            apply(snapshot);
+        } catch (Exception e) {
+            log.warn("리플리카 반영 실패 (다음 스냅숏에서 재시도) - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스키마 + 모든 테이블 데이터를 같은 시점으로 읽음 (REPEATABLE READ 트랜잭션 하나)
+     */
+    private Snapshot capture() throws SQLException {
+        try (Connection connection = primary.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                List<String> schema = new ArrayList<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SCRIPT NODATA")) {
+                    while (resultSet.next()) {
+                        String sql = resultSet.getString(1);
+                        // 행 수 주석은 데이터마다 바뀌고, 사용자/권한은 리플리카에 이미 있음
+                        if (!sql.startsWith("--") && !sql.startsWith("CREATE USER") && !sql.startsWith("GRANT")) {
+                            schema.add(sql);
+                        }
+                    }
+                }
+                List<TableData> tables = new ArrayList<>();
+                for (String table : tableNames(connection)) {
+                    tables.add(readTable(connection, table));
+                }
+                return new Snapshot(++capturedSequence, schema, tables);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private void apply(Snapshot snapshot) throws SQLException {
+        if (snapshot.sequence() <= appliedSequence) {
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(replicaUrl, username, password)) {
+            if (!snapshot.schema().equals(appliedSchema)) {
+                recreateSchema(connection, snapshot.schema());
+                appliedSchema = snapshot.schema();
+            }
+            // 읽는 쪽은 커밋 전까지 이전 상태를 봄 (한 트랜잭션으로 교체)
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (TableData table : snapshot.tables()) {
+                    statement.executeUpdate("DELETE FROM " + quote(table.name()));
+                }
+            }
+            for (TableData table : snapshot.tables()) {
+                insert(connection, table);
+            }
+            connection.commit();
+        }
+        appliedSequence = snapshot.sequence();
+    }
+
+    private static void recreateSchema(Connection connection, List<String> schema) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : schema) {
+                statement.execute(sql);
+            }
+            // 테이블을 순서와 무관하게 비우고 채우므로 외래 키 검사 생략 (프라이머리에서 이미 검증된 데이터)
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+        log.info("리플리카 스키마 생성 - Statements: {}", schema.size());
+    }
+
+    private static List<String> tableNames(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                 + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME")) {
+            while (resultSet.next()) {
+                names.add(resultSet.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private static TableData readTable(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + quote(table))) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            List<String> columns = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                columns.add(metaData.getColumnName(i));
+            }
+            List<Object[]> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                rows.add(row);
+            }
+            return new TableData(table, columns, rows);
+        }
+    }
+
+    private static void insert(Connection connection, TableData table) throws SQLException {
+        if (table.rows().isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO " + quote(table.name())
+            + " (" + table.columns().stream().map(ReplicaLagSimulator::quote).collect(Collectors.joining(", "))
+            + ") VALUES (" + table.columns().stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Object[] row : table.rows()) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private record Snapshot(long sequence, List<String> schema, List<TableData> tables) {
+    }
+
+    private record TableData(String name, List<String> columns, List<Object[]> rows) {
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.bookmanager.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션의 readOnly 여부로 프라이머리/리플리카 선택
+ *
+ * - readOnly 트랜잭션 → 리플리카 (최근에 쓰기한 클라이언트의 요청이면 프라이머리, ReadYourWritesFilter)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖 JDBC) → 프라이머리, 현재 요청에 쓰기 기록
+ *
+ * 커넥션을 가져오는 시점에 결정되므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (JpaTransactionManager가 트랜잭션을 시작하는 시점에는 readOnly 여부가 아직 동기화 매니저에 등록되기 전)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesFilter.recordWrite();
+            return DataSourceType.PRIMARY;
+        }
+        return ReadYourWritesFilter.pinnedToPrimary() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.bookmanager.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 프라이머리/리플리카 커넥션 풀 + readOnly 트랜잭션 라우팅, 도서 샤드 라우팅
+ *
+ * - 프라이머리: spring.datasource.* (기존 설정 그대로, 풀 spring.datasource.hikari.*)
+ * - 리플리카: bookstore.datasource.replica.* (url/username/password가 없으면 프라이머리와 같은 DB)
+ * - 샤드: bookstore.sharding.urls (샤드 1~), 샤드 0은 위의 기본 DB (프라이머리 또는 프라이머리/리플리카 라우팅)
+ * - JPA, JdbcTemplate 등은 @Primary 라우팅 데이터소스 하나만 사용 (샤드 라우팅 → 프라이머리/리플리카 라우팅 순서)
+ *
+ * bookstore.datasource.routing.enabled, bookstore.sharding.enabled 모두 false이면 스프링 부트 기본 단일 데이터소스
+ */
+@Configuration
+@ConditionalOnExpression("${bookstore.datasource.routing.enabled:false} or ${bookstore.sharding.enabled:false}")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.datasource.routing.enabled", havingValue = "true")
+    @ConfigurationProperties("bookstore.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        @Value("${bookstore.datasource.replica.url:${spring.datasource.url}}") String url,
+        @Value("${bookstore.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${bookstore.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        // 리플리카로 잘못 라우팅된 쓰기는 드라이버/DB에서 거부
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.datasource.routing.enabled", havingValue = "true")
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+            DataSourceType.PRIMARY, primaryDataSource,
+            DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * 샤드 1~ 은 프라이머리만 (샤드별 리플리카는 두지 않음)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.sharding.enabled", havingValue = "true")
+    public ShardRoutingDataSource shardRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        ObjectProvider<ReplicationRoutingDataSource> replicationRoutingDataSource,
+        @Value("${bookstore.sharding.urls:}") List<String> urls,
+        @Value("${bookstore.sharding.username:${spring.datasource.username}}") String username,
+        @Value("${bookstore.sharding.password:${spring.datasource.password:}}") String password,
+        @Value("${bookstore.sharding.maximum-pool-size:10}") int maximumPoolSize) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(mainDataSource(primaryDataSource, replicationRoutingDataSource));
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url.trim())
+                .username(username)
+                .password(password)
+                .build();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    /**
+     * 트랜잭션이 실제로 SQL을 실행할 때 커넥션을 가져오도록 LazyConnectionDataSourceProxy로 감쌈
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        ObjectProvider<ReplicationRoutingDataSource> replicationRoutingDataSource,
+        ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        DataSource target = shardRoutingDataSource.getIfAvailable();
+        if (target == null) {
+            target = mainDataSource(primaryDataSource, replicationRoutingDataSource);
+        }
+        return new LazyConnectionDataSourceProxy(target);
+    }
+
+    /**
+     * 기본 DB (샤드 0): 리플리카 라우팅이 켜져 있으면 readOnly 트랜잭션 라우팅, 아니면 프라이머리 그대로
+     */
+    private static DataSource mainDataSource(DataSource primaryDataSource,
+                                             ObjectProvider<ReplicationRoutingDataSource> replicationRoutingDataSource) {
+        DataSource routingDataSource = replicationRoutingDataSource.getIfAvailable();
+        return routingDataSource != null ? routingDataSource : primaryDataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.datasource.routing.enabled", havingValue = "true")
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${bookstore.datasource.sticky-window-ms:5000}") long stickyWindowMillis) {
+        return new ReadYourWritesFilter(stickyWindowMillis);
+    }
+
+    /**
+     * 로컬/테스트용 (프라이머리, 리플리카 모두 H2일 때만 사용)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.datasource.replica.lag-simulation.enabled", havingValue = "true")
+    public ReplicaLagSimulator replicaLagSimulator(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Value("${bookstore.datasource.replica.url}") String url,
+        @Value("${bookstore.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${bookstore.datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${bookstore.datasource.replica.lag-simulation.lag-ms:1000}") long lagMillis,
+        @Value("${bookstore.datasource.replica.lag-simulation.interval-ms:200}") long intervalMillis) {
+        return new ReplicaLagSimulator(primaryDataSource, url, username, password, lagMillis, intervalMillis);
+    }
+
+}
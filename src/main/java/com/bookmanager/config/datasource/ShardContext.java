@@ -0,0 +1,94 @@
+package com.bookmanager.config.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 스레드/트랜잭션이 사용할 샤드 번호 (ShardRoutingDataSource가 커넥션을 가져올 때 참조)
+ *
+ * - 스레드: callOn(shard, ...) 실행 중에만 설정 (트랜잭션 밖 호출, 샤드 작업 스레드)
+ * - 트랜잭션: bindToTransaction(shard)로 트랜잭션 전체를 한 샤드에 고정
+ *   (JPA는 flush/커밋 시점에 커넥션을 가져오므로 저장소 호출이 끝난 뒤에도 같은 샤드를 써야 함)
+ * 둘 다 없으면 샤드 0 (회원 등 샤딩하지 않는 테이블이 있는 기본 DB)
+ *
+ * 트랜잭션 고정은 트랜잭션 동기화 객체로 보관 → REQUIRES_NEW로 새 트랜잭션을 열면 함께 보류되고 끝나면 복원
+ */
+public final class ShardContext {
+
+    public static final int MAIN = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 스레드를 샤드에 두고 실행 (이전 값은 끝나면 복원)
+     */
+    public static <T> T callOn(int shard, Supplier<T> call) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shard, Runnable task) {
+        callOn(shard, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 고정된 샤드 (트랜잭션 밖이거나 아직 고정되지 않았으면 null)
+     */
+    public static Integer transactionShard() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof ShardBinding binding) {
+                return binding.shard();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 현재 트랜잭션을 샤드에 고정 (트랜잭션이 끝나면 동기화 객체와 함께 사라짐)
+     *
+     * @throws IllegalStateException 이미 다른 샤드에 고정된 경우
+     */
+    public static void bindToTransaction(int shard) {
+        Integer bound = transactionShard();
+        if (bound != null && bound != shard) {
+            throw new IllegalStateException("트랜잭션이 이미 샤드 " + bound + "에 고정되어 있습니다.");
+        }
+        if (bound == null) {
+            TransactionSynchronizationManager.registerSynchronization(new ShardBinding(shard));
+        }
+    }
+
+    /**
+     * 라우팅 키: 트랜잭션 고정 → 스레드 → 샤드 0
+     */
+    static int current() {
+        Integer shard = transactionShard();
+        if (shard == null) {
+            shard = CURRENT.get();
+        }
+        return shard != null ? shard : MAIN;
+    }
+
+    private record ShardBinding(int shard) implements TransactionSynchronization {
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.bookmanager.config.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 샤드 번호(ShardContext)로 데이터소스 선택
+ *
+ * - 샤드 0: 기본 DB (프라이머리/리플리카 라우팅이 켜져 있으면 ReplicationRoutingDataSource)
+ * - 샤드 1~: bookstore.sharding.urls 순서대로 만든 커넥션 풀 (close 시 함께 종료)
+ *
+ * ReplicationRoutingDataSource와 마찬가지로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (트랜잭션이 샤드에 고정된 뒤 첫 SQL에서 커넥션을 가져옴)
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다.");
+        }
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.shards.size(); i++) {
+            targets.put(i, this.shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(this.shards.get(ShardContext.MAIN));
+        // 없는 샤드 번호를 기본 DB로 보내지 않음
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public DataSource shard(int index) {
+        return shards.get(index);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    /**
+     * 샤드 1~ 커넥션 풀 종료 (샤드 0은 별도 빈으로 관리)
+     */
+    @Override
+    public void close() {
+        for (int i = ShardContext.MAIN + 1; i < shards.size(); i++) {
+            if (shards.get(i) instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("샤드 커넥션 풀 종료 실패 - Shard: {}, Error: {}", i, e.getMessage());
+                }
+            }
+        }
+    }
+
+}
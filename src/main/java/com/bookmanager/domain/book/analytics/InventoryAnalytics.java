@@ -0,0 +1,212 @@
+package com.bookmanager.domain.book.analytics;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.dto.response.InventoryValuationResponse;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 평가(가격 * 재고) 집계 + 카테고리별 가격 분포용 컬럼 스냅샷
+ *
+ * - 애플리케이션 기동 후 백그라운드 스레드에서 DB를 bookId keyset 배치로 읽어 InventoryColumns 생성
+ * - 이후 BookChangedEvent(커밋 이후)를 받아 해당 행만 점진적으로 갱신
+ * - 집계는 전용 ForkJoinPool에서 행 구간별로 병렬 실행 (DB 전체 스캔 없음)
+ * - 가격 분포는 카테고리별 PriceSketch에서 바로 계산 (정렬 없음)
+ *
+ * 스냅샷 생성 중에 들어온 변경 이벤트는 보관했다가 생성 완료 직후 다시 적용
+ */
+@Slf4j
+@Component
+public class InventoryAnalytics {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final ForkJoinPool pool;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<BookChangedEvent> pendingEvents = new ArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-analytics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private InventoryColumns columns;
+    private volatile boolean ready;
+
+    public InventoryAnalytics(
+        BookRepository bookRepository,
+        @Value("${bookstore.analytics.parallelism:0}") int parallelism) {
+        this.bookRepository = bookRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드에서 스냅샷 생성 (생성 전에는 DB GROUP BY 쿼리로 대체)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.submit(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("재고 평가 스냅샷 생성 실패 - Error: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * DB에서 전체 도서를 읽어 스냅샷 교체
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        InventoryColumns built = new InventoryColumns((int) Math.min(Integer.MAX_VALUE / 2, bookRepository.count()));
+
+        String lastBookId = UuidBinary.MIN;
+        while (true) {
+            List<Object[]> rows = bookRepository.findInventoryBatch(lastBookId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : rows) {
+                built.upsert((String) row[0], (Integer) row[1], (Integer) row[2], (String) row[3], (String) row[4],
+                    (BookStatus) row[5]);
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastBookId = (String) rows.get(rows.size() - 1)[0];
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (BookChangedEvent event : pendingEvents) {
+                apply(built, event);
+            }
+            pendingEvents.clear();
+            columns = built;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("재고 평가 스냅샷 생성 완료 - Books: {}, Memory: {}KB, Elapsed: {}ms",
+            built.size(), built.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 도서 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            apply(columns, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록 청크 반영 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBooksCreated(BooksCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (BookSnapshot book : event.getBooks()) {
+                BookChangedEvent created = BookChangedEvent.created(book);
+                if (!ready) {
+                    pendingEvents.add(created);
+                } else {
+                    apply(columns, created);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기준별 재고 평가 병렬 집계 (그룹 순서는 정해져 있지 않음)
+     *
+     * @param status 상태 필터 (null이면 전체)
+     */
+    public List<InventoryValuationResponse.Group> aggregate(InventoryDimension dimension, BookStatus status) {
+        lock.readLock().lock();
+        try {
+            return columns.aggregate(dimension, status, pool);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리별 가격 분포 (복사본이므로 잠금 밖에서 사용 가능)
+     */
+    public Map<String, PriceSketch> priceSketchesByCategory() {
+        lock.readLock().lock();
+        try {
+            return columns.priceSketchesByCategory();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리의 가격 분포 (category가 null이면 전체 카탈로그)
+     */
+    public PriceSketch priceSketch(String category) {
+        lock.readLock().lock();
+        try {
+            return category != null ? columns.priceSketch(category) : columns.mergedPriceSketch();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        pool.shutdown();
+    }
+
+    private static void apply(InventoryColumns target, BookChangedEvent event) {
+        BookSnapshot after = event.getAfter();
+        if (after == null) {
+            target.remove(event.getBookId());
+        } else {
+            target.upsert(after.getBookId(), after.getPrice(), after.getStockQuantity(), after.getCategory(),
+                after.getPublisher(), after.getStatus());
+        }
+    }
+
+}
@@ -0,0 +1,368 @@
+package com.bookmanager.domain.book.analytics;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.dto.response.InventoryValuationResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 재고 평가용 컬럼 기반 인메모리 스냅샷 (primitive 배열 기반)
+ *
+ * 도서마다 행 번호를 부여하고 컬럼별 배열에 저장
+ * - price, stockQuantity: int[]
+ * - category, publisher: 사전 인코딩 (문자열 → 정수 코드, int[]), status: byte[] (enum ordinal)
+ * - bookId: UUID 바이너리 상위/하위 64bit long[] 두 개 + 오픈 어드레싱 해시 테이블 (String/Integer 객체 없음)
+ *
+ * 집계는 행 구간을 ForkJoin으로 나눠 구간별 그룹 합계 배열을 만든 뒤 더함 (그룹 코드가 배열 인덱스 → 해시 조회 없음)
+ * 카테고리 코드별 가격 분포 스케치(PriceSketch)도 함께 유지 (행의 이전 가격/카테고리를 알고 있으므로 같은 변경을
+ * 여러 번 반영해도 결과 동일)
+ *
+ * 삭제된 도서의 행은 REMOVED로 표시만 하고 재사용하지 않음 (bookId는 재사용되지 않으므로 다시 등록되지 않음)
+ * → 다음 전체 생성(재기동) 때 정리
+ *
+ * 이 클래스는 스레드 안전하지 않음 (InventoryAnalytics에서 ReadWriteLock으로 보호)
+ */
+public class InventoryColumns {
+
+    private static final byte REMOVED = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 리프 작업 하나가 순서대로 처리하는 최대 행 수
+    static final int LEAF_ROWS = 1 << 16;
+
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    // (idHigh, idLow) → 행 번호 + 1 (0 = 빈 슬롯), 적재율 0.5 이하
+    private int[] slots;
+
+    // 행 번호 → 컬럼 값
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] prices;
+    private int[] stockQuantities;
+    private int[] categories;
+    private int[] publishers;
+    private byte[] statuses;
+    private int rowCount;
+    private int liveCount;
+
+    private final Dictionary categoryDictionary = new Dictionary();
+    private final Dictionary publisherDictionary = new Dictionary();
+
+    // 카테고리 코드 → 가격 분포 (삭제되지 않은 모든 상태의 도서)
+    private PriceSketch[] priceSketches = new PriceSketch[16];
+
+    public InventoryColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public InventoryColumns(int capacity) {
+        int rows = Math.max(capacity, INITIAL_CAPACITY);
+        this.slots = new int[tableCapacity(rows)];
+        this.idHigh = new long[rows];
+        this.idLow = new long[rows];
+        this.prices = new int[rows];
+        this.stockQuantities = new int[rows];
+        this.categories = new int[rows];
+        this.publishers = new int[rows];
+        this.statuses = new byte[rows];
+    }
+
+    /**
+     * 도서 등록 또는 가격/재고/분류 변경 반영
+     */
+    public void upsert(String bookId, int price, int stockQuantity, String category, String publisher,
+                       BookStatus status) {
+        ByteBuffer id = ByteBuffer.wrap(UuidBinary.toBytes(bookId));
+        long high = id.getLong(0);
+        long low = id.getLong(Long.BYTES);
+
+        int slot = slotOf(high, low);
+        int row;
+        if (slots[slot] != 0) {
+            row = slots[slot] - 1;
+            if (statuses[row] == REMOVED) {
+                liveCount++;
+            } else {
+                priceSketches[categories[row]].remove(prices[row]);
+            }
+        } else {
+            row = nextRow();
+            idHigh[row] = high;
+            idLow[row] = low;
+            liveCount++;
+            if ((long) rowCount * 2 > slots.length) {
+                rehash(slots.length * 2);
+            } else {
+                slots[slot] = row + 1;
+            }
+        }
+        prices[row] = price;
+        stockQuantities[row] = stockQuantity;
+        categories[row] = categoryDictionary.encode(category);
+        publishers[row] = publisherDictionary.encode(publisher);
+        statuses[row] = (byte) status.ordinal();
+        priceSketchOf(categories[row]).add(price);
+    }
+
+    /**
+     * 도서 삭제 반영
+     */
+    public void remove(String bookId) {
+        ByteBuffer id = ByteBuffer.wrap(UuidBinary.toBytes(bookId));
+        int slot = slotOf(id.getLong(0), id.getLong(Long.BYTES));
+        if (slots[slot] == 0) {
+            return;
+        }
+        int row = slots[slot] - 1;
+        if (statuses[row] != REMOVED) {
+            statuses[row] = REMOVED;
+            priceSketches[categories[row]].remove(prices[row]);
+            liveCount--;
+        }
+    }
+
+    /**
+     * 카테고리별 가격 분포 복사본 (도서가 없는 카테고리는 제외)
+     */
+    public Map<String, PriceSketch> priceSketchesByCategory() {
+        Map<String, PriceSketch> sketches = new LinkedHashMap<>();
+        for (int code = 0; code < categoryDictionary.size(); code++) {
+            if (priceSketches[code].count() > 0) {
+                sketches.put(categoryDictionary.decode(code), priceSketches[code].copy());
+            }
+        }
+        return sketches;
+    }
+
+    /**
+     * 카테고리의 가격 분포 복사본 (도서가 없으면 빈 스케치)
+     */
+    public PriceSketch priceSketch(String category) {
+        Integer code = categoryDictionary.find(category);
+        return code != null ? priceSketches[code].copy() : new PriceSketch();
+    }
+
+    /**
+     * 전체 카탈로그 가격 분포 (카테고리별 스케치 병합)
+     */
+    public PriceSketch mergedPriceSketch() {
+        PriceSketch merged = new PriceSketch();
+        for (int code = 0; code < categoryDictionary.size(); code++) {
+            merged.merge(priceSketches[code]);
+        }
+        return merged;
+    }
+
+    /**
+     * 기준별 재고 평가 집계 (그룹 순서는 정해져 있지 않음, 도서가 없는 그룹은 제외)
+     *
+     * @param status 상태 필터 (null이면 전체)
+     * @param pool 병렬 집계에 사용할 ForkJoinPool
+     */
+    public List<InventoryValuationResponse.Group> aggregate(InventoryDimension dimension, BookStatus status,
+                                                           ForkJoinPool pool) {
+        int[] codes = switch (dimension) {
+            case CATEGORY -> categories;
+            case PUBLISHER -> publishers;
+            case STATUS -> null;
+        };
+        int groupCount = switch (dimension) {
+            case CATEGORY -> categoryDictionary.size();
+            case PUBLISHER -> publisherDictionary.size();
+            case STATUS -> STATUSES.length;
+        };
+        byte filter = status != null ? (byte) status.ordinal() : REMOVED;
+
+        long[] totals = pool.invoke(new Aggregation(codes, groupCount, filter, 0, rowCount));
+
+        List<InventoryValuationResponse.Group> groups = new ArrayList<>();
+        for (int code = 0; code < groupCount; code++) {
+            long books = totals[code * 3];
+            if (books == 0) {
+                continue;
+            }
+            String key = switch (dimension) {
+                case CATEGORY -> categoryDictionary.decode(code);
+                case PUBLISHER -> publisherDictionary.decode(code);
+                case STATUS -> STATUSES[code].name();
+            };
+            groups.add(new InventoryValuationResponse.Group(key, books, totals[code * 3 + 1], totals[code * 3 + 2]));
+        }
+        return groups;
+    }
+
+    /**
+     * 현재 도서 수 (삭제된 행 제외)
+     */
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * 컬럼 배열 + 해시 테이블 + 가격 분포 버킷 메모리 추정치 (byte, 사전 문자열 제외)
+     */
+    public long estimatedBytes() {
+        long sketchBytes = 0;
+        for (int code = 0; code < categoryDictionary.size(); code++) {
+            sketchBytes += priceSketches[code].estimatedBytes();
+        }
+        return (long) slots.length * Integer.BYTES
+            + (long) idHigh.length * (2L * Long.BYTES + 4L * Integer.BYTES + 1) + sketchBytes;
+    }
+
+    private PriceSketch priceSketchOf(int categoryCode) {
+        if (categoryCode == priceSketches.length) {
+            priceSketches = Arrays.copyOf(priceSketches, priceSketches.length * 2);
+        }
+        if (priceSketches[categoryCode] == null) {
+            priceSketches[categoryCode] = new PriceSketch();
+        }
+        return priceSketches[categoryCode];
+    }
+
+    private int nextRow() {
+        if (rowCount == prices.length) {
+            int capacity = prices.length * 2;
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            stockQuantities = Arrays.copyOf(stockQuantities, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            publishers = Arrays.copyOf(publishers, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        return rowCount++;
+    }
+
+    // 해당 bookId의 슬롯 (없으면 삽입할 빈 슬롯)
+    private int slotOf(long high, long low) {
+        int mask = slots.length - 1;
+        int slot = hash(high, low) & mask;
+        while (slots[slot] != 0) {
+            int row = slots[slot] - 1;
+            if (idHigh[row] == high && idLow[row] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int row = 0; row < rowCount; row++) {
+            slots[slotOf(idHigh[row], idLow[row])] = row + 1;
+        }
+    }
+
+    // UUID v7 상위 비트는 시각이므로 하위 랜덤 비트와 섞음
+    private static int hash(long high, long low) {
+        long mixed = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    // 2의 거듭제곱, 적재율 0.5 이하
+    private static int tableCapacity(int rows) {
+        return Integer.highestOneBit(rows * 2 - 1) << 1;
+    }
+
+    /**
+     * 행 구간 [from, to)의 그룹별 {도서 수, 재고 합계, 평가액} (그룹 코드 * 3 위치)
+     */
+    private final class Aggregation extends RecursiveTask<long[]> {
+
+        private final int[] codes;
+        private final int groupCount;
+        private final byte filter;
+        private final int from;
+        private final int to;
+
+        private Aggregation(int[] codes, int groupCount, byte filter, int from, int to) {
+            this.codes = codes;
+            this.groupCount = groupCount;
+            this.filter = filter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan();
+            }
+            int mid = (from + to) >>> 1;
+            Aggregation left = new Aggregation(codes, groupCount, filter, from, mid);
+            left.fork();
+            long[] totals = new Aggregation(codes, groupCount, filter, mid, to).compute();
+            long[] leftTotals = left.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += leftTotals[i];
+            }
+            return totals;
+        }
+
+        private long[] scan() {
+            long[] totals = new long[groupCount * 3];
+            for (int row = from; row < to; row++) {
+                byte status = statuses[row];
+                if (status == REMOVED || (filter != REMOVED && status != filter)) {
+                    continue;
+                }
+                int stockQuantity = stockQuantities[row];
+                int group = (codes != null ? codes[row] : status) * 3;
+                totals[group]++;
+                totals[group + 1] += stockQuantity;
+                totals[group + 2] += (long) prices[row] * stockQuantity;
+            }
+            return totals;
+        }
+
+    }
+
+    /**
+     * 문자열 사전 (값 → 코드, 코드 → 값, null도 하나의 값으로 취급)
+     * 코드는 처음 등장한 순서대로 부여하고 제거하지 않음
+     */
+    static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[16];
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = codes.size();
+                codes.put(value, code);
+                if (code == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[code] = value;
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return values[code];
+        }
+
+        // 등록되지 않은 값이면 null
+        Integer find(String value) {
+            return codes.get(value);
+        }
+
+        int size() {
+            return codes.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.bookmanager.domain.book.analytics;
+
+/**
+ * 재고 평가 집계 기준 (groupBy 요청 파라미터)
+ */
+public enum InventoryDimension {
+
+    CATEGORY,
+
+    PUBLISHER,
+
+    STATUS
+
+}
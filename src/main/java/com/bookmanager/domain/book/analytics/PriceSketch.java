@@ -0,0 +1,182 @@
+package com.bookmanager.domain.book.analytics;
+
+import com.bookmanager.domain.book.dto.response.PriceDistributionResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 가격 분포 분위수 스케치 (DDSketch 방식, 상대 오차 보장 + 병합 + 삭제 가능)
+ *
+ * 가격 x(> 0)를 로그 버킷 ceil(log_γ x)에 세고 (γ = (1 + α) / (1 - α)), 분위수는 해당 순위가 속한 버킷의 대표값
+ * → 반환값과 실제 분위수 값의 상대 오차가 α 이하 (정수 반올림 오차 0.5원 별도)
+ *
+ * - 버킷 수는 가격 범위의 로그에 비례 (α = 1%, 1원 ~ 1천만원이면 약 810개 → 버킷 배열 3.2KB, 확장 여유 포함 5KB 이하)
+ * - 버킷 개수만 더하면 되므로 병합 결과가 전체 데이터로 만든 스케치와 같음 (카테고리 → 전체)
+ * - KLL/t-digest와 달리 값 제거가 정확함 (가격 변경/삭제 시 이전 가격의 버킷에서 하나 뺌)
+ *
+ * 0원 이하 가격은 별도 개수로 세고 분위수는 0
+ * 이 클래스는 스레드 안전하지 않음 (InventoryColumns 안에서 InventoryAnalytics의 ReadWriteLock으로 보호)
+ */
+public class PriceSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // counts[i] = 버킷 (offset + i)의 개수
+    private int[] counts = new int[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+
+    public void add(int price) {
+        if (price <= 0) {
+            zeroCount++;
+        } else {
+            int index = indexOf(price);
+            ensureCapacity(index);
+            counts[index - offset]++;
+        }
+        count++;
+    }
+
+    /**
+     * 이전에 add한 가격 하나 제거 (해당 버킷이 비어 있으면 무시)
+     */
+    public void remove(int price) {
+        if (price <= 0) {
+            if (zeroCount == 0) {
+                return;
+            }
+            zeroCount--;
+        } else {
+            int position = indexOf(price) - offset;
+            if (position < 0 || position >= counts.length || counts[position] == 0) {
+                return;
+            }
+            counts[position]--;
+        }
+        count--;
+    }
+
+    /**
+     * 다른 스케치의 개수를 더함
+     */
+    public void merge(PriceSketch other) {
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset);
+            ensureCapacity(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public PriceSketch copy() {
+        PriceSketch copy = new PriceSketch();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * q 분위수 가격 (순위 floor(q * (count - 1))의 값, 상대 오차 RELATIVE_ACCURACY 이하), 비어 있으면 null
+     */
+    public Integer quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("분위수는 0~1 사이여야 합니다: " + q);
+        }
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) (q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return valueOf(offset + i);
+            }
+        }
+        return valueOf(offset + counts.length - 1);
+    }
+
+    /**
+     * 같은 폭의 가격 구간별 도서 수 (최소 ~ 최대 버킷 대표값 범위, 버킷은 대표값이 속한 구간에 포함)
+     *
+     * @param bins 구간 수
+     */
+    public List<PriceDistributionResponse.Bin> histogram(int bins) {
+        if (count == 0) {
+            return List.of();
+        }
+        int first = 0;
+        while (first < counts.length && counts[first] == 0) {
+            first++;
+        }
+        int last = counts.length - 1;
+        while (last >= 0 && counts[last] == 0) {
+            last--;
+        }
+        int low = zeroCount > 0 || first > last ? 0 : valueOf(offset + first);
+        int high = first > last ? 0 : valueOf(offset + last);
+        int width = (int) Math.max(1, ((long) high - low + bins) / bins);
+
+        long[] binCounts = new long[bins];
+        binCounts[0] += zeroCount;
+        for (int i = first; i <= last; i++) {
+            if (counts[i] > 0) {
+                binCounts[Math.min(bins - 1, (valueOf(offset + i) - low) / width)] += counts[i];
+            }
+        }
+        List<PriceDistributionResponse.Bin> histogram = new ArrayList<>(bins);
+        for (int bin = 0; bin < bins; bin++) {
+            int minPrice = low + bin * width;
+            histogram.add(new PriceDistributionResponse.Bin(minPrice, minPrice + width - 1, binCounts[bin]));
+        }
+        return histogram;
+    }
+
+    /**
+     * 버킷 배열 메모리 (byte)
+     */
+    public long estimatedBytes() {
+        return (long) counts.length * Integer.BYTES;
+    }
+
+    private void ensureCapacity(int index) {
+        if (counts.length == 0) {
+            counts = new int[16];
+            offset = index - 8;
+            return;
+        }
+        if (index < offset) {
+            int grow = Math.max(offset - index, counts.length / 2);
+            int[] grown = new int[counts.length + grow];
+            System.arraycopy(counts, 0, grown, grow, counts.length);
+            counts = grown;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length + counts.length / 2));
+        }
+    }
+
+    private static int indexOf(int price) {
+        return (int) Math.ceil(Math.log(price) / LOG_GAMMA);
+    }
+
+    // 버킷 (γ^(i-1), γ^i] 의 대표값 (양쪽 경계까지의 상대 오차가 같은 값)
+    private static int valueOf(int index) {
+        return (int) Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.mapper.BookMapper;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.shard.BookShards;
+import com.bookmanager.domain.book.shard.IsbnShardDirectory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검증을 마친 도서 등록 요청을 JDBC 배치 INSERT로 저장 (CSV/JSON 대량 등록 공통)
+ *
+ * - 기존 도서와의 ISBN 중복은 배치 단위 IN 조회 한 번으로 확인
+ * - UUID v7 ID를 붙여 한 트랜잭션으로 INSERT, 커밋되면 BooksCreatedEvent(청크당 1건)로 인덱스/캐시에 반영
+ * - 확인과 INSERT 사이에 다른 요청이 같은 ISBN을 등록한 경우 한 번 더 확인 후 재시도
+ * - 저자/출판사/카테고리는 배치 전체를 사전에 먼저 등록하고 사전 ID로 INSERT
+ * - 샤딩 사용 시 ISBN 디렉터리에 먼저 예약하고 샤드별 트랜잭션으로 INSERT
+ *   (샤드 사이는 원자적이지 않음 - 중간 샤드에서 실패하면 앞 샤드의 INSERT는 커밋된 상태로 남음)
+ */
+@Slf4j
+@Component
+public class BookBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO book (book_id, title, author_id, isbn, publisher_id, "
+        + "price, stock_quantity, category_id, status, published_at, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DETAIL_SQL = "INSERT INTO book_detail (book_id, description) VALUES (?, ?)";
+
+    private final BookRepository bookRepository;
+    private final BookShards bookShards;
+    private final BookMapper bookMapper;
+    private final BookDictionary bookDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookBatchWriter(
+        BookRepository bookRepository,
+        BookShards bookShards,
+        BookMapper bookMapper,
+        BookDictionary bookDictionary,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher) {
+        this.bookRepository = bookRepository;
+        this.bookShards = bookShards;
+        this.bookMapper = bookMapper;
+        this.bookDictionary = bookDictionary;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 배치 INSERT (요청 안의 ISBN은 서로 겹치지 않아야 함)
+     *
+     * @return 요청과 같은 순서의 등록된 bookId, 이미 등록된 ISBN이면 null
+     */
+    public String[] insert(List<BookRequest> requests) {
+        bookDictionary.registerAll(requests);
+        try {
+            return tryInsert(requests);
+        } catch (DuplicateKeyException e) {
+            log.warn("대량 등록 중 동시에 등록된 ISBN 발견, 배치 재시도 - Rows: {}", requests.size());
+            return tryInsert(requests);
+        }
+    }
+
+    private String[] tryInsert(List<BookRequest> requests) {
+        // 중복 확인은 복제 지연이 없는 프라이머리에서 (readOnly가 아닌 트랜잭션 → 프라이머리로 라우팅)
+        Set<String> existing = new HashSet<>(transactionTemplate.execute(status -> bookRepository.findExistingIsbns(
+            requests.stream().map(BookRequest::getIsbn).toList())));
+
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        String[] bookIds = new String[requests.size()];
+        String[] newIds = UuidV7Creator.create(requests.size());
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            BookRequest request = requests.get(i);
+            if (existing.contains(request.getIsbn())) {
+                continue;
+            }
+            Book book = bookMapper.toEntity(request, newIds[i]);
+            bookIds[i] = book.getBookId();
+            byte[] bookId = UuidBinary.toBytes(book.getBookId());
+            Object[] args = new Object[]{bookId, book.getTitle(),
+                bookDictionary.idOf(DictionaryKind.AUTHOR, book.getAuthor()), book.getIsbn(),
+                bookDictionary.idOf(DictionaryKind.PUBLISHER, book.getPublisher()), book.getPrice(),
+                book.getStockQuantity(), bookDictionary.idOf(DictionaryKind.CATEGORY, book.getCategory()),
+                book.getStatus().name(),
+                book.getPublishedAt() != null ? Timestamp.from(book.getPublishedAt()) : null,
+                timestamp, timestamp};
+            // 설명이 있는 도서만 book_detail 행 생성
+            Object[] detailArgs = request.getDescription() != null
+                ? new Object[]{bookId, CompressedText.encode(request.getDescription())}
+                : null;
+            rows.add(new Row(book.getBookId(), book.getIsbn(), args, detailArgs,
+                snapshot(book, request.getDescription(), now)));
+        }
+        if (rows.isEmpty()) {
+            return bookIds;
+        }
+
+        Map<Integer, List<Row>> shards = bookShards.groupByShard(rows, Row::bookId);
+        if (bookShards.sharded()) {
+            // 중복 ISBN은 여기서 DuplicateKeyException → insert()에서 재시도
+            List<IsbnShardDirectory.Entry> entries = new ArrayList<>(rows.size());
+            shards.forEach((shard, group) -> group.forEach(
+                row -> entries.add(new IsbnShardDirectory.Entry(row.isbn(), row.bookId(), shard))));
+            bookShards.directory().register(entries);
+        }
+        List<Integer> pending = new ArrayList<>(shards.keySet());
+        try {
+            for (Map.Entry<Integer, List<Row>> shard : shards.entrySet()) {
+                bookShards.runOn(shard.getKey(), () -> insertRows(shard.getValue()));
+                pending.remove(shard.getKey());
+            }
+        } catch (RuntimeException e) {
+            if (bookShards.sharded()) {
+                List<String> isbns = new ArrayList<>();
+                pending.forEach(shard -> shards.get(shard).forEach(row -> isbns.add(row.isbn())));
+                bookShards.directory().removeIsbns(isbns);
+            }
+            throw e;
+        }
+        return bookIds;
+    }
+
+    private void insertRows(List<Row> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        List<Object[]> detailArgs = new ArrayList<>();
+        for (Row row : rows) {
+            args.add(row.args());
+            if (row.detailArgs() != null) {
+                detailArgs.add(row.detailArgs());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            jdbcTemplate.batchUpdate(INSERT_DETAIL_SQL, detailArgs);
+            // 청크마다 이벤트 한 번 (행마다 발행하면 가격 인덱스 삽입이 건수만큼 반복됨)
+            eventPublisher.publishEvent(new BooksCreatedEvent(rows.stream().map(Row::snapshot).toList()));
+        });
+    }
+
+    private static BookSnapshot snapshot(Book book, String description, Instant now) {
+        return BookSnapshot.builder()
+            .bookId(book.getBookId())
+            .title(book.getTitle())
+            .author(book.getAuthor())
+            .isbn(book.getIsbn())
+            .publisher(book.getPublisher())
+            .price(book.getPrice())
+            .stockQuantity(book.getStockQuantity())
+            .description(description)
+            .category(book.getCategory())
+            .status(book.getStatus())
+            .updatedAt(now)
+            .build();
+    }
+
+    private record Row(String bookId, String isbn, Object[] args, Object[] detailArgs, BookSnapshot snapshot) {
+    }
+
+}
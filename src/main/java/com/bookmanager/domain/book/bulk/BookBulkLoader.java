@@ -0,0 +1,243 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.domain.book.bulk.CsvRecordReader.RawRecord;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport.Rejection;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * CSV 도서 대량 등록 (신규 공급사 카탈로그 온보딩)
+ *
+ * createBook을 한 건씩 호출하면 (existsByIsbn + INSERT) × N 이므로 수십만 건에 몇 시간이 걸림
+ * - 읽기: 호출 스레드가 레코드 경계만 나눠 chunk-size 단위로 작업 스레드에 전달
+ * - 변환/검증: 작업 스레드에서 병렬로 필드 분리 → BookRequest 변환 → Bean Validation (등록 API와 같은 규칙)
+ * - 중복 제거: 파일 내 ISBN은 메모리 Set으로, 기존 도서와의 중복은 BookBatchWriter가 배치 단위로 확인
+ * - 저장: batch-size 단위로 BookBatchWriter에 전달 (UUID v7 ID + JDBC 배치 INSERT, 배치마다 커밋)
+ *
+ * 진행 중인 청크 수를 제한해 파일 크기와 무관하게 메모리 사용량 일정 (파일 내 ISBN Set 제외)
+ */
+@Slf4j
+@Service
+public class BookBulkLoader {
+
+    private final BookBatchWriter bookBatchWriter;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxReportedRejections;
+
+    public BookBulkLoader(
+        BookBatchWriter bookBatchWriter,
+        Validator validator,
+        @Value("${bookstore.bulk-load.chunk-size:2000}") int chunkSize,
+        @Value("${bookstore.bulk-load.batch-size:5000}") int batchSize,
+        @Value("${bookstore.bulk-load.parallelism:0}") int parallelism,
+        @Value("${bookstore.bulk-load.max-reported-rejections:1000}") int maxReportedRejections) {
+        this.bookBatchWriter = bookBatchWriter;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * CSV(UTF-8, 첫 줄 헤더) 대량 등록
+     * 헤더에 필수 컬럼(title, author, isbn, price, stockQuantity)이 없으면 IllegalArgumentException
+     */
+    public BulkLoadReport load(InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(
+            new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 1 << 16));
+
+        RawRecord headerRecord = reader.next();
+        if (headerRecord == null) {
+            throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+        }
+        BookCsvHeader header = BookCsvHeader.parse(CsvRecordReader.split(headerRecord.text()));
+        log.info("도서 대량 등록 시작 - Parallelism: {}, ChunkSize: {}, BatchSize: {}",
+            parallelism, chunkSize, batchSize);
+
+        LoadState state = new LoadState();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+        Deque<Future<List<ParsedRow>>> inFlight = new ArrayDeque<>();
+        try {
+            List<RawRecord> chunk = new ArrayList<>(chunkSize);
+            RawRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    List<RawRecord> submitted = chunk;
+                    inFlight.add(workers.submit(() -> parse(header, submitted)));
+                    chunk = new ArrayList<>(chunkSize);
+                    // 읽기가 검증/저장보다 빠르면 여기서 대기 (진행 중 청크 수 제한)
+                    if (inFlight.size() >= parallelism * 2) {
+                        accept(inFlight.poll(), state);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<RawRecord> submitted = chunk;
+                inFlight.add(workers.submit(() -> parse(header, submitted)));
+            }
+            while (!inFlight.isEmpty()) {
+                accept(inFlight.poll(), state);
+            }
+            if (!state.batch.isEmpty()) {
+                write(state, state.batch);
+                state.batch.clear();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = state.totalRows * 1000 / elapsedMillis;
+        log.info("도서 대량 등록 완료 - Total: {}, Inserted: {}, Rejected: {}, Elapsed: {}ms, Rows/sec: {}",
+            state.totalRows, state.insertedRows, state.rejectedRows, elapsedMillis, rowsPerSecond);
+
+        return BulkLoadReport.builder()
+            .totalRows(state.totalRows)
+            .insertedRows(state.insertedRows)
+            .rejectedRows(state.rejectedRows)
+            .elapsedMillis(elapsedMillis)
+            .rowsPerSecond(rowsPerSecond)
+            .rejections(state.rejections)
+            .build();
+    }
+
+    /**
+     * 작업 스레드: 필드 분리 → BookRequest 변환 → Bean Validation
+     */
+    private List<ParsedRow> parse(BookCsvHeader header, List<RawRecord> chunk) {
+        List<ParsedRow> rows = new ArrayList<>(chunk.size());
+        for (RawRecord record : chunk) {
+            List<String> fields = CsvRecordReader.split(record.text());
+            try {
+                BookRequest request = header.toRequest(fields);
+                Set<ConstraintViolation<BookRequest>> violations = validator.validate(request);
+                rows.add(new ParsedRow(record.line(), request.getIsbn(), request,
+                    violations.isEmpty() ? null : describe(violations)));
+            } catch (IllegalArgumentException e) {
+                rows.add(new ParsedRow(record.line(), header.isbnOf(fields), null, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 호출 스레드: 파일 순서대로 거부/중복 처리 후 배치에 추가 (같은 ISBN은 먼저 나온 행이 등록됨)
+     */
+    private void accept(Future<List<ParsedRow>> future, LoadState state) {
+        List<ParsedRow> rows;
+        try {
+            rows = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("도서 대량 등록이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("CSV 변환 중 오류가 발생했습니다.", e.getCause());
+        }
+
+        for (ParsedRow row : rows) {
+            state.totalRows++;
+            if (row.error() != null) {
+                state.reject(row, row.error());
+            } else if (!state.seenIsbns.add(row.isbn())) {
+                state.reject(row, "파일 안에서 중복된 ISBN입니다.");
+            } else {
+                state.batch.add(row);
+                if (state.batch.size() >= batchSize) {
+                    write(state, state.batch);
+                    state.batch.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 INSERT 후 기존 도서와 ISBN이 겹쳐 제외된 행은 거부로 집계
+     */
+    private void write(LoadState state, List<ParsedRow> batch) {
+        String[] bookIds = bookBatchWriter.insert(batch.stream().map(ParsedRow::request).toList());
+        for (int i = 0; i < bookIds.length; i++) {
+            if (bookIds[i] == null) {
+                state.reject(batch.get(i), "이미 등록된 ISBN입니다.");
+            } else {
+                state.insertedRows++;
+            }
+        }
+    }
+
+    /**
+     * 검증 실패 사유 (필드 이름순, JSON 대량 등록과 공통)
+     */
+    static String describe(Set<ConstraintViolation<BookRequest>> violations) {
+        return violations.stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .collect(Collectors.joining(", "));
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "book-bulk-load-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 변환/검증 결과 (error가 null이면 등록 대상)
+     */
+    private record ParsedRow(long line, String isbn, BookRequest request, String error) {
+    }
+
+    /**
+     * 호출 스레드에서만 접근하는 진행 상태
+     */
+    private class LoadState {
+
+        private final Set<String> seenIsbns = new HashSet<>();
+        private final List<ParsedRow> batch = new ArrayList<>(batchSize);
+        private final List<Rejection> rejections = new ArrayList<>();
+        private long totalRows;
+        private long insertedRows;
+        private long rejectedRows;
+
+        private void reject(ParsedRow row, String reason) {
+            rejectedRows++;
+            if (rejections.size() < maxReportedRejections) {
+                rejections.add(new Rejection(row.line(), row.isbn(), reason));
+            }
+        }
+
+    }
+
+}
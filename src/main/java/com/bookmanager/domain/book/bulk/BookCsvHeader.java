@@ -0,0 +1,156 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV 헤더 → BookRequest 필드 매핑
+ *
+ * 컬럼 이름은 대소문자, '_', '-', 공백을 무시하고 비교 (stock_quantity = stockQuantity)
+ * 알 수 없는 컬럼은 무시하고, 필수 컬럼이 없으면 파일 전체를 거부
+ */
+class BookCsvHeader {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final String[] COLUMNS = {
+        "title", "author", "isbn", "publisher", "price", "stockquantity",
+        "description", "category", "status", "publishedat"
+    };
+    private static final String[] REQUIRED = {"title", "author", "isbn", "price", "stockquantity"};
+
+    private static final int TITLE = 0;
+    private static final int AUTHOR = 1;
+    private static final int ISBN = 2;
+    private static final int PUBLISHER = 3;
+    private static final int PRICE = 4;
+    private static final int STOCK_QUANTITY = 5;
+    private static final int DESCRIPTION = 6;
+    private static final int CATEGORY = 7;
+    private static final int STATUS = 8;
+    private static final int PUBLISHED_AT = 9;
+
+    // COLUMNS 순서별 CSV 필드 위치 (-1이면 없음)
+    private final int[] positions;
+
+    private BookCsvHeader(int[] positions) {
+        this.positions = positions;
+    }
+
+    static BookCsvHeader parse(List<String> names) {
+        int[] positions = new int[COLUMNS.length];
+        Arrays.fill(positions, -1);
+        List<String> columns = Arrays.asList(COLUMNS);
+        for (int i = 0; i < names.size(); i++) {
+            int column = columns.indexOf(normalize(names.get(i)));
+            if (column >= 0 && positions[column] < 0) {
+                positions[column] = i;
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String required : REQUIRED) {
+            if (positions[columns.indexOf(required)] < 0) {
+                missing.add(required);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        return new BookCsvHeader(positions);
+    }
+
+    /**
+     * CSV 필드 → BookRequest 변환 (형식 오류는 IllegalArgumentException, 검증은 호출 측에서)
+     */
+    BookRequest toRequest(List<String> fields) {
+        return BookRequest.builder()
+            .title(field(fields, TITLE))
+            .author(field(fields, AUTHOR))
+            .isbn(field(fields, ISBN))
+            .publisher(field(fields, PUBLISHER))
+            .price(toInteger("price", field(fields, PRICE)))
+            .stockQuantity(toInteger("stockQuantity", field(fields, STOCK_QUANTITY)))
+            .description(field(fields, DESCRIPTION))
+            .category(field(fields, CATEGORY))
+            .status(toStatus(field(fields, STATUS)))
+            .publishedAt(toInstant(field(fields, PUBLISHED_AT)))
+            .build();
+    }
+
+    /**
+     * 거부 사유 보고용 ISBN (변환에 실패한 행도 ISBN은 함께 보고)
+     */
+    String isbnOf(List<String> fields) {
+        return field(fields, ISBN);
+    }
+
+    private String field(List<String> fields, int column) {
+        int position = positions[column];
+        return position >= 0 && position < fields.size() ? fields.get(position) : null;
+    }
+
+    private static Integer toInteger(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + ": 숫자 형식이 아닙니다. (" + value + ")");
+        }
+    }
+
+    private static BookStatus toStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return BookStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("status: 알 수 없는 도서 상태입니다. (" + value + ")");
+        }
+    }
+
+    /**
+     * 출판일: yyyy-MM-dd (서울 기준 자정) 또는 ISO-8601 일시
+     */
+    private static Instant toInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.trim();
+        try {
+            if (text.length() == 10) {
+                return LocalDate.parse(text).atStartOfDay(ZONE).toInstant();
+            }
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("publishedAt: 날짜 형식이 아닙니다. (" + value + ")");
+        }
+    }
+
+    private static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != '-' && !Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+}
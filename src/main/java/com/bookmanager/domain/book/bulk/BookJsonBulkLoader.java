@@ -0,0 +1,200 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BulkItemResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * JSON 배열 도서 대량 등록 (프로그램 연동용)
+ *
+ * 요청 본문 전체를 List로 역직렬화하지 않고 Jackson 스트리밍 파서로 한 건씩 읽음
+ * - 읽기: 배열 원소 하나만 트리로 읽어 BookRequest 변환 → Bean Validation (등록 API와 같은 규칙)
+ * - 저장: batch-size 건이 모이면 BookBatchWriter로 배치 INSERT (배치마다 커밋)
+ * - 응답: 배치가 끝날 때마다 해당 건들의 결과를 요청 순서대로 바로 기록
+ * → 메모리에는 배치 하나만 남으므로 본문 크기와 무관하게 사용량 일정
+ *
+ * 응답 형식: {"results": [...], "totalItems", "createdItems", "rejectedItems", "elapsedMillis", "error"}
+ * 중간에 JSON 문법 오류가 나면 그 전까지의 결과와 error를 기록하고 종료 (이미 커밋된 배치는 유지)
+ */
+@Slf4j
+@Service
+public class BookJsonBulkLoader {
+
+    private final BookBatchWriter bookBatchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final int batchSize;
+
+    public BookJsonBulkLoader(
+        BookBatchWriter bookBatchWriter,
+        Validator validator,
+        ObjectMapper objectMapper,
+        @Value("${bookstore.bulk-load.batch-size:5000}") int batchSize) {
+        this.bookBatchWriter = bookBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        // 건마다 flush하지 않고 배치가 끝날 때 한 번만 flush
+        this.resultWriter = objectMapper.writerFor(BulkItemResult.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * JSON 배열을 읽어 등록하고 결과를 outputStream에 스트리밍
+     * 본문이 JSON 배열이 아니면 아무것도 기록하기 전에 IllegalArgumentException
+     */
+    public void load(InputStream inputStream, OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 도서 등록 요청의 JSON 배열이어야 합니다.");
+            }
+
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("results");
+
+                Batch batch = new Batch(generator);
+                String error = null;
+                try {
+                    int index = 0;
+                    JsonToken token;
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == null) {
+                            error = "JSON 배열이 닫히지 않았습니다.";
+                            break;
+                        }
+                        batch.add(read(parser, token, index++));
+                        if (batch.items.size() >= batchSize) {
+                            batch.flush();
+                        }
+                    }
+                } catch (JsonProcessingException e) {
+                    error = "JSON 형식 오류: " + e.getOriginalMessage();
+                }
+                batch.flush();
+
+                long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                generator.writeEndArray();
+                generator.writeNumberField("totalItems", batch.totalItems);
+                generator.writeNumberField("createdItems", batch.createdItems);
+                generator.writeNumberField("rejectedItems", batch.totalItems - batch.createdItems);
+                generator.writeNumberField("elapsedMillis", elapsedMillis);
+                if (error != null) {
+                    generator.writeStringField("error", error);
+                }
+                generator.writeEndObject();
+
+                log.info("JSON 대량 등록 완료 - Total: {}, Created: {}, Elapsed: {}ms, Items/sec: {}, Error: {}",
+                    batch.totalItems, batch.createdItems, elapsedMillis,
+                    batch.totalItems * 1000 / elapsedMillis, error);
+            }
+        }
+    }
+
+    /**
+     * 배열 원소 하나를 읽어 변환/검증 (객체 하나만 메모리에 올림)
+     */
+    private Item read(JsonParser parser, JsonToken token, int index) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Item.rejected(index, null, "도서 등록 요청 객체가 아닙니다.");
+        }
+
+        JsonNode node = parser.readValueAsTree();
+        BookRequest request;
+        try {
+            request = objectMapper.treeToValue(node, BookRequest.class);
+        } catch (JsonProcessingException e) {
+            return Item.rejected(index, node.path("isbn").asText(null), "요청 형식 오류: " + e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<BookRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return Item.rejected(index, request.getIsbn(), BookBulkLoader.describe(violations));
+        }
+        return new Item(index, request.getIsbn(), request, null);
+    }
+
+    /**
+     * 변환/검증 결과 (reason이 null이면 등록 대상)
+     */
+    private record Item(int index, String isbn, BookRequest request, String reason) {
+
+        static Item rejected(int index, String isbn, String reason) {
+            return new Item(index, isbn, null, reason);
+        }
+
+    }
+
+    /**
+     * 아직 결과를 기록하지 않은 원소들 (요청 순서 유지)
+     */
+    private class Batch {
+
+        private final JsonGenerator generator;
+        private final List<Item> items = new ArrayList<>(batchSize);
+        private final Set<String> isbns = new HashSet<>();
+        private long totalItems;
+        private long createdItems;
+
+        private Batch(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void add(Item item) {
+            // 앞선 배치와의 중복은 BookBatchWriter의 기존 ISBN 확인에서 걸러짐
+            if (item.reason() == null && !isbns.add(item.isbn())) {
+                item = Item.rejected(item.index(), item.isbn(), "요청 안에서 중복된 ISBN입니다.");
+            }
+            items.add(item);
+        }
+
+        private void flush() throws IOException {
+            List<Item> accepted = items.stream().filter(item -> item.reason() == null).toList();
+            String[] bookIds = accepted.isEmpty() ? new String[0]
+                : bookBatchWriter.insert(accepted.stream().map(Item::request).toList());
+
+            int next = 0;
+            for (Item item : items) {
+                BulkItemResult result;
+                if (item.reason() != null) {
+                    result = BulkItemResult.rejected(item.index(), item.isbn(), item.reason());
+                } else {
+                    String bookId = bookIds[next++];
+                    result = bookId != null ? BulkItemResult.created(item.index(), item.isbn(), bookId)
+                        : BulkItemResult.rejected(item.index(), item.isbn(), "이미 등록된 ISBN입니다.");
+                    createdItems += bookId != null ? 1 : 0;
+                }
+                resultWriter.writeValue(generator, result);
+            }
+            totalItems += items.size();
+            items.clear();
+            isbns.clear();
+            generator.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.bookmanager.domain.book.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식 CSV 레코드 읽기
+ *
+ * - 읽기 스레드는 큰따옴표 안의 줄바꿈만 고려해 레코드 경계를 나누고 (가벼운 작업)
+ * - 필드 분리는 split()으로 작업 스레드에서 병렬로 처리
+ */
+class CsvRecordReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드 (빈 줄은 건너뜀)
+     *
+     * @return 레코드, 파일 끝이면 null
+     */
+    RawRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+
+        long startLine = lineNumber;
+        if (lineNumber == 1 && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        if (!hasOpenQuote(line, false)) {
+            return new RawRecord(startLine, line);
+        }
+
+        // 큰따옴표 안에 줄바꿈이 있는 레코드
+        StringBuilder text = new StringBuilder(line);
+        boolean open = true;
+        while (open) {
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            lineNumber++;
+            text.append('\n').append(next);
+            open = hasOpenQuote(next, true);
+        }
+        return new RawRecord(startLine, text.toString());
+    }
+
+    /**
+     * 레코드를 필드로 분리 (빈 필드는 null)
+     */
+    static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(toField(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        fields.add(toField(field, wasQuoted));
+        return fields;
+    }
+
+    private static String toField(StringBuilder field, boolean wasQuoted) {
+        if (field.length() == 0 && !wasQuoted) {
+            return null;
+        }
+        return field.toString();
+    }
+
+    /**
+     * 줄 끝에서 큰따옴표가 열린 상태인지 ("" 이스케이프는 두 번 토글되어 상쇄)
+     */
+    private static boolean hasOpenQuote(String line, boolean startsOpen) {
+        boolean open = startsOpen;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    /**
+     * 레코드 원문과 시작 줄 번호 (거부 사유 보고용)
+     */
+    record RawRecord(long line, String text) {
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import java.time.Instant;
+
+/**
+ * 피드 동기화용 64비트 해시 (FNV-1a + SplitMix64 finalizer)
+ *
+ * 암호학적 해시가 필요 없고 행마다 계산하므로 할당 없이 문자 단위로 계산
+ * 1M 행 기준 충돌 확률은 약 2.7 × 10^-8
+ */
+final class FeedHashes {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private FeedHashes() {
+    }
+
+    /**
+     * 피드가 바꿀 수 있는 도서 필드의 내용 해시 (ISBN은 키이므로 제외)
+     */
+    static long contentHash(BookRequest request) {
+        long hash = FNV_OFFSET;
+        hash = add(hash, request.getTitle());
+        hash = add(hash, request.getAuthor());
+        hash = add(hash, request.getPublisher());
+        hash = add(hash, request.getPrice());
+        hash = add(hash, request.getStockQuantity());
+        hash = add(hash, request.getDescription());
+        hash = add(hash, request.getCategory());
+        hash = add(hash, request.getStatus() != null ? request.getStatus().name() : null);
+        hash = add(hash, request.getPublishedAt());
+        return mix(hash);
+    }
+
+    /**
+     * ISBN 지문 (피드에 나온 ISBN 집합을 문자열 없이 보관)
+     */
+    static long fingerprint(String isbn) {
+        return mix(add(FNV_OFFSET, isbn));
+    }
+
+    private static long add(long hash, Object value) {
+        if (value == null) {
+            // null과 빈 문자열을 구분
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+        String text = value instanceof Instant instant ? Long.toString(instant.toEpochMilli()) : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // 필드 구분자 (앞 필드 끝과 뒤 필드 시작이 섞이지 않도록)
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.bookmanager.domain.book.bulk;
+
+/**
+ * long 지문 집합 (open addressing, 선형 탐사)
+ *
+ * HashSet<String>으로 1M개 ISBN을 보관하면 100MB 가까이 쓰지만
+ * 지문 long 배열은 16MB 안팎
+ */
+final class FingerprintSet {
+
+    // 0은 빈 칸 표시로 쓰므로 지문 0은 별도 플래그로 보관
+    private long[] slots = new long[1 << 16];
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * @return 새로 추가했으면 true, 이미 있었으면 false
+     */
+    boolean add(long fingerprint) {
+        if (fingerprint == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            grow();
+        }
+        int mask = slots.length - 1;
+        int index = (int) fingerprint & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == fingerprint) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = fingerprint;
+        size++;
+        return true;
+    }
+
+    boolean contains(long fingerprint) {
+        if (fingerprint == 0) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        int index = (int) fingerprint & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == fingerprint) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        size = 0;
+        for (long fingerprint : old) {
+            if (fingerprint != 0) {
+                add(fingerprint);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,553 @@
+package com.bookmanager.domain.book.bulk;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.bulk.CsvRecordReader.RawRecord;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport.Rejection;
+import com.bookmanager.domain.book.dto.response.FeedSyncReport;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.shard.BookShards;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공급사 전체 카탈로그 피드(CSV) 증분 동기화
+ *
+ * 매일 전체 피드가 오지만 실제로 바뀌는 행은 몇 % 수준이므로 바뀐 행만 반영
+ * - 행마다 도서 필드의 내용 해시를 계산해 supplier_feed_item에 저장된 해시와 비교
+ *   → 같으면 검증/UPDATE 없이 건너뜀
+ * - 바뀐 행: 검증(등록 API와 같은 규칙) 후 batch-size 단위 JDBC 배치 UPDATE
+ * - 새 행: BookBatchWriter로 배치 INSERT (이미 있는 ISBN이면 해당 도서를 피드 관리 대상으로 편입해 UPDATE)
+ * - 피드에서 빠진 행: 도서를 DISCONTINUED로 변경하고 관리 대상에서 제외
+ *   (빠진 비율이 max-discontinue-ratio를 넘으면 잘린 피드로 보고 건너뜀)
+ * 변경된 도서는 BookChangedEvent로 인덱스/캐시에 반영
+ * 샤딩 사용 시 도서 UPDATE는 샤드별 트랜잭션, 관리 테이블(supplier_feed_item)은 샤드 0 트랜잭션에서 마지막에 반영
+ * (중간에 실패하면 해시가 갱신되지 않으므로 다음 동기화에서 같은 UPDATE를 다시 적용)
+ *
+ * 피드에 나온 ISBN은 64비트 지문으로만 보관하므로 1M 행에서도 메모리 사용량 수십 MB 이내
+ */
+@Slf4j
+@Service
+public class SupplierFeedSync {
+
+    private static final String UPDATE_BOOK_SQL = "UPDATE book SET title = ?, author_id = ?, publisher_id = ?, "
+        + "price = ?, stock_quantity = ?, category_id = ?, status = ?, published_at = ?, updated_at = ?, "
+        + "version = version + 1 WHERE book_id = ?";
+    private static final String UPSERT_DETAIL_SQL = "INSERT INTO book_detail (book_id, description) VALUES (?, ?) "
+        + "ON DUPLICATE KEY UPDATE description = VALUES(description)";
+    private static final String DISCONTINUE_BOOK_SQL = "UPDATE book SET status = ?, updated_at = ?, "
+        + "version = version + 1 WHERE book_id = ?";
+    private static final String INSERT_TRACKING_SQL = "INSERT INTO supplier_feed_item "
+        + "(supplier_code, isbn, book_id, content_hash, synced_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_TRACKING_SQL = "UPDATE supplier_feed_item SET book_id = ?, content_hash = ?, "
+        + "synced_at = ? WHERE supplier_code = ? AND isbn = ?";
+    private static final String DELETE_TRACKING_SQL = "DELETE FROM supplier_feed_item "
+        + "WHERE supplier_code = ? AND isbn = ?";
+    private static final String SELECT_TRACKING_SQL = "SELECT isbn, book_id, content_hash FROM supplier_feed_item "
+        + "WHERE supplier_code = :supplierCode AND isbn IN (:isbns)";
+    private static final String SCAN_TRACKING_SQL = "SELECT isbn, book_id FROM supplier_feed_item "
+        + "WHERE supplier_code = :supplierCode AND isbn > :after ORDER BY isbn LIMIT :limit";
+
+    private final BookRepository bookRepository;
+    private final BookDetailRepository bookDetailRepository;
+    private final BookShards bookShards;
+    private final BookBatchWriter bookBatchWriter;
+    private final BookDictionary bookDictionary;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final double maxDiscontinueRatio;
+    private final int maxReportedRejections;
+
+    public SupplierFeedSync(
+        BookRepository bookRepository,
+        BookDetailRepository bookDetailRepository,
+        BookShards bookShards,
+        BookBatchWriter bookBatchWriter,
+        BookDictionary bookDictionary,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        Validator validator,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${bookstore.feed-sync.batch-size:5000}") int batchSize,
+        @Value("${bookstore.feed-sync.max-discontinue-ratio:0.2}") double maxDiscontinueRatio,
+        @Value("${bookstore.feed-sync.max-reported-rejections:1000}") int maxReportedRejections) {
+        this.bookRepository = bookRepository;
+        this.bookDetailRepository = bookDetailRepository;
+        this.bookShards = bookShards;
+        this.bookBatchWriter = bookBatchWriter;
+        this.bookDictionary = bookDictionary;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxDiscontinueRatio = maxDiscontinueRatio;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * 공급사 피드 동기화 (CSV 형식은 대량 등록과 같음, 첫 줄 헤더)
+     */
+    public FeedSyncReport sync(String supplierCode, InputStream inputStream) throws IOException {
+        if (supplierCode == null || supplierCode.isBlank() || supplierCode.length() > 50) {
+            throw new IllegalArgumentException("공급사 코드는 1~50자여야 합니다.");
+        }
+        long start = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(
+            new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 1 << 16));
+
+        RawRecord headerRecord = reader.next();
+        if (headerRecord == null) {
+            throw new IllegalArgumentException("피드 파일이 비어 있습니다.");
+        }
+        BookCsvHeader header = BookCsvHeader.parse(CsvRecordReader.split(headerRecord.text()));
+        log.info("공급사 피드 동기화 시작 - Supplier: {}", supplierCode);
+
+        SyncState state = new SyncState(supplierCode);
+        List<FeedRow> batch = new ArrayList<>(batchSize);
+        RawRecord record;
+        while ((record = reader.next()) != null) {
+            state.totalRows++;
+            List<String> fields = CsvRecordReader.split(record.text());
+            String isbn = header.isbnOf(fields);
+            if (isbn == null) {
+                state.reject(record.line(), null, "isbn: ISBN은 필수입니다.");
+                continue;
+            }
+            // 거부된 행도 피드에 있는 것으로 보고 판매 중지 대상에서 제외
+            if (!state.seen.add(FeedHashes.fingerprint(isbn))) {
+                state.reject(record.line(), isbn, "피드 안에서 중복된 ISBN입니다.");
+                continue;
+            }
+            try {
+                BookRequest request = header.toRequest(fields);
+                batch.add(new FeedRow(record.line(), request, FeedHashes.contentHash(request)));
+            } catch (IllegalArgumentException e) {
+                state.reject(record.line(), isbn, e.getMessage());
+                continue;
+            }
+            if (batch.size() >= batchSize) {
+                process(state, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            process(state, batch);
+        }
+        discontinueRemoved(state);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = state.totalRows * 1000 / elapsedMillis;
+        log.info("공급사 피드 동기화 완료 - Supplier: {}, Total: {}, Unchanged: {}, Updated: {}, Inserted: {}, "
+                + "Discontinued: {}, Rejected: {}, Elapsed: {}ms, Rows/sec: {}",
+            supplierCode, state.totalRows, state.unchangedRows, state.updatedRows, state.insertedRows,
+            state.discontinuedRows, state.rejectedRows, elapsedMillis, rowsPerSecond);
+
+        return FeedSyncReport.builder()
+            .supplierCode(supplierCode)
+            .totalRows(state.totalRows)
+            .unchangedRows(state.unchangedRows)
+            .updatedRows(state.updatedRows)
+            .insertedRows(state.insertedRows)
+            .discontinuedRows(state.discontinuedRows)
+            .rejectedRows(state.rejectedRows)
+            .discontinueSkipped(state.discontinueSkipped)
+            .elapsedMillis(elapsedMillis)
+            .rowsPerSecond(rowsPerSecond)
+            .rejections(state.rejections)
+            .build();
+    }
+
+    /**
+     * 배치 단위로 저장된 해시와 비교 → 바뀐 행 UPDATE, 새 행 INSERT
+     */
+    private void process(SyncState state, List<FeedRow> batch) {
+        Map<String, Tracked> tracked = loadTracked(state.supplierCode, batch);
+
+        List<Change> changes = new ArrayList<>();
+        List<FeedRow> untracked = new ArrayList<>();
+        for (FeedRow row : batch) {
+            Tracked current = tracked.get(row.isbn());
+            if (current != null && current.contentHash() == row.contentHash()) {
+                state.unchangedRows++;
+                continue;
+            }
+            Set<ConstraintViolation<BookRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                state.reject(row.line(), row.isbn(), BookBulkLoader.describe(violations));
+            } else if (current != null) {
+                changes.add(new Change(row, current.bookId(), true));
+            } else {
+                untracked.add(row);
+            }
+        }
+
+        if (!untracked.isEmpty()) {
+            insertOrAdopt(state, untracked, changes);
+        }
+        if (!changes.isEmpty()) {
+            applyChanges(state, changes);
+        }
+    }
+
+    /**
+     * 관리 대상이 아닌 행: 같은 ISBN 도서가 이미 있으면 편입(UPDATE), 없으면 배치 INSERT
+     */
+    private void insertOrAdopt(SyncState state, List<FeedRow> rows, List<Change> changes) {
+        Map<String, Book> existing = readFromPrimary(
+                () -> bookRepository.findByIsbnIn(rows.stream().map(FeedRow::isbn).toList()))
+            .stream()
+            .collect(Collectors.toMap(Book::getIsbn, Function.identity()));
+
+        List<FeedRow> inserts = new ArrayList<>();
+        for (FeedRow row : rows) {
+            Book book = existing.get(row.isbn());
+            if (book != null) {
+                changes.add(new Change(row, book.getBookId(), false));
+            } else {
+                inserts.add(row);
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        String[] bookIds = bookBatchWriter.insert(inserts.stream().map(FeedRow::request).toList());
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> trackingArgs = new ArrayList<>(inserts.size());
+        for (int i = 0; i < bookIds.length; i++) {
+            FeedRow row = inserts.get(i);
+            if (bookIds[i] == null) {
+                // 조회와 INSERT 사이에 다른 요청이 등록한 ISBN → 다음 동기화에서 편입
+                state.reject(row.line(), row.isbn(), "동기화 중 다른 요청으로 등록된 ISBN입니다.");
+                continue;
+            }
+            trackingArgs.add(new Object[]{state.supplierCode, row.isbn(), UuidBinary.toBytes(bookIds[i]),
+                row.contentHash(), now});
+        }
+        // 도서 INSERT 이후 여기서 실패하면 다음 동기화에서 기존 도서 편입으로 복구됨
+        if (!trackingArgs.isEmpty()) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_TRACKING_SQL, trackingArgs);
+            state.insertedRows += trackingArgs.size();
+        }
+    }
+
+    /**
+     * 바뀐 행을 한 트랜잭션으로 배치 UPDATE + 해시 갱신
+     */
+    private void applyChanges(SyncState state, List<Change> changes) {
+        List<String> bookIds = changes.stream().map(Change::bookId).toList();
+        Map<String, Book> befores = readFromPrimary(() -> bookRepository.findAllById(bookIds))
+            .stream()
+            .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+        Map<String, String> descriptions = findDescriptions(bookIds);
+        bookDictionary.registerAll(changes.stream().map(change -> change.row().request()).toList());
+
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        Map<Integer, ShardBatch> batches = new TreeMap<>();
+        List<Object[]> trackingUpdates = new ArrayList<>();
+        List<Object[]> trackingInserts = new ArrayList<>();
+        List<Object[]> trackingDeletes = new ArrayList<>();
+        int updated = 0;
+        for (Change change : changes) {
+            FeedRow row = change.row();
+            Book before = befores.get(change.bookId());
+            if (before == null) {
+                // 관리 중이던 도서가 삭제됨 → 관리 대상에서 빼고 다음 동기화에서 새로 등록
+                state.reject(row.line(), row.isbn(), "도서가 삭제되어 반영하지 못했습니다. 다음 동기화에서 다시 등록됩니다.");
+                trackingDeletes.add(new Object[]{state.supplierCode, row.isbn()});
+                continue;
+            }
+
+            BookRequest request = row.request();
+            ShardBatch batch = batches.computeIfAbsent(bookShards.shardOf(before.getBookId()), shard -> new ShardBatch());
+            byte[] bookId = UuidBinary.toBytes(before.getBookId());
+            BookStatus status = request.getStatus() != null ? request.getStatus()
+                : request.getStockQuantity() > 0 ? BookStatus.AVAILABLE : BookStatus.OUT_OF_STOCK;
+            batch.bookArgs.add(new Object[]{request.getTitle(),
+                bookDictionary.idOf(DictionaryKind.AUTHOR, request.getAuthor()),
+                bookDictionary.idOf(DictionaryKind.PUBLISHER, request.getPublisher()),
+                request.getPrice(), request.getStockQuantity(),
+                bookDictionary.idOf(DictionaryKind.CATEGORY, request.getCategory()),
+                status.name(), request.getPublishedAt() != null ? Timestamp.from(request.getPublishedAt()) : null,
+                timestamp, bookId});
+            String beforeDescription = descriptions.get(before.getBookId());
+            if (!Objects.equals(beforeDescription, request.getDescription())) {
+                batch.detailArgs.add(new Object[]{bookId, CompressedText.encode(request.getDescription())});
+            }
+            if (change.tracked()) {
+                trackingUpdates.add(new Object[]{bookId, row.contentHash(), timestamp, state.supplierCode, row.isbn()});
+            } else {
+                trackingInserts.add(new Object[]{state.supplierCode, row.isbn(), bookId, row.contentHash(), timestamp});
+            }
+            updated++;
+            batch.events.add(BookChangedEvent.updated(BookSnapshot.from(before, beforeDescription), BookSnapshot.builder()
+                .bookId(before.getBookId())
+                .title(request.getTitle())
+                .author(request.getAuthor())
+                .isbn(before.getIsbn())
+                .publisher(request.getPublisher())
+                .price(request.getPrice())
+                .stockQuantity(request.getStockQuantity())
+                .description(request.getDescription())
+                .category(request.getCategory())
+                .status(status)
+                .updatedAt(now)
+                .build()));
+        }
+
+        writeByShard(batches, UPDATE_BOOK_SQL, () -> {
+            jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE_TRACKING_SQL, trackingUpdates);
+            jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_TRACKING_SQL, trackingInserts);
+            jdbcTemplate.getJdbcOperations().batchUpdate(DELETE_TRACKING_SQL, trackingDeletes);
+        });
+        state.updatedRows += updated;
+    }
+
+    /**
+     * 피드에서 빠진 도서 판매 중지
+     * 1차 스캔으로 빠진 비율을 확인한 뒤 2차 스캔에서 배치 단위로 처리 (빠진 목록을 메모리에 모으지 않음)
+     */
+    private void discontinueRemoved(SyncState state) {
+        long trackedCount = 0;
+        long removedCount = 0;
+        String after = "";
+        List<String[]> page;
+        while (!(page = scanTracking(state.supplierCode, after)).isEmpty()) {
+            trackedCount += page.size();
+            for (String[] entry : page) {
+                if (!state.seen.contains(FeedHashes.fingerprint(entry[0]))) {
+                    removedCount++;
+                }
+            }
+            after = page.get(page.size() - 1)[0];
+        }
+        if (removedCount == 0) {
+            return;
+        }
+        if (removedCount > trackedCount * maxDiscontinueRatio) {
+            state.discontinueSkipped = true;
+            log.warn("피드에서 빠진 도서 비율이 너무 높아 판매 중지를 건너뜁니다 - Supplier: {}, Removed: {}/{}",
+                state.supplierCode, removedCount, trackedCount);
+            return;
+        }
+
+        after = "";
+        while (!(page = scanTracking(state.supplierCode, after)).isEmpty()) {
+            List<String[]> removed = page.stream()
+                .filter(entry -> !state.seen.contains(FeedHashes.fingerprint(entry[0])))
+                .toList();
+            if (!removed.isEmpty()) {
+                discontinue(state, removed);
+            }
+            after = page.get(page.size() - 1)[0];
+        }
+    }
+
+    private void discontinue(SyncState state, List<String[]> removed) {
+        List<String> bookIds = removed.stream().map(entry -> entry[1]).toList();
+        Map<String, Book> befores = readFromPrimary(() -> bookRepository.findAllById(bookIds))
+            .stream()
+            .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+        // 판매 중지 이벤트도 검색 세그먼트 시그니처를 다시 계산하므로 설명 필요
+        Map<String, String> descriptions = findDescriptions(bookIds);
+
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        Map<Integer, ShardBatch> batches = new TreeMap<>();
+        List<Object[]> trackingDeletes = new ArrayList<>(removed.size());
+        int discontinued = 0;
+        for (String[] entry : removed) {
+            trackingDeletes.add(new Object[]{state.supplierCode, entry[0]});
+            Book before = befores.get(entry[1]);
+            if (before == null || before.getStatus() == BookStatus.DISCONTINUED) {
+                continue;
+            }
+            ShardBatch batch = batches.computeIfAbsent(bookShards.shardOf(before.getBookId()), shard -> new ShardBatch());
+            batch.bookArgs.add(new Object[]{BookStatus.DISCONTINUED.name(), timestamp,
+                UuidBinary.toBytes(before.getBookId())});
+            discontinued++;
+            BookSnapshot snapshot = BookSnapshot.from(before, descriptions.get(before.getBookId()));
+            batch.events.add(BookChangedEvent.updated(snapshot, BookSnapshot.builder()
+                .bookId(snapshot.getBookId())
+                .title(snapshot.getTitle())
+                .author(snapshot.getAuthor())
+                .isbn(snapshot.getIsbn())
+                .publisher(snapshot.getPublisher())
+                .price(snapshot.getPrice())
+                .stockQuantity(snapshot.getStockQuantity())
+                .description(snapshot.getDescription())
+                .category(snapshot.getCategory())
+                .status(BookStatus.DISCONTINUED)
+                .updatedAt(now)
+                .build()));
+        }
+
+        writeByShard(batches, DISCONTINUE_BOOK_SQL,
+            () -> jdbcTemplate.getJdbcOperations().batchUpdate(DELETE_TRACKING_SQL, trackingDeletes));
+        state.discontinuedRows += discontinued;
+    }
+
+    /**
+     * 샤드별 도서 UPDATE (샤드마다 한 트랜잭션) 후 샤드 0 트랜잭션에서 관리 테이블 반영
+     * 샤딩하지 않으면 모두 샤드 0이므로 기존과 같이 한 트랜잭션
+     */
+    private void writeByShard(Map<Integer, ShardBatch> batches, String bookSql, Runnable trackingWrites) {
+        batches.forEach((shard, batch) -> {
+            if (shard != BookShards.MAIN) {
+                bookShards.runOn(shard, () -> transactionTemplate.executeWithoutResult(tx -> batch.write(bookSql)));
+            }
+        });
+        bookShards.runOn(BookShards.MAIN, () -> transactionTemplate.executeWithoutResult(tx -> {
+            ShardBatch batch = batches.get(BookShards.MAIN);
+            if (batch != null) {
+                batch.write(bookSql);
+            }
+            trackingWrites.run();
+        }));
+    }
+
+    // book_detail 설명을 IN 쿼리 한 번으로 조회 (설명이 없는 도서는 포함되지 않음)
+    private Map<String, String> findDescriptions(List<String> bookIds) {
+        return readFromPrimary(() -> bookDetailRepository.findDescriptionsByBookIdIn(bookIds))
+            .stream()
+            .collect(Collectors.toMap(row -> (String) row[0], row -> (String) row[1]));
+    }
+
+    // 갱신 기준이 되는 현재 상태는 복제 지연이 없는 프라이머리에서 읽음
+    // (readOnly가 아닌 트랜잭션 → 프라이머리로 라우팅, 관리 테이블 JDBC 조회는 트랜잭션 밖이라 원래 프라이머리)
+    private <T> T readFromPrimary(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    private Map<String, Tracked> loadTracked(String supplierCode, List<FeedRow> batch) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("supplierCode", supplierCode)
+            .addValue("isbns", batch.stream().map(FeedRow::isbn).toList());
+        Map<String, Tracked> tracked = new HashMap<>();
+        jdbcTemplate.query(SELECT_TRACKING_SQL, params, resultSet -> {
+            tracked.put(resultSet.getString(1), new Tracked(UuidBinary.toString(resultSet.getBytes(2)),
+                resultSet.getLong(3)));
+        });
+        return tracked;
+    }
+
+    /**
+     * 관리 대상 (isbn, bookId)을 ISBN 기준 keyset으로 batch-size씩 조회
+     */
+    private List<String[]> scanTracking(String supplierCode, String after) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("supplierCode", supplierCode)
+            .addValue("after", after)
+            .addValue("limit", batchSize);
+        return jdbcTemplate.query(SCAN_TRACKING_SQL, params,
+            (resultSet, rowNum) -> new String[]{resultSet.getString(1), UuidBinary.toString(resultSet.getBytes(2))});
+    }
+
+    /**
+     * 피드 한 행 (변환까지 마친 상태)
+     */
+    private record FeedRow(long line, BookRequest request, long contentHash) {
+
+        String isbn() {
+            return request.getIsbn();
+        }
+
+    }
+
+    /**
+     * 저장된 관리 정보
+     */
+    private record Tracked(String bookId, long contentHash) {
+    }
+
+    /**
+     * 반영할 변경 (tracked = false면 기존 도서를 관리 대상으로 편입)
+     */
+    private record Change(FeedRow row, String bookId, boolean tracked) {
+    }
+
+    /**
+     * 샤드 하나에 반영할 도서/상세 변경과 이벤트
+     */
+    private class ShardBatch {
+
+        private final List<Object[]> bookArgs = new ArrayList<>();
+        private final List<Object[]> detailArgs = new ArrayList<>();
+        private final List<BookChangedEvent> events = new ArrayList<>();
+
+        private void write(String bookSql) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(bookSql, bookArgs);
+            jdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_DETAIL_SQL, detailArgs);
+            events.forEach(eventPublisher::publishEvent);
+        }
+
+    }
+
+    /**
+     * 동기화 진행 상태
+     */
+    private class SyncState {
+
+        private final String supplierCode;
+        private final FingerprintSet seen = new FingerprintSet();
+        private final List<Rejection> rejections = new ArrayList<>();
+        private long totalRows;
+        private long unchangedRows;
+        private long updatedRows;
+        private long insertedRows;
+        private long discontinuedRows;
+        private long rejectedRows;
+        private boolean discontinueSkipped;
+
+        private SyncState(String supplierCode) {
+            this.supplierCode = supplierCode;
+        }
+
+        private void reject(long line, String isbn, String reason) {
+            rejectedRows++;
+            if (rejections.size() < maxReportedRejections) {
+                rejections.add(new Rejection(line, isbn, reason));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.bookmanager.domain.book.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록/검색 조건별 근사 전체 건수 캐시 (countMode = APPROX)
+ *
+ * - 요청 스레드에서는 COUNT 쿼리를 실행하지 않고, 캐시된 값이 없거나 ttl이 지났으면
+ *   백그라운드 스레드에서 다시 계산 (같은 조건은 동시에 한 번만 계산)
+ * - 처음 조회하는 조건은 값이 없으므로 전체 건수 없이 응답하고, 계산이 끝난 다음 요청부터 포함
+ * - 조건 수는 max-entries로 제한 (가장 오래 사용하지 않은 조건부터 제거)
+ * - 백그라운드 작업 대기열이 가득 차면 이번 갱신은 건너뜀 (다음 요청에서 다시 시도)
+ */
+@Slf4j
+@Component
+public class ApproximateCountCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, CountEntry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public ApproximateCountCache(
+        @Value("${bookstore.count-cache.ttl-ms:60000}") long ttlMillis,
+        @Value("${bookstore.count-cache.max-entries:1000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CountEntry> eldest) {
+                return size() > ApproximateCountCache.this.maxEntries;
+            }
+        };
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "approximate-count");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * 캐시된 건수 조회 (없거나 오래되었으면 백그라운드 갱신 예약)
+     *
+     * @param key 조회 조건 (예: "TITLE:자바")
+     * @param counter COUNT 쿼리
+     * @return 캐시된 건수, 아직 계산되지 않았으면 null
+     */
+    public CountEntry get(String key, LongSupplier counter) {
+        CountEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || entry.countedAt().toEpochMilli() + ttlMillis < System.currentTimeMillis()) {
+            scheduleRefresh(key, counter);
+        }
+        return entry;
+    }
+
+    /**
+     * 정확한 건수를 알게 된 경우 저장 (예: 마지막 페이지 조회 시 offset + 조회 건수)
+     */
+    public void put(String key, long count) {
+        synchronized (entries) {
+            entries.put(key, new CountEntry(count, Instant.now()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleRefresh(String key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    put(key, counter.getAsLong());
+                } catch (Exception e) {
+                    log.warn("근사 건수 계산 실패 - Key: {}, Error: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * 캐시된 건수와 계산 시점
+     */
+    public record CountEntry(long count, Instant countedAt) {
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.bookmanager.domain.book.cache;
+
+import com.bookmanager.domain.book.dto.response.SearchCacheStatsResponse;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookChangedEvent.ChangeType;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 제목/저자 검색 결과 캐시
+ *
+ * 검색 결과(bookId 목록 + 전체 건수)를 카탈로그 버전과 함께 저장하고,
+ * BookService가 도서를 변경하면 카탈로그 버전을 올려 이전 결과를 모두 무효화
+ *
+ * - 검색 전에 버전을 먼저 읽고 그 버전으로 저장하므로, 검색 도중 커밋된 변경이 있으면
+ *   저장된 결과는 다음 조회에서 바로 무효화됨
+ * - 재고/상태만 바뀐 경우는 검색 결과(매칭되는 bookId, 건수)가 변하지 않으므로 버전을 올리지 않음
+ *   (캐시 적중 시에도 도서 데이터는 DB에서 다시 조회하므로 재고/상태는 항상 최신)
+ * - 그래서 가격/재고/상태처럼 버전을 올리지 않는 컬럼으로 정렬한 검색은 캐시하지 않음 (isCacheable)
+ */
+@Slf4j
+@Component
+public class BookSearchCache {
+
+    public static final String TITLE = "TITLE";
+    public static final String AUTHOR = "AUTHOR";
+
+    // 버전을 올리는 변경(등록/삭제, 제목/저자/카테고리 변경)으로만 순서가 바뀌는 정렬 속성
+    private static final Set<String> CACHEABLE_SORT_PROPERTIES =
+        Set.of("bookId", "title", "author", "category", "createdAt");
+
+    private final LruSearchResultCache cache;
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    public BookSearchCache(
+        @Value("${bookstore.search-cache.max-bytes:16777216}") long maxBytes,
+        @Value("${bookstore.search-cache.max-entries:10000}") int maxEntries) {
+        this.cache = new LruSearchResultCache(maxBytes, maxEntries);
+    }
+
+    /**
+     * 현재 카탈로그 버전 (검색 실행 전에 읽어서 put에 전달)
+     */
+    public long currentVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * 캐시할 수 있는 정렬인지 확인 (정렬 없음 포함)
+     * 가격/재고/상태 등으로 정렬하면 버전이 그대로여도 페이지 순서와 구성이 바뀌므로 캐시하지 않음
+     */
+    public static boolean isCacheable(Sort sort) {
+        return sort.stream().allMatch(order -> CACHEABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+
+    public CachedSearchResult get(SearchCacheKey key) {
+        return cache.get(key, catalogVersion.get());
+    }
+
+    /**
+     * 검색 결과 저장
+     *
+     * @param version 검색 실행 전에 읽은 카탈로그 버전
+     */
+    public void put(SearchCacheKey key, List<String> bookIds, long total, long version) {
+        if (version != catalogVersion.get()) {
+            return;
+        }
+        cache.put(key, CachedSearchResult.of(bookIds, total, version));
+    }
+
+    /**
+     * 도서 변경 시 카탈로그 버전 증가 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (affectsSearchResults(event)) {
+            long version = catalogVersion.incrementAndGet();
+            log.debug("검색 캐시 무효화 - Version: {}, BookId: {}", version, event.getBookId());
+        }
+    }
+
+    /**
+     * 대량 등록 청크 커밋 시 카탈로그 버전 한 번만 증가
+     */
+    @TransactionalEventListener
+    public void onBooksCreated(BooksCreatedEvent event) {
+        long version = catalogVersion.incrementAndGet();
+        log.debug("검색 캐시 무효화 - Version: {}, Created: {}", version, event.getBooks().size());
+    }
+
+    public SearchCacheStatsResponse stats() {
+        return cache.stats(catalogVersion.get());
+    }
+
+    private static boolean affectsSearchResults(BookChangedEvent event) {
+        if (event.getType() != ChangeType.UPDATED) {
+            return true;
+        }
+        BookSnapshot before = event.getBefore();
+        BookSnapshot after = event.getAfter();
+        return !Objects.equals(before.getTitle(), after.getTitle())
+            || !Objects.equals(before.getAuthor(), after.getAuthor())
+            || !Objects.equals(before.getCategory(), after.getCategory());
+    }
+
+}
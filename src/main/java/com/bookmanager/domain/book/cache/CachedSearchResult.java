@@ -0,0 +1,84 @@
+package com.bookmanager.domain.book.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시에 저장되는 검색 결과
+ *
+ * 도서 데이터는 저장하지 않고 bookId 목록과 전체 건수만 보관 (도서 데이터는 IN 쿼리로 다시 조회)
+ * bookId가 UUID 문자열이면 long 2개(16byte)로 압축해서 저장하고,
+ * 그 외 형식이 섞여 있으면 문자열 배열을 그대로 보관
+ */
+public final class CachedSearchResult {
+
+    private final long[] packedIds;
+    private final String[] rawIds;
+    private final long total;
+    private final long catalogVersion;
+
+    private CachedSearchResult(long[] packedIds, String[] rawIds, long total, long catalogVersion) {
+        this.packedIds = packedIds;
+        this.rawIds = rawIds;
+        this.total = total;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public static CachedSearchResult of(List<String> bookIds, long total, long catalogVersion) {
+        long[] packed = new long[bookIds.size() * 2];
+        for (int i = 0; i < bookIds.size(); i++) {
+            String bookId = bookIds.get(i);
+            UUID uuid = parseCanonical(bookId);
+            if (uuid == null) {
+                return new CachedSearchResult(null, bookIds.toArray(new String[0]), total, catalogVersion);
+            }
+            packed[i * 2] = uuid.getMostSignificantBits();
+            packed[i * 2 + 1] = uuid.getLeastSignificantBits();
+        }
+        return new CachedSearchResult(packed, null, total, catalogVersion);
+    }
+
+    public List<String> bookIds() {
+        if (rawIds != null) {
+            return List.of(rawIds);
+        }
+        List<String> bookIds = new ArrayList<>(packedIds.length / 2);
+        for (int i = 0; i < packedIds.length; i += 2) {
+            bookIds.add(new UUID(packedIds[i], packedIds[i + 1]).toString());
+        }
+        return bookIds;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public long catalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * 결과가 차지하는 대략적인 힙 크기 (byte)
+     */
+    long estimatedBytes() {
+        if (rawIds != null) {
+            return 48 + rawIds.length * 88L;
+        }
+        return 48 + 16 + packedIds.length * 8L;
+    }
+
+    // UUID.fromString은 "1-1-1-1-1" 같은 비정규 형식도 허용하므로 왕복 변환이 같은 경우만 압축
+    private static UUID parseCanonical(String bookId) {
+        if (bookId == null || bookId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(bookId);
+            return uuid.toString().equals(bookId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
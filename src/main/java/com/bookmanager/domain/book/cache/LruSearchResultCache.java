@@ -0,0 +1,113 @@
+package com.bookmanager.domain.book.cache;
+
+import com.bookmanager.domain.book.dto.response.SearchCacheStatsResponse;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메모리 예산 기반 LRU 검색 결과 캐시
+ *
+ * - LinkedHashMap(accessOrder = true)로 최근 사용 순서를 유지
+ * - 항목별 추정 크기의 합이 maxBytes를 넘거나 항목 수가 maxEntries를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 조회 시 항목의 카탈로그 버전이 현재 버전과 다르면 무효화된 것으로 보고 제거 (miss 처리)
+ *
+ * LinkedHashMap은 get에서도 순서가 바뀌므로 모든 메서드를 synchronized로 처리
+ */
+public class LruSearchResultCache {
+
+    private final long maxBytes;
+    private final int maxEntries;
+
+    private final LinkedHashMap<SearchCacheKey, CachedSearchResult> entries =
+        new LinkedHashMap<>(256, 0.75f, true);
+
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public LruSearchResultCache(long maxBytes, int maxEntries) {
+        if (maxBytes <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 양수여야 합니다.");
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param currentVersion 현재 카탈로그 버전
+     * @return 유효한 결과, 없거나 무효화되었으면 null
+     */
+    public synchronized CachedSearchResult get(SearchCacheKey key, long currentVersion) {
+        CachedSearchResult result = entries.get(key);
+        if (result == null) {
+            misses++;
+            return null;
+        }
+        if (result.catalogVersion() != currentVersion) {
+            entries.remove(key);
+            usedBytes -= sizeOf(key, result);
+            invalidations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return result;
+    }
+
+    /**
+     * 캐시 저장 후 예산을 넘으면 LRU 순서로 제거
+     * 한 항목이 예산 전체보다 크면 저장하지 않음
+     */
+    public synchronized void put(SearchCacheKey key, CachedSearchResult result) {
+        long size = sizeOf(key, result);
+        if (size > maxBytes) {
+            return;
+        }
+
+        CachedSearchResult previous = entries.put(key, result);
+        if (previous != null) {
+            usedBytes -= sizeOf(key, previous);
+        }
+        usedBytes += size;
+
+        Iterator<Map.Entry<SearchCacheKey, CachedSearchResult>> eldest = entries.entrySet().iterator();
+        while ((usedBytes > maxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+            Map.Entry<SearchCacheKey, CachedSearchResult> entry = eldest.next();
+            usedBytes -= sizeOf(entry.getKey(), entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized SearchCacheStatsResponse stats(long catalogVersion) {
+        long requests = hits + misses;
+        return SearchCacheStatsResponse.builder()
+            .hits(hits)
+            .misses(misses)
+            .hitRatio(requests == 0 ? 0.0 : (double) hits / requests)
+            .evictions(evictions)
+            .invalidations(invalidations)
+            .entries(entries.size())
+            .maxEntries(maxEntries)
+            .usedBytes(usedBytes)
+            .maxBytes(maxBytes)
+            .catalogVersion(catalogVersion)
+            .build();
+    }
+
+    // HashMap 엔트리 오버헤드 포함
+    private static long sizeOf(SearchCacheKey key, CachedSearchResult result) {
+        return 48 + key.estimatedBytes() + result.estimatedBytes();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.bookmanager.domain.book.cache;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 검색 결과 캐시 키
+ *
+ * 같은 검색이 공백/유니코드 표현 차이로 다른 키가 되지 않도록 검색어를 정규화해서 사용
+ *
+ * @param type 검색 종류 (TITLE, AUTHOR ...)
+ * @param keyword 정규화된 검색어
+ * @param filters 추가 필터 (없으면 빈 문자열)
+ * @param page 페이지 번호
+ * @param size 페이지 크기
+ * @param sort 정렬 조건 (Sort.toString())
+ */
+public record SearchCacheKey(String type, String keyword, String filters, int page, int size, String sort) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 캐시 키 생성 (검색어 정규화 포함)
+     *
+     * @param filters 추가 필터 (없으면 null)
+     */
+    public static SearchCacheKey of(String type, String keyword, String filters, Pageable pageable) {
+        return new SearchCacheKey(type, normalize(keyword), filters != null ? filters : "",
+            pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+    }
+
+    /**
+     * 검색어 정규화
+     * - 유니코드 NFKC 정규화 (전각/반각, 한글 자모 조합 차이 제거)
+     * - 앞뒤 공백 제거, 연속 공백은 공백 하나로
+     *
+     * 대소문자 구분은 DB collation을 따르므로 여기서 변환하지 않음
+     * (정규화된 검색어로 실제 쿼리를 실행해야 캐시 결과와 DB 결과가 일치)
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ");
+    }
+
+    /**
+     * 키가 차지하는 대략적인 힙 크기 (byte)
+     */
+    long estimatedBytes() {
+        return 64 + 2L * (keyword.length() + filters.length() + sort.length() + type.length());
+    }
+
+}
@@ -1,21 +1,41 @@
 package com.bookmanager.domain.book.controller;
 
 import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.CountMode;
 import com.bookmanager.common.response.ApiResponse;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.domain.book.analytics.InventoryDimension;
+import com.bookmanager.domain.book.bulk.BookBulkLoader;
+import com.bookmanager.domain.book.bulk.BookJsonBulkLoader;
+import com.bookmanager.domain.book.bulk.SupplierFeedSync;
 import com.bookmanager.domain.book.dto.request.BookRequest;
 import com.bookmanager.domain.book.dto.request.BookUpdateRequest;
 import com.bookmanager.domain.book.dto.response.BookResponse;
 import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport;
+import com.bookmanager.domain.book.dto.response.FeedSyncReport;
+import com.bookmanager.domain.book.dto.response.InventoryValuationResponse;
+import com.bookmanager.domain.book.dto.response.PriceDistributionResponse;
+import com.bookmanager.domain.book.dto.response.SearchCacheStatsResponse;
+import com.bookmanager.domain.book.dto.response.SimilarBookResponse;
+import com.bookmanager.domain.book.service.BookExportService;
 import com.bookmanager.domain.book.service.BookService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Slf4j
 @RestController
@@ -33,7 +54,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class BookController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookBulkLoader bookBulkLoader;
+    private final BookJsonBulkLoader bookJsonBulkLoader;
+    private final SupplierFeedSync supplierFeedSync;
+
+    @Value("${bookstore.export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
 
     // 도서 등록
     @PostMapping
@@ -48,6 +78,39 @@ public class BookController {
             .body(ApiResponse.success("도서가 성공적으로 등록되었습니다.", response));
     }
 
+    // CSV 대량 등록 (신규 공급사 카탈로그 온보딩용, 첫 줄은 헤더)
+    // 요청 본문을 스트림으로 읽어 병렬 검증 + JDBC 배치 INSERT, 거부된 행은 사유와 함께 응답
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<BulkLoadReport>> importBooks(InputStream body) throws IOException {
+        log.info("도서 CSV 대량 등록 API 호출");
+
+        BulkLoadReport report = bookBulkLoader.load(body);
+
+        return ResponseEntity.ok(ApiResponse.success("도서 대량 등록이 완료되었습니다.", report));
+    }
+
+    // JSON 배열 대량 등록 (프로그램 연동용)
+    // 본문을 한 건씩 읽어 배치 단위로 검증/저장하고, 건별 결과를 요청 순서대로 바로 응답에 기록
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void bulkCreateBooks(InputStream body, HttpServletResponse response) throws IOException {
+        log.info("도서 JSON 대량 등록 API 호출");
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        bookJsonBulkLoader.load(body, response.getOutputStream());
+    }
+
+    // 공급사 전체 피드(CSV) 동기화 - 내용 해시가 바뀐 행만 UPDATE, 새 행 INSERT, 빠진 행 판매 중지
+    @PostMapping(value = "/feeds/{supplierCode}/sync", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<FeedSyncReport>> syncSupplierFeed(
+        @PathVariable String supplierCode, InputStream body) throws IOException {
+        log.info("공급사 피드 동기화 API 호출 - Supplier: {}", supplierCode);
+
+        FeedSyncReport report = supplierFeedSync.sync(supplierCode, body);
+
+        return ResponseEntity.ok(ApiResponse.success("공급사 피드 동기화가 완료되었습니다.", report));
+    }
+
     // 도서 ID로 단건 조회
     @GetMapping("/{bookId}")
     public ResponseEntity<ApiResponse<BookResponse>> getBookById(
@@ -59,6 +122,42 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 비슷한 도서 조회 (상세 페이지 "이 책과 비슷한 책")
+    @GetMapping("/{bookId}/similar")
+    public ResponseEntity<ApiResponse<List<SimilarBookResponse>>> getSimilarBooks(
+        @PathVariable String bookId,
+        @RequestParam(defaultValue = "10") int limit) {
+        log.info("유사 도서 조회 API 호출 - ID: {}, Limit: {}", bookId, limit);
+
+        List<SimilarBookResponse> response = bookService.getSimilarBooks(bookId, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 전체 카탈로그 내보내기 (NDJSON 스트리밍, 한 줄에 도서 하나)
+    // 페이지 단위 반복 조회 대신 한 번의 요청으로 전체를 받아가는 파트너 연동용
+    // X-Export-Watermark: 다음 증분 내보내기 때 updatedSince로 넘길 값 (내보내기 시작 시각)
+    // 오래 걸리므로 이 요청에만 긴 비동기 타임아웃 적용 (WebAsyncTask, 다른 API는 전역 기본값 유지)
+    @GetMapping(value = "/export", produces = NDJSON)
+    public WebAsyncTask<Void> exportBooks(
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) BookStatus status,
+        @RequestParam(required = false) Instant updatedSince,
+        HttpServletResponse response) {
+        log.info("카탈로그 내보내기 API 호출 - Category: {}, Status: {}, UpdatedSince: {}",
+            category, status, updatedSince);
+
+        Instant watermark = Instant.now();
+        response.setContentType(NDJSON);
+        response.setHeader("X-Export-Watermark", watermark.toString());
+
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            bookExportService.exportBooks(category, status, updatedSince, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
     // ISBN으로 도서 조회
     @GetMapping("/isbn/{isbn}")
     public ResponseEntity<ApiResponse<BookResponse>> getBookByIsbn(
@@ -72,24 +171,49 @@ public class BookController {
 
     // 전체 도서 목록 조회 (페이징)
     // @PageableDefault: 페이징 기본값 설정
+    // countMode=NONE/APPROX: COUNT 쿼리 없이 조회 (전체 건수 없음 / 근사값)
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> getAllBooks(
+    public ResponseEntity<ApiResponse<?>> getAllBooks(
         @PageableDefault(size = 10, sort = "createdAt", direction = Direction.DESC)
-        Pageable pageable) {
-        log.info("전체 도서 목록 조회 API 호출");
+        Pageable pageable,
+        @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("전체 도서 목록 조회 API 호출 - CountMode: {}", countMode);
+
+        if (countMode != CountMode.EXACT) {
+            return ResponseEntity.ok(ApiResponse.success(bookService.getAllBooksSlice(pageable, countMode)));
+        }
 
         Page<BookSummaryResponse> response = bookService.getAllBooks(pageable);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 전체 도서 목록 커서 조회 (최신 등록순)
+    // OFFSET 없이 after(이전 응답의 nextCursor) 다음부터 조회 → 깊은 페이지도 첫 페이지와 같은 비용
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookSummaryResponse>>> getAllBooksByCursor(
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size) {
+        log.info("전체 도서 목록 커서 조회 API 호출 - After: {}, Size: {}", after, size);
+
+        CursorPage<BookSummaryResponse> response = bookService.getAllBooksByCursor(after, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 제목으로 도서 검색 (페이징)
     // @RequestParam: URL 쿼리 파라미터에서 값 추출
     @GetMapping("/search/title")
-    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> searchBooksByTitle(
+    public ResponseEntity<ApiResponse<?>> searchBooksByTitle(
         @RequestParam String keyword,
-        @PageableDefault(size = 10) Pageable pageable) {
-        log.info("도서 제목 검색 API 호출 - Keyword: {}", keyword);
+        @PageableDefault(size = 10) Pageable pageable,
+        @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("도서 제목 검색 API 호출 - Keyword: {}, CountMode: {}", keyword, countMode);
+
+        if (countMode != CountMode.EXACT) {
+            return ResponseEntity.ok(ApiResponse.success(
+                bookService.searchBooksByTitleSlice(keyword, pageable, countMode)));
+        }
 
         Page<BookSummaryResponse> response = bookService.searchBooksByTitle(keyword, pageable);
 
@@ -98,28 +222,79 @@ public class BookController {
 
     // 저자로 도서 검색 (페이징)
     @GetMapping("/search/author")
-    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> searchBooksByAuthor(
+    public ResponseEntity<ApiResponse<?>> searchBooksByAuthor(
         @RequestParam String keyword,
-        @PageableDefault(size = 10) Pageable pageable) {
-        log.info("도서 저자 검색 API 호출 - Keyword: {}", keyword);
+        @PageableDefault(size = 10) Pageable pageable,
+        @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("도서 저자 검색 API 호출 - Keyword: {}, CountMode: {}", keyword, countMode);
+
+        if (countMode != CountMode.EXACT) {
+            return ResponseEntity.ok(ApiResponse.success(
+                bookService.searchBooksByAuthorSlice(keyword, pageable, countMode)));
+        }
 
         Page<BookSummaryResponse> response = bookService.searchBooksByAuthor(keyword, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 검색 결과 캐시 통계 조회 (적중률, 메모리 사용량)
+    @GetMapping("/search/cache-stats")
+    public ResponseEntity<ApiResponse<SearchCacheStatsResponse>> getSearchCacheStats() {
+        log.info("검색 캐시 통계 조회 API 호출");
+
+        SearchCacheStatsResponse response = bookService.getSearchCacheStats();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 가격 범위로 도서 검색 (가격 정렬, 상태 필터 선택)
+    // sort=price,desc 로 내림차순 정렬
+    @GetMapping("/search/price")
+    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> searchBooksByPriceRange(
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) BookStatus status,
+        @PageableDefault(size = 10, sort = "price", direction = Direction.ASC) Pageable pageable) {
+        log.info("가격 범위 도서 검색 API 호출 - Min: {}, Max: {}, Status: {}", minPrice, maxPrice, status);
+
+        Page<BookSummaryResponse> response =
+            bookService.searchBooksByPriceRange(minPrice, maxPrice, status, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 카테고리로 도서 조회 (페이징)
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> getBooksByCategory(
+    public ResponseEntity<ApiResponse<?>> getBooksByCategory(
         @PathVariable String category,
-        @PageableDefault(size = 10) Pageable pageable) {
-        log.info("카테고리별 도서 조회 API 호출 - Category: {}", category);
+        @PageableDefault(size = 10) Pageable pageable,
+        @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("카테고리별 도서 조회 API 호출 - Category: {}, CountMode: {}", category, countMode);
+
+        if (countMode != CountMode.EXACT) {
+            return ResponseEntity.ok(ApiResponse.success(
+                bookService.getBooksByCategorySlice(category, pageable, countMode)));
+        }
 
         Page<BookSummaryResponse> response = bookService.getBooksByCategory(category, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 카테고리별 도서 커서 조회 (최신 등록순)
+    @GetMapping("/category/{category}/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookSummaryResponse>>> getBooksByCategoryByCursor(
+        @PathVariable String category,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size) {
+        log.info("카테고리별 도서 커서 조회 API 호출 - Category: {}, After: {}", category, after);
+
+        CursorPage<BookSummaryResponse> response = bookService.getBooksByCategoryByCursor(category, after, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 도서 정보 수정
     @PatchMapping("/{bookId}")
     public ResponseEntity<ApiResponse<BookResponse>> updateBook(
@@ -178,6 +353,41 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success("도서가 삭제되었습니다."));
     }
 
+    // 재고 평가 집계 (재무용, 카테고리/출판사/상태별 가격 * 재고 합계)
+    // status를 지정하면 해당 상태의 도서만 집계 (예: groupBy=CATEGORY&status=AVAILABLE)
+    @GetMapping("/analytics/valuation")
+    public ResponseEntity<ApiResponse<InventoryValuationResponse>> getInventoryValuation(
+        @RequestParam(defaultValue = "CATEGORY") InventoryDimension groupBy,
+        @RequestParam(required = false) BookStatus status) {
+        log.info("재고 평가 집계 API 호출 - GroupBy: {}, Status: {}", groupBy, status);
+
+        InventoryValuationResponse response = bookService.getInventoryValuation(groupBy, status);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 카테고리별 가격 분포 (p10/p50/p90, 가격 정책용)
+    @GetMapping("/stats/prices")
+    public ResponseEntity<ApiResponse<List<PriceDistributionResponse>>> getPriceDistributions() {
+        log.info("카테고리별 가격 분포 조회 API 호출");
+
+        List<PriceDistributionResponse> response = bookService.getPriceDistributions();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 가격 히스토그램 (탐색 화면 가격 필터용, category가 없으면 전체 카탈로그)
+    @GetMapping("/stats/prices/histogram")
+    public ResponseEntity<ApiResponse<PriceDistributionResponse>> getPriceHistogram(
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "10") int bins) {
+        log.info("가격 히스토그램 조회 API 호출 - Category: {}, Bins: {}", category, bins);
+
+        PriceDistributionResponse response = bookService.getPriceDistribution(category, bins);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 재고가 부족한 도서 목록 조회
     @GetMapping("/low-stock")
     public ResponseEntity<ApiResponse<List<BookResponse>>> getLowStockBooks(
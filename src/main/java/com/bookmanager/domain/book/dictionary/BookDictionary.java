@@ -0,0 +1,331 @@
+package com.bookmanager.domain.book.dictionary;
+
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저자/출판사/카테고리 문자열 사전 (이름 ↔ 정수 ID, 샤드 0 프라이머리의 book_author/book_publisher/book_category)
+ *
+ * book 행에는 ID(INT)만 저장 → 행/인덱스 크기 감소, 카테고리별 집계/필터가 정수 컬럼 비교로 실행
+ * 메모리에는 이름마다 문자열 인스턴스 하나만 두고 조회한 모든 Book이 같은 인스턴스를 공유
+ *
+ * - 처음 사용할 때 사전 전체를 읽고, 이후에는 없는 이름/ID만 DB에서 확인
+ *   (다른 인스턴스가 등록한 항목도 필요할 때 읽어 옴)
+ * - 등록은 도서 트랜잭션과 별도 커넥션(자동 커밋)으로 기록 → 도서 트랜잭션이 롤백되면 쓰이지 않는 항목이 남을 수 있음
+ * - 같은 이름을 다른 인스턴스가 동시에 등록하면 UNIQUE 제약으로 한쪽만 들어가고 나머지는 그 행을 다시 읽음
+ * - 샤딩 사용 시에도 사전은 샤드 0에만 두고 모든 샤드가 같은 ID를 사용
+ * - 복제 지연이 없도록 항상 프라이머리에서 읽음
+ */
+@Slf4j
+@Component
+public class BookDictionary {
+
+    // 사전에 없는 이름을 조회 조건으로 쓸 때의 ID (AUTO_INCREMENT는 1부터이므로 어떤 행과도 일치하지 않음)
+    public static final int UNKNOWN_ID = 0;
+
+    // IN 쿼리 한 번에 넣는 최대 이름 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final DataSource dataSource;
+    private final Map<DictionaryKind, Terms> dictionaries = new EnumMap<>(DictionaryKind.class);
+
+    private volatile boolean loaded;
+
+    public BookDictionary(
+        @Qualifier("primaryDataSource") ObjectProvider<DataSource> primaryDataSource,
+        ObjectProvider<DataSource> dataSource) {
+        // 읽기/쓰기 분리, 샤딩 사용 시에는 라우팅을 거치지 않는 샤드 0 프라이머리 풀
+        this.dataSource = primaryDataSource.getIfAvailable(dataSource::getObject);
+        for (DictionaryKind kind : DictionaryKind.values()) {
+            dictionaries.put(kind, new Terms());
+        }
+    }
+
+    /**
+     * 이름의 ID (null이면 null, 사전에 없으면 UNKNOWN_ID)
+     */
+    public Integer idOf(DictionaryKind kind, String name) {
+        if (name == null) {
+            return null;
+        }
+        Terms terms = terms(kind);
+        Integer id = terms.ids.get(name);
+        if (id == null) {
+            // 다른 인스턴스가 등록했을 수 있으므로 DB 확인 (없는 이름으로 조회하는 경우에만)
+            id = terms.cache(kind, select(kind, "SELECT id, name FROM " + kind.table() + " WHERE name = ?", name))
+                .get(name);
+        }
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    /**
+     * ID의 이름 (사전에서 공유하는 문자열 인스턴스)
+     *
+     * @throws IllegalStateException 사전에 없는 ID
+     */
+    public String nameOf(DictionaryKind kind, Integer id) {
+        if (id == null) {
+            return null;
+        }
+        Terms terms = terms(kind);
+        String name = terms.names.get(id);
+        if (name == null) {
+            terms.cache(kind, select(kind, "SELECT id, name FROM " + kind.table() + " WHERE id = ?", id));
+            name = terms.names.get(id);
+            if (name == null) {
+                throw new IllegalStateException(kind.table() + "에 없는 ID입니다: " + id);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * 이름 등록 (이미 있으면 기존 ID)
+     *
+     * @return ID (name이 null이면 null)
+     */
+    public Integer register(DictionaryKind kind, String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = terms(kind).ids.get(name);
+        return id != null ? id : registerAll(kind, List.of(name)).get(name);
+    }
+
+    /**
+     * 이름 목록 등록 (없는 이름만 배치 INSERT 한 번)
+     *
+     * @return 이름 → ID (null 이름은 제외)
+     */
+    public Map<String, Integer> registerAll(DictionaryKind kind, Collection<String> names) {
+        Terms terms = terms(kind);
+        Map<String, Integer> ids = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || ids.containsKey(name)) {
+                continue;
+            }
+            Integer id = terms.ids.get(name);
+            if (id != null) {
+                ids.put(name, id);
+            } else {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            insert(kind, terms, missing);
+            for (String name : missing) {
+                Integer id = terms.ids.get(name);
+                if (id == null) {
+                    throw new IllegalStateException(kind.table() + "에 등록하지 못했습니다: " + name);
+                }
+                ids.put(name, id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 등록 요청 목록의 저자/출판사/카테고리 등록 (일괄 등록/대량 등록에서 행마다 등록 왕복이 생기지 않도록 먼저 호출)
+     */
+    public void registerAll(Collection<BookRequest> requests) {
+        registerAll(DictionaryKind.AUTHOR, requests.stream().map(BookRequest::getAuthor).toList());
+        registerAll(DictionaryKind.PUBLISHER, requests.stream().map(BookRequest::getPublisher).toList());
+        registerAll(DictionaryKind.CATEGORY, requests.stream().map(BookRequest::getCategory).toList());
+    }
+
+    /**
+     * 이름에 keyword가 포함된 항목 (대소문자 무시, MySQL 기본 콜레이션의 LIKE와 같은 기준)
+     *
+     * 도서 행 전체가 아니라 서로 다른 이름만 메모리에서 훑음 → 결과 이름으로 ID IN 조회
+     * 다른 인스턴스가 마지막으로 읽은 ID 이후에 등록한 항목을 먼저 읽어 옴
+     */
+    public List<String> namesContaining(DictionaryKind kind, String keyword) {
+        Terms terms = terms(kind);
+        terms.cache(kind, select(kind, "SELECT id, name FROM " + kind.table() + " WHERE id > ?", terms.maxId));
+        List<String> matches = new ArrayList<>();
+        for (String name : terms.ids.keySet()) {
+            if (containsIgnoreCase(name, keyword)) {
+                matches.add(name);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 메모리에 올라온 항목 수
+     */
+    public int size(DictionaryKind kind) {
+        return terms(kind).ids.size();
+    }
+
+    private Terms terms(DictionaryKind kind) {
+        if (!loaded) {
+            load();
+        }
+        return dictionaries.get(kind);
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        for (DictionaryKind kind : DictionaryKind.values()) {
+            Terms terms = dictionaries.get(kind);
+            terms.cache(kind, select(kind, "SELECT id, name FROM " + kind.table()));
+            log.info("도서 사전 로드 - Table: {}, Entries: {}", kind.table(), terms.ids.size());
+        }
+        loaded = true;
+    }
+
+    private void insert(DictionaryKind kind, Terms terms, Set<String> names) {
+        String sql = "INSERT INTO " + kind.table() + " (name) VALUES (?)";
+        synchronized (terms) {
+            List<String> pending = names.stream().filter(name -> !terms.ids.containsKey(name)).toList();
+            if (!pending.isEmpty()) {
+                execute(connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (String name : pending) {
+                            statement.setString(1, name);
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                    } catch (SQLException e) {
+                        // 다른 인스턴스가 일부를 먼저 등록 → 한 건씩 다시 넣고 중복은 건너뜀
+                        insertEach(connection, sql, pending);
+                    }
+                    return null;
+                });
+            }
+
+            List<String> list = List.copyOf(names);
+            for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+                List<String> chunk = list.subList(from, Math.min(from + CHUNK_SIZE, list.size()));
+                String in = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                terms.cache(kind, select(kind, "SELECT id, name FROM " + kind.table() + " WHERE name IN (" + in + ")",
+                    chunk.toArray()));
+            }
+        }
+    }
+
+    private static void insertEach(Connection connection, String sql, List<String> names) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (String name : names) {
+                statement.setString(1, name);
+                try {
+                    statement.executeUpdate();
+                } catch (SQLIntegrityConstraintViolationException e) {
+                    // 이미 등록된 이름
+                }
+            }
+        }
+    }
+
+    private Map<Integer, String> select(DictionaryKind kind, String sql, Object... args) {
+        return execute(connection -> {
+            Map<Integer, String> rows = new HashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.put(resultSet.getInt(1), resultSet.getString(2));
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * 도서 트랜잭션에 참여하지 않도록 풀에서 커넥션을 직접 가져와 자동 커밋으로 실행
+     * (같은 커넥션이면 MySQL REPEATABLE READ 스냅숏 때문에 다른 인스턴스가 등록한 항목이 보이지 않음)
+     */
+    private <T> T execute(ConnectionCallback<T> callback) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+            return callback.doInConnection(connection);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("도서 사전 조회/등록 실패", e);
+        }
+    }
+
+    private static boolean containsIgnoreCase(String name, String keyword) {
+        for (int i = 0; i <= name.length() - keyword.length(); i++) {
+            if (name.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionCallback<T> {
+
+        T doInConnection(Connection connection) throws SQLException;
+
+    }
+
+    /**
+     * 한 사전의 메모리 매핑 (읽기는 잠금 없이, 갱신은 cache()에서 동기화)
+     */
+    private static final class Terms {
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final Map<Integer, String> names = new ConcurrentHashMap<>();
+        private volatile int maxId;
+
+        /**
+         * DB에서 읽은 행 반영
+         * 이미 아는 ID가 다른 이름으로 나오면 (사전 테이블이 다시 만들어진 경우) 메모리 매핑을 비우고 다시 채움
+         *
+         * @return 이름 → ID (읽은 행만)
+         */
+        private synchronized Map<String, Integer> cache(DictionaryKind kind, Map<Integer, String> rows) {
+            for (Map.Entry<Integer, String> row : rows.entrySet()) {
+                String known = names.get(row.getKey());
+                if (known != null && !known.equals(row.getValue())) {
+                    log.warn("도서 사전 불일치 - Table: {}, ID: {}, 메모리 매핑을 비우고 다시 읽음", kind.table(), row.getKey());
+                    ids.clear();
+                    names.clear();
+                    maxId = 0;
+                    break;
+                }
+            }
+            Map<String, Integer> cached = new HashMap<>(rows.size() * 2);
+            for (Map.Entry<Integer, String> row : rows.entrySet()) {
+                // 같은 이름 문자열은 사전의 인스턴스 하나만 사용
+                String name = names.computeIfAbsent(row.getKey(), id -> row.getValue());
+                ids.put(name, row.getKey());
+                maxId = Math.max(maxId, row.getKey());
+                cached.put(name, row.getKey());
+            }
+            return cached;
+        }
+
+    }
+
+}
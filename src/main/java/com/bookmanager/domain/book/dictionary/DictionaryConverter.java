@@ -0,0 +1,64 @@
+package com.bookmanager.domain.book.dictionary;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 문자열 속성을 사전 ID(INT) 컬럼으로 저장하는 JPA 컨버터
+ *
+ * 엔티티/JPQL에서는 그대로 문자열로 다루고 SQL에서만 정수 ID로 바뀜
+ * - WHERE b.category = :category → category_id = ? (파라미터도 컨버터로 변환, 사전에 없는 이름은 UNKNOWN_ID)
+ * - GROUP BY b.category → category_id로 묶고 결과 ID만 이름으로 변환
+ * - LIKE는 정수 컬럼에 쓸 수 없으므로 BookDictionary.namesContaining() → IN 조회로 대신함
+ *
+ * 새 이름은 저장 전에 DictionaryListener가 사전에 등록 (컨버터는 조회 파라미터와 구분할 수 없어 등록하지 않음)
+ * 스프링 빈 컨테이너로 생성되므로 BookDictionary를 주입받음
+ */
+public abstract class DictionaryConverter implements AttributeConverter<String, Integer> {
+
+    private final BookDictionary dictionary;
+    private final DictionaryKind kind;
+
+    protected DictionaryConverter(BookDictionary dictionary, DictionaryKind kind) {
+        this.dictionary = dictionary;
+        this.kind = kind;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        return dictionary.idOf(kind, attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer dbData) {
+        return dictionary.nameOf(kind, dbData);
+    }
+
+    @Converter
+    public static class Author extends DictionaryConverter {
+
+        public Author(BookDictionary dictionary) {
+            super(dictionary, DictionaryKind.AUTHOR);
+        }
+
+    }
+
+    @Converter
+    public static class Publisher extends DictionaryConverter {
+
+        public Publisher(BookDictionary dictionary) {
+            super(dictionary, DictionaryKind.PUBLISHER);
+        }
+
+    }
+
+    @Converter
+    public static class Category extends DictionaryConverter {
+
+        public Category(BookDictionary dictionary) {
+            super(dictionary, DictionaryKind.CATEGORY);
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.bookmanager.domain.book.dictionary;
+
+/**
+ * 사전으로 정규화한 도서 문자열 컬럼 (사전 테이블)
+ */
+public enum DictionaryKind {
+
+    AUTHOR("book_author"),
+    PUBLISHER("book_publisher"),
+    CATEGORY("book_category");
+
+    private final String table;
+
+    DictionaryKind(String table) {
+        this.table = table;
+    }
+
+    public String table() {
+        return table;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.bookmanager.domain.book.dictionary;
+
+import com.bookmanager.domain.book.entity.Book;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Book INSERT/UPDATE 직전에 저자/출판사/카테고리 이름을 사전에 등록 (이미 있으면 메모리 조회만)
+ *
+ * PreUpdate는 flush 시 변경이 감지된 엔티티에만 호출되고, 그 뒤 UPDATE 파라미터를 바인딩할 때 컨버터가 ID로 변환
+ * JDBC로 직접 쓰는 경로(BookBatchWriter, SupplierFeedSync)는 BookDictionary.registerAll()로 먼저 등록
+ */
+public class DictionaryListener {
+
+    private final BookDictionary dictionary;
+
+    public DictionaryListener(BookDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void register(Book book) {
+        dictionary.register(DictionaryKind.AUTHOR, book.getAuthor());
+        dictionary.register(DictionaryKind.PUBLISHER, book.getPublisher());
+        dictionary.register(DictionaryKind.CATEGORY, book.getCategory());
+    }
+
+}
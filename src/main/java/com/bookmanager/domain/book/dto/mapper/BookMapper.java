@@ -1,14 +1,14 @@
 package com.bookmanager.domain.book.dto.mapper;
 
 import com.bookmanager.domain.book.dto.request.BookRequest;
-import com.bookmanager.domain.book.dto.request.BookUpdateRequest;
 import com.bookmanager.domain.book.dto.response.BookResponse;
 import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
 import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.entity.BookDetail;
+import com.bookmanager.domain.book.event.BookSnapshot;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
 /**
@@ -50,7 +50,6 @@ public interface BookMapper {
                 .publisher(request.getPublisher())
                 .price(request.getPrice())
                 .stockQuantity(request.getStockQuantity())
-                .description(request.getDescription())
                 .category(request.getCategory())
                 .status(request.getStatus())
                 .publishedAt(request.getPublishedAt())
@@ -58,7 +57,18 @@ public interface BookMapper {
     }
 
     /**
-     * Book Entity → BookResponse 변환
+     * BookRequest → BookDetail Entity 변환 (book_detail 테이블)
+     *
+     * @param request BookRequest DTO
+     * @param bookId Book과 같은 ID
+     * @return BookDetail Entity, 설명이 없으면 null (book_detail 행을 만들지 않음)
+     */
+    default BookDetail toDetail(BookRequest request, String bookId) {
+        return request.getDescription() != null ? new BookDetail(bookId, request.getDescription()) : null;
+    }
+
+    /**
+     * Book Entity + 설명 → BookResponse 변환
      *
      * @Mapping(target = "status", expression = "..."):
      * - Enum을 String으로 변환 시 name() 메서드 사용
@@ -67,11 +77,13 @@ public interface BookMapper {
      * - Enum의 description을 가져오는 커스텀 로직
      *
      * @param book Book Entity
+     * @param description 도서 설명 (book_detail에서 따로 조회, 없으면 null)
      * @return BookResponse DTO
      */
+    @Mapping(target = "description", source = "description")
     @Mapping(target = "status", expression = "java(book.getStatus().name())")
     @Mapping(target = "statusDescription", expression = "java(book.getStatus().getDescription())")
-    BookResponse toResponse(Book book);
+    BookResponse toResponse(Book book, String description);
 
     /**
      * Book Entity → BookResponse.Summary 변환
@@ -83,21 +95,15 @@ public interface BookMapper {
     @Mapping(target = "status", expression = "java(book.getStatus().name())")
     BookSummaryResponse toSummaryResponse(Book book);
 
-    default void updateEntityFromDto(BookUpdateRequest updateRequest, @MappingTarget Book book) {
-       if (updateRequest == null) {
-           return;
-       }
-
-        // Book의 기존 updateBookInfo 메서드 활용
-        book.updateBookInfo(
-            updateRequest.getTitle(),
-            updateRequest.getAuthor(),
-            updateRequest.getPublisher(),
-            updateRequest.getPrice(),
-            updateRequest.getDescription(),
-            updateRequest.getCategory()
-        );
-    }
-
+    /**
+     * BookSnapshot → BookResponse 변환
+     * 엔티티를 읽지 않는 부분 수정(updateBook) 결과 응답용
+     *
+     * @param snapshot 수정 후 스냅샷
+     * @return BookResponse DTO
+     */
+    @Mapping(target = "status", expression = "java(snapshot.getStatus().name())")
+    @Mapping(target = "statusDescription", expression = "java(snapshot.getStatus().getDescription())")
+    BookResponse toResponse(BookSnapshot snapshot);
 
 }
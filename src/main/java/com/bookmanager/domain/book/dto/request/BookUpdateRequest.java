@@ -1,30 +1,29 @@
 package com.bookmanager.domain.book.dto.request;
 
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 
 // 수정 시에는 ISBN과 재고 수량을 변경하지 않음
+// 부분 수정(PATCH): null인 필드는 변경하지 않음 (값이 있는 필드만 UPDATE)
 
 @Getter
 @Builder
 public class BookUpdateRequest {
 
-    @NotBlank(message = "도서 제목은 필수입니다.")
+    @Pattern(regexp = "(?s).*\\S.*", message = "도서 제목은 공백일 수 없습니다.")
     @Size(max = 200, message = "도서 제목은 200자를 초과할 수 없습니다.")
     private String title;
 
-    @NotBlank(message = "저자는 필수입니다.")
+    @Pattern(regexp = "(?s).*\\S.*", message = "저자는 공백일 수 없습니다.")
     @Size(max = 100, message = "저자는 100자를 초과할 수 없습니다.")
     private String author;
 
     @Size(max = 100, message = "출판사는 100자를 초과할 수 없습니다.")
     private String publisher;
 
-    @NotNull(message = "가격은 필수입니다.")
     @Positive(message = "가격은 양수여야 합니다.")
     private Integer price;
 
@@ -34,4 +33,7 @@ public class BookUpdateRequest {
     @Size(max = 50, message = "카테고리는 50자를 초과할 수 없습니다.")
     private String category;
 
+    // 조회 응답의 version (있으면 그 사이 다른 수정이 있었을 때 409 CONFLICT, 없으면 현재 버전 기준으로 수정)
+    private Long version;
+
 }
@@ -0,0 +1,31 @@
+package com.bookmanager.domain.book.dto.response;
+
+import com.bookmanager.common.BookStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import java.time.Instant;
+
+/**
+ * 카탈로그 내보내기(NDJSON) 한 줄
+ *
+ * JPQL 생성자 표현식으로 바로 조회하므로 엔티티가 영속성 컨텍스트에 쌓이지 않음
+ * (대량 스트리밍 중에도 메모리 사용량 일정)
+ */
+public record BookExportRow(
+    String bookId,
+    String title,
+    String author,
+    String isbn,
+    String publisher,
+    Integer price,
+    Integer stockQuantity,
+    String description,
+    String category,
+    BookStatus status,
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    Instant publishedAt,
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    Instant createdAt,
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
+    Instant updatedAt) {
+}
@@ -42,5 +42,10 @@ public class BookResponse {
     @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "Asia/Seoul")
     private Instant updatedAt;
 
+    /**
+     * 낙관적 잠금 버전 (수정 요청에 그대로 보내면 그 사이 다른 수정이 있었을 때 409 CONFLICT)
+     */
+    private Long version;
+
 
 }
@@ -1,12 +1,16 @@
 package com.bookmanager.domain.book.dto.response;
 
+import com.bookmanager.common.BookStatus;
 import com.bookmanager.domain.book.entity.Book;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 // 도서 조회용 간단한 응답 DTO
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class BookSummaryResponse {
 
     private String bookId;
@@ -17,6 +21,15 @@ public class BookSummaryResponse {
     private String category;
     private String status;
 
+    /**
+     * JPQL 생성자 표현식용 (BookRepository.SUMMARY)
+     * 요약 컬럼만 조회하므로 description(TEXT) 등은 읽지 않고 엔티티도 영속성 컨텍스트에 올라가지 않음
+     */
+    public BookSummaryResponse(String bookId, String title, String author, Integer price,
+                               Integer stockQuantity, String category, BookStatus status) {
+        this(bookId, title, author, price, stockQuantity, category, status.name());
+    }
+
     public static BookSummaryResponse fromBookEntity(Book book) {
         return BookSummaryResponse.builder()
             .bookId(book.getBookId())
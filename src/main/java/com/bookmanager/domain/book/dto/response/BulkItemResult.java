@@ -0,0 +1,25 @@
+package com.bookmanager.domain.book.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * JSON 대량 등록 결과 한 건 (요청 배열 순서대로 스트리밍)
+ *
+ * @param index 요청 배열에서의 위치 (0부터)
+ * @param isbn ISBN (읽을 수 있었던 경우)
+ * @param status CREATED 또는 REJECTED
+ * @param bookId 등록된 도서 ID (CREATED인 경우)
+ * @param reason 거부 사유 (REJECTED인 경우)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult(int index, String isbn, String status, String bookId, String reason) {
+
+    public static BulkItemResult created(int index, String isbn, String bookId) {
+        return new BulkItemResult(index, isbn, "CREATED", bookId, null);
+    }
+
+    public static BulkItemResult rejected(int index, String isbn, String reason) {
+        return new BulkItemResult(index, isbn, "REJECTED", null, reason);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.bookmanager.domain.book.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 도서 대량 등록 결과 응답 DTO (처리량 + 거부된 행 목록)
+@Getter
+@Builder
+public class BulkLoadReport {
+
+    private long totalRows;
+    private long insertedRows;
+    private long rejectedRows;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+
+    // 거부된 행 (최대 bookstore.bulk-load.max-reported-rejections건, 나머지는 건수만 집계)
+    private List<Rejection> rejections;
+
+    /**
+     * 거부된 행
+     *
+     * @param line CSV 줄 번호 (헤더 = 1)
+     * @param isbn ISBN (읽을 수 있었던 경우)
+     * @param reason 거부 사유
+     */
+    public record Rejection(long line, String isbn, String reason) {
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.bookmanager.domain.book.dto.response;
+
+import com.bookmanager.domain.book.dto.response.BulkLoadReport.Rejection;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 공급사 피드 동기화 결과 응답 DTO (변경 요약 + 처리량)
+@Getter
+@Builder
+public class FeedSyncReport {
+
+    private String supplierCode;
+    private long totalRows;
+
+    // 내용 해시가 같아 건너뛴 행
+    private long unchangedRows;
+    private long updatedRows;
+    private long insertedRows;
+    private long discontinuedRows;
+    private long rejectedRows;
+
+    // 피드에서 빠진 도서 비율이 max-discontinue-ratio를 넘어 판매 중지를 건너뛴 경우 true
+    // (잘린 피드 파일로 카탈로그 전체가 판매 중지되는 것을 방지)
+    private boolean discontinueSkipped;
+
+    private long elapsedMillis;
+    private long rowsPerSecond;
+
+    // 거부된 행 (최대 bookstore.feed-sync.max-reported-rejections건)
+    private List<Rejection> rejections;
+
+}
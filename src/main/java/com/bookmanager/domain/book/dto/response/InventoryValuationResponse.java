@@ -0,0 +1,34 @@
+package com.bookmanager.domain.book.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 재고 평가 집계 응답 DTO (그룹별 가격 * 재고 합계, 평가액 내림차순)
+@Getter
+@Builder
+public class InventoryValuationResponse {
+
+    private String groupBy;
+    private String status;
+
+    // MEMORY: 컬럼 스냅샷 병렬 집계, DATABASE: 스냅샷 생성 전 GROUP BY 쿼리
+    private String source;
+
+    private long books;
+    private long stockQuantity;
+    private long valuation;
+    private long elapsedMicros;
+
+    private List<Group> groups;
+
+    /**
+     * 그룹별 집계
+     *
+     * @param key 카테고리/출판사/상태 (값이 없는 도서는 null)
+     * @param valuation 가격 * 재고 합계
+     */
+    public record Group(String key, long books, long stockQuantity, long valuation) {
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.bookmanager.domain.book.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 카테고리별 가격 분포 응답 DTO (분위수 + 가격 구간 히스토그램, 값은 상대 오차 relativeAccuracy 이내의 근사값)
+@Getter
+@Builder
+public class PriceDistributionResponse {
+
+    // null이면 전체 카탈로그 (카테고리 목록 조회에서는 카테고리가 없는 도서)
+    private String category;
+
+    private long books;
+    private Integer p10;
+    private Integer p50;
+    private Integer p90;
+    private double relativeAccuracy;
+
+    // 히스토그램 조회에서만 포함
+    private List<Bin> histogram;
+
+    /**
+     * 가격 구간 [minPrice, maxPrice]의 도서 수
+     */
+    public record Bin(int minPrice, int maxPrice, long books) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.bookmanager.domain.book.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 검색 결과 캐시 통계 응답 DTO (적중률, 메모리 사용량)
+@Getter
+@Builder
+public class SearchCacheStatsResponse {
+
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long evictions;
+    private long invalidations;
+    private int entries;
+    private int maxEntries;
+    private long usedBytes;
+    private long maxBytes;
+    private long catalogVersion;
+
+}
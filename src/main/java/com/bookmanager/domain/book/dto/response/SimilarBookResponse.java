@@ -0,0 +1,34 @@
+package com.bookmanager.domain.book.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 유사 도서 응답 DTO (요약 정보 + 추정 유사도)
+@Getter
+@Builder
+public class SimilarBookResponse {
+
+    private String bookId;
+    private String title;
+    private String author;
+    private Integer price;
+    private String category;
+    private String status;
+
+    // MinHash로 추정한 Jaccard 유사도 (0.0 ~ 1.0)
+    private double similarity;
+
+    // 요약 조회 결과로 생성 (description 등은 읽지 않음)
+    public static SimilarBookResponse of(BookSummaryResponse summary, double similarity) {
+        return SimilarBookResponse.builder()
+            .bookId(summary.getBookId())
+            .title(summary.getTitle())
+            .author(summary.getAuthor())
+            .price(summary.getPrice())
+            .category(summary.getCategory())
+            .status(summary.getStatus())
+            .similarity(similarity)
+            .build();
+    }
+
+}
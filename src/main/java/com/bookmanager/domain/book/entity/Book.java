@@ -2,18 +2,25 @@ package com.bookmanager.domain.book.entity;
 
 import com.bookmanager.common.BookStatus;
 import com.bookmanager.config.BaseTimeEntity;
+import com.bookmanager.config.BinaryUuidType;
+import com.bookmanager.domain.book.dictionary.DictionaryConverter;
+import com.bookmanager.domain.book.dictionary.DictionaryListener;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Type;
 import org.springframework.data.domain.Persistable;
 
 /**
@@ -22,22 +29,33 @@ import org.springframework.data.domain.Persistable;
  * @NoArgsConstructor(access = AccessLevel.PROTECTED): JPA는 기본 생성자가 필요하지만,
  * 외부에서 직접 생성하는 것을 막기 위해 protected로 설정
  *
+ * 도서 설명(description)은 book_detail 테이블(BookDetail)에 따로 저장
+ * - 목록/검색 조회 시 큰 TEXT 컬럼을 읽지 않도록 분리, 단건 조회 시에만 명시적으로 조회
+ *
+ * 저자/출판사/카테고리는 사전 테이블의 정수 ID로 저장 (BookDictionary, DictionaryConverter)
+ * - 엔티티와 JPQL에서는 문자열 그대로 사용, 저장 전에 DictionaryListener가 새 이름을 사전에 등록
+ *
+ * version으로 낙관적 잠금 (Dirty Checking UPDATE와 부분 수정 UPDATE 모두 WHERE version = ? 조건 + 1 증가)
+ *
  * Persistable 인터페이스 구현:
  * - ID를 직접 할당하는 경우, JPA가 새 엔티티인지 기존 엔티티인지 판단하기 위해 SELECT를 실행함
  * - Persistable.isNew()를 구현하여 불필요한 SELECT 방지
  */
 @Entity
 @Table(name = "book")
+@EntityListeners(DictionaryListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book extends BaseTimeEntity implements Persistable<String> {
 
     /**
      * 도서 고유 ID
-     * UUID v7 형식의 문자열로 저장 (시간 정보를 포함하여 정렬 가능)
+     * UUID v7 형식의 문자열 (시간 정보를 포함하여 정렬 가능)
+     * DB에는 BINARY(16)으로 저장 (BinaryUuidType)
      */
     @Id
-    @Column(name = "book_id", nullable = false, length = 36)
+    @Type(BinaryUuidType.class)
+    @Column(name = "book_id", nullable = false, length = 16)
     private String bookId;
 
     /**
@@ -47,9 +65,10 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
     private String title;
 
     /**
-     * 저자
+     * 저자 (book_author 사전 ID로 저장)
      */
-    @Column(name = "author", nullable = false, length = 100)
+    @Convert(converter = DictionaryConverter.Author.class)
+    @Column(name = "author_id", nullable = false)
     private String author;
 
     /**
@@ -60,9 +79,10 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
     private String isbn;
 
     /**
-     * 출판사
+     * 출판사 (book_publisher 사전 ID로 저장)
      */
-    @Column(name = "publisher", length = 100)
+    @Convert(converter = DictionaryConverter.Publisher.class)
+    @Column(name = "publisher_id")
     private String publisher;
 
     /**
@@ -78,17 +98,10 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
     private Integer stockQuantity;
 
     /**
-     * 도서 설명
-     * @Lob: Large Object, 긴 텍스트를 저장하기 위해 사용
+     * 카테고리 (book_category 사전 ID로 저장)
      */
-    @Lob
-    @Column(name = "description", columnDefinition = "TEXT")
-    private String description;
-
-    /**
-     * 카테고리
-     */
-    @Column(name = "category", length = 50)
+    @Convert(converter = DictionaryConverter.Category.class)
+    @Column(name = "category_id")
     private String category;
 
     /**
@@ -105,6 +118,14 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
     @Column(name = "published_at")
     private Instant publishedAt;
 
+    /**
+     * 낙관적 잠금 버전 (JDBC로 INSERT한 행은 DB 기본값 0)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * 빌더 패턴을 활용한 객체 생성
      * 필수 필드만 생성자에 포함하고, 선택 필드는 빌더로 설정
@@ -116,7 +137,6 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
      * @param publisher 출판사
      * @param price 가격 (필수)
      * @param stockQuantity 재고 수량 (필수)
-     * @param description 도서 설명
      * @param category 카테고리
      * @param status 도서 상태
      * @param publishedAt 출판일
@@ -124,7 +144,7 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
     @Builder
     public Book(String bookId, String title, String author, String isbn,
         String publisher, Integer price, Integer stockQuantity,
-        String description, String category, BookStatus status,
+        String category, BookStatus status,
         Instant publishedAt) {
         this.bookId = bookId;
         this.title = title;
@@ -133,32 +153,11 @@ public class Book extends BaseTimeEntity implements Persistable<String> {
         this.publisher = publisher;
         this.price = price;
         this.stockQuantity = stockQuantity != null ? stockQuantity : 0;
-        this.description = description;
         this.category = category;
         this.status = status != null ? status : BookStatus.AVAILABLE;
         this.publishedAt = publishedAt;
     }
 
-    /**
-     * 도서 정보 수정 (JPA Dirty Checking 활용)
-     * 트랜잭션 내에서 호출하면 자동으로 UPDATE 쿼리 실행
-     * @param title 수정할 제목
-     * @param author 수정할 저자
-     * @param publisher 수정할 출판사
-     * @param price 수정할 가격
-     * @param description 수정할 설명
-     * @param category 수정할 카테고리
-     */
-    public void updateBookInfo(String title, String author, String publisher,
-                                Integer price, String description, String category) {
-        this.title = title;
-        this.author = author;
-        this.publisher = publisher;
-        this.price = price;
-        this.description = description;
-        this.category = category;
-    }
-
     /**
      * 재고 수량 증가
      */
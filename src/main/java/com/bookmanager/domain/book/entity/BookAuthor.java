@@ -0,0 +1,15 @@
+package com.bookmanager.domain.book.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저자 사전 (book.author_id)
+ */
+@Entity
+@Table(name = "book_author")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookAuthor extends DictionaryEntry {
+}
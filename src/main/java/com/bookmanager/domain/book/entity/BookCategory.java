@@ -0,0 +1,18 @@
+package com.bookmanager.domain.book.entity;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 사전 (book.category_id)
+ */
+@Entity
+@Table(name = "book_category")
+@AttributeOverride(name = "name", column = @Column(name = "name", nullable = false, unique = true, length = 50))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookCategory extends DictionaryEntry {
+}
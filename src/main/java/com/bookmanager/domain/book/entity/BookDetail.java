@@ -0,0 +1,89 @@
+package com.bookmanager.domain.book.entity;
+
+import com.bookmanager.config.BinaryUuidType;
+import com.bookmanager.config.CompressedTextConverter;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 도서 상세 정보 (book_detail 테이블, book과 같은 bookId를 PK로 사용)
+ *
+ * description(TEXT)은 크고 상세 조회에서만 필요하므로 book 테이블에서 분리
+ * - 목록/검색/스캔 쿼리는 book만 읽어 행이 작아지고 버퍼 풀에 더 많은 행이 올라감
+ * - 단건 조회(getBookById/getBookByIsbn)와 수정 시에만 BookDetailRepository로 명시적으로 조회
+ * - 연관관계 매핑 없이 bookId로만 연결 (Book 조회 시 함께 로딩되지 않음)
+ */
+@Entity
+@Table(name = "book_detail")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookDetail implements Persistable<String> {
+
+    /**
+     * 도서 ID (book.book_id와 동일)
+     */
+    @Id
+    @Type(BinaryUuidType.class)
+    @Column(name = "book_id", nullable = false, length = 16)
+    private String bookId;
+
+    /**
+     * 도서 설명
+     * 압축해서 BLOB으로 저장 (CompressedTextConverter), 조회할 때 압축 해제
+     * 이 엔티티는 단건 조회/수정 시에만 읽으므로 목록/검색에서는 압축 해제 비용도 없음
+     *
+     * LAZY: 바이트코드 향상 빌드(-PhibernateEnhance)에서만 적용, getDescription() 호출 시 따로 SELECT
+     * (삭제처럼 엔티티만 필요한 경로에서 BLOB을 읽고 압축 해제하지 않음, 일반 빌드에서는 힌트로 무시되어 즉시 로딩)
+     * 여러 건의 설명은 엔티티 대신 findDescriptionsByBookIdIn 프로젝션으로 조회 (건마다 지연 로딩 SELECT 방지)
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "description", columnDefinition = "BLOB")
+    private String description;
+
+    // 생성 시간 컬럼이 없으므로 저장/조회 여부로 새 엔티티 판단 (저장 전 SELECT 방지)
+    @Transient
+    private boolean isNew = true;
+
+    public BookDetail(String bookId, String description) {
+        this.bookId = bookId;
+        this.description = description;
+    }
+
+    /**
+     * 설명 수정 (JPA Dirty Checking 활용)
+     */
+    public void changeDescription(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String getId() {
+        return bookId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.bookmanager.domain.book.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 출판사 사전 (book.publisher_id)
+ */
+@Entity
+@Table(name = "book_publisher")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookPublisher extends DictionaryEntry {
+}
@@ -0,0 +1,37 @@
+package com.bookmanager.domain.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 문자열 사전 항목 (저자/출판사/카테고리 이름 → 정수 ID)
+ *
+ * book 테이블에는 이름 대신 ID(INT)만 저장하고 이름은 사전 테이블에 한 번만 저장
+ * 행은 BookDictionary가 JDBC로만 추가하고 수정/삭제하지 않음 (엔티티는 스키마 생성/검증용)
+ */
+@Getter
+@MappedSuperclass
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class DictionaryEntry {
+
+    /**
+     * 사전 ID (AUTO_INCREMENT, 1부터)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    /**
+     * 이름 (대소문자/공백까지 그대로 구분, MySQL은 utf8mb4_bin 콜레이션)
+     */
+    @Column(name = "name", nullable = false, unique = true, length = 100)
+    private String name;
+
+}
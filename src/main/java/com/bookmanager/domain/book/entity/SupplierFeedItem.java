@@ -0,0 +1,65 @@
+package com.bookmanager.domain.book.entity;
+
+import com.bookmanager.config.BinaryUuidType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+/**
+ * 공급사 피드로 등록/갱신된 도서와 마지막으로 반영한 피드 내용의 해시
+ *
+ * 피드 동기화(SupplierFeedSync)가 JDBC로 직접 읽고 쓰며,
+ * 매핑은 스키마 정의(테스트의 ddl-auto 포함) 용도
+ * - 해시가 같은 행은 변경이 없으므로 검증/UPDATE 생략
+ * - 피드에서 빠진 행은 도서를 DISCONTINUED로 바꾸고 이 테이블에서 삭제
+ */
+@Entity
+@Table(name = "supplier_feed_item", indexes = @Index(name = "idx_supplier_feed_item_book_id", columnList = "book_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SupplierFeedItem {
+
+    @EmbeddedId
+    private Key key;
+
+    @Type(BinaryUuidType.class)
+    @Column(name = "book_id", nullable = false, length = 16)
+    private String bookId;
+
+    /**
+     * 피드 행 내용의 64비트 해시 (제목, 저자, 가격 등 도서 필드 기준)
+     */
+    @Column(name = "content_hash", nullable = false)
+    private long contentHash;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+
+    /**
+     * 공급사 코드 + ISBN
+     */
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "supplier_code", nullable = false, length = 50)
+        private String supplierCode;
+
+        @Column(name = "isbn", nullable = false, length = 20)
+        private String isbn;
+
+    }
+
+}
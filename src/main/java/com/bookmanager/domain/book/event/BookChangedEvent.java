@@ -0,0 +1,50 @@
+package com.bookmanager.domain.book.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 등록/수정/삭제 시 BookService가 발행하는 이벤트
+ *
+ * 인메모리 인덱스, 캐시 등 도서 데이터를 복제해서 들고 있는 컴포넌트들이
+ * @TransactionalEventListener로 구독하여 커밋된 변경만 반영
+ *
+ * - CREATED: before = null, after = 등록된 도서
+ * - UPDATED: before = 변경 전, after = 변경 후
+ * - DELETED: before = 삭제 전, after = null
+ *
+ * 일괄 등록(createBooks)과 대량 등록은 도서마다 발행하지 않고 요청/청크마다 BooksCreatedEvent 한 번으로 발행
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType type;
+    private final BookSnapshot before;
+    private final BookSnapshot after;
+
+    public static BookChangedEvent created(BookSnapshot after) {
+        return new BookChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static BookChangedEvent updated(BookSnapshot before, BookSnapshot after) {
+        return new BookChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static BookChangedEvent deleted(BookSnapshot before) {
+        return new BookChangedEvent(ChangeType.DELETED, before, null);
+    }
+
+    /**
+     * 변경된 도서의 ID
+     */
+    public String getBookId() {
+        return after != null ? after.getBookId() : before.getBookId();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.bookmanager.domain.book.event;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.domain.book.entity.Book;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 도서 변경 이벤트에 담기는 불변 스냅샷
+ *
+ * 트랜잭션 커밋 이후에 이벤트를 처리하므로 영속성 컨텍스트에 묶인 Entity 대신
+ * 변경 시점의 값을 복사해서 전달 (Lazy 로딩, Dirty Checking 영향 없음)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class BookSnapshot {
+
+    private final String bookId;
+    private final String title;
+    private final String author;
+    private final String isbn;
+    private final String publisher;
+    private final Integer price;
+    private final Integer stockQuantity;
+    private final String description;
+    private final String category;
+    private final BookStatus status;
+    private final Instant publishedAt;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Long version;
+
+    /**
+     * Book Entity의 현재 상태를 스냅샷으로 복사
+     *
+     * @param description book_detail의 도서 설명 (Book에는 없으므로 호출하는 쪽에서 전달)
+     */
+    public static BookSnapshot from(Book book, String description) {
+        return BookSnapshot.builder()
+            .bookId(book.getBookId())
+            .title(book.getTitle())
+            .author(book.getAuthor())
+            .isbn(book.getIsbn())
+            .publisher(book.getPublisher())
+            .price(book.getPrice())
+            .stockQuantity(book.getStockQuantity())
+            .description(description)
+            .category(book.getCategory())
+            .status(book.getStatus())
+            .publishedAt(book.getPublishedAt())
+            .createdAt(book.getCreatedAt())
+            .updatedAt(book.getUpdatedAt())
+            .version(book.getVersion())
+            .build();
+    }
+
+    /**
+     * BookRepository.findVersionedSnapshotById 조회 결과 한 행으로 생성 (컬럼 순서는 SNAPSHOT + version)
+     */
+    public static BookSnapshot fromVersionedRow(Object[] row) {
+        return BookSnapshot.builder()
+            .bookId((String) row[0])
+            .title((String) row[1])
+            .author((String) row[2])
+            .isbn((String) row[3])
+            .publisher((String) row[4])
+            .price((Integer) row[5])
+            .stockQuantity((Integer) row[6])
+            .description((String) row[7])
+            .category((String) row[8])
+            .status((BookStatus) row[9])
+            .publishedAt((Instant) row[10])
+            .createdAt((Instant) row[11])
+            .updatedAt((Instant) row[12])
+            .version((Long) row[13])
+            .build();
+    }
+
+}
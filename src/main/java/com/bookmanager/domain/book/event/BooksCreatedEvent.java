@@ -0,0 +1,21 @@
+package com.bookmanager.domain.book.event;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 요청(createBooks) 또는 대량 등록의 커밋 단위(청크)마다 한 번 발행하는 등록 이벤트
+ *
+ * 행마다 BookChangedEvent.created를 발행하면 정렬 인덱스가 건마다 삽입 비용을 치르므로
+ * 청크 전체를 한 이벤트로 묶어 구독하는 쪽에서 한 번에 병합/무효화할 수 있도록 함
+ */
+@Getter
+public class BooksCreatedEvent {
+
+    private final List<BookSnapshot> books;
+
+    public BooksCreatedEvent(List<BookSnapshot> books) {
+        this.books = List.copyOf(books);
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.bookmanager.domain.book.index;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.segment.SegmentRecord;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가격 범위 검색 + 가격 정렬용 인메모리 인덱스
+ *
+ * - 애플리케이션 기동 후 SearchSegmentStore가 디스크 세그먼트(없으면 DB의 bookId, price, status)로 SortedPriceIndex 생성
+ * - 이후 BookChangedEvent(커밋 이후)를 받아 점진적으로 갱신, 대량 등록(BooksCreatedEvent)은 청크 단위로 한 번에 병합
+ * - 조회는 bookId 목록만 반환하고, 실제 도서 데이터는 BookService에서 IN 쿼리 한 번으로 조회
+ *
+ * 인덱스 생성 중에 들어온 변경 이벤트는 보관했다가 생성 완료 직후 새 인덱스에 다시 적용
+ * - 최초 생성 전: 보관만 함 (조회는 DB로 대체)
+ * - 재생성 중: 기존 인덱스에도 바로 적용하고 함께 보관 (다시 읽는 도중 커밋된 변경이 교체 후 사라지지 않도록)
+ * 같은 변경이 다시 읽은 데이터에 이미 반영되어 있어도 upsert/remove는 같은 결과이므로 다시 적용해도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookPriceIndex {
+
+    private final BookRepository bookRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 생성 중에 보관한 변경 (건별 변경과 일괄 등록을 커밋 순서대로)
+    private final List<Consumer<SortedPriceIndex>> pendingChanges = new ArrayList<>();
+
+    private SortedPriceIndex index;
+    private volatile boolean ready;
+    private boolean rebuilding;
+
+    /**
+     * DB에서 전체 가격 정보를 읽어 인덱스를 다시 생성
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        beginRebuild();
+        try {
+            List<SortedPriceIndex.Entry> entries = bookRepository.findAllPriceEntries()
+                .stream()
+                .map(row -> new SortedPriceIndex.Entry(
+                    (String) row[0], (Integer) row[1], (BookStatus) row[2]))
+                .toList();
+            install(SortedPriceIndex.build(entries), start);
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+    }
+
+    /**
+     * 검색 세그먼트의 레코드(bookId 오름차순)로 인덱스를 다시 생성
+     */
+    public void rebuild(Collection<SegmentRecord> records) {
+        long start = System.nanoTime();
+        beginRebuild();
+        try {
+            List<SortedPriceIndex.Entry> entries = new ArrayList<>(records.size());
+            for (SegmentRecord record : records) {
+                entries.add(new SortedPriceIndex.Entry(record.bookId(), record.price(), record.status()));
+            }
+            install(SortedPriceIndex.build(entries), start);
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+    }
+
+    // 이 시점 이후 커밋되는 변경은 새 인덱스에 다시 적용하도록 보관 시작
+    private void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재생성 실패: 기존 인덱스가 있으면 이미 반영된 보관 이벤트를 버림 (최초 생성 전이면 다음 생성까지 유지)
+    private void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            if (ready) {
+                pendingChanges.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void install(SortedPriceIndex built, long start) {
+        lock.writeLock().lock();
+        try {
+            for (Consumer<SortedPriceIndex> change : pendingChanges) {
+                change.accept(built);
+            }
+            pendingChanges.clear();
+            index = built;
+            ready = true;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("가격 인덱스 생성 완료 - Books: {}, Memory: {}KB, Elapsed: {}ms",
+            built.size(), built.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 도서 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        applyOrKeep(target -> apply(target, event));
+    }
+
+    /**
+     * 대량 등록 청크 반영 (트랜잭션 커밋 이후) - 정렬 병합 한 번으로 청크 전체를 삽입
+     */
+    @TransactionalEventListener
+    public void onBooksCreated(BooksCreatedEvent event) {
+        List<SortedPriceIndex.Entry> entries = event.getBooks().stream()
+            .map(book -> new SortedPriceIndex.Entry(book.getBookId(), book.getPrice(), book.getStatus()))
+            .toList();
+        applyOrKeep(target -> target.upsertAll(entries));
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (생성 전에는 DB 조회로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 가격 범위 + 상태 필터 + 가격 정렬 페이지 조회
+     */
+    public PriceIndexPage query(int minPrice, int maxPrice, BookStatus status,
+                                boolean descending, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.query(minPrice, maxPrice, status, descending, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyOrKeep(Consumer<SortedPriceIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.accept(index);
+            }
+            if (!ready || rebuilding) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(SortedPriceIndex target, BookChangedEvent event) {
+        BookSnapshot after = event.getAfter();
+        if (after == null) {
+            target.remove(event.getBookId());
+        } else {
+            target.upsert(after.getBookId(), after.getPrice(), after.getStatus());
+        }
+    }
+
+}
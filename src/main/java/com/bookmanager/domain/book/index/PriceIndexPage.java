@@ -0,0 +1,12 @@
+package com.bookmanager.domain.book.index;
+
+import java.util.List;
+
+/**
+ * 가격 인덱스 조회 결과
+ *
+ * @param bookIds 페이지에 해당하는 도서 ID (정렬 순서 유지)
+ * @param total 조건에 맞는 전체 도서 수
+ */
+public record PriceIndexPage(List<String> bookIds, long total) {
+}
@@ -0,0 +1,409 @@
+package com.bookmanager.domain.book.index;
+
+import com.bookmanager.common.BookStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 정렬 인메모리 인덱스 (primitive 배열 기반)
+ *
+ * 도서마다 ordinal(정수 번호)을 부여하고, (가격, bookId) 순으로 정렬된 ordinal을 int 배열 두 개로 유지
+ * - 전체 도서용 컬럼 1개 + 도서 상태별 컬럼 (상태 필터 조합 시에도 스캔 없이 바로 페이지 계산)
+ * - 가격 범위는 이진 탐색으로 구간 [lo, hi) 를 찾고, OFFSET은 배열 인덱스 계산으로 O(1) 처리
+ * - 등록/수정/삭제는 System.arraycopy 기반 삽입/삭제로 점진적으로 반영
+ * - 대량 등록은 새 항목만 정렬한 뒤 기존 컬럼과 한 번에 병합 (건마다 삽입하면 O(n × m))
+ *
+ * 같은 가격이면 bookId 오름차순 (DB 조회의 price, bookId 정렬과 같은 결과)
+ * - 일괄 생성은 bookId 순으로 ordinal을 부여하므로 (가격, ordinal) 정렬이 곧 (가격, bookId) 정렬
+ * - 점진적 반영은 커밋 순서로 ordinal이 붙으므로 삽입 위치를 찾을 때 같은 가격이면 bookId 문자열을 비교
+ *
+ * 이 클래스는 스레드 안전하지 않음 (BookPriceIndex에서 ReadWriteLock으로 보호)
+ */
+public class SortedPriceIndex {
+
+    private static final byte REMOVED = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    // bookId → ordinal
+    private final Map<String, Integer> ordinalById;
+
+    // ordinal → 도서 정보
+    private String[] idByOrdinal;
+    private int[] priceByOrdinal;
+    private byte[] statusByOrdinal;
+    private int ordinalCount;
+
+    // 정렬된 가격 컬럼 (전체 / 상태별)
+    private final PriceColumn all;
+    private final PriceColumn[] byStatus;
+
+    public SortedPriceIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private SortedPriceIndex(int capacity) {
+        this.ordinalById = new HashMap<>(Math.max(16, capacity * 4 / 3 + 1));
+        this.idByOrdinal = new String[capacity];
+        this.priceByOrdinal = new int[capacity];
+        this.statusByOrdinal = new byte[capacity];
+        this.all = new PriceColumn(capacity);
+        this.byStatus = new PriceColumn[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            byStatus[i] = new PriceColumn(16);
+        }
+    }
+
+    /**
+     * 전체 도서 목록으로 인덱스를 한 번에 생성
+     * 항목을 하나씩 삽입하지 않고 (가격, ordinal)을 long 하나로 묶어 정렬한 뒤 컬럼에 채움
+     *
+     * @param entries bookId 오름차순으로 정렬된 도서 목록 (ordinal 순서 = bookId 순서)
+     */
+    public static SortedPriceIndex build(List<Entry> entries) {
+        int n = entries.size();
+        SortedPriceIndex index = new SortedPriceIndex(Math.max(n, INITIAL_CAPACITY));
+
+        long[] keys = new long[n];
+        int[] statusCounts = new int[STATUSES.length];
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            Entry entry = entries.get(ordinal);
+            index.ordinalById.put(entry.bookId(), ordinal);
+            index.idByOrdinal[ordinal] = entry.bookId();
+            index.priceByOrdinal[ordinal] = entry.price();
+            index.statusByOrdinal[ordinal] = (byte) entry.status().ordinal();
+            keys[ordinal] = pack(entry.price(), ordinal);
+            statusCounts[entry.status().ordinal()]++;
+        }
+        index.ordinalCount = n;
+
+        Arrays.parallelSort(keys);
+
+        for (int s = 0; s < STATUSES.length; s++) {
+            index.byStatus[s] = index.new PriceColumn(Math.max(16, statusCounts[s]));
+        }
+        for (long key : keys) {
+            int price = (int) (key >> 32);
+            int ordinal = (int) key;
+            index.all.append(price, ordinal);
+            index.byStatus[index.statusByOrdinal[ordinal]].append(price, ordinal);
+        }
+        return index;
+    }
+
+    /**
+     * 도서 등록 또는 가격/상태 변경 반영
+     */
+    public void upsert(String bookId, int price, BookStatus status) {
+        Integer existing = ordinalById.get(bookId);
+        if (existing != null) {
+            int ordinal = existing;
+            int oldPrice = priceByOrdinal[ordinal];
+            byte oldStatus = statusByOrdinal[ordinal];
+            if (oldPrice == price && oldStatus == status.ordinal()) {
+                return;
+            }
+            all.remove(oldPrice, ordinal);
+            byStatus[oldStatus].remove(oldPrice, ordinal);
+            priceByOrdinal[ordinal] = price;
+            statusByOrdinal[ordinal] = (byte) status.ordinal();
+            all.insert(price, ordinal);
+            byStatus[status.ordinal()].insert(price, ordinal);
+            return;
+        }
+
+        int ordinal = nextOrdinal();
+        ordinalById.put(bookId, ordinal);
+        idByOrdinal[ordinal] = bookId;
+        priceByOrdinal[ordinal] = price;
+        statusByOrdinal[ordinal] = (byte) status.ordinal();
+        all.insert(price, ordinal);
+        byStatus[status.ordinal()].insert(price, ordinal);
+    }
+
+    /**
+     * 여러 도서를 한 번에 반영 (대량 등록 청크)
+     * 새 도서는 (가격, bookId) 순으로 정렬해 ordinal을 붙인 뒤 각 컬럼에 한 번씩 병합하고,
+     * 이미 있는 도서만 upsert로 개별 반영
+     */
+    public void upsertAll(List<Entry> entries) {
+        // 같은 청크 안에서 같은 도서가 여러 번 오면 마지막 값으로
+        Map<String, Entry> latest = new HashMap<>();
+        for (Entry entry : entries) {
+            if (ordinalById.containsKey(entry.bookId())) {
+                upsert(entry.bookId(), entry.price(), entry.status());
+            } else {
+                latest.put(entry.bookId(), entry);
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+        List<Entry> added = new ArrayList<>(latest.values());
+        added.sort(Comparator.comparingInt(Entry::price).thenComparing(Entry::bookId));
+
+        int n = added.size();
+        int[] prices = new int[n];
+        int[] ordinals = new int[n];
+        int[] statusCounts = new int[STATUSES.length];
+        for (int i = 0; i < n; i++) {
+            Entry entry = added.get(i);
+            int ordinal = nextOrdinal();
+            ordinalById.put(entry.bookId(), ordinal);
+            idByOrdinal[ordinal] = entry.bookId();
+            priceByOrdinal[ordinal] = entry.price();
+            statusByOrdinal[ordinal] = (byte) entry.status().ordinal();
+            prices[i] = entry.price();
+            ordinals[i] = ordinal;
+            statusCounts[entry.status().ordinal()]++;
+        }
+        all.merge(prices, ordinals, n);
+
+        for (int s = 0; s < STATUSES.length; s++) {
+            if (statusCounts[s] == 0) {
+                continue;
+            }
+            int[] statusPrices = new int[statusCounts[s]];
+            int[] statusOrdinals = new int[statusCounts[s]];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (statusByOrdinal[ordinals[i]] == s) {
+                    statusPrices[count] = prices[i];
+                    statusOrdinals[count] = ordinals[i];
+                    count++;
+                }
+            }
+            byStatus[s].merge(statusPrices, statusOrdinals, count);
+        }
+    }
+
+    /**
+     * 도서 삭제 반영
+     */
+    public void remove(String bookId) {
+        Integer existing = ordinalById.remove(bookId);
+        if (existing == null) {
+            return;
+        }
+        int ordinal = existing;
+        all.remove(priceByOrdinal[ordinal], ordinal);
+        byStatus[statusByOrdinal[ordinal]].remove(priceByOrdinal[ordinal], ordinal);
+        idByOrdinal[ordinal] = null;
+        statusByOrdinal[ordinal] = REMOVED;
+    }
+
+    /**
+     * 가격 범위 + (선택) 상태 필터 + 가격 정렬 + 페이지 조회
+     *
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param status 상태 필터 (null이면 전체)
+     * @param descending true면 가격 내림차순
+     * @param offset 건너뛸 건수 (page * size)
+     * @param limit 페이지 크기
+     * @return 페이지에 해당하는 bookId 목록과 전체 건수
+     */
+    public PriceIndexPage query(int minPrice, int maxPrice, BookStatus status,
+                                boolean descending, long offset, int limit) {
+        PriceColumn column = status != null ? byStatus[status.ordinal()] : all;
+        if (minPrice > maxPrice) {
+            return new PriceIndexPage(List.of(), 0);
+        }
+
+        int lo = column.lowerBound(minPrice);
+        int hi = column.upperBound(maxPrice);
+        int total = hi - lo;
+        if (offset >= total || limit <= 0) {
+            return new PriceIndexPage(List.of(), total);
+        }
+
+        int count = (int) Math.min(limit, total - offset);
+        List<String> bookIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int position = descending
+                ? hi - 1 - (int) offset - i
+                : lo + (int) offset + i;
+            bookIds.add(idByOrdinal[column.ordinals[position]]);
+        }
+        return new PriceIndexPage(bookIds, total);
+    }
+
+    /**
+     * 인덱스에 포함된 도서 수
+     */
+    public int size() {
+        return all.size;
+    }
+
+    /**
+     * 인덱스가 사용하는 대략적인 힙 크기 (byte)
+     * bookId 문자열과 HashMap 엔트리 비용까지 포함한 추정치
+     */
+    public long estimatedBytes() {
+        long columns = (long) all.prices.length * 8;
+        for (PriceColumn column : byStatus) {
+            columns += (long) column.prices.length * 8;
+        }
+        long ordinals = (long) idByOrdinal.length * (4 + 4 + 1 + 4);
+        long ids = (long) ordinalById.size() * (36 + 40 + 48);
+        return columns + ordinals + ids;
+    }
+
+    private int nextOrdinal() {
+        if (ordinalCount == idByOrdinal.length) {
+            int newCapacity = idByOrdinal.length + (idByOrdinal.length >> 1) + 1;
+            idByOrdinal = Arrays.copyOf(idByOrdinal, newCapacity);
+            priceByOrdinal = Arrays.copyOf(priceByOrdinal, newCapacity);
+            statusByOrdinal = Arrays.copyOf(statusByOrdinal, newCapacity);
+        }
+        return ordinalCount++;
+    }
+
+    private static long pack(int price, int ordinal) {
+        return ((long) price << 32) | (ordinal & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 인덱스 구성용 입력 항목
+     */
+    public record Entry(String bookId, int price, BookStatus status) {
+    }
+
+    /**
+     * (가격, bookId) 순으로 정렬된 int 배열 쌍 (bookId는 ordinal로 idByOrdinal에서 조회)
+     */
+    final class PriceColumn {
+
+        private int[] prices;
+        private int[] ordinals;
+        private int size;
+
+        PriceColumn(int capacity) {
+            this.prices = new int[capacity];
+            this.ordinals = new int[capacity];
+        }
+
+        // 정렬 순서대로 들어오는 경우 (bulk build)
+        void append(int price, int ordinal) {
+            ensureCapacity(size + 1);
+            prices[size] = price;
+            ordinals[size] = ordinal;
+            size++;
+        }
+
+        void insert(int price, int ordinal) {
+            ensureCapacity(size + 1);
+            int position = search(price, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            System.arraycopy(prices, position, prices, position + 1, size - position);
+            System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            prices[position] = price;
+            ordinals[position] = ordinal;
+            size++;
+        }
+
+        // (가격, bookId) 순으로 정렬된 새 항목을 뒤에서부터 병합 (추가 배열 없이 O(size + count))
+        void merge(int[] newPrices, int[] newOrdinals, int count) {
+            ensureCapacity(size + count);
+            int i = size - 1;
+            int j = count - 1;
+            for (int k = size + count - 1; j >= 0; k--) {
+                if (i >= 0 && compare(prices[i], ordinals[i], newPrices[j], newOrdinals[j]) > 0) {
+                    prices[k] = prices[i];
+                    ordinals[k] = ordinals[i];
+                    i--;
+                } else {
+                    prices[k] = newPrices[j];
+                    ordinals[k] = newOrdinals[j];
+                    j--;
+                }
+            }
+            size += count;
+        }
+
+        void remove(int price, int ordinal) {
+            int position = search(price, ordinal);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+        }
+
+        // 첫 번째로 price 이상인 위치
+        int lowerBound(int price) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[mid] < price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // 첫 번째로 price 초과인 위치
+        int upperBound(int price) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[mid] <= price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // (price, bookId) 위치 탐색, 없으면 -(삽입 위치) - 1
+        // 호출 시점에 idByOrdinal[ordinal]이 채워져 있어야 함 (삭제는 컬럼에서 뺀 뒤 비움)
+        private int search(int price, int ordinal) {
+            String bookId = idByOrdinal[ordinal];
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = prices[mid] != price
+                    ? Integer.compare(prices[mid], price)
+                    : idByOrdinal[ordinals[mid]].compareTo(bookId);
+                if (cmp < 0) {
+                    lo = mid + 1;
+                } else if (cmp > 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        private int compare(int price, int ordinal, int otherPrice, int otherOrdinal) {
+            return price != otherPrice
+                ? Integer.compare(price, otherPrice)
+                : idByOrdinal[ordinal].compareTo(idByOrdinal[otherOrdinal]);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > prices.length) {
+                int newCapacity = Math.max(required, prices.length + (prices.length >> 1) + 1);
+                prices = Arrays.copyOf(prices, newCapacity);
+                ordinals = Arrays.copyOf(ordinals, newCapacity);
+            }
+        }
+    }
+
+}
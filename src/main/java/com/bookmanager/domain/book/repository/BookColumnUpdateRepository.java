@@ -0,0 +1,28 @@
+package com.bookmanager.domain.book.repository;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 엔티티를 읽지 않고 바뀐 컬럼만 UPDATE하는 Repository 조각 (Spring Data fragment)
+ * 구현체는 BookColumnUpdateRepositoryImpl (이름 규칙으로 Spring Data가 자동 연결)
+ *
+ * Dirty Checking은 엔티티 조회(SELECT) 후 flush 때 전체 컬럼을 UPDATE하므로
+ * 몇 개 필드만 고치는 부분 수정에서는 왕복과 redo/binlog 양이 함께 늘어남
+ * → SET 절에 바뀐 컬럼만 넣은 JPQL UPDATE 한 번 + version 조건으로 동시 수정 확인
+ */
+public interface BookColumnUpdateRepository {
+
+    /**
+     * 도서 컬럼 부분 수정 (version이 일치할 때만, 수정되면 version + 1)
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 먼저 조회한 Book 엔티티에는 반영되지 않음
+     *
+     * @param bookId 도서 ID
+     * @param version 읽었을 때의 버전
+     * @param updatedAt 새 수정 시간
+     * @param columns Book 속성 이름 → 새 값 (title, author, publisher, price, category, publishedAt)
+     * @return 수정된 행 수 (0이면 도서가 없거나 그 사이 다른 수정이 있었음)
+     */
+    int updateColumnsById(String bookId, long version, Instant updatedAt, Map<String, Object> columns);
+
+}
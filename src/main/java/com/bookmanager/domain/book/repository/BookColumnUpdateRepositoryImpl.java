@@ -0,0 +1,48 @@
+package com.bookmanager.domain.book.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * BookColumnUpdateRepository 구현체
+ *
+ * 속성 이름을 JPQL에 그대로 넣으므로 수정 가능한 속성만 허용
+ * 저자/출판사/카테고리 값은 DictionaryConverter가 사전 ID로 바꿔 바인딩
+ * (엔티티 리스너를 거치지 않으므로 새 이름은 호출하는 쪽에서 미리 BookDictionary에 등록해야 함)
+ */
+public class BookColumnUpdateRepositoryImpl implements BookColumnUpdateRepository {
+
+    private static final Set<String> UPDATABLE = Set.of(
+        "title", "author", "publisher", "price", "category", "publishedAt");
+
+    private final EntityManager entityManager;
+
+    public BookColumnUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int updateColumnsById(String bookId, long version, Instant updatedAt, Map<String, Object> columns) {
+        StringBuilder jpql = new StringBuilder("UPDATE Book b SET b.version = b.version + 1, b.updatedAt = :updatedAt");
+        for (String attribute : columns.keySet()) {
+            if (!UPDATABLE.contains(attribute)) {
+                throw new IllegalArgumentException("부분 수정할 수 없는 속성입니다: " + attribute);
+            }
+            jpql.append(", b.").append(attribute).append(" = :").append(attribute);
+        }
+        jpql.append(" WHERE b.bookId = :bookId AND b.version = :version");
+
+        Query query = entityManager.createQuery(jpql.toString())
+            .setParameter("updatedAt", updatedAt)
+            .setParameter("bookId", bookId)
+            .setParameter("version", version);
+        columns.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.bookmanager.domain.book.repository;
+
+import com.bookmanager.common.repository.BatchSaveRepository;
+import com.bookmanager.domain.book.entity.BookDetail;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 상세 정보 Repository (book_detail)
+ *
+ * 단건 조회/수정 경로에서만 사용, 목록/검색 쿼리는 이 테이블을 읽지 않음
+ */
+@Repository
+public interface BookDetailRepository extends JpaRepository<BookDetail, String>, BatchSaveRepository<BookDetail> {
+
+    // 설명만 조회 (응답 변환용, 엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT d.description FROM BookDetail d WHERE d.bookId = :bookId")
+    Optional<String> findDescriptionById(@Param("bookId") String bookId);
+
+    // 여러 도서의 설명 조회 (bookId, description) - 설명이 없는 도서는 포함되지 않음
+    // 엔티티로 읽으면 바이트코드 향상 빌드에서 description 지연 로딩이 건마다 SELECT를 실행하므로 프로젝션 사용
+    @Query("SELECT d.bookId, d.description FROM BookDetail d WHERE d.bookId IN :bookIds AND d.description IS NOT NULL")
+    List<Object[]> findDescriptionsByBookIdIn(@Param("bookIds") Collection<String> bookIds);
+
+    // 설명만 UPDATE (부분 수정용, 엔티티 조회 없음) - 0이면 book_detail 행이 없음
+    @Modifying
+    @Query("UPDATE BookDetail d SET d.description = :description WHERE d.bookId = :bookId")
+    int updateDescriptionById(@Param("bookId") String bookId, @Param("description") String description);
+
+}
@@ -1,11 +1,17 @@
 package com.bookmanager.domain.book.repository;
 
 import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.repository.BatchSaveRepository;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
 import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.shard.ShardMerge;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,9 +22,24 @@ import org.springframework.stereotype.Repository;
  * JpaRepository 상속받아 기본 CRUD 제공
  *
  * @Repository; Spring Data JPA가 자동으로 구현체 생성
+ * BatchSaveRepository; 대량 등록용 saveAllBatched (JDBC 배치 INSERT)
+ * BookColumnUpdateRepository; 부분 수정용 updateColumnsById (바뀐 컬럼만 UPDATE)
+ * @ShardMerge; 샤딩 사용 시 샤드별 List 결과를 쿼리의 ORDER BY / GROUP BY 대로 합치는 방법
  */
 @Repository
-public interface BookRepository extends JpaRepository<Book, String> {
+public interface BookRepository extends JpaRepository<Book, String>, BatchSaveRepository<Book>,
+    BookColumnUpdateRepository {
+
+    // 목록/검색용 요약 조회 (JPQL 생성자 표현식)
+    // 요약 컬럼 7개만 읽고 description(TEXT)/publisher/시간 컬럼은 읽지 않음, 엔티티 스냅샷도 남기지 않음
+    String SUMMARY = "SELECT new com.bookmanager.domain.book.dto.response.BookSummaryResponse("
+        + "b.bookId, b.title, b.author, b.price, b.stockQuantity, b.category, b.status) FROM Book b ";
+
+    // 카탈로그 스냅샷용 전체 컬럼 (bookId, title, author, isbn, publisher, price, stockQuantity, description,
+    // category, status, publishedAt, createdAt, updatedAt), 설명은 book_detail LEFT JOIN
+    String SNAPSHOT = "SELECT b.bookId, b.title, b.author, b.isbn, b.publisher, b.price, b.stockQuantity, "
+        + "d.description, b.category, b.status, b.publishedAt, b.createdAt, b.updatedAt "
+        + "FROM Book b LEFT JOIN BookDetail d ON d.bookId = b.bookId ";
 
     // ISBN으로 도서 조회
     Optional<Book> findByIsbn(String isbn);
@@ -26,11 +47,98 @@ public interface BookRepository extends JpaRepository<Book, String> {
     // ISBN 존재 여부 확인
     boolean existsByIsbn(String isbn);
 
+    // 주어진 ISBN 중 이미 등록된 ISBN 목록 (대량 등록 시 배치 단위 중복 확인)
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    // ISBN 목록으로 도서 조회 (피드 동기화 시 배치 단위로 기존 도서 확인)
+    List<Book> findByIsbnIn(Collection<String> isbns);
+
+    // 전체 도서 요약 조회 (페이징)
+    @Query(value = SUMMARY, countQuery = "SELECT COUNT(b) FROM Book b")
+    Page<BookSummaryResponse> findAllSummaries(Pageable pageable);
+
+    // 전체 도서 요약 Slice 조회 (COUNT 쿼리 없음)
+    @Query(SUMMARY)
+    Slice<BookSummaryResponse> findAllSummarySlice(Pageable pageable);
+
+    // 제목 검색 요약 조회 (부분 일치)
+    @Query(value = SUMMARY + "WHERE b.title LIKE %:title%",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.title LIKE %:title%")
+    Page<BookSummaryResponse> findSummariesByTitleContaining(@Param("title") String title, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE b.title LIKE %:title%")
+    Slice<BookSummaryResponse> findSummarySliceByTitleContaining(@Param("title") String title, Pageable pageable);
+
+    // 저자 검색 요약 조회 - author_id는 정수 컬럼이므로 부분 일치는 BookDictionary.namesContaining()으로 찾은
+    // 저자 이름 목록으로 조회 (author_id IN, 목록은 비어 있지 않아야 함)
+    @Query(value = SUMMARY + "WHERE b.author IN :authors",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.author IN :authors")
+    Page<BookSummaryResponse> findSummariesByAuthorIn(@Param("authors") Collection<String> authors, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE b.author IN :authors")
+    Slice<BookSummaryResponse> findSummarySliceByAuthorIn(@Param("authors") Collection<String> authors,
+                                                          Pageable pageable);
+
+    // 카테고리 요약 조회
+    @Query(value = SUMMARY + "WHERE b.category = :category",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.category = :category")
+    Page<BookSummaryResponse> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE b.category = :category")
+    Slice<BookSummaryResponse> findSummarySliceByCategory(@Param("category") String category, Pageable pageable);
+
+    // 가격 범위 요약 조회 (가격 인덱스 준비 전 대체 경로)
+    @Query(value = SUMMARY + "WHERE b.price BETWEEN :minPrice AND :maxPrice",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.price BETWEEN :minPrice AND :maxPrice")
+    Page<BookSummaryResponse> findSummariesByPriceBetween(@Param("minPrice") Integer minPrice,
+                                                          @Param("maxPrice") Integer maxPrice, Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE b.price BETWEEN :minPrice AND :maxPrice AND b.status = :status",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.price BETWEEN :minPrice AND :maxPrice AND b.status = :status")
+    Page<BookSummaryResponse> findSummariesByPriceBetweenAndStatus(@Param("minPrice") Integer minPrice,
+                                                                   @Param("maxPrice") Integer maxPrice,
+                                                                   @Param("status") BookStatus status,
+                                                                   Pageable pageable);
+
+    // 전체 도서 요약 커서 조회 - bookId(UUID v7) 내림차순 = 최신 등록순, PK 범위 스캔
+    // 첫 페이지 / 다음 페이지(bookId < after 로 바로 탐색, OFFSET 없음), 건수는 Pageable로 제한
+    @ShardMerge(orderBy = "bookId", descending = true)
+    @Query(SUMMARY + "ORDER BY b.bookId DESC")
+    List<BookSummaryResponse> findSummariesOrderByBookIdDesc(Pageable pageable);
+
+    @ShardMerge(orderBy = "bookId", descending = true)
+    @Query(SUMMARY + "WHERE b.bookId < :after ORDER BY b.bookId DESC")
+    List<BookSummaryResponse> findSummariesByBookIdLessThan(@Param("after") String after, Pageable pageable);
+
+    // 카테고리별 요약 커서 조회 (첫 페이지 / 다음 페이지) - idx_category는 InnoDB에서 (category_id, book_id) 순서로 정렬됨
+    @ShardMerge(orderBy = "bookId", descending = true)
+    @Query(SUMMARY + "WHERE b.category = :category ORDER BY b.bookId DESC")
+    List<BookSummaryResponse> findSummariesByCategoryOrderByBookIdDesc(@Param("category") String category,
+                                                                       Pageable pageable);
+
+    @ShardMerge(orderBy = "bookId", descending = true)
+    @Query(SUMMARY + "WHERE b.category = :category AND b.bookId < :after ORDER BY b.bookId DESC")
+    List<BookSummaryResponse> findSummariesByCategoryAndBookIdLessThan(@Param("category") String category,
+                                                                       @Param("after") String after,
+                                                                       Pageable pageable);
+
+    // bookId 목록으로 요약 조회 (검색 캐시/가격 인덱스 적중 시 IN 쿼리 한 번)
+    @Query(SUMMARY + "WHERE b.bookId IN :bookIds")
+    List<BookSummaryResponse> findSummariesByBookIdIn(@Param("bookIds") Collection<String> bookIds);
+
     // 제목으로 도서 검색 (부분 일치)
     Page<Book> findByTitleContaining(String title, Pageable pageable);
 
-    // 저자로 도서 검색 (부분 일치)
-    Page<Book> findByAuthorContaining(String author, Pageable pageable);
+    // 저자 이름 목록으로 도서 검색 (부분 일치는 BookDictionary.namesContaining()으로 이름을 먼저 찾음)
+    Page<Book> findByAuthorIn(Collection<String> authors, Pageable pageable);
+
+    // 근사 전체 건수 계산용 (백그라운드에서만 호출)
+    long countByTitleContaining(String title);
+
+    long countByAuthorIn(Collection<String> authors);
+
+    long countByCategory(String category);
 
     // 카테고리로 도서 조회
     Page<Book> findByCategory(String category, Pageable pageable);
@@ -44,16 +152,77 @@ public interface BookRepository extends JpaRepository<Book, String> {
     // 카테고리와 상태로 도서 조회
     Page<Book> findByCategoryAndStatus(String category, BookStatus status, Pageable pageable);
 
-    // 제목 또는 저자로 도서 검색 (복합 검색)
-    @Query("SELECT b FROM Book b WHERE b.title LIKE %:title% OR b.author LIKE %:author%")
-    Page<Book> searchByTitleOrAuthor(@Param("title") String title, @Param("author") String author, Pageable pageable);
-
     // 재고가 부족한 도서 조회 (재고 알림용)
     @Query("SELECT b FROM Book b WHERE b.stockQuantity <= :threshold AND b.status = 'AVAILABLE'")
     List<Book> findLowStockBooks(@Param("threshold") int threshold);
 
-    // 카테고리별 도서 수 집계
+    // 카테고리별 도서 수 집계 (category_id로 묶고 결과 ID만 이름으로 변환)
+    @ShardMerge(sumByKey = true)
     @Query("SELECT b.category, COUNT(b) FROM Book b GROUP BY b.category")
     List<Object[]> countByCategory();
 
+    // 가격 인덱스 생성용 (bookId, price, status)만 조회 - bookId 오름차순
+    @ShardMerge(orderBy = "0")
+    @Query("SELECT b.bookId, b.price, b.status FROM Book b ORDER BY b.bookId")
+    List<Object[]> findAllPriceEntries();
+
+    // 검색 인덱스 생성용 (bookId, price, status, updatedAt, title, description, category) - bookId 기준 keyset 배치 조회
+    // 설명은 book_detail에 있으므로 LEFT JOIN (상세 정보가 없는 도서도 포함)
+    @ShardMerge(orderBy = "0")
+    @Query("SELECT b.bookId, b.price, b.status, b.updatedAt, b.title, d.description, b.category "
+        + "FROM Book b LEFT JOIN BookDetail d ON d.bookId = b.bookId WHERE b.bookId > :after ORDER BY b.bookId")
+    List<Object[]> findSearchIndexBatch(@Param("after") String after, Pageable pageable);
+
+    // 검색 세그먼트 이후 변경분 조회 (컬럼 순서는 findSearchIndexBatch와 동일)
+    // 설명만 바뀐 경우에도 updateColumnsById가 같은 트랜잭션에서 book 행의 updated_at을 SET하므로 누락 없음
+    @ShardMerge(orderBy = {"3", "0"})
+    @Query("SELECT b.bookId, b.price, b.status, b.updatedAt, b.title, d.description, b.category "
+        + "FROM Book b LEFT JOIN BookDetail d ON d.bookId = b.bookId "
+        + "WHERE b.updatedAt >= :since ORDER BY b.updatedAt, b.bookId")
+    List<Object[]> findSearchIndexChanges(@Param("since") Instant since, Pageable pageable);
+
+    // 카탈로그 스냅샷 생성용 (컬럼 순서는 SNAPSHOT) - bookId 기준 keyset 배치 조회
+    @ShardMerge(orderBy = "0")
+    @Query(SNAPSHOT + "WHERE b.bookId > :after ORDER BY b.bookId")
+    List<Object[]> findSnapshotBatch(@Param("after") String after, Pageable pageable);
+
+    // 카탈로그 스냅샷 이후 변경분 조회 (컬럼 순서는 SNAPSHOT)
+    @ShardMerge(orderBy = {"12", "0"})
+    @Query(SNAPSHOT + "WHERE b.updatedAt >= :since ORDER BY b.updatedAt, b.bookId")
+    List<Object[]> findSnapshotChanges(@Param("since") Instant since, Pageable pageable);
+
+    // 부분 수정 전 상태 조회 (컬럼 순서는 SNAPSHOT + version) - 엔티티를 영속성 컨텍스트에 올리지 않음
+    @Query("SELECT b.bookId, b.title, b.author, b.isbn, b.publisher, b.price, b.stockQuantity, "
+        + "d.description, b.category, b.status, b.publishedAt, b.createdAt, b.updatedAt, b.version "
+        + "FROM Book b LEFT JOIN BookDetail d ON d.bookId = b.bookId WHERE b.bookId = :bookId")
+    List<Object[]> findVersionedSnapshotById(@Param("bookId") String bookId);
+
+    // 삭제된 도서 확인용 bookId 목록 - bookId 기준 keyset 배치 조회
+    @ShardMerge
+    @Query("SELECT b.bookId FROM Book b WHERE b.bookId > :after ORDER BY b.bookId")
+    List<String> findBookIdBatch(@Param("after") String after, Pageable pageable);
+
+    // 재고 평가 컬럼 스냅샷 생성용 (bookId, price, stockQuantity, category, publisher, status) - bookId 기준 keyset 배치 조회
+    @ShardMerge(orderBy = "0")
+    @Query("SELECT b.bookId, b.price, b.stockQuantity, b.category, b.publisher, b.status "
+        + "FROM Book b WHERE b.bookId > :after ORDER BY b.bookId")
+    List<Object[]> findInventoryBatch(@Param("after") String after, Pageable pageable);
+
+    // 재고 평가 집계 (키, 도서 수, 재고 합계, 가격 * 재고 합계) - 컬럼 스냅샷 생성 전 대체용 전체 스캔
+    // status가 null이면 전체 상태
+    @ShardMerge(sumByKey = true)
+    @Query("SELECT b.category, COUNT(b), SUM(b.stockQuantity), SUM(CAST(b.price AS Long) * b.stockQuantity) "
+        + "FROM Book b WHERE (:status IS NULL OR b.status = :status) GROUP BY b.category")
+    List<Object[]> sumInventoryByCategory(@Param("status") BookStatus status);
+
+    @ShardMerge(sumByKey = true)
+    @Query("SELECT b.publisher, COUNT(b), SUM(b.stockQuantity), SUM(CAST(b.price AS Long) * b.stockQuantity) "
+        + "FROM Book b WHERE (:status IS NULL OR b.status = :status) GROUP BY b.publisher")
+    List<Object[]> sumInventoryByPublisher(@Param("status") BookStatus status);
+
+    @ShardMerge(sumByKey = true)
+    @Query("SELECT b.status, COUNT(b), SUM(b.stockQuantity), SUM(CAST(b.price AS Long) * b.stockQuantity) "
+        + "FROM Book b WHERE (:status IS NULL OR b.status = :status) GROUP BY b.status")
+    List<Object[]> sumInventoryByStatus(@Param("status") BookStatus status);
+
 }
@@ -0,0 +1,293 @@
+package com.bookmanager.domain.book.segment;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.index.BookPriceIndex;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인메모리 검색 구조(가격 인덱스, 유사 도서 인덱스)의 디스크 세그먼트 저장소
+ *
+ * 기동 시 (백그라운드 스레드)
+ * 1. 로컬 디스크의 세그먼트를 메모리 매핑으로 읽어 최신 상태 구성 (DB 전체 조회, 시그니처 재계산 없음)
+ * 2. 세그먼트 이후 DB 변경분(updatedAt 기준)만 조회해 반영, 도서 수가 다르면 삭제된 bookId 정리
+ * 3. 세그먼트가 없거나 손상된 경우에만 DB 전체를 읽어 FULL 세그먼트 생성
+ * 4. 구성된 레코드로 가격 인덱스, 유사 도서 인덱스 생성
+ *
+ * 운영 중
+ * - 도서 변경 이벤트는 인메모리 델타 세그먼트(bookId → 최신 레코드)에 누적
+ * - flush-interval마다 델타를 작은 세그먼트로 기록하고, 세그먼트 수가 max-segments를 넘으면
+ *   전체를 하나의 FULL 세그먼트로 병합
+ *
+ * 세그먼트는 한 인스턴스의 로컬 캐시이므로 손상/삭제되어도 DB에서 다시 생성 가능
+ * bookstore.segments.enabled=false 이면 기존처럼 DB에서 직접 인덱스 생성
+ */
+@Slf4j
+@Component
+public class SearchSegmentStore {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookPriceIndex bookPriceIndex;
+    private final SimilarBookIndex similarBookIndex;
+    private final boolean enabled;
+    private final Path directoryPath;
+    private final long flushIntervalMillis;
+    private final int maxSegments;
+
+    private final Map<String, SegmentRecord> delta = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-segment-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SegmentDirectory directory;
+
+    public SearchSegmentStore(
+        BookRepository bookRepository,
+        BookPriceIndex bookPriceIndex,
+        SimilarBookIndex similarBookIndex,
+        @Value("${bookstore.segments.enabled:true}") boolean enabled,
+        @Value("${bookstore.segments.dir:./data/search-segments}") String directoryPath,
+        @Value("${bookstore.segments.flush-interval-ms:30000}") long flushIntervalMillis,
+        @Value("${bookstore.segments.max-segments:8}") int maxSegments) {
+        this.bookRepository = bookRepository;
+        this.bookPriceIndex = bookPriceIndex;
+        this.similarBookIndex = similarBookIndex;
+        this.enabled = enabled;
+        this.directoryPath = Path.of(directoryPath);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드에서 검색 구조 생성
+     * 생성 전에는 가격 검색은 DB 조회로 대체, 유사 도서는 빈 결과
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            executor.submit(() -> {
+                bookPriceIndex.rebuild();
+                similarBookIndex.rebuild();
+            });
+            return;
+        }
+        executor.submit(this::bootstrap);
+        executor.scheduleWithFixedDelay(this::flushSafely,
+            flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 도서 변경 이벤트를 델타 세그먼트에 기록 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        BookSnapshot after = event.getAfter();
+        if (after == null) {
+            delta.put(event.getBookId(),
+                SegmentRecord.tombstone(event.getBookId(), epochMillis(event.getBefore().getUpdatedAt())));
+        } else {
+            delta.put(after.getBookId(), SegmentRecord.live(after.getBookId(), after.getPrice(), after.getStatus(),
+                epochMillis(after.getUpdatedAt()),
+                similarBookIndex.signatureOf(after.getTitle(), after.getDescription(), after.getCategory())));
+        }
+    }
+
+    /**
+     * 대량 등록 청크를 델타 세그먼트에 기록 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBooksCreated(BooksCreatedEvent event) {
+        event.getBooks().forEach(book -> onBookChanged(BookChangedEvent.created(book)));
+    }
+
+    /**
+     * 세그먼트 로드 → DB 변경분 반영 → 인덱스 생성
+     */
+    void bootstrap() {
+        long start = System.nanoTime();
+        try {
+            directory = new SegmentDirectory(directoryPath, similarBookIndex.numHashes());
+
+            SegmentDirectory.Snapshot snapshot = loadSegments();
+            List<SegmentRecord> records;
+            if (snapshot == null) {
+                records = loadFromDatabase();
+                directory.merge(records);
+                log.info("검색 세그먼트 생성 (DB 전체 조회) - Books: {}", records.size());
+            } else {
+                records = catchUp(snapshot);
+                log.info("검색 세그먼트 로드 - Segments: {}, Books: {}, Watermark: {}",
+                    snapshot.segmentCount(), records.size(), Instant.ofEpochMilli(snapshot.watermark()));
+            }
+
+            bookPriceIndex.rebuild(records);
+            similarBookIndex.rebuild(records);
+            log.info("검색 인덱스 준비 완료 - Elapsed: {}ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("검색 세그먼트 기동 실패, DB에서 인덱스 생성 - Error: {}", e.getMessage(), e);
+            directory = null;
+            bookPriceIndex.rebuild();
+            similarBookIndex.rebuild();
+        }
+    }
+
+    /**
+     * 델타 세그먼트를 디스크에 기록하고 필요하면 병합
+     */
+    void flush() throws IOException {
+        if (directory == null || delta.isEmpty()) {
+            return;
+        }
+        TreeMap<String, SegmentRecord> pending = new TreeMap<>(delta);
+        directory.append(pending.values(), false);
+        // 기록하는 동안 다시 바뀐 도서는 다음 flush 대상으로 남김
+        pending.forEach(delta::remove);
+
+        if (directory.segments().size() > maxSegments) {
+            SegmentDirectory.Snapshot snapshot = directory.load();
+            directory.merge(snapshot.liveRecords());
+            log.info("검색 세그먼트 병합 완료 - Segments: {} → 1, Books: {}",
+                snapshot.segmentCount(), snapshot.records().size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.submit(this::flushSafely);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("검색 세그먼트 기록 실패 (다음 주기에 재시도) - Error: {}", e.getMessage());
+        }
+    }
+
+    private SegmentDirectory.Snapshot loadSegments() throws IOException {
+        try {
+            SegmentDirectory.Snapshot snapshot = directory.load();
+            if (snapshot != null && !snapshot.signaturesUsable()) {
+                log.info("유사 도서 설정(num-hashes)이 바뀌어 검색 세그먼트를 다시 생성합니다.");
+                return null;
+            }
+            return snapshot;
+        } catch (SegmentCorruptedException e) {
+            log.warn(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세그먼트 기준점 이후 DB 변경분을 반영하고, 변경분은 델타에도 넣어 다음 flush 때 기록
+     */
+    private List<SegmentRecord> catchUp(SegmentDirectory.Snapshot snapshot) {
+        Map<String, SegmentRecord> records = snapshot.records();
+        Instant since = Instant.ofEpochMilli(snapshot.watermark());
+
+        int changed = 0;
+        for (int page = 0; ; page++) {
+            List<Object[]> rows = bookRepository.findSearchIndexChanges(since, PageRequest.of(page, BATCH_SIZE));
+            for (Object[] row : rows) {
+                SegmentRecord record = toRecord(row);
+                records.put(record.bookId(), record);
+                delta.putIfAbsent(record.bookId(), record);
+            }
+            changed += rows.size();
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 중단 중 삭제된 도서는 updatedAt으로 찾을 수 없으므로 bookId 목록으로 정리
+        int removed = 0;
+        if (bookRepository.count() != records.size()) {
+            Set<String> existing = new HashSet<>();
+            String lastBookId = UuidBinary.MIN;
+            while (true) {
+                List<String> ids = bookRepository.findBookIdBatch(lastBookId, PageRequest.of(0, BATCH_SIZE));
+                existing.addAll(ids);
+                if (ids.size() < BATCH_SIZE) {
+                    break;
+                }
+                lastBookId = ids.get(ids.size() - 1);
+            }
+            for (String bookId : List.copyOf(records.keySet())) {
+                if (!existing.contains(bookId)) {
+                    records.remove(bookId);
+                    delta.putIfAbsent(bookId, SegmentRecord.tombstone(bookId, snapshot.watermark()));
+                    removed++;
+                }
+            }
+        }
+
+        log.info("검색 세그먼트 변경분 반영 - Changed: {}, Removed: {}", changed, removed);
+        return snapshot.liveRecords();
+    }
+
+    private List<SegmentRecord> loadFromDatabase() {
+        TreeMap<String, SegmentRecord> records = new TreeMap<>();
+        String lastBookId = UuidBinary.MIN;
+        while (true) {
+            List<Object[]> rows = bookRepository.findSearchIndexBatch(lastBookId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : rows) {
+                SegmentRecord record = toRecord(row);
+                records.put(record.bookId(), record);
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastBookId = (String) rows.get(rows.size() - 1)[0];
+        }
+        return List.copyOf(records.values());
+    }
+
+    // (bookId, price, status, updatedAt, title, description, category)
+    private SegmentRecord toRecord(Object[] row) {
+        return SegmentRecord.live((String) row[0], (Integer) row[1], (BookStatus) row[2],
+            epochMillis((Instant) row[3]),
+            similarBookIndex.signatureOf((String) row[4], (String) row[5], (String) row[6]));
+    }
+
+    private static long epochMillis(Instant instant) {
+        return instant == null ? 0 : instant.toEpochMilli();
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.bookmanager.domain.book.segment;
+
+import java.nio.file.Path;
+
+/**
+ * 세그먼트 파일이 손상되었거나 지원하지 않는 포맷인 경우
+ * 손상된 세그먼트는 사용하지 않고 DB에서 전체 스냅샷을 다시 생성
+ */
+public class SegmentCorruptedException extends RuntimeException {
+
+    public SegmentCorruptedException(Path path, String message) {
+        super("검색 세그먼트 손상 (" + path.getFileName() + "): " + message);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.bookmanager.domain.book.segment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크의 검색 세그먼트 목록 관리
+ *
+ * - 파일 이름: segment-{segmentId 20자리}.seg (이름 순서 = 생성 순서)
+ * - 읽기: 가장 최근 FULL 세그먼트부터 이후 세그먼트를 순서대로 덮어써서 최신 상태 구성
+ * - 병합: 전체 상태를 새 FULL 세그먼트로 쓰고, 이전 세그먼트는 오래된 것부터 삭제
+ *   (삭제 도중 중단되어도 남은 세그먼트는 항상 뒤쪽 구간이므로 삭제 표시가 먼저 사라지지 않음)
+ *
+ * 이 클래스는 스레드 안전하지 않음 (SearchSegmentStore에서 직렬화해서 호출)
+ */
+public class SegmentDirectory {
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int numHashes;
+
+    public SegmentDirectory(Path directory, int numHashes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * 세그먼트 파일 목록 (segmentId 오름차순)
+     */
+    public List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .toList();
+        }
+    }
+
+    /**
+     * 모든 세그먼트를 읽어 최신 상태 구성
+     *
+     * @return 살아있는 도서 (bookId 오름차순) + 수정 시간 기준점, 세그먼트가 없으면 null
+     * @throws SegmentCorruptedException 세그먼트 손상 시
+     */
+    public Snapshot load() throws IOException {
+        List<Path> segments = segments();
+        int start = -1;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (SegmentFile.readHeader(segments.get(i)).full()) {
+                start = i;
+                break;
+            }
+        }
+        if (start < 0) {
+            return null;
+        }
+
+        TreeMap<String, SegmentRecord> records = new TreeMap<>();
+        long watermark = 0;
+        boolean signatures = true;
+        for (Path segment : segments.subList(start, segments.size())) {
+            SegmentFile.Header header = SegmentFile.read(segment, numHashes, record -> {
+                if (record.deleted()) {
+                    records.remove(record.bookId());
+                } else {
+                    records.put(record.bookId(), record);
+                }
+            });
+            watermark = Math.max(watermark, header.maxUpdatedAt());
+            signatures &= header.numHashes() == numHashes;
+        }
+        return new Snapshot(records, watermark, segments.size() - start, signatures);
+    }
+
+    /**
+     * 새 세그먼트 추가
+     *
+     * @param records bookId 오름차순 레코드 (삭제 표시 포함 가능)
+     * @param full 전체 스냅샷 여부
+     */
+    public Path append(Collection<SegmentRecord> records, boolean full) throws IOException {
+        long segmentId = nextSegmentId();
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, segmentId, SUFFIX));
+        SegmentFile.write(target, segmentId, full, numHashes, records);
+        return target;
+    }
+
+    /**
+     * 전체 상태를 하나의 FULL 세그먼트로 병합하고 이전 세그먼트 삭제
+     */
+    public Path merge(Collection<SegmentRecord> liveRecords) throws IOException {
+        List<Path> previous = segments();
+        Path merged = append(liveRecords, true);
+        deleteOldest(previous);
+        return merged;
+    }
+
+    /**
+     * 세그먼트 파일 삭제 (오래된 것부터)
+     */
+    private void deleteOldest(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    private long nextSegmentId() throws IOException {
+        List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            return 1;
+        }
+        String name = segments.get(segments.size() - 1).getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())) + 1;
+    }
+
+    /**
+     * 세그먼트를 모두 적용한 결과
+     *
+     * @param records 살아있는 도서 (bookId 오름차순)
+     * @param watermark 세그먼트에 반영된 가장 최근 수정 시간 (epoch millis)
+     * @param segmentCount 적용한 세그먼트 수
+     * @param signaturesUsable 모든 세그먼트의 시그니처 길이가 현재 설정과 같은지 여부
+     */
+    public record Snapshot(Map<String, SegmentRecord> records, long watermark,
+                           int segmentCount, boolean signaturesUsable) {
+
+        public List<SegmentRecord> liveRecords() {
+            return new ArrayList<>(records.values());
+        }
+    }
+
+}
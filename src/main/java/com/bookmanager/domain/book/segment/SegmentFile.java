@@ -0,0 +1,218 @@
+package com.bookmanager.domain.book.segment;
+
+import com.bookmanager.common.BookStatus;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 검색 세그먼트 파일 포맷 (불변, 버전 관리)
+ *
+ * <pre>
+ * Header (40 byte, big-endian)
+ *   int   magic            "BKSG"
+ *   short formatVersion    현재 1
+ *   short flags            bit0 = FULL (전체 스냅샷, 이전 세그먼트는 무시 가능)
+ *   long  segmentId        단조 증가, 큰 세그먼트가 작은 세그먼트를 덮어씀
+ *   int   recordCount
+ *   int   numHashes        시그니처 길이 (설정과 다르면 시그니처를 사용하지 않음)
+ *   long  maxUpdatedAt     세그먼트에 포함된 가장 최근 수정 시간 (epoch millis)
+ *   long  createdAt
+ * Record * recordCount     bookId 오름차순
+ *   byte  flags            bit0 = 삭제 표시, bit1 = 시그니처 있음
+ *   short bookId 길이 + UTF-8 bytes
+ *   long  updatedAt
+ *   (삭제 표시가 아니면) int price, byte status ordinal, int[numHashes] signature
+ * Footer
+ *   long  CRC32 (footer 앞까지 전체)
+ * </pre>
+ *
+ * 쓰기는 임시 파일에 기록 + fsync 후 원자적 rename → 디렉터리에 보이는 세그먼트는 항상 완전한 파일
+ * 읽기는 FileChannel.map()으로 메모리 매핑해 역직렬화 (힙 복사 없이 순차 접근)
+ */
+public final class SegmentFile {
+
+    static final int MAGIC = 0x424B5347;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 40;
+
+    private static final short FLAG_FULL = 1;
+    private static final byte RECORD_DELETED = 1;
+    private static final byte RECORD_SIGNATURE = 2;
+
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    private SegmentFile() {
+    }
+
+    /**
+     * 세그먼트 파일 쓰기
+     *
+     * @param records bookId 오름차순으로 정렬된 레코드
+     * @param full 전체 스냅샷 여부
+     */
+    public static void write(Path target, long segmentId, boolean full, int numHashes,
+                             Collection<SegmentRecord> records) throws IOException {
+        long maxUpdatedAt = 0;
+        for (SegmentRecord record : records) {
+            maxUpdatedAt = Math.max(maxUpdatedAt, record.updatedAtMillis());
+        }
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeShort(full ? FLAG_FULL : 0);
+            out.writeLong(segmentId);
+            out.writeInt(records.size());
+            out.writeInt(numHashes);
+            out.writeLong(maxUpdatedAt);
+            out.writeLong(System.currentTimeMillis());
+
+            for (SegmentRecord record : records) {
+                writeRecord(out, record, numHashes);
+            }
+            out.flush();
+
+            new DataOutputStream(buffered).writeLong(crc.getValue());
+            buffered.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 세그먼트 파일을 메모리 매핑으로 읽어 레코드를 순서대로 전달
+     *
+     * @param numHashes 현재 설정의 시그니처 길이 (다르면 시그니처는 null로 전달)
+     * @throws SegmentCorruptedException 포맷/버전/체크섬 불일치
+     */
+    public static Header read(Path path, int numHashes, Consumer<SegmentRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new SegmentCorruptedException(path, "파일 크기 오류: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int bodyLength = (int) size - Long.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().limit(bodyLength));
+            if (crc.getValue() != buffer.getLong(bodyLength)) {
+                throw new SegmentCorruptedException(path, "체크섬 불일치");
+            }
+
+            Header header = readHeader(path, buffer);
+            boolean useSignature = header.numHashes() == numHashes;
+            buffer.limit(bodyLength);
+            for (int i = 0; i < header.recordCount(); i++) {
+                consumer.accept(readRecord(buffer, header.numHashes(), useSignature));
+            }
+            if (buffer.hasRemaining()) {
+                throw new SegmentCorruptedException(path, "레코드 수 불일치");
+            }
+            return header;
+        }
+    }
+
+    /**
+     * 헤더만 읽기 (세그먼트 목록 정리용)
+     */
+    public static Header readHeader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 헤더 크기만큼 읽을 때까지 반복
+            }
+            if (buffer.hasRemaining()) {
+                throw new SegmentCorruptedException(path, "헤더 길이 부족");
+            }
+            return readHeader(path, buffer.flip());
+        }
+    }
+
+    private static Header readHeader(Path path, ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new SegmentCorruptedException(path, "세그먼트 파일이 아닙니다.");
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new SegmentCorruptedException(path, "지원하지 않는 포맷 버전: " + version);
+        }
+        short flags = buffer.getShort();
+        return new Header(buffer.getLong(), (flags & FLAG_FULL) != 0,
+            buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeRecord(DataOutputStream out, SegmentRecord record, int numHashes) throws IOException {
+        boolean hasSignature = !record.deleted() && record.signature() != null;
+        out.writeByte((record.deleted() ? RECORD_DELETED : 0) | (hasSignature ? RECORD_SIGNATURE : 0));
+        byte[] bookId = record.bookId().getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bookId.length);
+        out.write(bookId);
+        out.writeLong(record.updatedAtMillis());
+        if (record.deleted()) {
+            return;
+        }
+        out.writeInt(record.price());
+        out.writeByte(record.status().ordinal());
+        if (hasSignature) {
+            if (record.signature().length != numHashes) {
+                throw new IllegalArgumentException("시그니처 길이가 세그먼트 설정과 다릅니다: " + record.bookId());
+            }
+            for (int value : record.signature()) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    private static SegmentRecord readRecord(ByteBuffer buffer, int numHashes, boolean useSignature) {
+        byte flags = buffer.get();
+        byte[] bookIdBytes = new byte[buffer.getShort()];
+        buffer.get(bookIdBytes);
+        String bookId = new String(bookIdBytes, StandardCharsets.UTF_8);
+        long updatedAt = buffer.getLong();
+        if ((flags & RECORD_DELETED) != 0) {
+            return SegmentRecord.tombstone(bookId, updatedAt);
+        }
+
+        int price = buffer.getInt();
+        BookStatus status = STATUSES[buffer.get()];
+        int[] signature = null;
+        if ((flags & RECORD_SIGNATURE) != 0) {
+            if (useSignature) {
+                signature = new int[numHashes];
+                buffer.asIntBuffer().get(signature);
+            }
+            buffer.position(buffer.position() + numHashes * Integer.BYTES);
+        }
+        return SegmentRecord.live(bookId, price, status, updatedAt, signature);
+    }
+
+    /**
+     * 세그먼트 헤더 정보
+     */
+    public record Header(long segmentId, boolean full, int recordCount, int numHashes,
+                         long maxUpdatedAt, long createdAt) {
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.bookmanager.domain.book.segment;
+
+import com.bookmanager.common.BookStatus;
+
+/**
+ * 검색 세그먼트에 저장되는 도서 한 건
+ *
+ * 인메모리 검색 구조(가격 인덱스, 유사 도서 인덱스)를 DB 조회 없이 다시 만들 수 있는 최소 정보만 저장
+ * - deleted = true: 이전 세그먼트의 같은 bookId를 지우는 삭제 표시(tombstone)
+ * - signature: MinHash 시그니처 (텍스트 토큰이 없으면 null)
+ *
+ * @param updatedAtMillis 도서 수정 시간 (epoch millis), 재기동 시 DB 변경분 조회 기준
+ */
+public record SegmentRecord(
+    String bookId,
+    boolean deleted,
+    int price,
+    BookStatus status,
+    long updatedAtMillis,
+    int[] signature) {
+
+    public static SegmentRecord live(String bookId, int price, BookStatus status,
+                                     long updatedAtMillis, int[] signature) {
+        return new SegmentRecord(bookId, false, price, status, updatedAtMillis, signature);
+    }
+
+    public static SegmentRecord tombstone(String bookId, long updatedAtMillis) {
+        return new SegmentRecord(bookId, true, 0, null, updatedAtMillis, null);
+    }
+
+}
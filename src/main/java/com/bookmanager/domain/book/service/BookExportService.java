@@ -0,0 +1,168 @@
+package com.bookmanager.domain.book.service;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.domain.book.dto.response.BookExportRow;
+import com.bookmanager.domain.book.shard.BookShards;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 전체 카탈로그 NDJSON 내보내기
+ *
+ * - 조회: bookId 순서의 전진 전용 커서 (fetch size 단위로 DB에서 읽음, MySQL은 useCursorFetch 필요)
+ * - 변환: JPQL 생성자 표현식으로 DTO를 바로 만들어 영속성 컨텍스트를 거치지 않음
+ * - 출력: Jackson JsonGenerator로 한 줄씩 바로 응답 스트림에 기록 (1,000건마다 flush)
+ * → 카탈로그 크기와 무관하게 메모리 사용량 일정
+ *
+ * 샤딩 사용 시 샤드마다 새 readOnly 트랜잭션으로 차례대로 출력 (샤드 안에서만 bookId 순서)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BookExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private final EntityManager entityManager;
+    private final BookShards bookShards;
+    private final TransactionTemplate shardTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+
+    public BookExportService(
+        EntityManager entityManager,
+        BookShards bookShards,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        @Value("${bookstore.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.bookShards = bookShards;
+        // 샤드별 조회는 그 샤드 커넥션을 쓰는 새 트랜잭션에서 (바깥 트랜잭션은 샤드 0)
+        this.shardTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        // 줄마다 flush하지 않고 FLUSH_EVERY 건마다 직접 flush
+        this.rowWriter = objectMapper.writerFor(BookExportRow.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 조건에 맞는 도서를 NDJSON으로 출력
+     *
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param status 상태 필터 (null이면 전체)
+     * @param updatedSince 이 시간 이후 수정된 도서만 (null이면 전체)
+     * @return 출력한 도서 수
+     */
+    public long exportBooks(String category, BookStatus status, Instant updatedSince,
+                            OutputStream outputStream) throws IOException {
+        log.info("카탈로그 내보내기 시작 - Category: {}, Status: {}, UpdatedSince: {}", category, status, updatedSince);
+        long start = System.nanoTime();
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            if (bookShards.count() == 1) {
+                count = writeRows(category, status, updatedSince, generator, count);
+            } else {
+                for (int shard = 0; shard < bookShards.count(); shard++) {
+                    long written = count;
+                    count = bookShards.callOn(shard, () -> shardTransactionTemplate.execute(
+                        tx -> writeRowsUnchecked(category, status, updatedSince, generator, written)));
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("카탈로그 내보내기 완료 - Books: {}, Elapsed: {}ms, Rows/sec: {}",
+            count, elapsedMillis, count * 1000 / elapsedMillis);
+        return count;
+    }
+
+    /**
+     * 현재 트랜잭션(샤드)의 조회 결과를 출력
+     *
+     * @param count 지금까지 출력한 도서 수
+     * @return 출력 후 도서 수
+     */
+    private long writeRows(String category, BookStatus status, Instant updatedSince,
+                           JsonGenerator generator, long count) throws IOException {
+        try (Stream<BookExportRow> rows = query(category, status, updatedSince).getResultStream()) {
+            Iterator<BookExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private long writeRowsUnchecked(String category, BookStatus status, Instant updatedSince,
+                                    JsonGenerator generator, long count) {
+        try {
+            return writeRows(category, status, updatedSince, generator, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TypedQuery<BookExportRow> query(String category, BookStatus status, Instant updatedSince) {
+        StringBuilder jpql = new StringBuilder("SELECT new com.bookmanager.domain.book.dto.response.BookExportRow("
+            + "b.bookId, b.title, b.author, b.isbn, b.publisher, b.price, b.stockQuantity, d.description, "
+            + "b.category, b.status, b.publishedAt, b.createdAt, b.updatedAt) "
+            + "FROM Book b LEFT JOIN BookDetail d ON d.bookId = b.bookId WHERE 1 = 1");
+        if (category != null) {
+            jpql.append(" AND b.category = :category");
+        }
+        if (status != null) {
+            jpql.append(" AND b.status = :status");
+        }
+        if (updatedSince != null) {
+            jpql.append(" AND b.updatedAt > :updatedSince");
+        }
+        jpql.append(" ORDER BY b.bookId");
+
+        TypedQuery<BookExportRow> query = entityManager.createQuery(jpql.toString(), BookExportRow.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (updatedSince != null) {
+            query.setParameter("updatedSince", updatedSince);
+        }
+        return query;
+    }
+
+}
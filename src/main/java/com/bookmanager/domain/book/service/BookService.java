@@ -1,22 +1,69 @@
 package com.bookmanager.domain.book.service;
 
 import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.CountMode;
 import com.bookmanager.common.exception.BookNotFoundException;
 import com.bookmanager.common.exception.DuplicateResourceException;
+import com.bookmanager.common.exception.VersionConflictException;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.common.response.SliceResponse;
+import com.bookmanager.common.util.KeysetCursor;
 import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.analytics.InventoryAnalytics;
+import com.bookmanager.domain.book.analytics.InventoryDimension;
+import com.bookmanager.domain.book.analytics.PriceSketch;
+import com.bookmanager.domain.book.cache.ApproximateCountCache;
+import com.bookmanager.domain.book.cache.BookSearchCache;
+import com.bookmanager.domain.book.cache.CachedSearchResult;
+import com.bookmanager.domain.book.cache.SearchCacheKey;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
 import com.bookmanager.domain.book.dto.mapper.BookMapper;
 import com.bookmanager.domain.book.dto.request.BookRequest;
 import com.bookmanager.domain.book.dto.request.BookUpdateRequest;
 import com.bookmanager.domain.book.dto.response.BookResponse;
 import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.dto.response.InventoryValuationResponse;
+import com.bookmanager.domain.book.dto.response.PriceDistributionResponse;
+import com.bookmanager.domain.book.dto.response.SearchCacheStatsResponse;
+import com.bookmanager.domain.book.dto.response.SimilarBookResponse;
 import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.entity.BookDetail;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.index.BookPriceIndex;
+import com.bookmanager.domain.book.index.PriceIndexPage;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
 import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.similar.LshIndex;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
 import com.github.f4b6a3.uuid.UuidCreator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +76,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BookService {
 
+    // ISBN 중복 확인 IN 쿼리 한 번에 넣는 최대 개수
+    private static final int EXISTS_CHUNK_SIZE = 1000;
+
     private final BookRepository bookRepository;
+    private final BookDetailRepository bookDetailRepository;
     private final BookMapper bookMapper;
+    private final BookPriceIndex bookPriceIndex;
+    private final BookSearchCache bookSearchCache;
+    private final SimilarBookIndex similarBookIndex;
+    private final ApproximateCountCache approximateCountCache;
+    private final InventoryAnalytics inventoryAnalytics;
+    private final BookDictionary bookDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 도서 등록
@@ -50,11 +108,74 @@ public class BookService {
         // MapStruct를 사용한 DTO -> Entity 변환
         Book book = bookMapper.toEntity(request, bookId);
         Book savedBook = bookRepository.save(book);
+        BookDetail detail = bookMapper.toDetail(request, bookId);
+        if (detail != null) {
+            bookDetailRepository.save(detail);
+        }
+        eventPublisher.publishEvent(
+            BookChangedEvent.created(BookSnapshot.from(savedBook, request.getDescription())));
 
         log.info("도서 등록 완료 - ID: {}, Title: {}", savedBook.getBookId(), savedBook.getTitle());
 
         // MapStruct를 사용한 Entity + DTO 변환
-        return bookMapper.toResponse(savedBook);
+        return bookMapper.toResponse(savedBook, request.getDescription());
+    }
+
+    /**
+     * 도서 일괄 등록 (전부 등록하거나 전부 실패)
+     *
+     * ISBN 중복은 IN 쿼리로 한 번에 확인하고, INSERT는 saveAllBatched로 JDBC 배치 전송
+     * 건별 createBook 대비 existsByIsbn 조회와 INSERT 왕복이 배치 단위로 줄어듦
+     */
+    @Transactional
+    public List<BookResponse> createBooks(List<BookRequest> requests) {
+        log.info("도서 일괄 등록 시작 - Count: {}", requests.size());
+
+        // 요청 안의 ISBN 중복 + 이미 등록된 ISBN 확인
+        Set<String> isbns = new HashSet<>(requests.size() * 2);
+        for (BookRequest request : requests) {
+            if (!isbns.add(request.getIsbn())) {
+                throw DuplicateResourceException.withIsbn(request.getIsbn());
+            }
+        }
+        List<String> isbnList = List.copyOf(isbns);
+        for (int from = 0; from < isbnList.size(); from += EXISTS_CHUNK_SIZE) {
+            List<String> existing = bookRepository.findExistingIsbns(
+                isbnList.subList(from, Math.min(from + EXISTS_CHUNK_SIZE, isbnList.size())));
+            if (!existing.isEmpty()) {
+                throw DuplicateResourceException.withIsbn(existing.get(0));
+            }
+        }
+
+        // 새 저자/출판사/카테고리는 사전에 배치 INSERT로 먼저 등록 (저장 시 엔티티마다 등록 왕복이 생기지 않도록)
+        bookDictionary.registerAll(requests);
+
+        String[] bookIds = UuidV7Creator.create(requests.size());
+        List<Book> books = new ArrayList<>(requests.size());
+        List<BookDetail> details = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            books.add(bookMapper.toEntity(requests.get(i), bookIds[i]));
+            BookDetail detail = bookMapper.toDetail(requests.get(i), bookIds[i]);
+            if (detail != null) {
+                details.add(detail);
+            }
+        }
+        List<Book> savedBooks = bookRepository.saveAllBatched(books);
+        bookDetailRepository.saveAllBatched(details);
+
+        List<BookResponse> responses = new ArrayList<>(savedBooks.size());
+        List<BookSnapshot> snapshots = new ArrayList<>(savedBooks.size());
+        for (int i = 0; i < savedBooks.size(); i++) {
+            Book book = savedBooks.get(i);
+            String description = requests.get(i).getDescription();
+            snapshots.add(BookSnapshot.from(book, description));
+            responses.add(bookMapper.toResponse(book, description));
+        }
+        // 도서마다 발행하지 않고 한 번에 (가격 인덱스가 건별 삽입 대신 한 번 병합하도록)
+        eventPublisher.publishEvent(new BooksCreatedEvent(snapshots));
+
+        log.info("도서 일괄 등록 완료 - Count: {}", savedBooks.size());
+        return responses;
     }
 
     /**
@@ -66,7 +187,8 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
 
-        return bookMapper.toResponse(book);
+        // 상세 조회에서만 book_detail 조회
+        return bookMapper.toResponse(book, descriptionOf(bookId));
     }
 
     /**
@@ -78,7 +200,7 @@ public class BookService {
         Book book = bookRepository.findByIsbn(isbn)
             .orElseThrow(() -> BookNotFoundException.withIsbn(isbn));
 
-        return bookMapper.toResponse(book);
+        return bookMapper.toResponse(book, descriptionOf(book.getBookId()));
     }
 
     /**
@@ -87,9 +209,41 @@ public class BookService {
     public Page<BookSummaryResponse> getAllBooks(Pageable pageable) {
         log.info("전체 도서 목록 조회 - Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
-        // Page 객체의 map 메서드를 사용하여 Entity를 DTO로 변환
-        return bookRepository.findAll(pageable)
-            .map(bookMapper::toSummaryResponse);
+        // 요약 컬럼만 DTO로 바로 조회 (엔티티/description 조회 없음)
+        return bookRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * 전체 도서 목록 조회 (COUNT 쿼리 없음)
+     *
+     * @param countMode NONE: 전체 건수 없음, APPROX: 캐시된 근사 전체 건수 포함
+     */
+    public SliceResponse<BookSummaryResponse> getAllBooksSlice(Pageable pageable, CountMode countMode) {
+        log.info("전체 도서 목록 조회 (Slice) - Page: {}, Size: {}, CountMode: {}",
+            pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        return toSliceResponse(bookRepository.findAllSummarySlice(pageable), countMode,
+            "ALL", bookRepository::count);
+    }
+
+    /**
+     * 전체 도서 목록 커서 조회 (최신 등록순)
+     *
+     * bookId가 UUID v7(시간순)이므로 bookId 내림차순 = 등록 시간 내림차순
+     * → bookId < after 로 PK에서 바로 탐색, 페이지 깊이와 무관하게 size + 1건만 읽음
+     *
+     * @param after 이전 페이지의 nextCursor (마지막 bookId), 첫 페이지는 null
+     */
+    public CursorPage<BookSummaryResponse> getAllBooksByCursor(String after, int size) {
+        log.info("전체 도서 목록 커서 조회 - After: {}, Size: {}", after, size);
+
+        KeysetCursor.validateId(after);
+        Pageable limit = PageRequest.of(0, CursorPage.fetchSize(size));
+        List<BookSummaryResponse> books = after == null || after.isBlank()
+            ? bookRepository.findSummariesOrderByBookIdDesc(limit)
+            : bookRepository.findSummariesByBookIdLessThan(after, limit);
+
+        return CursorPage.of(books, size, BookSummaryResponse::getBookId, Function.identity());
     }
 
     /**
@@ -98,18 +252,28 @@ public class BookService {
     public Page<BookSummaryResponse> searchBooksByTitle(String title, Pageable pageable) {
         log.info("도서 제목 검색 - Title: {}", title);
 
-        return bookRepository.findByTitleContaining(title, pageable)
-            .map(bookMapper::toSummaryResponse);
+        return searchWithCache(BookSearchCache.TITLE, title, pageable,
+            bookRepository::findSummariesByTitleContaining);
     }
 
     /**
      * 저자로 도서 검색
+     * 저자 사전에서 이름에 검색어가 포함된 저자를 찾고 author_id IN 조회 (도서 행마다 LIKE 비교하지 않음)
      */
     public Page<BookSummaryResponse> searchBooksByAuthor(String author, Pageable pageable) {
         log.info("도서 저자 검색 - Author: {}", author);
 
-        return bookRepository.findByAuthorContaining(author, pageable)
-            .map(bookMapper::toSummaryResponse);
+        return searchWithCache(BookSearchCache.AUTHOR, author, pageable, (keyword, page) -> {
+            List<String> authors = bookDictionary.namesContaining(DictionaryKind.AUTHOR, keyword);
+            return authors.isEmpty() ? Page.empty(page) : bookRepository.findSummariesByAuthorIn(authors, page);
+        });
+    }
+
+    /**
+     * 검색 결과 캐시 통계 조회 (적중률, 메모리 사용량)
+     */
+    public SearchCacheStatsResponse getSearchCacheStats() {
+        return bookSearchCache.stats();
     }
 
     /**
@@ -118,8 +282,128 @@ public class BookService {
     public Page<BookSummaryResponse> getBooksByCategory(String category, Pageable pageable) {
         log.info("카테고리별 도서 조회 - Category: {}", category);
 
-        return bookRepository.findByCategory(category, pageable)
-            .map(bookMapper::toSummaryResponse);
+        return bookRepository.findSummariesByCategory(category, pageable);
+    }
+
+    /**
+     * 제목으로 도서 검색 (COUNT 쿼리 없음)
+     */
+    public SliceResponse<BookSummaryResponse> searchBooksByTitleSlice(String title, Pageable pageable,
+                                                                    CountMode countMode) {
+        log.info("도서 제목 검색 (Slice) - Title: {}, CountMode: {}", title, countMode);
+
+        return toSliceResponse(bookRepository.findSummarySliceByTitleContaining(title, pageable), countMode,
+            "TITLE:" + title, () -> bookRepository.countByTitleContaining(title));
+    }
+
+    /**
+     * 저자로 도서 검색 (COUNT 쿼리 없음)
+     */
+    public SliceResponse<BookSummaryResponse> searchBooksByAuthorSlice(String author, Pageable pageable,
+                                                                     CountMode countMode) {
+        log.info("도서 저자 검색 (Slice) - Author: {}, CountMode: {}", author, countMode);
+
+        List<String> authors = bookDictionary.namesContaining(DictionaryKind.AUTHOR, author);
+        if (authors.isEmpty()) {
+            return toSliceResponse(new SliceImpl<>(List.of(), pageable, false), countMode, "AUTHOR:" + author, () -> 0);
+        }
+        return toSliceResponse(bookRepository.findSummarySliceByAuthorIn(authors, pageable), countMode,
+            "AUTHOR:" + author, () -> bookRepository.countByAuthorIn(authors));
+    }
+
+    /**
+     * 카테고리별 도서 조회 (COUNT 쿼리 없음)
+     */
+    public SliceResponse<BookSummaryResponse> getBooksByCategorySlice(String category, Pageable pageable,
+                                                                    CountMode countMode) {
+        log.info("카테고리별 도서 조회 (Slice) - Category: {}, CountMode: {}", category, countMode);
+
+        return toSliceResponse(bookRepository.findSummarySliceByCategory(category, pageable), countMode,
+            "CATEGORY:" + category, () -> bookRepository.countByCategory(category));
+    }
+
+    /**
+     * 카테고리별 도서 커서 조회 (최신 등록순)
+     *
+     * @param after 이전 페이지의 nextCursor (마지막 bookId), 첫 페이지는 null
+     */
+    public CursorPage<BookSummaryResponse> getBooksByCategoryByCursor(String category, String after, int size) {
+        log.info("카테고리별 도서 커서 조회 - Category: {}, After: {}, Size: {}", category, after, size);
+
+        KeysetCursor.validateId(after);
+        Pageable limit = PageRequest.of(0, CursorPage.fetchSize(size));
+        List<BookSummaryResponse> books = after == null || after.isBlank()
+            ? bookRepository.findSummariesByCategoryOrderByBookIdDesc(category, limit)
+            : bookRepository.findSummariesByCategoryAndBookIdLessThan(category, after, limit);
+
+        return CursorPage.of(books, size, BookSummaryResponse::getBookId, Function.identity());
+    }
+
+    /**
+     * 가격 범위로 도서 검색 (가격 정렬, 상태 필터 선택)
+     *
+     * 가격 인덱스가 준비되어 있으면 인덱스에서 페이지의 bookId만 구한 뒤
+     * IN 쿼리 한 번으로 도서를 조회 (OFFSET 스캔, COUNT 쿼리 없음)
+     * 인덱스 생성 전에는 DB 조회 (idx_price)로 대체
+     *
+     * 같은 가격이면 bookId 순으로 정렬 (인덱스와 DB 결과 순서 일치)
+     */
+    public Page<BookSummaryResponse> searchBooksByPriceRange(Integer minPrice, Integer maxPrice,
+                                                             BookStatus status, Pageable pageable) {
+        int min = minPrice != null ? minPrice : 0;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        log.info("가격 범위 도서 검색 - Min: {}, Max: {}, Status: {}", min, max, status);
+
+        if (min > max) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+
+        Sort.Order priceOrder = pageable.getSort().getOrderFor("price");
+        Direction direction = priceOrder != null ? priceOrder.getDirection() : Direction.ASC;
+
+        if (!bookPriceIndex.isReady()) {
+            Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(direction, "price", "bookId"));
+            return status != null
+                ? bookRepository.findSummariesByPriceBetweenAndStatus(min, max, status, sorted)
+                : bookRepository.findSummariesByPriceBetween(min, max, sorted);
+        }
+
+        PriceIndexPage indexPage = bookPriceIndex.query(min, max, status,
+            direction.isDescending(), pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(findSummariesInOrder(indexPage.bookIds()), pageable, indexPage.total());
+    }
+
+    /**
+     * 비슷한 도서 조회 (설명, 제목, 카테고리 기반 MinHash 유사도)
+     *
+     * LSH 버킷 후보만 비교하므로 카탈로그를 스캔하지 않고,
+     * 결과 도서는 IN 쿼리 한 번으로 조회
+     * 인덱스 생성 전이거나 텍스트가 없는 도서는 빈 목록 반환
+     */
+    public List<SimilarBookResponse> getSimilarBooks(String bookId, int limit) {
+        log.info("유사 도서 조회 - ID: {}, Limit: {}", bookId, limit);
+
+        if (limit <= 0 || limit > 50) {
+            throw new IllegalArgumentException("조회 건수는 1~50 사이여야 합니다.");
+        }
+
+        if (!similarBookIndex.contains(bookId)) {
+            if (!bookRepository.existsById(bookId)) {
+                throw BookNotFoundException.withBookId(bookId);
+            }
+            return List.of();
+        }
+
+        List<LshIndex.Match> matches = similarBookIndex.findSimilar(bookId, limit);
+        Map<String, BookSummaryResponse> summariesById =
+            findSummariesById(matches.stream().map(LshIndex.Match::bookId).toList());
+
+        return matches.stream()
+            .filter(match -> summariesById.containsKey(match.bookId()))
+            .map(match -> SimilarBookResponse.of(summariesById.get(match.bookId()), match.similarity()))
+            .toList();
     }
 
     // 도서 정보 수정
@@ -127,14 +411,56 @@ public class BookService {
     public BookResponse updateBook(String bookId, BookUpdateRequest request) {
         log.info("도서 정보 수정 - ID : {}", bookId);
 
-        Book book = bookRepository.findById(bookId)
+        BookSnapshot before = bookRepository.findVersionedSnapshotById(bookId).stream()
+            .findFirst()
+            .map(BookSnapshot::fromVersionedRow)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
+        if (request.getVersion() != null && !request.getVersion().equals(before.getVersion())) {
+            throw VersionConflictException.withBookId(bookId, request.getVersion(), before.getVersion());
+        }
 
-        bookMapper.updateEntityFromDto(request, book);
+        // 요청에 값이 있는 필드만 덮어씀 (null은 변경하지 않음)
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        BookSnapshot after = before.toBuilder()
+            .title(patched(request.getTitle(), before.getTitle()))
+            .author(patched(request.getAuthor(), before.getAuthor()))
+            .publisher(patched(request.getPublisher(), before.getPublisher()))
+            .price(patched(request.getPrice(), before.getPrice()))
+            .description(patched(request.getDescription(), before.getDescription()))
+            .category(patched(request.getCategory(), before.getCategory()))
+            .updatedAt(now)
+            .version(before.getVersion() + 1)
+            .build();
+
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfChanged(columns, "title", before.getTitle(), after.getTitle());
+        putIfChanged(columns, "author", before.getAuthor(), after.getAuthor());
+        putIfChanged(columns, "publisher", before.getPublisher(), after.getPublisher());
+        putIfChanged(columns, "price", before.getPrice(), after.getPrice());
+        putIfChanged(columns, "category", before.getCategory(), after.getCategory());
+        boolean descriptionChanged = !Objects.equals(before.getDescription(), after.getDescription());
+        if (columns.isEmpty() && !descriptionChanged) {
+            log.info("도서 정보 수정 - 변경 없음, ID: {}", bookId);
+            return bookMapper.toResponse(before);
+        }
 
-        log.info("도서 정보 수정 완료 - ID: {}", bookId);
+        // JPQL UPDATE는 엔티티 리스너(DictionaryListener)를 거치지 않으므로 새 이름은 먼저 사전에 등록
+        bookDictionary.register(DictionaryKind.AUTHOR, (String) columns.get("author"));
+        bookDictionary.register(DictionaryKind.PUBLISHER, (String) columns.get("publisher"));
+        bookDictionary.register(DictionaryKind.CATEGORY, (String) columns.get("category"));
 
-        return bookMapper.toResponse(book);
+        // 설명만 바뀐 경우에도 book 행의 수정 시간/버전 갱신 (updatedAt 기준 변경분 조회에서 누락되지 않도록)
+        if (bookRepository.updateColumnsById(bookId, before.getVersion(), now, columns) == 0) {
+            throw VersionConflictException.withBookId(bookId);
+        }
+        if (descriptionChanged && bookDetailRepository.updateDescriptionById(bookId, after.getDescription()) == 0) {
+            bookDetailRepository.save(new BookDetail(bookId, after.getDescription()));
+        }
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, after));
+
+        log.info("도서 정보 수정 완료 - ID: {}, Columns: {}, Version: {}", bookId, columns.keySet(), after.getVersion());
+
+        return bookMapper.toResponse(after);
     }
 
     // 재고 수량 추가
@@ -149,11 +475,15 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
 
+        // 변경 이벤트(검색 세그먼트 시그니처)와 응답에 설명이 필요하므로 함께 조회
+        String description = descriptionOf(bookId);
+        BookSnapshot before = BookSnapshot.from(book, description);
         book.addStock(quantity);
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, BookSnapshot.from(book, description)));
 
         log.info("재고 추가 완료 - ID: {}, New Stock: {}", bookId, book.getStockQuantity());
 
-        return bookMapper.toResponse(book);
+        return bookMapper.toResponse(book, description);
     }
 
     // 재고 감소
@@ -167,9 +497,13 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
 
+        // 변경 이벤트(검색 세그먼트 시그니처)와 응답에 설명이 필요하므로 함께 조회
+        String description = descriptionOf(bookId);
+        BookSnapshot before = BookSnapshot.from(book, description);
         book.removeStock(quantity);     // 내부에서 재고 부족 검증
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, BookSnapshot.from(book, description)));
         log.info("재고 감소 완료 - ID: {}, Quantity: {}", bookId, book.getStockQuantity());
-        return bookMapper.toResponse(book);
+        return bookMapper.toResponse(book, description);
     }
 
     // 상태 변경
@@ -180,9 +514,13 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
 
+        // 변경 이벤트(검색 세그먼트 시그니처)와 응답에 설명이 필요하므로 함께 조회
+        String description = descriptionOf(bookId);
+        BookSnapshot before = BookSnapshot.from(book, description);
         book.changeStatus(status);
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, BookSnapshot.from(book, description)));
         log.info("도서 상태 변경 완료 - ID: {}", bookId);
-        return bookMapper.toResponse(book);
+        return bookMapper.toResponse(book, description);
     }
 
     // 도서 삭제
@@ -191,17 +529,234 @@ public class BookService {
         log.info("도서 삭제 - ID: {}", bookId);
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
+        bookDetailRepository.findById(bookId).ifPresent(bookDetailRepository::delete);
         bookRepository.delete(book);
+        // 삭제 이벤트는 bookId/수정 시간만 사용하므로 설명 없이 스냅샷 생성
+        eventPublisher.publishEvent(BookChangedEvent.deleted(BookSnapshot.from(book, null)));
         log.info("도서 삭제 완료 - ID: {}", bookId);
     }
 
     // 재고 부족 도서 조회
     public List<BookResponse> getLowStockBooks(int threshold) {
         log.info("재고 부족 도서 조회 - Threshold: {}", threshold);
-        return bookRepository.findLowStockBooks(threshold)
+        List<Book> books = bookRepository.findLowStockBooks(threshold);
+        if (books.isEmpty()) {
+            return List.of();
+        }
+
+        // 설명은 IN 쿼리 한 번으로 조회
+        Map<String, String> descriptions = bookDetailRepository.findDescriptionsByBookIdIn(
+                books.stream().map(Book::getBookId).toList())
             .stream()
-            .map(bookMapper::toResponse)
+            .collect(Collectors.toMap(row -> (String) row[0], row -> (String) row[1]));
+        return books.stream()
+            .map(book -> bookMapper.toResponse(book, descriptions.get(book.getBookId())))
+            .toList();
+    }
+
+    /**
+     * 재고 평가 집계 (카테고리/출판사/상태별 가격 * 재고 합계, 평가액 내림차순)
+     *
+     * 컬럼 스냅샷이 준비되어 있으면 메모리에서 병렬 집계 (DB 조회 없음)
+     * 스냅샷 생성 전에는 GROUP BY 쿼리 (전체 스캔)로 대체
+     *
+     * @param status 상태 필터 (null이면 전체)
+     */
+    public InventoryValuationResponse getInventoryValuation(InventoryDimension groupBy, BookStatus status) {
+        log.info("재고 평가 집계 - GroupBy: {}, Status: {}", groupBy, status);
+        long start = System.nanoTime();
+
+        boolean inMemory = inventoryAnalytics.isReady();
+        List<InventoryValuationResponse.Group> groups = inMemory
+            ? new ArrayList<>(inventoryAnalytics.aggregate(groupBy, status))
+            : sumInventory(groupBy, status);
+        groups.sort(Comparator.comparingLong(InventoryValuationResponse.Group::valuation).reversed()
+            .thenComparing(InventoryValuationResponse.Group::key, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        long books = 0;
+        long stockQuantity = 0;
+        long valuation = 0;
+        for (InventoryValuationResponse.Group group : groups) {
+            books += group.books();
+            stockQuantity += group.stockQuantity();
+            valuation += group.valuation();
+        }
+        return InventoryValuationResponse.builder()
+            .groupBy(groupBy.name())
+            .status(status != null ? status.name() : null)
+            .source(inMemory ? "MEMORY" : "DATABASE")
+            .books(books)
+            .stockQuantity(stockQuantity)
+            .valuation(valuation)
+            .elapsedMicros((System.nanoTime() - start) / 1000)
+            .groups(groups)
+            .build();
+    }
+
+    /**
+     * 카테고리별 가격 분포 (p10/p50/p90, 도서 수 내림차순)
+     *
+     * 카테고리별 분위수 스케치에서 바로 계산하므로 정렬/DB 조회 없음
+     * 컬럼 스냅샷 생성 전에는 빈 목록
+     */
+    public List<PriceDistributionResponse> getPriceDistributions() {
+        log.info("카테고리별 가격 분포 조회");
+
+        if (!inventoryAnalytics.isReady()) {
+            return List.of();
+        }
+        List<PriceDistributionResponse> distributions = new ArrayList<>();
+        inventoryAnalytics.priceSketchesByCategory().forEach((category, sketch) ->
+            distributions.add(toPriceDistribution(category, sketch, null)));
+        distributions.sort(Comparator.comparingLong(PriceDistributionResponse::getBooks).reversed());
+        return distributions;
+    }
+
+    /**
+     * 가격 분포 + 히스토그램 (category가 없으면 전체 카탈로그)
+     * 컬럼 스냅샷 생성 전에는 도서 수 0
+     *
+     * @param bins 히스토그램 구간 수 (1~100)
+     */
+    public PriceDistributionResponse getPriceDistribution(String category, int bins) {
+        log.info("가격 분포 조회 - Category: {}, Bins: {}", category, bins);
+
+        if (bins <= 0 || bins > 100) {
+            throw new IllegalArgumentException("히스토그램 구간 수는 1~100 사이여야 합니다.");
+        }
+        PriceSketch sketch = inventoryAnalytics.isReady()
+            ? inventoryAnalytics.priceSketch(category)
+            : new PriceSketch();
+        return toPriceDistribution(category, sketch, sketch.histogram(bins));
+    }
+
+    private static PriceDistributionResponse toPriceDistribution(String category, PriceSketch sketch,
+                                                                 List<PriceDistributionResponse.Bin> histogram) {
+        return PriceDistributionResponse.builder()
+            .category(category)
+            .books(sketch.count())
+            .p10(sketch.quantile(0.1))
+            .p50(sketch.quantile(0.5))
+            .p90(sketch.quantile(0.9))
+            .relativeAccuracy(PriceSketch.RELATIVE_ACCURACY)
+            .histogram(histogram)
+            .build();
+    }
+
+    // 재고 평가 GROUP BY 쿼리 결과 (키, 도서 수, 재고 합계, 평가액)
+    private List<InventoryValuationResponse.Group> sumInventory(InventoryDimension groupBy, BookStatus status) {
+        List<Object[]> rows = switch (groupBy) {
+            case CATEGORY -> bookRepository.sumInventoryByCategory(status);
+            case PUBLISHER -> bookRepository.sumInventoryByPublisher(status);
+            case STATUS -> bookRepository.sumInventoryByStatus(status);
+        };
+        List<InventoryValuationResponse.Group> groups = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String key = row[0] instanceof BookStatus bookStatus ? bookStatus.name() : (String) row[0];
+            groups.add(new InventoryValuationResponse.Group(key, longOf(row[1]), longOf(row[2]), longOf(row[3])));
+        }
+        return groups;
+    }
+
+    private static long longOf(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    // book_detail에서 설명만 조회 (상세 정보가 없으면 null)
+    private String descriptionOf(String bookId) {
+        return bookDetailRepository.findDescriptionById(bookId).orElse(null);
+    }
+
+    /**
+     * Slice 조회 결과를 응답으로 변환
+     *
+     * APPROX 모드
+     * - 마지막 페이지면 offset + 조회 건수가 정확한 전체 건수이므로 그대로 사용 (캐시도 갱신)
+     * - 그 외에는 캐시된 근사값 사용, 없거나 오래되었으면 백그라운드에서 COUNT 쿼리 실행
+     */
+    private SliceResponse<BookSummaryResponse> toSliceResponse(Slice<BookSummaryResponse> slice,
+                                                               CountMode countMode,
+                                                               String countKey, LongSupplier counter) {
+        if (countMode != CountMode.APPROX) {
+            return SliceResponse.from(slice);
+        }
+
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            long total = slice.getPageable().getOffset() + slice.getNumberOfElements();
+            approximateCountCache.put(countKey, total);
+            return SliceResponse.from(slice, total, true, Instant.now());
+        }
+
+        ApproximateCountCache.CountEntry entry = approximateCountCache.get(countKey, counter);
+        return entry == null
+            ? SliceResponse.from(slice)
+            : SliceResponse.from(slice, entry.count(), false, entry.countedAt());
+    }
+
+    /**
+     * 검색 결과 캐시를 거쳐 검색 실행
+     *
+     * 캐시 적중 시 검색 쿼리와 COUNT 쿼리 없이 bookId 목록을 IN 쿼리 한 번으로 조회
+     * 캐시 미스 시 정규화된 검색어로 검색한 뒤 bookId 목록과 전체 건수를 캐시에 저장
+     * 가격/재고/상태 등 캐시 버전을 올리지 않는 컬럼으로 정렬하면 캐시를 거치지 않음
+     */
+    private Page<BookSummaryResponse> searchWithCache(
+        String type, String keyword, Pageable pageable,
+        BiFunction<String, Pageable, Page<BookSummaryResponse>> search) {
+        if (!BookSearchCache.isCacheable(pageable.getSort())) {
+            return search.apply(SearchCacheKey.normalize(keyword), pageable);
+        }
+        SearchCacheKey key = SearchCacheKey.of(type, keyword, null, pageable);
+
+        CachedSearchResult cached = bookSearchCache.get(key);
+        if (cached != null) {
+            return new PageImpl<>(findSummariesInOrder(cached.bookIds()), pageable, cached.total());
+        }
+
+        // 검색 도중 커밋된 변경이 있으면 저장된 결과가 바로 무효화되도록 검색 전에 버전을 읽음
+        long version = bookSearchCache.currentVersion();
+        Page<BookSummaryResponse> books = search.apply(key.keyword(), pageable);
+        bookSearchCache.put(key, books.map(BookSummaryResponse::getBookId).getContent(), books.getTotalElements(),
+            version);
+
+        return books;
+    }
+
+    /**
+     * bookId 목록을 IN 쿼리 한 번으로 조회하고, 주어진 순서대로 요약 DTO로 변환
+     * (조회 사이에 삭제된 도서는 제외)
+     */
+    private List<BookSummaryResponse> findSummariesInOrder(List<String> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, BookSummaryResponse> summariesById = findSummariesById(bookIds);
+
+        return bookIds.stream()
+            .map(summariesById::get)
+            .filter(Objects::nonNull)
             .toList();
     }
 
+    // bookId 목록을 IN 쿼리 한 번으로 요약 조회
+    private Map<String, BookSummaryResponse> findSummariesById(List<String> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+        return bookRepository.findSummariesByBookIdIn(bookIds)
+            .stream()
+            .collect(Collectors.toMap(BookSummaryResponse::getBookId, Function.identity()));
+    }
+
+    private static <T> T patched(T requested, T current) {
+        return requested != null ? requested : current;
+    }
+
+    private static void putIfChanged(Map<String, Object> columns, String attribute, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            columns.put(attribute, after);
+        }
+    }
+
 }
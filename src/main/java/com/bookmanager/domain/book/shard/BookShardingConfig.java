@@ -0,0 +1,42 @@
+package com.bookmanager.domain.book.shard;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 도서 샤딩 구성 (bookstore.sharding.enabled=true)
+ *
+ * 샤드 데이터소스와 라우팅은 RoutingDataSourceConfig, 여기서는 Repository 라우팅과 샤드 스키마만
+ */
+@Configuration
+@ConditionalOnProperty(name = "bookstore.sharding.enabled", havingValue = "true")
+public class BookShardingConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + 의존 빈은 지연 조회
+    @Bean
+    static ShardedRepositoryPostProcessor shardedRepositoryPostProcessor(
+        ObjectProvider<BookShards> bookShards, ObjectProvider<ShardExecutor> shardExecutor) {
+        return new ShardedRepositoryPostProcessor(bookShards, shardExecutor);
+    }
+
+    @Bean
+    ShardExecutor shardExecutor(
+        PlatformTransactionManager transactionManager,
+        @Value("${bookstore.sharding.transaction-timeout-ms:60000}") long transactionTimeoutMillis) {
+        return new ShardExecutor(transactionManager, transactionTimeoutMillis);
+    }
+
+    @Bean
+    ShardSchemaInitializer shardSchemaInitializer(
+        EntityManagerFactory entityManagerFactory,
+        BookShards bookShards,
+        @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        return new ShardSchemaInitializer(entityManagerFactory, bookShards, ddlAuto);
+    }
+
+}
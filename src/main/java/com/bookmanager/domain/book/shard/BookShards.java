@@ -0,0 +1,130 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.config.datasource.ShardContext;
+import com.bookmanager.config.datasource.ShardRoutingDataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 샤드 정보: bookId → 샤드 번호, ISBN 디렉터리
+ *
+ * 샤드 번호 = jump consistent hash(bookId 하위 64비트, 샤드 수)
+ * - UUID v7 하위 64비트(카운터 하위 비트 + 스레드 난수)는 시간 값을 포함하지 않으므로 등록 시간과 무관하게 고르게 분산
+ * - 샤드를 N → N+1개로 늘리면 약 1/(N+1)의 도서만 새 샤드로 이동 (나머지는 그대로)
+ *
+ * bookstore.sharding.enabled=false 이면 샤드 1개 (모든 도서가 샤드 0, 디렉터리 없음)
+ */
+@Component
+public class BookShards {
+
+    public static final int MAIN = ShardContext.MAIN;
+
+    private final int count;
+    private final IsbnShardDirectory directory;
+
+    @Autowired
+    public BookShards(
+        ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+        @Qualifier("primaryDataSource") ObjectProvider<DataSource> primaryDataSource) {
+        ShardRoutingDataSource routing = shardRoutingDataSource.getIfAvailable();
+        this.count = routing != null ? routing.shardCount() : 1;
+        this.directory = routing != null
+            ? new IsbnShardDirectory(new JdbcTemplate(primaryDataSource.getObject()))
+            : null;
+    }
+
+    private BookShards(int count, IsbnShardDirectory directory) {
+        this.count = count;
+        this.directory = directory;
+    }
+
+    /**
+     * 샤딩하지 않는 구성 (단위 테스트, 직접 생성하는 컴포넌트용)
+     */
+    public static BookShards single() {
+        return new BookShards(1, null);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 샤딩 사용 여부 (샤드가 1개여도 샤딩을 켰으면 디렉터리 사용)
+     */
+    public boolean sharded() {
+        return directory != null;
+    }
+
+    public IsbnShardDirectory directory() {
+        if (directory == null) {
+            throw new IllegalStateException("샤딩을 사용하지 않으면 ISBN 디렉터리가 없습니다.");
+        }
+        return directory;
+    }
+
+    public int shardOf(String bookId) {
+        return count == 1 ? MAIN : jumpConsistentHash(keyOf(bookId), count);
+    }
+
+    /**
+     * bookId 샤드별로 나눔 (샤드 번호 순서, 샤드 안에서는 원래 순서)
+     */
+    public <T> Map<Integer, List<T>> groupByShard(Collection<T> items, Function<T, String> bookIdOf) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(shardOf(bookIdOf.apply(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    /**
+     * 샤드를 지정해 실행 (JdbcTemplate/TransactionTemplate 직접 사용 경로, 트랜잭션 밖에서 호출)
+     */
+    public <T> T callOn(int shard, Supplier<T> call) {
+        return sharded() ? ShardContext.callOn(shard, call) : call.get();
+    }
+
+    public void runOn(int shard, Runnable task) {
+        callOn(shard, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private static long keyOf(String bookId) {
+        try {
+            return UUID.fromString(bookId).getLeastSignificantBits();
+        } catch (IllegalArgumentException e) {
+            // UUID 형식이 아닌 ID (조회 대상이 없는 잘못된 요청)도 항상 같은 샤드로
+            return bookId.hashCode() * 0x9E3779B97F4A7C15L;
+        }
+    }
+
+    /**
+     * Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+     */
+    static int jumpConsistentHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+}
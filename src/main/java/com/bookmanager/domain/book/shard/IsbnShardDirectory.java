@@ -0,0 +1,138 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.common.util.UuidBinary;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * ISBN → 샤드 디렉터리 (샤드 0 프라이머리의 book_isbn_directory 테이블)
+ *
+ * 도서는 bookId 해시로 샤드가 정해지므로 ISBN만으로는 어느 샤드에 있는지 알 수 없음
+ * → 등록 시점에 (isbn, bookId, 샤드)를 기록해 두고 ISBN 조회는 디렉터리 → 해당 샤드 한 곳만 조회
+ * - ISBN이 기본 키이므로 샤드가 달라도 같은 ISBN은 두 번 등록되지 않음 (샤드별 UNIQUE 제약을 대신함)
+ * - 도서 트랜잭션과 별도 커넥션(자동 커밋)으로 기록 → 도서 INSERT 전에 먼저 예약하고, 실패/롤백 시 삭제
+ * - 복제 지연이 없도록 항상 프라이머리에서 읽음
+ */
+public class IsbnShardDirectory {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS book_isbn_directory ("
+        + "isbn VARCHAR(20) NOT NULL PRIMARY KEY, "
+        + "book_id BINARY(16) NOT NULL UNIQUE, "
+        + "shard_no INT NOT NULL)";
+    private static final String DROP_TABLE_SQL = "DROP TABLE IF EXISTS book_isbn_directory";
+
+    private static final String INSERT_SQL = "INSERT INTO book_isbn_directory (isbn, book_id, shard_no) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT isbn, shard_no FROM book_isbn_directory WHERE isbn IN (:isbns)";
+    private static final String DELETE_BY_ISBN_SQL = "DELETE FROM book_isbn_directory WHERE isbn = ?";
+    private static final String DELETE_BY_BOOK_ID_SQL = "DELETE FROM book_isbn_directory WHERE book_id = ?";
+
+    // IN 쿼리 한 번에 넣는 최대 ISBN 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public IsbnShardDirectory(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 디렉터리 테이블 생성 (recreate면 기존 테이블 삭제 후 생성)
+     */
+    public void createTable(boolean recreate) {
+        if (recreate) {
+            jdbcTemplate.execute(DROP_TABLE_SQL);
+        }
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+
+    /**
+     * ISBN이 등록된 샤드 (없으면 null)
+     */
+    public Integer shardOf(String isbn) {
+        List<Integer> shards = jdbcTemplate.queryForList(
+            "SELECT shard_no FROM book_isbn_directory WHERE isbn = ?", Integer.class, isbn);
+        return shards.isEmpty() ? null : shards.get(0);
+    }
+
+    /**
+     * ISBN별 샤드 (등록되지 않은 ISBN은 포함되지 않음)
+     */
+    public Map<String, Integer> shardsOf(Collection<String> isbns) {
+        List<String> list = List.copyOf(isbns);
+        Map<String, Integer> shards = new HashMap<>(list.size() * 2);
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource("isbns",
+                list.subList(from, Math.min(from + CHUNK_SIZE, list.size())));
+            namedJdbcTemplate.query(SELECT_SQL, params,
+                resultSet -> {
+                    shards.put(resultSet.getString(1), resultSet.getInt(2));
+                });
+        }
+        return shards;
+    }
+
+    /**
+     * 목록을 한 트랜잭션으로 등록 (하나라도 이미 있으면 전부 등록하지 않고 DuplicateKeyException)
+     */
+    public void register(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (Entry entry : entries) {
+                    statement.setString(1, entry.isbn());
+                    statement.setBytes(2, UuidBinary.toBytes(entry.bookId()));
+                    statement.setInt(3, entry.shard());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    public void removeIsbns(Collection<String> isbns) {
+        if (!isbns.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_BY_ISBN_SQL, isbns.stream().map(isbn -> new Object[]{isbn}).toList());
+        }
+    }
+
+    public void removeBookIds(Collection<String> bookIds) {
+        if (!bookIds.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(bookIds.size());
+            bookIds.forEach(bookId -> args.add(new Object[]{UuidBinary.toBytes(bookId)}));
+            jdbcTemplate.batchUpdate(DELETE_BY_BOOK_ID_SQL, args);
+        }
+    }
+
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM book_isbn_directory");
+    }
+
+    /**
+     * 디렉터리 항목
+     */
+    public record Entry(String isbn, String bookId, int shard) {
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.bookmanager.domain.book.shard;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 전체 샤드에 보내는 조회 (scatter-gather)
+ *
+ * - Page/Slice: 샤드마다 (0, offset + size) 범위를 같은 정렬 + bookId로 조회
+ *   → 합쳐서 다시 정렬한 뒤 offset부터 size건 (샤드별로 정렬된 앞부분만 있으면 전체 순서의 앞부분을 만들 수 있음)
+ *   전체 건수는 샤드별 합계, 다음 페이지 여부는 합친 건수 또는 샤드의 다음 페이지 여부
+ * - List: 이어 붙임, @ShardMerge가 있으면 그 순서로 정렬 후 Pageable/Limit 건수만큼 (커서/keyset 조회)
+ * - 숫자: 합계, boolean: 하나라도 true, Optional: 처음 찾은 값
+ *
+ * 깊은 페이지는 샤드마다 offset + size건을 읽으므로 샤드 수만큼 비용이 커짐 (커서 조회 권장)
+ * 문자열 정렬은 Java 문자열 순서로 합치므로 대소문자 무시 등 DB 콜레이션과 순서가 다른 키는 샤드 경계에서 어긋날 수 있음
+ */
+final class ScatterQuery {
+
+    // 같은 값으로 정렬되는 행의 순서를 샤드와 병합 결과에서 똑같이 맞추기 위한 마지막 정렬 키
+    private static final String TIE_BREAKER = "bookId";
+
+    private final Method method;
+    private final Object[] shardArgs;
+    private final Pageable pageable;
+    private final Pageable shardPageable;
+    private final Limit limit;
+    private final Sort sort;
+
+    private ScatterQuery(Method method, Object[] shardArgs, Pageable pageable, Pageable shardPageable,
+                         Limit limit, Sort sort) {
+        this.method = method;
+        this.shardArgs = shardArgs;
+        this.pageable = pageable;
+        this.shardPageable = shardPageable;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    static ScatterQuery of(Method method, Object[] args) {
+        Object[] shardArgs = args.clone();
+        boolean sliced = Slice.class.isAssignableFrom(method.getReturnType());
+        Pageable pageable = null;
+        Pageable shardPageable = null;
+        Limit limit = null;
+        Sort sort = null;
+        for (int i = 0; i < shardArgs.length; i++) {
+            if (shardArgs[i] instanceof Pageable page) {
+                pageable = page;
+                shardPageable = shardPageable(page, sliced);
+                shardArgs[i] = shardPageable;
+            } else if (shardArgs[i] instanceof Limit max) {
+                limit = max;
+            } else if (shardArgs[i] instanceof Sort order) {
+                sort = order;
+            }
+        }
+        return new ScatterQuery(method, shardArgs, pageable, shardPageable, limit, sort);
+    }
+
+    /**
+     * 각 샤드에 넘길 인자 (Pageable만 앞쪽 페이지를 모두 포함하도록 바뀜)
+     */
+    Object[] shardArgs() {
+        return shardArgs;
+    }
+
+    Object merge(List<Object> results) {
+        Class<?> type = method.getReturnType();
+        if (type == void.class) {
+            return null;
+        }
+        if (Slice.class.isAssignableFrom(type)) {
+            return mergeSlices(results, Page.class.isAssignableFrom(type));
+        }
+        if (Iterable.class.isAssignableFrom(type)) {
+            return mergeList(results);
+        }
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().mapToInt(result -> ((Number) result).intValue()).sum();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (type == Optional.class) {
+            return results.stream()
+                .map(result -> (Optional<?>) result)
+                .filter(Optional::isPresent)
+                .findFirst()
+                .orElse(Optional.empty());
+        }
+        throw new UnsupportedOperationException("샤드별 결과를 합칠 수 없는 반환 타입입니다: " + method);
+    }
+
+    private Object mergeSlices(List<Object> results, boolean page) {
+        List<Object> rows = new ArrayList<>();
+        boolean shardHasNext = false;
+        long total = 0;
+        for (Object result : results) {
+            Slice<?> slice = (Slice<?>) result;
+            rows.addAll(slice.getContent());
+            shardHasNext |= slice.hasNext();
+            if (page) {
+                total += ((Page<?>) slice).getTotalElements();
+            }
+        }
+        sortRows(rows, keysOf(shardPageable.getSort()));
+
+        if (pageable.isUnpaged()) {
+            return page ? new PageImpl<>(rows, pageable, total) : new SliceImpl<>(rows, pageable, false);
+        }
+        long end = pageable.getOffset() + pageable.getPageSize();
+        List<Object> window = window(rows, pageable.getOffset(), end);
+        return page
+            ? new PageImpl<>(window, pageable, total)
+            : new SliceImpl<>(window, pageable, shardHasNext || rows.size() > end);
+    }
+
+    private Object mergeList(List<Object> results) {
+        List<Object> rows = new ArrayList<>();
+        for (Object result : results) {
+            if (result != null) {
+                ((Iterable<?>) result).forEach(rows::add);
+            }
+        }
+        ShardMerge merge = method.getAnnotation(ShardMerge.class);
+        if (merge != null && merge.sumByKey()) {
+            return sumByKey(rows);
+        }
+        if (merge != null) {
+            List<SortKey> keys = new ArrayList<>();
+            for (String property : merge.orderBy()) {
+                keys.add(new SortKey(property, merge.descending(), false));
+            }
+            if (keys.isEmpty()) {
+                keys.add(new SortKey("", merge.descending(), false));
+            }
+            sortRows(rows, keys);
+        } else if (sort != null) {
+            sortRows(rows, keysOf(sort));
+        } else if (pageable != null) {
+            sortRows(rows, keysOf(pageable.getSort()));
+        }
+
+        if (pageable != null && pageable.isPaged()) {
+            return window(rows, pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
+        }
+        if (limit != null && limit.isLimited()) {
+            return window(rows, 0, limit.max());
+        }
+        return rows;
+    }
+
+    // 키 뒤의 모든 열을 키별로 합산 (SUM 결과가 없는 그룹의 null은 0으로)
+    private static List<Object> sumByKey(List<Object> rows) {
+        Map<Object, long[]> sums = new LinkedHashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            long[] sum = sums.computeIfAbsent(columns[0], key -> new long[columns.length - 1]);
+            for (int i = 1; i < columns.length; i++) {
+                if (columns[i] != null) {
+                    sum[i - 1] += ((Number) columns[i]).longValue();
+                }
+            }
+        }
+        List<Object> merged = new ArrayList<>(sums.size());
+        sums.forEach((key, sum) -> {
+            Object[] columns = new Object[sum.length + 1];
+            columns[0] = key;
+            for (int i = 0; i < sum.length; i++) {
+                columns[i + 1] = sum[i];
+            }
+            merged.add(columns);
+        });
+        return merged;
+    }
+
+    private static List<Object> window(List<Object> rows, long from, long to) {
+        int start = (int) Math.min(from, rows.size());
+        int end = (int) Math.min(to, rows.size());
+        return new ArrayList<>(rows.subList(start, end));
+    }
+
+    /**
+     * 샤드에 보낼 Pageable: 첫 행부터 요청 페이지 끝까지, Page/Slice는 bookId를 마지막 정렬 키로 추가
+     */
+    private static Pageable shardPageable(Pageable pageable, boolean sliced) {
+        Sort sort = pageable.getSort();
+        if (sliced && sort.getOrderFor(TIE_BREAKER) == null) {
+            sort = sort.and(Sort.by(TIE_BREAKER));
+        }
+        if (pageable.isUnpaged()) {
+            return sliced ? Pageable.unpaged(sort) : pageable;
+        }
+        long end = pageable.getOffset() + pageable.getPageSize();
+        return PageRequest.of(0, (int) Math.min(end, Integer.MAX_VALUE), sort);
+    }
+
+    private static List<SortKey> keysOf(Sort sort) {
+        List<SortKey> keys = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            keys.add(new SortKey(order.getProperty(), order.isDescending(), order.isIgnoreCase()));
+        }
+        return keys;
+    }
+
+    /**
+     * 행마다 정렬 키 값을 한 번만 읽어 정렬 (NULL은 오름차순에서 먼저, DB 기본 순서와 같음)
+     */
+    private static void sortRows(List<Object> rows, List<SortKey> keys) {
+        if (keys.isEmpty() || rows.size() < 2) {
+            return;
+        }
+        List<Object[]> keyed = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] values = new Object[keys.size() + 1];
+            for (int i = 0; i < keys.size(); i++) {
+                values[i] = comparableValue(valueOf(row, keys.get(i).property()), keys.get(i).ignoreCase());
+            }
+            values[keys.size()] = row;
+            keyed.add(values);
+        }
+        keyed.sort((left, right) -> {
+            for (int i = 0; i < keys.size(); i++) {
+                int compared = compare(left[i], right[i]);
+                if (compared != 0) {
+                    return keys.get(i).descending() ? -compared : compared;
+                }
+            }
+            return 0;
+        });
+        rows.clear();
+        for (Object[] values : keyed) {
+            rows.add(values[keys.size()]);
+        }
+    }
+
+    private static Object valueOf(Object row, String property) {
+        if (property.isEmpty()) {
+            return row;
+        }
+        if (row instanceof Object[] columns) {
+            return columns[Integer.parseInt(property)];
+        }
+        try {
+            return PropertyAccessorFactory.forBeanPropertyAccess(row).getPropertyValue(property);
+        } catch (BeansException e) {
+            throw new IllegalArgumentException("샤딩 환경에서는 조회 결과에 없는 속성으로 정렬할 수 없습니다: " + property, e);
+        }
+    }
+
+    // enum은 DB에 이름(문자열)으로 저장되므로 이름 순서로 비교
+    private static Object comparableValue(Object value, boolean ignoreCase) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (ignoreCase && value instanceof String text) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+
+    private record SortKey(String property, boolean descending, boolean ignoreCase) {
+    }
+
+}
@@ -0,0 +1,312 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.config.datasource.ShardContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드별 저장소 호출 실행
+ *
+ * - 트랜잭션 밖 단일 샤드 호출: 호출 스레드에서 (저장소 메서드의 트랜잭션이 그 샤드에서 시작)
+ * - 트랜잭션 안 단일 샤드 호출: 처음 사용하는 샤드에 트랜잭션을 고정하고 호출 스레드에서
+ * - 그 외 (여러 샤드, 고정된 샤드와 다른 샤드)는 작업 스레드에서 샤드별 트랜잭션으로 동시에 실행
+ *   - 읽기: 호출 트랜잭션의 readOnly 여부를 따르는 새 트랜잭션 (커밋된 데이터만 보임)
+ *   - 쓰기: 호출 트랜잭션이 끝날 때까지 샤드 트랜잭션을 열어 두고 같은 결과로 커밋/롤백 (best-effort 1PC)
+ *     같은 호출 트랜잭션의 같은 샤드 호출은 모두 같은 샤드 트랜잭션에서 실행 (이후 읽기도 포함)
+ *     호출 트랜잭션 커밋 후 샤드 커밋이 실패하면 샤드 간 불일치가 생길 수 있으므로 오류 로그로 남김
+ *
+ * 작업 스레드에는 요청 스레드 상태가 없으므로 샤드 0 읽기는 read-your-writes 고정 없이 리플리카로 라우팅
+ */
+@Slf4j
+class ShardExecutor implements DisposableBean {
+
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate readWriteTemplate;
+    private final long participantTimeoutMillis;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    // 참여 트랜잭션은 호출 트랜잭션이 끝날 때까지 스레드를 점유하므로 크기 제한 없는 풀 (샤드 커넥션 풀이 실제 상한)
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "book-shard-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ShardExecutor(PlatformTransactionManager transactionManager, long participantTimeoutMillis) {
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.readWriteTemplate = new TransactionTemplate(transactionManager);
+        this.participantTimeoutMillis = participantTimeoutMillis;
+    }
+
+    /**
+     * 샤드별 호출을 실행하고 calls 순서대로 결과 반환
+     *
+     * @param write 쓰기 호출 여부
+     */
+    <T> List<T> execute(Map<Integer, Supplier<T>> calls, boolean write) {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (!inTransaction && calls.size() == 1) {
+            Map.Entry<Integer, Supplier<T>> call = calls.entrySet().iterator().next();
+            return Collections.singletonList(ShardContext.callOn(call.getKey(), call.getValue()));
+        }
+
+        Integer bound = inTransaction ? ShardContext.transactionShard() : null;
+        ParticipantGroup group = inTransaction ? ParticipantGroup.find() : null;
+        if (inTransaction && bound == null && calls.size() == 1) {
+            int shard = calls.keySet().iterator().next();
+            if (group == null || !group.has(shard)) {
+                ShardContext.bindToTransaction(shard);
+                bound = shard;
+            }
+        }
+
+        TransactionTemplate scatterTemplate = !write && (!inTransaction
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+            ? readOnlyTemplate : readWriteTemplate;
+        List<Future<T>> pending = new ArrayList<>(calls.size());
+        Supplier<T> local = null;
+        for (Map.Entry<Integer, Supplier<T>> entry : calls.entrySet()) {
+            int shard = entry.getKey();
+            Supplier<T> call = entry.getValue();
+            if (bound != null && shard == bound) {
+                local = call;
+                pending.add(null);
+            } else if (inTransaction && (write || (group != null && group.has(shard)))) {
+                if (group == null) {
+                    group = ParticipantGroup.register(this);
+                }
+                pending.add(group.participant(shard).submit(call));
+            } else {
+                pending.add(workers.submit(() -> ShardContext.callOn(shard,
+                    () -> scatterTemplate.execute(status -> call.get()))));
+            }
+        }
+
+        T localResult = local != null ? ShardContext.callOn(bound, local) : null;
+        List<T> results = new ArrayList<>(calls.size());
+        for (Future<T> future : pending) {
+            results.add(future == null ? localResult : await(future));
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 호출을 기다리는 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("샤드 호출에 실패했습니다.", cause);
+        }
+    }
+
+    /**
+     * 호출 트랜잭션 하나에 참여하는 샤드 트랜잭션 목록 (호출 트랜잭션 동기화 객체로 등록)
+     * 호출 트랜잭션이 끝나면 같은 결과를 알리고 샤드 커밋/롤백이 끝날 때까지 기다림
+     * → 커밋 후 리스너(@TransactionalEventListener)와 다음 요청은 샤드 커밋 이후의 상태를 봄
+     */
+    private static final class ParticipantGroup implements TransactionSynchronization {
+
+        private final ShardExecutor executor;
+        private final Map<Integer, Participant> participants = new HashMap<>();
+
+        private ParticipantGroup(ShardExecutor executor) {
+            this.executor = executor;
+        }
+
+        static ParticipantGroup find() {
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                if (synchronization instanceof ParticipantGroup group) {
+                    return group;
+                }
+            }
+            return null;
+        }
+
+        static ParticipantGroup register(ShardExecutor executor) {
+            ParticipantGroup group = new ParticipantGroup(executor);
+            TransactionSynchronizationManager.registerSynchronization(group);
+            return group;
+        }
+
+        boolean has(int shard) {
+            return participants.containsKey(shard);
+        }
+
+        Participant participant(int shard) {
+            return participants.computeIfAbsent(shard, key -> {
+                Participant participant = executor.new Participant(key);
+                executor.workers.execute(participant);
+                return participant;
+            });
+        }
+
+        // 다른 동기화 객체(커밋 후 이벤트 리스너 등)보다 먼저 샤드 커밋을 끝냄
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            boolean commit = status == STATUS_COMMITTED;
+            participants.values().forEach(participant -> participant.decide(commit));
+            participants.forEach((shard, participant) -> participant.awaitCompletion(commit));
+        }
+
+    }
+
+    /**
+     * 작업 스레드 하나에서 샤드 트랜잭션을 열고 호출 트랜잭션의 결과를 받을 때까지 호출을 순서대로 실행
+     */
+    private final class Participant implements Runnable {
+
+        private static final Task COMMIT = new Task(null, null);
+        private static final Task ROLLBACK = new Task(null, null);
+
+        private final int shard;
+        private final BlockingQueue<Task> tasks = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private boolean closed;
+
+        private Participant(int shard) {
+            this.shard = shard;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized <T> Future<T> submit(Supplier<T> call) {
+            if (closed) {
+                return CompletableFuture.failedFuture(
+                    new IllegalStateException("샤드 " + shard + " 트랜잭션이 이미 끝났습니다."));
+            }
+            Task task = new Task((Supplier<Object>) call, new CompletableFuture<>());
+            tasks.add(task);
+            return (Future<T>) task.result();
+        }
+
+        void decide(boolean commit) {
+            tasks.add(commit ? COMMIT : ROLLBACK);
+        }
+
+        @Override
+        public void run() {
+            try {
+                ShardContext.runOn(shard, () -> readWriteTemplate.executeWithoutResult(this::serve));
+                completion.complete(null);
+            } catch (RuntimeException | Error e) {
+                completion.completeExceptionally(e);
+            } finally {
+                close();
+            }
+        }
+
+        private void serve(TransactionStatus status) {
+            boolean failed = false;
+            while (true) {
+                Task task = next();
+                if (task == null) {
+                    log.warn("호출 트랜잭션 결과를 받지 못해 샤드 트랜잭션 롤백 - Shard: {}, Timeout: {}ms",
+                        shard, participantTimeoutMillis);
+                    status.setRollbackOnly();
+                    return;
+                }
+                if (task == COMMIT || task == ROLLBACK) {
+                    if (failed || task == ROLLBACK) {
+                        status.setRollbackOnly();
+                    }
+                    return;
+                }
+                if (failed) {
+                    task.result().completeExceptionally(
+                        new IllegalStateException("같은 트랜잭션의 이전 샤드 " + shard + " 호출이 실패했습니다."));
+                    continue;
+                }
+                try {
+                    Object value = task.call().get();
+                    // 제약 조건 위반 등은 호출 트랜잭션이 커밋하기 전에 드러나도록 바로 flush
+                    status.flush();
+                    task.result().complete(value);
+                } catch (RuntimeException e) {
+                    failed = true;
+                    status.setRollbackOnly();
+                    task.result().completeExceptionally(e);
+                }
+            }
+        }
+
+        private Task next() {
+            try {
+                return tasks.poll(participantTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            Task task;
+            while ((task = tasks.poll()) != null) {
+                if (task.result() != null) {
+                    task.result().completeExceptionally(
+                        new IllegalStateException("샤드 " + shard + " 트랜잭션이 이미 끝났습니다."));
+                }
+            }
+        }
+
+        void awaitCompletion(boolean commit) {
+            try {
+                completion.get(participantTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                if (commit) {
+                    log.error("샤드 트랜잭션 커밋 실패 - 다른 샤드와 데이터가 어긋났을 수 있습니다. Shard: {}", shard, e);
+                } else {
+                    log.warn("샤드 트랜잭션 롤백 실패 - Shard: {}, Error: {}", shard, e.getMessage());
+                }
+            }
+        }
+
+    }
+
+    private record Task(Supplier<Object> call, CompletableFuture<Object> result) {
+    }
+
+}
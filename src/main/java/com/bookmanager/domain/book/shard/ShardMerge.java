@@ -0,0 +1,33 @@
+package com.bookmanager.domain.book.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 샤드별 List 조회 결과를 합치는 방법 (JPQL ORDER BY / GROUP BY를 샤드 밖에서 다시 적용)
+ *
+ * 없으면 샤드 순서대로 이어 붙임 (순서가 없는 조회)
+ * Page/Slice 조회는 Pageable의 정렬을 사용하므로 필요 없음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ShardMerge {
+
+    /**
+     * 정렬 키 (결과 객체의 속성 이름, Object[] 행이면 열 번호)
+     * 비어 있으면 결과 값 자체의 순서 (예: bookId 목록)
+     */
+    String[] orderBy() default {};
+
+    boolean descending() default false;
+
+    /**
+     * Object[] {키, 건수/합계...} 행을 키별로 합산 (GROUP BY 집계, 키 뒤의 열은 모두 더함)
+     */
+    boolean sumByKey() default false;
+
+}
@@ -0,0 +1,51 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.config.datasource.ShardContext;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.relational.SchemaManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * 샤드 1~ 스키마와 ISBN 디렉터리 테이블 준비
+ *
+ * spring.jpa.hibernate.ddl-auto는 기본 데이터소스(샤드 0)에만 적용되므로
+ * 나머지 샤드는 같은 매핑으로 Hibernate SchemaManager를 샤드마다 실행
+ * - create, create-drop: 삭제 후 생성 / update, validate: 검증만 (운영 스키마는 마이그레이션 스크립트로)
+ * - none: 아무것도 하지 않음 (디렉터리 테이블만 없으면 생성)
+ */
+@Slf4j
+class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final BookShards bookShards;
+    private final String ddlAuto;
+
+    ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, BookShards bookShards, String ddlAuto) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.bookShards = bookShards;
+        this.ddlAuto = ddlAuto;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        boolean recreate = ddlAuto.startsWith("create");
+        boolean validate = ddlAuto.equals("update") || ddlAuto.equals("validate");
+        SchemaManager schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+        for (int shard = 1; shard < bookShards.count(); shard++) {
+            if (recreate) {
+                ShardContext.runOn(shard, () -> {
+                    schemaManager.dropMappedObjects(false);
+                    schemaManager.exportMappedObjects(false);
+                });
+            } else if (validate) {
+                ShardContext.runOn(shard, schemaManager::validateMappedObjects);
+            }
+        }
+
+        bookShards.directory().createTable(recreate);
+        log.info("도서 샤드 준비 완료 - Shards: {}, ddl-auto: {}", bookShards.count(), ddlAuto);
+    }
+
+}
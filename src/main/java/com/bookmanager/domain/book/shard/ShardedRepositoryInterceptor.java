@@ -0,0 +1,247 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.domain.book.entity.Book;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 도서/도서 상세 Repository 호출을 bookId 샤드로 보내는 인터셉터
+ * (Spring Data 트랜잭션 인터셉터보다 앞에서 실행 → 저장소 트랜잭션이 정해진 샤드에서 시작)
+ *
+ * - bookId 한 건 (findById, save(entity), updateColumnsById(bookId, ...) 등): 해당 샤드
+ * - bookId/엔티티 목록 (findAllById, saveAllBatched 등): 샤드별로 나눠 호출 후 결과를 이어 붙임
+ * - ISBN 조회 (BookRepository): ISBN 디렉터리로 샤드를 찾아 해당 샤드만 조회
+ * - 그 외 조회/집계: 전체 샤드 조회 후 병합 (ScatterQuery)
+ *
+ * 도서 등록/삭제 시 ISBN 디렉터리도 함께 갱신
+ * - 등록: INSERT 전에 예약 (중복 ISBN은 여기서 DuplicateKeyException), 실패/롤백 시 삭제
+ * - 삭제: 커밋 후 삭제 (롤백되면 그대로 유지)
+ */
+class ShardedRepositoryInterceptor implements MethodInterceptor {
+
+    private final Supplier<BookShards> bookShards;
+    private final Supplier<ShardExecutor> executor;
+    // BookRepository 여부 (ISBN 조회와 디렉터리 갱신은 도서 저장소에서만)
+    private final boolean bookRepository;
+
+    ShardedRepositoryInterceptor(Supplier<BookShards> bookShards, Supplier<ShardExecutor> executor,
+                                 boolean bookRepository) {
+        this.bookShards = bookShards;
+        this.executor = executor;
+        this.bookRepository = bookRepository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (ReflectionUtils.isObjectMethod(method) || method.getName().equals("flush")) {
+            return invocation.proceed();
+        }
+        BookShards shards = bookShards.get();
+        Object[] args = invocation.getArguments();
+        String name = method.getName();
+
+        if (bookRepository && name.endsWith("ByIsbn") && args.length == 1) {
+            return invokeByIsbn(invocation, shards, (String) args[0]);
+        }
+        if (bookRepository && (name.equals("findExistingIsbns") || name.equals("findByIsbnIn"))) {
+            return invokeByIsbns(invocation, shards, (Collection<?>) args[0]);
+        }
+
+        boolean write = name.startsWith("save") || name.startsWith("delete") || name.startsWith("update");
+        if (bookRepository && name.startsWith("save")) {
+            return saveBooks(invocation, shards);
+        }
+        if (bookRepository && name.startsWith("delete")) {
+            return deleteBooks(invocation, shards);
+        }
+        return route(invocation, shards, write);
+    }
+
+    /**
+     * 인자로 샤드를 정해 호출 (bookId 한 건 → 한 샤드, 목록 → 샤드별, 그 외 → 전체 샤드)
+     */
+    private Object route(MethodInvocation invocation, BookShards shards, boolean write) {
+        Method method = invocation.getMethod();
+        Object[] args = invocation.getArguments();
+        if (args.length >= 1 && args[0] instanceof String bookId && method.getName().endsWith("ById")) {
+            return single(invocation, shards.shardOf(bookId), write);
+        }
+        if (args.length == 1 && args[0] instanceof Persistable<?> entity) {
+            return single(invocation, shards.shardOf(String.valueOf(entity.getId())), write);
+        }
+        if (args.length == 1 && args[0] instanceof Iterable<?> items) {
+            return byBookIds(invocation, shards, items, write);
+        }
+        if (shards.count() == 1) {
+            return single(invocation, BookShards.MAIN, write);
+        }
+        ScatterQuery query = ScatterQuery.of(method, args);
+        Map<Integer, Supplier<Object>> calls = new LinkedHashMap<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            calls.put(shard, call(invocation, query.shardArgs()));
+        }
+        return query.merge(executor.get().execute(calls, write));
+    }
+
+    private Object single(MethodInvocation invocation, int shard, boolean write) {
+        return executor.get().execute(Map.of(shard, call(invocation, invocation.getArguments())), write).get(0);
+    }
+
+    /**
+     * bookId(또는 엔티티) 목록을 샤드별로 나눠 호출, List 결과는 이어 붙임
+     */
+    private Object byBookIds(MethodInvocation invocation, BookShards shards, Iterable<?> items, boolean write) {
+        Map<Integer, List<Object>> groups = new TreeMap<>();
+        for (Object item : items) {
+            String bookId = item instanceof Persistable<?> entity ? String.valueOf(entity.getId()) : (String) item;
+            groups.computeIfAbsent(shards.shardOf(bookId), shard -> new ArrayList<>()).add(item);
+        }
+        Map<Integer, Supplier<Object>> calls = new LinkedHashMap<>();
+        groups.forEach((shard, group) -> calls.put(shard, call(invocation, new Object[]{group})));
+        return concat(invocation.getMethod(), calls.isEmpty() ? List.of() : executor.get().execute(calls, write));
+    }
+
+    private Object invokeByIsbn(MethodInvocation invocation, BookShards shards, String isbn) {
+        Integer shard = shards.directory().shardOf(isbn);
+        if (invocation.getMethod().getName().startsWith("exists")) {
+            return shard != null;
+        }
+        return shard != null ? single(invocation, shard, false) : Optional.empty();
+    }
+
+    private Object invokeByIsbns(MethodInvocation invocation, BookShards shards, Collection<?> isbns) {
+        List<String> isbnList = isbns.stream().map(String.class::cast).toList();
+        Map<String, Integer> located = shards.directory().shardsOf(isbnList);
+        if (invocation.getMethod().getName().equals("findExistingIsbns")) {
+            return new ArrayList<>(located.keySet());
+        }
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        located.forEach((isbn, shard) -> groups.computeIfAbsent(shard, key -> new ArrayList<>()).add(isbn));
+        Map<Integer, Supplier<Object>> calls = new LinkedHashMap<>();
+        groups.forEach((shard, group) -> calls.put(shard, call(invocation, new Object[]{group})));
+        return concat(invocation.getMethod(), calls.isEmpty() ? List.of() : executor.get().execute(calls, false));
+    }
+
+    /**
+     * 새 도서의 ISBN을 먼저 디렉터리에 예약한 뒤 저장
+     */
+    private Object saveBooks(MethodInvocation invocation, BookShards shards) {
+        List<IsbnShardDirectory.Entry> entries = new ArrayList<>();
+        for (Book book : booksOf(invocation.getArguments())) {
+            if (book.isNew()) {
+                entries.add(new IsbnShardDirectory.Entry(book.getIsbn(), book.getBookId(), shards.shardOf(book.getBookId())));
+            }
+        }
+        IsbnShardDirectory directory = shards.directory();
+        List<String> isbns = entries.stream().map(IsbnShardDirectory.Entry::isbn).toList();
+        directory.register(entries);
+        Object result;
+        try {
+            result = route(invocation, shards, true);
+        } catch (RuntimeException | Error e) {
+            directory.removeIsbns(isbns);
+            throw e;
+        }
+        if (!isbns.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        directory.removeIsbns(isbns);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 삭제 후 디렉터리 항목 제거 (트랜잭션 안이면 커밋 후)
+     */
+    private Object deleteBooks(MethodInvocation invocation, BookShards shards) {
+        Object[] args = invocation.getArguments();
+        IsbnShardDirectory directory = shards.directory();
+        Runnable cleanup;
+        if (args.length == 0) {
+            cleanup = directory::clear;
+        } else if (invocation.getMethod().getName().contains("ById")) {
+            List<String> bookIds = new ArrayList<>();
+            if (args[0] instanceof Iterable<?> ids) {
+                ids.forEach(id -> bookIds.add((String) id));
+            } else {
+                bookIds.add((String) args[0]);
+            }
+            cleanup = () -> directory.removeBookIds(bookIds);
+        } else {
+            List<String> isbns = booksOf(args).stream().map(Book::getIsbn).toList();
+            cleanup = () -> directory.removeIsbns(isbns);
+        }
+
+        Object result = route(invocation, shards, true);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cleanup.run();
+                }
+            });
+        } else {
+            cleanup.run();
+        }
+        return result;
+    }
+
+    private static List<Book> booksOf(Object[] args) {
+        List<Book> books = new ArrayList<>();
+        if (args.length == 1 && args[0] instanceof Book book) {
+            books.add(book);
+        } else if (args.length == 1 && args[0] instanceof Iterable<?> items) {
+            items.forEach(item -> books.add((Book) item));
+        }
+        return books;
+    }
+
+    private static Object concat(Method method, List<Object> results) {
+        if (method.getReturnType() == void.class) {
+            return null;
+        }
+        List<Object> merged = new ArrayList<>();
+        for (Object result : results) {
+            ((Iterable<?>) result).forEach(merged::add);
+        }
+        return merged;
+    }
+
+    /**
+     * 나머지 인터셉터 체인(트랜잭션, 쿼리 실행)을 다른 인자/스레드에서 다시 실행할 수 있는 호출
+     */
+    private static Supplier<Object> call(MethodInvocation invocation, Object[] args) {
+        MethodInvocation clone = ((ProxyMethodInvocation) invocation).invocableClone(args);
+        return () -> {
+            try {
+                return clone.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.bookmanager.domain.book.shard;
+
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * 도서/도서 상세 Repository 프록시 맨 앞에 샤드 라우팅 인터셉터 추가
+ *
+ * Spring Data 프록시의 트랜잭션/쿼리 실행 인터셉터보다 먼저 실행되어야 하므로
+ * 새 프록시로 감싸지 않고 기존 프록시 체인의 0번에 추가
+ */
+class ShardedRepositoryPostProcessor implements BeanPostProcessor {
+
+    private final SingletonSupplier<BookShards> bookShards;
+    private final SingletonSupplier<ShardExecutor> executor;
+
+    ShardedRepositoryPostProcessor(ObjectProvider<BookShards> bookShards, ObjectProvider<ShardExecutor> executor) {
+        this.bookShards = SingletonSupplier.of(bookShards::getObject);
+        this.executor = SingletonSupplier.of(executor::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof BookRepository) && !(bean instanceof BookDetailRepository)) {
+            return bean;
+        }
+        ShardedRepositoryInterceptor interceptor =
+            new ShardedRepositoryInterceptor(bookShards, executor, bean instanceof BookRepository);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.bookmanager.domain.book.similar;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash 시그니처용 LSH(Locality Sensitive Hashing) 밴딩 인덱스
+ *
+ * 시그니처를 bands개의 구간(구간당 rows개 값)으로 나누고, 구간 값이 모두 같은 도서끼리
+ * 같은 버킷에 넣음. 유사도 s인 두 도서가 한 번이라도 같은 버킷에 들어갈 확률은 1 - (1 - s^rows)^bands
+ * → 후보만 비교하므로 전체 카탈로그를 스캔하지 않음
+ *
+ * 이 클래스는 스레드 안전하지 않음 (SimilarBookIndex에서 ReadWriteLock으로 보호)
+ */
+public class LshIndex {
+
+    private final int bands;
+    private final int rows;
+
+    private final Map<String, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<String>> buckets = new HashMap<>();
+
+    public LshIndex(int numHashes, int bands) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("해시 함수 개수는 밴드 수로 나누어 떨어져야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = numHashes / bands;
+    }
+
+    /**
+     * 시그니처 등록/갱신 (기존 버킷에서 제거 후 다시 등록)
+     */
+    public void upsert(String bookId, int[] signature) {
+        remove(bookId);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(bookId, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), key -> new LinkedHashSet<>()).add(bookId);
+        }
+    }
+
+    public void remove(String bookId) {
+        int[] previous = signatures.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(previous, band);
+            Set<String> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(bookId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public boolean contains(String bookId) {
+        return signatures.containsKey(bookId);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * 유사 도서 조회
+     *
+     * @param bookId 기준 도서
+     * @param limit 반환할 최대 건수
+     * @param maxCandidates 비교할 최대 후보 수 (인기 버킷이 커져도 응답 시간 상한 유지)
+     * @return 추정 유사도 내림차순 목록 (기준 도서 제외)
+     */
+    public List<Match> query(String bookId, int limit, int maxCandidates) {
+        int[] signature = signatures.get(bookId);
+        if (signature == null) {
+            return List.of();
+        }
+
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < bands && candidates.size() < maxCandidates; band++) {
+            Set<String> bucket = buckets.get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (String candidate : bucket) {
+                if (!candidate.equals(bookId)) {
+                    candidates.add(candidate);
+                    if (candidates.size() >= maxCandidates) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            matches.add(new Match(candidate, MinHasher.similarity(signature, signatures.get(candidate))));
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+            .thenComparing(Match::bookId));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long hash = band * 0x9E3779B97F4A7C15L;
+        int offset = band * rows;
+        for (int i = 0; i < rows; i++) {
+            hash = (hash ^ signature[offset + i]) * 0x100000001b3L;
+        }
+        return MinHasher.fmix64(hash);
+    }
+
+    /**
+     * 유사 도서 후보와 추정 유사도
+     */
+    public record Match(String bookId, double similarity) {
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.bookmanager.domain.book.similar;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 시그니처 생성기
+ *
+ * 도서 텍스트(제목, 설명, 카테고리)를 토큰 집합으로 만들고, numHashes개의 해시 함수 각각에 대해
+ * 최솟값을 시그니처로 사용. 두 시그니처에서 같은 위치의 값이 일치하는 비율이
+ * 원래 토큰 집합의 Jaccard 유사도 추정치가 됨
+ *
+ * - 토큰: 유니코드 문자/숫자 연속 구간 (소문자 변환, 2자 이상)
+ * - 카테고리는 "category:" 접두어를 붙여 별도 토큰으로 추가 (같은 카테고리면 유사도 가산)
+ * - 해시 함수 i: fmix64(tokenHash ^ seed[i]) 의 상위 32bit
+ *
+ * 불변 객체이므로 여러 스레드에서 공유 가능
+ */
+public final class MinHasher {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, long seed) {
+        if (numHashes <= 0) {
+            throw new IllegalArgumentException("해시 함수 개수는 양수여야 합니다.");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    /**
+     * 도서 텍스트로 시그니처 생성
+     *
+     * @return 시그니처, 토큰이 하나도 없으면 null
+     */
+    public int[] signature(String title, String description, String category) {
+        long[] tokens = tokenHashes(title, description, category);
+        if (tokens.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long token : tokens) {
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = (int) (fmix64(token ^ seeds[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 시그니처의 추정 Jaccard 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * 텍스트를 토큰 해시 집합으로 변환 (중복 제거, 정렬됨)
+     */
+    static long[] tokenHashes(String title, String description, String category) {
+        long[] hashes = new long[64];
+        int size = 0;
+        for (String text : new String[]{title, description}) {
+            if (text == null) {
+                continue;
+            }
+            String lower = text.toLowerCase(Locale.ROOT);
+            int start = -1;
+            for (int i = 0; i <= lower.length(); i++) {
+                boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    if (i - start >= MIN_TOKEN_LENGTH) {
+                        if (size == hashes.length) {
+                            hashes = Arrays.copyOf(hashes, size * 2);
+                        }
+                        hashes[size++] = hash(lower, start, i);
+                    }
+                    start = -1;
+                }
+            }
+        }
+        if (category != null && !category.isBlank()) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size + 1);
+            }
+            String token = "category:" + category.strip().toLowerCase(Locale.ROOT);
+            hashes[size++] = hash(token, 0, token.length());
+        }
+
+        long[] sorted = Arrays.copyOf(hashes, size);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    // 64bit FNV-1a
+    private static long hash(String text, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finalizer
+    static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
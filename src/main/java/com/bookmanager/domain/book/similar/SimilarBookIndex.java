@@ -0,0 +1,209 @@
+package com.bookmanager.domain.book.similar;
+
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookChangedEvent.ChangeType;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.event.BooksCreatedEvent;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.segment.SegmentRecord;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * "비슷한 도서" 조회용 MinHash + LSH 인덱스
+ *
+ * - 애플리케이션 기동 후 SearchSegmentStore가 백그라운드 스레드에서 인덱스 생성
+ *   (디스크 세그먼트에 저장된 시그니처를 그대로 사용, 세그먼트가 없으면 DB에서 keyset 배치 조회 후 계산)
+ * - 이후 도서 등록/삭제, 제목/설명/카테고리 변경 시 해당 도서의 시그니처만 다시 계산
+ * - 조회는 LSH 버킷 후보만 비교하므로 카탈로그 크기와 무관하게 빠르게 응답
+ *
+ * 인덱스 생성 중에 들어온 변경 이벤트는 보관했다가 생성 완료 직후 다시 적용
+ */
+@Slf4j
+@Component
+public class SimilarBookIndex {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final MinHasher minHasher;
+    private final int bands;
+    private final int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<BookChangedEvent> pendingEvents = new ArrayList<>();
+
+    private LshIndex index;
+    private volatile boolean ready;
+
+    public SimilarBookIndex(
+        BookRepository bookRepository,
+        @Value("${bookstore.similar.num-hashes:64}") int numHashes,
+        @Value("${bookstore.similar.bands:16}") int bands,
+        @Value("${bookstore.similar.max-candidates:500}") int maxCandidates) {
+        this.bookRepository = bookRepository;
+        this.minHasher = new MinHasher(numHashes, 0x5EEDL);
+        this.bands = bands;
+        this.maxCandidates = maxCandidates;
+        this.index = new LshIndex(numHashes, bands);
+    }
+
+    /**
+     * DB에서 전체 도서의 시그니처를 다시 계산해 인덱스 교체
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        LshIndex built = new LshIndex(minHasher.numHashes(), bands);
+
+        String lastBookId = UuidBinary.MIN;
+        while (true) {
+            List<Object[]> rows = bookRepository.findSearchIndexBatch(lastBookId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : rows) {
+                built.upsert((String) row[0], signatureOf((String) row[4], (String) row[5], (String) row[6]));
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastBookId = (String) rows.get(rows.size() - 1)[0];
+        }
+        install(built, start);
+    }
+
+    /**
+     * 검색 세그먼트에 저장된 시그니처로 인덱스 교체 (시그니처 재계산 없음)
+     */
+    public void rebuild(Collection<SegmentRecord> records) {
+        long start = System.nanoTime();
+        LshIndex built = new LshIndex(minHasher.numHashes(), bands);
+        for (SegmentRecord record : records) {
+            built.upsert(record.bookId(), record.signature());
+        }
+        install(built, start);
+    }
+
+    /**
+     * 도서 텍스트의 MinHash 시그니처 (토큰이 없으면 null)
+     */
+    public int[] signatureOf(String title, String description, String category) {
+        return minHasher.signature(title, description, category);
+    }
+
+    public int numHashes() {
+        return minHasher.numHashes();
+    }
+
+    private void install(LshIndex built, long start) {
+        lock.writeLock().lock();
+        try {
+            for (BookChangedEvent event : pendingEvents) {
+                apply(built, event);
+            }
+            pendingEvents.clear();
+            index = built;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("유사 도서 인덱스 생성 완료 - Books: {}, Elapsed: {}ms",
+            built.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 도서 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     * 재고/상태/가격만 바뀐 경우는 시그니처가 같으므로 무시
+     */
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (!affectsSignature(event)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            apply(index, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록 청크 반영 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onBooksCreated(BooksCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (BookSnapshot book : event.getBooks()) {
+                BookChangedEvent created = BookChangedEvent.created(book);
+                if (!ready) {
+                    pendingEvents.add(created);
+                } else {
+                    apply(index, created);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean contains(String bookId) {
+        lock.readLock().lock();
+        try {
+            return index.contains(bookId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유사 도서 조회 (추정 유사도 내림차순)
+     */
+    public List<LshIndex.Match> findSimilar(String bookId, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.query(bookId, limit, maxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(LshIndex target, BookChangedEvent event) {
+        BookSnapshot after = event.getAfter();
+        if (after == null) {
+            target.remove(event.getBookId());
+        } else {
+            target.upsert(after.getBookId(),
+                minHasher.signature(after.getTitle(), after.getDescription(), after.getCategory()));
+        }
+    }
+
+    private static boolean affectsSignature(BookChangedEvent event) {
+        if (event.getType() != ChangeType.UPDATED) {
+            return true;
+        }
+        BookSnapshot before = event.getBefore();
+        BookSnapshot after = event.getAfter();
+        return !Objects.equals(before.getTitle(), after.getTitle())
+            || !Objects.equals(before.getDescription(), after.getDescription())
+            || !Objects.equals(before.getCategory(), after.getCategory());
+    }
+
+}
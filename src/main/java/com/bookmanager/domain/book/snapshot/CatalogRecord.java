@@ -0,0 +1,61 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.domain.book.dto.response.BookResponse;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import java.time.Instant;
+
+/**
+ * 카탈로그 스냅샷에 저장되는 도서 한 건 (상세 조회 응답을 만들 수 있는 전체 컬럼)
+ *
+ * @param description CompressedText 형식으로 인코딩된 설명 (상세 조회 시에만 디코딩), 없으면 null
+ */
+public record CatalogRecord(
+    String bookId,
+    String title,
+    String author,
+    String isbn,
+    String publisher,
+    int price,
+    int stockQuantity,
+    byte[] description,
+    String category,
+    BookStatus status,
+    Instant publishedAt,
+    Instant createdAt,
+    Instant updatedAt) {
+
+    /**
+     * BookRepository.SNAPSHOT 조회 결과 한 행으로 생성
+     */
+    public static CatalogRecord fromRow(Object[] row) {
+        return new CatalogRecord((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+            (String) row[4], (Integer) row[5], (Integer) row[6], CompressedText.encode((String) row[7]),
+            (String) row[8], (BookStatus) row[9], (Instant) row[10], (Instant) row[11], (Instant) row[12]);
+    }
+
+    public BookSummaryResponse toSummary() {
+        return new BookSummaryResponse(bookId, title, author, price, stockQuantity, category, status);
+    }
+
+    public BookResponse toResponse() {
+        return BookResponse.builder()
+            .bookId(bookId)
+            .title(title)
+            .author(author)
+            .isbn(isbn)
+            .publisher(publisher)
+            .price(price)
+            .stockQuantity(stockQuantity)
+            .description(CompressedText.decode(description))
+            .category(category)
+            .status(status.name())
+            .statusDescription(status.getDescription())
+            .publishedAt(publishedAt)
+            .createdAt(createdAt)
+            .updatedAt(updatedAt)
+            .build();
+    }
+
+}
@@ -0,0 +1,480 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 카탈로그 스냅샷 조회 (불변, 교체 방식으로 갱신)
+ *
+ * - 레코드: 메모리 매핑된 스냅샷 파일 (OffHeapCatalog, bookId 오름차순 순번) → 도서 수가 늘어도 힙/GC 부담 없음
+ * - 인덱스는 순번 배열(int[])로만 보관 (원시 타입 배열은 GC가 내용을 따라가지 않음)
+ *   ISBN → 순번 (오픈 어드레싱), 카테고리 → 순번 목록, (가격, 순번) 오름차순 순번 목록
+ * - 제목/저자 검색은 전체 레코드를 순서대로 비교 (DB 장애 중 대체 응답용이므로 별도 인덱스를 두지 않음)
+ * - 목록은 조건에 맞는 순번만 골라 정렬/페이지 처리 후 응답에 포함되는 건만 BookSummaryResponse로 변환
+ *
+ * 정렬/NULL 순서는 MySQL 기본 동작에 맞춤 (오름차순에서 NULL 먼저, 문자열 비교는 대소문자 무시 없이 코드 포인트 순서)
+ */
+public final class CatalogSnapshot {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    // 상태는 DB에 이름(문자열)으로 저장되므로 이름 순서로 비교
+    private static final int[] STATUS_RANKS = statusRanks();
+
+    private final OffHeapCatalog catalog;
+    private final int[] isbnTable;
+    private final Map<String, int[]> positionsByCategory;
+    private final int[] positionsByPrice;
+
+    public CatalogSnapshot(OffHeapCatalog catalog) {
+        this.catalog = catalog;
+        int size = catalog.size();
+
+        this.isbnTable = new int[tableCapacity(size)];
+        for (int i = 0; i < size; i++) {
+            int slot = catalog.stringHash(i, OffHeapCatalog.ISBN) & (isbnTable.length - 1);
+            while (isbnTable[slot] != 0) {
+                slot = (slot + 1) & (isbnTable.length - 1);
+            }
+            isbnTable[slot] = i + 1;
+        }
+
+        Map<String, Integer> categoryIds = new HashMap<>();
+        List<String> categories = new ArrayList<>();
+        int[] categoryOf = new int[size];
+        for (int i = 0; i < size; i++) {
+            String category = catalog.string(i, OffHeapCatalog.CATEGORY);
+            Integer id = categoryIds.get(category);
+            if (id == null) {
+                id = categories.size();
+                categoryIds.put(category, id);
+                categories.add(category);
+            }
+            categoryOf[i] = id;
+        }
+        int[] counts = new int[categories.size()];
+        for (int id : categoryOf) {
+            counts[id]++;
+        }
+        int[][] positions = new int[categories.size()][];
+        for (int id = 0; id < positions.length; id++) {
+            positions[id] = new int[counts[id]];
+            counts[id] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            positions[categoryOf[i]][counts[categoryOf[i]]++] = i;
+        }
+        this.positionsByCategory = new HashMap<>(categories.size() * 2);
+        for (int id = 0; id < positions.length; id++) {
+            positionsByCategory.put(categories.get(id), positions[id]);
+        }
+
+        // (가격, 순번)을 long 하나로 묶어 정렬 (박싱 없이)
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (long) catalog.price(i) << 32 | i;
+        }
+        Arrays.sort(keys);
+        this.positionsByPrice = new int[size];
+        for (int i = 0; i < size; i++) {
+            positionsByPrice[i] = (int) keys[i];
+        }
+    }
+
+    public Instant takenAt() {
+        return catalog.takenAt();
+    }
+
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * 전체 레코드 (bookId 오름차순, 읽기 전용, 조회할 때마다 파일에서 읽어 생성)
+     */
+    public List<CatalogRecord> records() {
+        return new AbstractList<>() {
+            @Override
+            public CatalogRecord get(int index) {
+                return catalog.record(index);
+            }
+
+            @Override
+            public int size() {
+                return catalog.size();
+            }
+        };
+    }
+
+    public Optional<CatalogRecord> findById(String bookId) {
+        if (!UuidBinary.isValid(bookId)) {
+            return Optional.empty();
+        }
+        int position = catalog.find(bookId);
+        return position >= 0 ? Optional.of(catalog.record(position)) : Optional.empty();
+    }
+
+    /**
+     * bookId가 스냅샷에 있는지
+     */
+    public boolean contains(String bookId) {
+        return UuidBinary.isValid(bookId) && catalog.find(bookId) >= 0;
+    }
+
+    public Optional<CatalogRecord> findByIsbn(String isbn) {
+        if (isbn == null) {
+            return Optional.empty();
+        }
+        byte[] value = isbn.getBytes(StandardCharsets.UTF_8);
+        for (int slot = Arrays.hashCode(value) & (isbnTable.length - 1); isbnTable[slot] != 0;
+             slot = (slot + 1) & (isbnTable.length - 1)) {
+            int position = isbnTable[slot] - 1;
+            if (catalog.stringEquals(position, OffHeapCatalog.ISBN, value)) {
+                return Optional.of(catalog.record(position));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Page<BookSummaryResponse> findAll(Pageable pageable) {
+        return page(null, catalog.size(), pageable);
+    }
+
+    public Page<BookSummaryResponse> findByTitleContaining(String keyword, Pageable pageable) {
+        return filter(i -> containsIgnoreCase(catalog.string(i, OffHeapCatalog.TITLE), keyword), pageable);
+    }
+
+    public Page<BookSummaryResponse> findByAuthorContaining(String keyword, Pageable pageable) {
+        return filter(i -> containsIgnoreCase(catalog.string(i, OffHeapCatalog.AUTHOR), keyword), pageable);
+    }
+
+    public Page<BookSummaryResponse> findByCategory(String category, Pageable pageable) {
+        int[] positions = positionsByCategory.getOrDefault(category, NO_POSITIONS);
+        return page(positions, positions.length, pageable);
+    }
+
+    /**
+     * 가격 범위 조회 ((가격, bookId) 순서, descending이면 둘 다 내림차순)
+     *
+     * @param status 상태 필터 (null이면 전체)
+     */
+    public Page<BookSummaryResponse> findByPriceBetween(int minPrice, int maxPrice, BookStatus status,
+                                                        boolean descending, Pageable pageable) {
+        int[] matched = new int[16];
+        int count = 0;
+        for (int i = firstPriceAtLeast(minPrice); i < positionsByPrice.length; i++) {
+            int position = positionsByPrice[i];
+            if (catalog.price(position) > maxPrice) {
+                break;
+            }
+            if (status == null || catalog.status(position) == status) {
+                matched = append(matched, count++, position);
+            }
+        }
+        if (descending) {
+            for (int left = 0, right = count - 1; left < right; left++, right--) {
+                int swap = matched[left];
+                matched[left] = matched[right];
+                matched[right] = swap;
+            }
+        }
+        return window(matched, count, count, pageable);
+    }
+
+    /**
+     * 최신 등록순(bookId 내림차순) 커서 조회
+     *
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param after 이 bookId보다 작은 도서만 (null이면 처음부터)
+     * @param limit 최대 건수
+     */
+    public List<BookSummaryResponse> findLatest(String category, String after, int limit) {
+        int[] positions = category != null ? positionsByCategory.getOrDefault(category, NO_POSITIONS) : null;
+        int end = positions != null ? positions.length : catalog.size();
+        if (after != null) {
+            end = lowerBound(positions, end, after);
+        }
+        List<BookSummaryResponse> books = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && books.size() < limit; i--) {
+            books.add(catalog.summary(positions != null ? positions[i] : i));
+        }
+        return books;
+    }
+
+    /**
+     * 재고 부족 도서 (판매중이면서 재고가 threshold 이하)
+     */
+    public List<CatalogRecord> findLowStock(int threshold) {
+        List<CatalogRecord> matched = new ArrayList<>();
+        for (int i = 0; i < catalog.size(); i++) {
+            if (catalog.stockQuantity(i) <= threshold && catalog.status(i) == BookStatus.AVAILABLE) {
+                matched.add(catalog.record(i));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * bookId 목록의 요약 (스냅샷에 없는 도서는 제외)
+     */
+    public Map<String, BookSummaryResponse> findSummariesById(Collection<String> bookIds) {
+        Map<String, BookSummaryResponse> summaries = new HashMap<>(bookIds.size() * 2);
+        for (String bookId : bookIds) {
+            if (UuidBinary.isValid(bookId)) {
+                int position = catalog.find(bookId);
+                if (position >= 0) {
+                    summaries.put(bookId, catalog.summary(position));
+                }
+            }
+        }
+        return summaries;
+    }
+
+    private Page<BookSummaryResponse> filter(IntPredicate predicate, Pageable pageable) {
+        int[] matched = new int[16];
+        int count = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            if (predicate.test(i)) {
+                matched = append(matched, count++, i);
+            }
+        }
+        return page(matched, count, pageable);
+    }
+
+    /**
+     * 순번 목록(bookId 오름차순, null이면 전체 레코드) 정렬 후 페이지
+     * 정렬이 있으면 페이지 끝까지만 골라서 정렬 (전체 정렬 없이 O(n log (offset + size)))
+     */
+    private Page<BookSummaryResponse> page(int[] positions, int count, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return window(positions, count, count, pageable);
+        }
+        int[] candidates = new int[count];
+        for (int i = 0; i < count; i++) {
+            candidates[i] = positions != null ? positions[i] : i;
+        }
+        int limit = pageable.isPaged() ? (int) Math.min(count, pageable.getOffset() + pageable.getPageSize()) : count;
+        int selected = selectSmallest(candidates, count, limit, comparatorOf(pageable.getSort()));
+        return window(candidates, selected, count, pageable);
+    }
+
+    /**
+     * 페이지 범위의 순번만 요약 응답으로 변환
+     *
+     * @param positions 정렬된 순번 (null이면 전체 레코드 순서)
+     * @param available positions에서 사용할 수 있는 건수
+     * @param total 전체 건수
+     */
+    private Page<BookSummaryResponse> window(int[] positions, int available, long total, Pageable pageable) {
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), available) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), available) : available;
+        List<BookSummaryResponse> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(catalog.summary(positions != null ? positions[i] : i));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * positions[0, count)에서 가장 작은 limit개를 골라 앞쪽에 정렬된 순서로 배치 (크기 limit의 최대 힙, O(n log limit))
+     * 같은 값은 순번(bookId) 순서 → 안정 정렬과 같은 결과
+     *
+     * @return 정렬된 건수 (limit)
+     */
+    static int selectSmallest(int[] positions, int count, int limit, OrdinalComparator comparator) {
+        if (limit <= 0) {
+            return 0;
+        }
+        OrdinalComparator order = (left, right) -> {
+            int compared = comparator.compare(left, right);
+            return compared != 0 ? compared : Integer.compare(left, right);
+        };
+        // positions[0, limit)을 최대 힙으로 만들고 나머지 중 더 작은 값으로 루트 교체
+        for (int i = limit / 2 - 1; i >= 0; i--) {
+            siftDown(positions, i, limit, order);
+        }
+        for (int i = limit; i < count; i++) {
+            if (order.compare(positions[i], positions[0]) < 0) {
+                positions[0] = positions[i];
+                siftDown(positions, 0, limit, order);
+            }
+        }
+        // 힙 정렬로 오름차순 배치
+        for (int end = limit - 1; end > 0; end--) {
+            int swap = positions[0];
+            positions[0] = positions[end];
+            positions[end] = swap;
+            siftDown(positions, 0, end, order);
+        }
+        return limit;
+    }
+
+    private static void siftDown(int[] heap, int index, int size, OrdinalComparator order) {
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && order.compare(heap[left], heap[largest]) > 0) {
+                largest = left;
+            }
+            if (right < size && order.compare(heap[right], heap[largest]) > 0) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            int swap = heap[index];
+            heap[index] = heap[largest];
+            heap[largest] = swap;
+            index = largest;
+        }
+    }
+
+    /**
+     * Pageable 정렬 → 순번 비교 (지원하지 않는 속성은 DB와 같이 IllegalArgumentException)
+     */
+    OrdinalComparator comparatorOf(Sort sort) {
+        OrdinalComparator comparator = null;
+        for (Sort.Order order : sort) {
+            OrdinalComparator next = comparatorOf(order.getProperty(), order.isIgnoreCase());
+            OrdinalComparator directed = order.isDescending() ? (left, right) -> next.compare(right, left) : next;
+            OrdinalComparator previous = comparator;
+            comparator = previous == null ? directed : (left, right) -> {
+                int compared = previous.compare(left, right);
+                return compared != 0 ? compared : directed.compare(left, right);
+            };
+        }
+        return comparator;
+    }
+
+    private OrdinalComparator comparatorOf(String property, boolean ignoreCase) {
+        return switch (property) {
+            case "bookId" -> catalog::compareBookId;
+            case "title" -> stringComparator(OffHeapCatalog.TITLE, ignoreCase);
+            case "author" -> stringComparator(OffHeapCatalog.AUTHOR, ignoreCase);
+            case "isbn" -> stringComparator(OffHeapCatalog.ISBN, ignoreCase);
+            case "publisher" -> stringComparator(OffHeapCatalog.PUBLISHER, ignoreCase);
+            case "category" -> stringComparator(OffHeapCatalog.CATEGORY, ignoreCase);
+            case "price" -> (left, right) -> Integer.compare(catalog.price(left), catalog.price(right));
+            case "stockQuantity" ->
+                (left, right) -> Integer.compare(catalog.stockQuantity(left), catalog.stockQuantity(right));
+            case "status" -> (left, right) -> Integer.compare(STATUS_RANKS[catalog.status(left).ordinal()],
+                STATUS_RANKS[catalog.status(right).ordinal()]);
+            // null은 Long.MIN_VALUE로 저장되어 있으므로 그대로 비교하면 NULL 먼저
+            case "publishedAt" -> timeComparator(OffHeapCatalog.PUBLISHED_AT);
+            case "createdAt" -> timeComparator(OffHeapCatalog.CREATED_AT);
+            case "updatedAt" -> timeComparator(OffHeapCatalog.UPDATED_AT);
+            default -> throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + property);
+        };
+    }
+
+    private OrdinalComparator stringComparator(int column, boolean ignoreCase) {
+        if (!ignoreCase) {
+            return (left, right) -> catalog.compareString(left, right, column);
+        }
+        Comparator<String> lowerCase = Comparator.nullsFirst(
+            Comparator.comparing((String text) -> text.toLowerCase(Locale.ROOT)));
+        return (left, right) -> lowerCase.compare(catalog.string(left, column), catalog.string(right, column));
+    }
+
+    private OrdinalComparator timeComparator(int column) {
+        return (left, right) -> Long.compare(catalog.timeMillis(left, column), catalog.timeMillis(right, column));
+    }
+
+    // (가격, bookId) 순서에서 가격이 minPrice 이상인 첫 위치
+    private int firstPriceAtLeast(int minPrice) {
+        int low = 0;
+        int high = positionsByPrice.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (catalog.price(positionsByPrice[mid]) < minPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // bookId 오름차순 순번 목록(null이면 전체 레코드)에서 bookId가 after 이상인 첫 인덱스
+    private int lowerBound(int[] positions, int length, String after) {
+        ByteBuffer key = ByteBuffer.wrap(UuidBinary.toBytes(after));
+        long high = key.getLong(0);
+        long low = key.getLong(Long.BYTES);
+        int from = 0;
+        int to = length;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (catalog.compareBookId(positions != null ? positions[mid] : mid, high, low) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static int[] append(int[] positions, int index, int position) {
+        int[] target = index < positions.length ? positions : Arrays.copyOf(positions, positions.length * 2);
+        target[index] = position;
+        return target;
+    }
+
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - keyword.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 2의 거듭제곱, 적재율 0.5 이하
+    private static int tableCapacity(int size) {
+        return Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+    }
+
+    private static int[] statusRanks() {
+        BookStatus[] byName = BookStatus.values();
+        Arrays.sort(byName, Comparator.comparing(BookStatus::name));
+        int[] ranks = new int[byName.length];
+        for (int rank = 0; rank < byName.length; rank++) {
+            ranks[byName[rank].ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * 순번 비교 (박싱 없이 정렬)
+     */
+    @FunctionalInterface
+    interface OrdinalComparator {
+
+        int compare(int left, int right);
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.config.datasource.DataSourceHealthMonitor;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import java.nio.file.Path;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DB 장애 시 읽기 전용 모드 구성 (bookstore.snapshot.enabled=true)
+ *
+ * DB 상태 감시 + 카탈로그 스냅샷 + BookService 대체 인터셉터
+ */
+@Configuration
+@ConditionalOnProperty(name = "bookstore.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + 의존 빈은 지연 조회
+    @Bean
+    static SnapshotFallbackPostProcessor snapshotFallbackPostProcessor(
+        ObjectProvider<CatalogSnapshotStore> snapshotStore,
+        ObjectProvider<DataSourceHealthMonitor> healthMonitor,
+        ObjectProvider<SimilarBookIndex> similarBookIndex) {
+        return new SnapshotFallbackPostProcessor(snapshotStore, healthMonitor, similarBookIndex);
+    }
+
+    @Bean
+    DataSourceHealthMonitor dataSourceHealthMonitor(
+        DataSource dataSource,
+        @Value("${bookstore.snapshot.probe-interval-ms:2000}") long probeIntervalMillis,
+        @Value("${bookstore.snapshot.probe-timeout-ms:2000}") long probeTimeoutMillis) {
+        return new DataSourceHealthMonitor(dataSource, probeIntervalMillis, probeTimeoutMillis);
+    }
+
+    @Bean
+    CatalogSnapshotStore catalogSnapshotStore(
+        BookRepository bookRepository,
+        DataSourceHealthMonitor dataSourceHealthMonitor,
+        @Value("${bookstore.snapshot.dir:./data/catalog-snapshot}") String directory,
+        @Value("${bookstore.snapshot.refresh-interval-ms:300000}") long refreshIntervalMillis) {
+        return new CatalogSnapshotStore(bookRepository, dataSourceHealthMonitor, Path.of(directory),
+            refreshIntervalMillis);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.bookmanager.domain.book.snapshot;
+
+import java.nio.file.Path;
+
+/**
+ * 카탈로그 스냅샷 파일이 손상되었거나 지원하지 않는 포맷인 경우
+ * 손상된 스냅샷은 사용하지 않고 DB에서 다시 생성
+ */
+public class CatalogSnapshotCorruptedException extends RuntimeException {
+
+    public CatalogSnapshotCorruptedException(Path path, String message) {
+        super("카탈로그 스냅샷 손상 (" + path.getFileName() + "): " + message);
+    }
+
+}
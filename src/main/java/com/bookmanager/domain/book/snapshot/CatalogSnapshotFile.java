@@ -0,0 +1,321 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.util.UuidBinary;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 카탈로그 스냅샷 파일 포맷 (버전 관리)
+ *
+ * 파일을 메모리 매핑한 그대로 조회에 사용 (OffHeapCatalog) → 레코드를 힙 객체로 역직렬화하지 않음
+ *
+ * <pre>
+ * Header (48 byte, big-endian)
+ *   int   magic                "BKCT"
+ *   short formatVersion        현재 2 (1은 가변 길이 레코드, 지원하지 않음 → DB에서 다시 생성)
+ *   short flags                예약 (0)
+ *   int   recordCount
+ *   int   stringArenaBytes
+ *   long  takenAt              스냅샷 기준 시각 (epoch millis, 이 시각 이후의 DB 변경은 반영되지 않았을 수 있음)
+ *   long  maxUpdatedAt         포함된 가장 최근 수정 시간 (epoch millis)
+ *   long  descriptionArenaBytes
+ *   long  reserved (0)
+ * Record * recordCount (80 byte 고정 길이, bookId 오름차순 → 순번(ordinal)으로 바로 접근, bookId는 이진 탐색)
+ *   0   byte[16] bookId        UUID 바이너리
+ *   16  int      price
+ *   20  int      stockQuantity
+ *   24  int      title, author, isbn, publisher, category   (문자열 영역 내 위치, -1 = null)
+ *   44  byte     status ordinal (+ 3 byte 패딩)
+ *   48  long     publishedAt, createdAt, updatedAt          (epoch millis, Long.MIN_VALUE = null)
+ *   72  long     description                                (설명 영역 내 위치, -1 = null)
+ * String arena                 unsigned short 길이 + UTF-8 (레코드 순서대로)
+ * Description arena            int 길이 + CompressedText 바이트 (상세 조회에서만 읽음)
+ * Footer
+ *   long  CRC32 (footer 앞까지 전체)
+ * </pre>
+ *
+ * Header + Record + String arena(요약 조회 영역)는 한 번에 매핑하므로 2GB 이하여야 하고,
+ * 설명 영역은 크기 제한 없이 나눠서 매핑
+ *
+ * 쓰기는 Writer로 레코드를 하나씩 추가 (영역별 임시 파일에 기록 후 합쳐서 임시 파일 + fsync + 원자적 rename)
+ */
+public final class CatalogSnapshotFile {
+
+    static final int MAGIC = 0x424B4354;
+    static final short FORMAT_VERSION = 2;
+    static final int HEADER_BYTES = 48;
+    static final int RECORD_BYTES = 80;
+
+    static final int NULL_REF = -1;
+    static final long NULL_TIME = Long.MIN_VALUE;
+    static final int MAX_STRING_BYTES = 0xFFFF;
+
+    // 설명 영역 매핑 단위
+    static final int DESCRIPTION_CHUNK_BYTES = 1 << 30;
+
+    private CatalogSnapshotFile() {
+    }
+
+    /**
+     * 스냅샷 파일 쓰기 시작 (add로 bookId 오름차순 추가 후 commit, commit 전에 close하면 기존 파일 유지)
+     */
+    public static Writer writer(Path target) throws IOException {
+        return new Writer(target);
+    }
+
+    /**
+     * 레코드 전체로 스냅샷 파일 쓰기
+     *
+     * @param records bookId 오름차순으로 정렬된 레코드
+     */
+    public static void write(Path target, Instant takenAt, Iterable<CatalogRecord> records) throws IOException {
+        try (Writer writer = writer(target)) {
+            for (CatalogRecord record : records) {
+                writer.add(record);
+            }
+            writer.commit(takenAt);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 체크섬 확인 후 메모리 매핑
+     *
+     * @throws CatalogSnapshotCorruptedException 포맷/버전/크기/체크섬 불일치
+     */
+    public static OffHeapCatalog open(Path path) throws IOException {
+        return open(path, DESCRIPTION_CHUNK_BYTES);
+    }
+
+    static OffHeapCatalog open(Path path, int descriptionChunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Long.BYTES) {
+                throw new CatalogSnapshotCorruptedException(path, "파일 크기 오류: " + size);
+            }
+            verifyChecksum(path, channel, size - Long.BYTES);
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new CatalogSnapshotCorruptedException(path, "카탈로그 스냅샷 파일이 아닙니다.");
+            }
+            short version = header.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new CatalogSnapshotCorruptedException(path, "지원하지 않는 포맷 버전: " + version);
+            }
+            header.getShort();
+            int recordCount = header.getInt();
+            int stringArenaBytes = header.getInt();
+            Instant takenAt = Instant.ofEpochMilli(header.getLong());
+            long maxUpdatedAt = header.getLong();
+            long descriptionArenaBytes = header.getLong();
+
+            long summaryBytes = HEADER_BYTES + (long) recordCount * RECORD_BYTES + stringArenaBytes;
+            if (recordCount < 0 || stringArenaBytes < 0 || descriptionArenaBytes < 0
+                || summaryBytes > Integer.MAX_VALUE || summaryBytes + descriptionArenaBytes + Long.BYTES != size) {
+                throw new CatalogSnapshotCorruptedException(path, "영역 크기 불일치");
+            }
+
+            MappedByteBuffer summary = channel.map(FileChannel.MapMode.READ_ONLY, 0, summaryBytes);
+            int chunkCount = (int) ((descriptionArenaBytes + descriptionChunkBytes - 1) / descriptionChunkBytes);
+            ByteBuffer[] descriptionChunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long from = (long) i * descriptionChunkBytes;
+                long length = Math.min(descriptionChunkBytes, descriptionArenaBytes - from);
+                descriptionChunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, summaryBytes + from, length);
+            }
+            // 매핑은 채널을 닫아도 유지됨 (GC 시 해제)
+            return new OffHeapCatalog(summary, descriptionChunks, descriptionChunkBytes, recordCount, takenAt,
+                maxUpdatedAt);
+        }
+    }
+
+    private static void verifyChecksum(Path path, FileChannel channel, long bodyLength) throws IOException {
+        CRC32 crc = new CRC32();
+        for (long position = 0; position < bodyLength; position += DESCRIPTION_CHUNK_BYTES) {
+            long length = Math.min(DESCRIPTION_CHUNK_BYTES, bodyLength - position);
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+        }
+        ByteBuffer footer = ByteBuffer.allocate(Long.BYTES);
+        channel.read(footer, bodyLength);
+        if (crc.getValue() != footer.getLong(0)) {
+            throw new CatalogSnapshotCorruptedException(path, "체크섬 불일치");
+        }
+    }
+
+    /**
+     * 스냅샷 파일 작성기 (레코드/문자열/설명 영역을 각각 임시 파일에 순차 기록 → 레코드 수와 관계없이 힙 사용량 일정)
+     */
+    public static final class Writer implements Closeable {
+
+        private static final byte[] PADDING = new byte[3];
+
+        private final Path target;
+        private final Path recordsTemp;
+        private final Path stringsTemp;
+        private final Path descriptionsTemp;
+        private final DataOutputStream records;
+        private final DataOutputStream strings;
+        private final DataOutputStream descriptions;
+
+        private int recordCount;
+        private long stringArenaBytes;
+        private long descriptionArenaBytes;
+        private long maxUpdatedAt;
+        private byte[] lastBookId;
+
+        private Writer(Path target) throws IOException {
+            this.target = target;
+            this.recordsTemp = sibling(target, ".records.tmp");
+            this.stringsTemp = sibling(target, ".strings.tmp");
+            this.descriptionsTemp = sibling(target, ".descriptions.tmp");
+            this.records = open(recordsTemp);
+            this.strings = open(stringsTemp);
+            this.descriptions = open(descriptionsTemp);
+        }
+
+        /**
+         * @throws IllegalArgumentException bookId가 이전 레코드보다 크지 않은 경우
+         */
+        public void add(CatalogRecord record) throws IOException {
+            byte[] bookId = UuidBinary.toBytes(record.bookId());
+            if (lastBookId != null && Arrays.compareUnsigned(lastBookId, bookId) >= 0) {
+                throw new IllegalArgumentException("스냅샷 레코드는 bookId 오름차순이어야 합니다: " + record.bookId());
+            }
+            lastBookId = bookId;
+
+            records.write(bookId);
+            records.writeInt(record.price());
+            records.writeInt(record.stockQuantity());
+            records.writeInt(string(record.title()));
+            records.writeInt(string(record.author()));
+            records.writeInt(string(record.isbn()));
+            records.writeInt(string(record.publisher()));
+            records.writeInt(string(record.category()));
+            records.writeByte(record.status().ordinal());
+            records.write(PADDING);
+            records.writeLong(timeOf(record.publishedAt()));
+            records.writeLong(timeOf(record.createdAt()));
+            records.writeLong(timeOf(record.updatedAt()));
+            records.writeLong(description(record.description()));
+
+            recordCount++;
+            if (record.updatedAt() != null) {
+                maxUpdatedAt = Math.max(maxUpdatedAt, record.updatedAt().toEpochMilli());
+            }
+        }
+
+        /**
+         * 영역을 합쳐 대상 파일로 교체
+         *
+         * @param takenAt 스냅샷 기준 시각
+         */
+        public void commit(Instant takenAt) throws IOException {
+            records.close();
+            strings.close();
+            descriptions.close();
+            if (HEADER_BYTES + (long) recordCount * RECORD_BYTES + stringArenaBytes > Integer.MAX_VALUE) {
+                throw new IllegalStateException("스냅샷 요약 영역이 2GB를 넘습니다. - Records: " + recordCount);
+            }
+
+            Path temp = sibling(target, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+                CRC32 crc = new CRC32();
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeShort(0);
+                out.writeInt(recordCount);
+                out.writeInt((int) stringArenaBytes);
+                out.writeLong(takenAt.toEpochMilli());
+                out.writeLong(maxUpdatedAt);
+                out.writeLong(descriptionArenaBytes);
+                out.writeLong(0);
+                Files.copy(recordsTemp, out);
+                Files.copy(stringsTemp, out);
+                Files.copy(descriptionsTemp, out);
+                out.flush();
+
+                new DataOutputStream(buffered).writeLong(crc.getValue());
+                buffered.flush();
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        /**
+         * 영역 임시 파일 정리 (commit하지 않았으면 기존 파일은 그대로)
+         */
+        @Override
+        public void close() throws IOException {
+            records.close();
+            strings.close();
+            descriptions.close();
+            Files.deleteIfExists(recordsTemp);
+            Files.deleteIfExists(stringsTemp);
+            Files.deleteIfExists(descriptionsTemp);
+            Files.deleteIfExists(sibling(target, ".tmp"));
+        }
+
+        private int string(String value) throws IOException {
+            if (value == null) {
+                return NULL_REF;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length >= MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("스냅샷에 저장할 수 없는 길이의 문자열입니다: " + bytes.length);
+            }
+            if (stringArenaBytes + Short.BYTES + bytes.length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("스냅샷 문자열 영역이 2GB를 넘습니다. - Records: " + recordCount);
+            }
+            int offset = (int) stringArenaBytes;
+            strings.writeShort(bytes.length);
+            strings.write(bytes);
+            stringArenaBytes += Short.BYTES + bytes.length;
+            return offset;
+        }
+
+        private long description(byte[] value) throws IOException {
+            if (value == null) {
+                return NULL_REF;
+            }
+            long offset = descriptionArenaBytes;
+            descriptions.writeInt(value.length);
+            descriptions.write(value);
+            descriptionArenaBytes += Integer.BYTES + value.length;
+            return offset;
+        }
+
+        private static DataOutputStream open(Path path) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        }
+
+        private static Path sibling(Path target, String suffix) {
+            return target.resolveSibling(target.getFileName() + suffix);
+        }
+
+        private static long timeOf(Instant instant) {
+            return instant == null ? NULL_TIME : instant.toEpochMilli();
+        }
+
+    }
+
+}
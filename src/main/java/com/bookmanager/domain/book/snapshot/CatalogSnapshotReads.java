@@ -0,0 +1,146 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.CountMode;
+import com.bookmanager.common.exception.BookNotFoundException;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.common.response.SliceResponse;
+import com.bookmanager.domain.book.cache.SearchCacheKey;
+import com.bookmanager.domain.book.dto.response.BookResponse;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.dto.response.SimilarBookResponse;
+import com.bookmanager.domain.book.similar.LshIndex;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 카탈로그 스냅샷으로 처리하는 BookService 조회 (메서드 이름/파라미터가 BookService와 같아야 대체됨)
+ *
+ * 응답 형식은 BookService와 같고, 전체 건수는 스냅샷 기준으로 정확한 값
+ * BookService와 같은 입력 검증 (잘못된 요청은 DB 상태와 무관하게 같은 오류)
+ */
+class CatalogSnapshotReads {
+
+    private final CatalogSnapshot snapshot;
+    private final SimilarBookIndex similarBookIndex;
+
+    CatalogSnapshotReads(CatalogSnapshot snapshot, SimilarBookIndex similarBookIndex) {
+        this.snapshot = snapshot;
+        this.similarBookIndex = similarBookIndex;
+    }
+
+    public BookResponse getBookById(String bookId) {
+        return snapshot.findById(bookId)
+            .map(CatalogRecord::toResponse)
+            .orElseThrow(() -> BookNotFoundException.withBookId(bookId));
+    }
+
+    public BookResponse getBookByIsbn(String isbn) {
+        return snapshot.findByIsbn(isbn)
+            .map(CatalogRecord::toResponse)
+            .orElseThrow(() -> BookNotFoundException.withIsbn(isbn));
+    }
+
+    public Page<BookSummaryResponse> getAllBooks(Pageable pageable) {
+        return snapshot.findAll(pageable);
+    }
+
+    public SliceResponse<BookSummaryResponse> getAllBooksSlice(Pageable pageable, CountMode countMode) {
+        return toSliceResponse(snapshot.findAll(pageable), countMode);
+    }
+
+    public CursorPage<BookSummaryResponse> getAllBooksByCursor(String after, int size) {
+        List<BookSummaryResponse> books = snapshot.findLatest(null, blankToNull(after), CursorPage.fetchSize(size));
+        return CursorPage.of(books, size, BookSummaryResponse::getBookId, Function.identity());
+    }
+
+    public Page<BookSummaryResponse> searchBooksByTitle(String title, Pageable pageable) {
+        return snapshot.findByTitleContaining(SearchCacheKey.normalize(title), pageable);
+    }
+
+    public Page<BookSummaryResponse> searchBooksByAuthor(String author, Pageable pageable) {
+        return snapshot.findByAuthorContaining(SearchCacheKey.normalize(author), pageable);
+    }
+
+    public Page<BookSummaryResponse> getBooksByCategory(String category, Pageable pageable) {
+        return snapshot.findByCategory(category, pageable);
+    }
+
+    public SliceResponse<BookSummaryResponse> searchBooksByTitleSlice(String title, Pageable pageable,
+                                                                    CountMode countMode) {
+        return toSliceResponse(snapshot.findByTitleContaining(title, pageable), countMode);
+    }
+
+    public SliceResponse<BookSummaryResponse> searchBooksByAuthorSlice(String author, Pageable pageable,
+                                                                     CountMode countMode) {
+        return toSliceResponse(snapshot.findByAuthorContaining(author, pageable), countMode);
+    }
+
+    public SliceResponse<BookSummaryResponse> getBooksByCategorySlice(String category, Pageable pageable,
+                                                                    CountMode countMode) {
+        return toSliceResponse(snapshot.findByCategory(category, pageable), countMode);
+    }
+
+    public CursorPage<BookSummaryResponse> getBooksByCategoryByCursor(String category, String after, int size) {
+        List<BookSummaryResponse> books =
+            snapshot.findLatest(category, blankToNull(after), CursorPage.fetchSize(size));
+        return CursorPage.of(books, size, BookSummaryResponse::getBookId, Function.identity());
+    }
+
+    public Page<BookSummaryResponse> searchBooksByPriceRange(Integer minPrice, Integer maxPrice,
+                                                             BookStatus status, Pageable pageable) {
+        int min = minPrice != null ? minPrice : 0;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        if (min > max) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        Sort.Order priceOrder = pageable.getSort().getOrderFor("price");
+        boolean descending = priceOrder != null && priceOrder.isDescending();
+        return snapshot.findByPriceBetween(min, max, status, descending, pageable);
+    }
+
+    public List<SimilarBookResponse> getSimilarBooks(String bookId, int limit) {
+        if (limit <= 0 || limit > 50) {
+            throw new IllegalArgumentException("조회 건수는 1~50 사이여야 합니다.");
+        }
+        if (!similarBookIndex.contains(bookId)) {
+            if (snapshot.findById(bookId).isEmpty()) {
+                throw BookNotFoundException.withBookId(bookId);
+            }
+            return List.of();
+        }
+
+        List<LshIndex.Match> matches = similarBookIndex.findSimilar(bookId, limit);
+        Map<String, BookSummaryResponse> summariesById =
+            snapshot.findSummariesById(matches.stream().map(LshIndex.Match::bookId).toList());
+        return matches.stream()
+            .filter(match -> summariesById.containsKey(match.bookId()))
+            .map(match -> SimilarBookResponse.of(summariesById.get(match.bookId()), match.similarity()))
+            .toList();
+    }
+
+    public List<BookResponse> getLowStockBooks(int threshold) {
+        return snapshot.findLowStock(threshold).stream()
+            .map(CatalogRecord::toResponse)
+            .toList();
+    }
+
+    /**
+     * 스냅샷에서는 전체 건수를 항상 정확히 알 수 있으므로 APPROX 모드면 스냅샷 시각 기준의 정확한 건수 포함
+     */
+    private SliceResponse<BookSummaryResponse> toSliceResponse(Page<BookSummaryResponse> page, CountMode countMode) {
+        return countMode == CountMode.APPROX
+            ? SliceResponse.from(page, page.getTotalElements(), true, snapshot.takenAt())
+            : SliceResponse.from(page);
+    }
+
+    private static String blankToNull(String after) {
+        return after == null || after.isBlank() ? null : after;
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.config.datasource.DataSourceHealthMonitor;
+import com.bookmanager.domain.book.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 데이터베이스 장애 시 읽기 대체용 카탈로그 스냅샷 (메모리 매핑한 로컬 파일 + 순번 인덱스)
+ *
+ * 기동 시 (백그라운드 스레드)
+ * 1. 로컬 파일이 있으면 먼저 읽어 사용 (DB가 내려간 상태로 기동해도 읽기 가능)
+ * 2. 이어서 DB에서 갱신 (파일이 없거나 손상되었으면 전체 조회)
+ *
+ * 운영 중 refresh-interval마다
+ * - 이전 스냅샷 기준 시각 이후 변경분(updatedAt)만 조회해 이전 스냅샷과 병합, 도서 수가 다르면 삭제된 bookId 정리
+ * - 새 파일을 기록한 뒤 매핑해 교체 (조회 중인 요청은 이전 스냅샷을 그대로 사용, 이전 매핑은 GC 시 해제)
+ * - DB 장애 중에는 갱신하지 않고 마지막 스냅샷 유지
+ *
+ * 등록과 삭제가 같은 수만큼 일어나면 삭제는 다음 전체 조회(재기동, 파일 손상) 전까지 남을 수 있음 (검색 세그먼트와 같음)
+ */
+@Slf4j
+public class CatalogSnapshotStore {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String FILE_NAME = "catalog.snapshot";
+
+    // 기준 시각 직전에 시작해 나중에 커밋된 변경도 다음 갱신에서 읽도록 겹쳐서 조회 (같은 도서를 다시 읽어도 결과 동일)
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(1);
+
+    private final BookRepository bookRepository;
+    private final DataSourceHealthMonitor healthMonitor;
+    private final Path directory;
+    private final long refreshIntervalMillis;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CatalogSnapshot current;
+
+    public CatalogSnapshotStore(BookRepository bookRepository, DataSourceHealthMonitor healthMonitor,
+                                Path directory, long refreshIntervalMillis) {
+        this.bookRepository = bookRepository;
+        this.healthMonitor = healthMonitor;
+        this.directory = directory;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        healthMonitor.start();
+        executor.submit(this::loadFile);
+        executor.scheduleWithFixedDelay(this::refreshSafely, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 만들어지지 않았으면 null)
+     */
+    public CatalogSnapshot current() {
+        return current;
+    }
+
+    /**
+     * 로컬 파일에서 스냅샷 로드 (메모리 매핑이므로 레코드 수와 관계없이 인덱스 생성 시간만 걸림)
+     */
+    void loadFile() {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            CatalogSnapshot snapshot = new CatalogSnapshot(CatalogSnapshotFile.open(file));
+            current = snapshot;
+            log.info("카탈로그 스냅샷 로드 - Books: {}, TakenAt: {}, Elapsed: {}ms",
+                snapshot.size(), snapshot.takenAt(), (System.nanoTime() - start) / 1_000_000);
+        } catch (CatalogSnapshotCorruptedException e) {
+            log.warn(e.getMessage());
+        } catch (IOException e) {
+            log.warn("카탈로그 스냅샷 파일을 읽지 못했습니다. - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 스냅샷 갱신 후 파일에 기록 (레코드는 파일로 바로 내보내고 힙에는 변경분만 보관)
+     */
+    void refresh() throws IOException {
+        if (healthMonitor.isDown()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Instant takenAt = Instant.now();
+        CatalogSnapshot previous = current;
+        Files.createDirectories(directory);
+        Path file = directory.resolve(FILE_NAME);
+        try (CatalogSnapshotFile.Writer writer = CatalogSnapshotFile.writer(file)) {
+            if (previous == null) {
+                loadAll(writer);
+            } else {
+                catchUp(previous, writer);
+            }
+            writer.commit(takenAt);
+        }
+
+        CatalogSnapshot snapshot = new CatalogSnapshot(CatalogSnapshotFile.open(file));
+        current = snapshot;
+        log.info("카탈로그 스냅샷 갱신 - Books: {}, Elapsed: {}ms",
+            snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            if (DataSourceHealthMonitor.isConnectivityFailure(e)) {
+                healthMonitor.markDown(e);
+            }
+            log.warn("카탈로그 스냅샷 갱신 실패 (다음 주기에 재시도) - Error: {}", e.getMessage());
+        }
+    }
+
+    private void loadAll(CatalogSnapshotFile.Writer writer) throws IOException {
+        String lastBookId = UuidBinary.MIN;
+        while (true) {
+            List<Object[]> rows = bookRepository.findSnapshotBatch(lastBookId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : rows) {
+                writer.add(CatalogRecord.fromRow(row));
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastBookId = (String) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /**
+     * 이전 스냅샷(bookId 순서)과 기준 시각 이후 변경분을 병합해 기록
+     */
+    private void catchUp(CatalogSnapshot previous, CatalogSnapshotFile.Writer writer) throws IOException {
+        TreeMap<String, CatalogRecord> changes = new TreeMap<>();
+        Instant since = previous.takenAt().minus(CHANGE_OVERLAP);
+        for (int page = 0; ; page++) {
+            List<Object[]> rows = bookRepository.findSnapshotChanges(since, PageRequest.of(page, BATCH_SIZE));
+            for (Object[] row : rows) {
+                CatalogRecord record = CatalogRecord.fromRow(row);
+                changes.put(record.bookId(), record);
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 삭제된 도서는 updatedAt으로 찾을 수 없으므로 도서 수가 다르면 DB의 bookId 목록과 대조
+        long added = changes.keySet().stream().filter(bookId -> !previous.contains(bookId)).count();
+        BookIdCursor existing = bookRepository.count() != previous.size() + added ? new BookIdCursor() : null;
+
+        Iterator<CatalogRecord> records = previous.records().iterator();
+        Iterator<CatalogRecord> changed = changes.values().iterator();
+        CatalogRecord record = next(records);
+        CatalogRecord change = next(changed);
+        while (record != null || change != null) {
+            CatalogRecord merged;
+            int compared = record == null ? 1 : change == null ? -1 : record.bookId().compareTo(change.bookId());
+            if (compared < 0) {
+                merged = record;
+                record = next(records);
+            } else {
+                merged = change;
+                if (compared == 0) {
+                    record = next(records);
+                }
+                change = next(changed);
+            }
+            if (existing == null || existing.contains(merged.bookId())) {
+                writer.add(merged);
+            }
+        }
+    }
+
+    private static CatalogRecord next(Iterator<CatalogRecord> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * DB의 bookId를 오름차순으로 나눠 읽으며 포함 여부 확인 (contains는 bookId 오름차순으로 호출)
+     */
+    private class BookIdCursor {
+
+        private List<String> batch = List.of();
+        private int index;
+        private boolean exhausted;
+
+        boolean contains(String bookId) {
+            while (true) {
+                if (index == batch.size()) {
+                    if (exhausted) {
+                        return false;
+                    }
+                    String after = batch.isEmpty() ? UuidBinary.MIN : batch.get(batch.size() - 1);
+                    batch = bookRepository.findBookIdBatch(after, PageRequest.of(0, BATCH_SIZE));
+                    index = 0;
+                    exhausted = batch.size() < BATCH_SIZE;
+                    continue;
+                }
+                int compared = batch.get(index).compareTo(bookId);
+                if (compared >= 0) {
+                    return compared == 0;
+                }
+                index++;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,262 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 메모리 매핑된 카탈로그 스냅샷 파일에 순번(ordinal)으로 접근 (힙에는 버퍼 객체만 있고 레코드 데이터는 힙 밖)
+ *
+ * - 순번 = bookId 오름차순 위치, 숫자/시간 컬럼은 고정 위치에서 바로 읽음
+ * - 문자열은 필요한 컬럼만 디코딩 (정렬/ISBN 비교는 UTF-8 바이트 그대로)
+ * - 모든 읽기는 절대 위치 접근이므로 여러 스레드에서 동시에 사용 가능
+ *
+ * 포맷은 CatalogSnapshotFile 참고
+ */
+public final class OffHeapCatalog {
+
+    // 레코드 내 컬럼 위치 (문자열/시간 컬럼 값은 string(), timeMillis()의 column 인자로 사용)
+    static final int PRICE = 16;
+    static final int STOCK_QUANTITY = 20;
+    static final int TITLE = 24;
+    static final int AUTHOR = 28;
+    static final int ISBN = 32;
+    static final int PUBLISHER = 36;
+    static final int CATEGORY = 40;
+    static final int STATUS = 44;
+    static final int PUBLISHED_AT = 48;
+    static final int CREATED_AT = 56;
+    static final int UPDATED_AT = 64;
+    static final int DESCRIPTION = 72;
+
+    private static final int NULL_REF = CatalogSnapshotFile.NULL_REF;
+    private static final long NULL_TIME = CatalogSnapshotFile.NULL_TIME;
+
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    private final ByteBuffer summary;
+    private final ByteBuffer[] descriptionChunks;
+    private final int descriptionChunkBytes;
+    private final int size;
+    private final int stringBase;
+    private final Instant takenAt;
+    private final long maxUpdatedAt;
+
+    OffHeapCatalog(ByteBuffer summary, ByteBuffer[] descriptionChunks, int descriptionChunkBytes, int size,
+                   Instant takenAt, long maxUpdatedAt) {
+        this.summary = summary;
+        this.descriptionChunks = descriptionChunks;
+        this.descriptionChunkBytes = descriptionChunkBytes;
+        this.size = size;
+        this.stringBase = CatalogSnapshotFile.HEADER_BYTES + size * CatalogSnapshotFile.RECORD_BYTES;
+        this.takenAt = takenAt;
+        this.maxUpdatedAt = maxUpdatedAt;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant takenAt() {
+        return takenAt;
+    }
+
+    /**
+     * 포함된 가장 최근 수정 시간 (epoch millis)
+     */
+    public long maxUpdatedAt() {
+        return maxUpdatedAt;
+    }
+
+    /**
+     * bookId의 순번 (없으면 -(삽입 위치) - 1, Arrays.binarySearch와 같은 규칙)
+     *
+     * @throws IllegalArgumentException UUID 형식이 아닌 경우
+     */
+    public int find(String bookId) {
+        ByteBuffer key = ByteBuffer.wrap(UuidBinary.toBytes(bookId));
+        long high = key.getLong(0);
+        long low = key.getLong(Long.BYTES);
+        int from = 0;
+        int to = size - 1;
+        while (from <= to) {
+            int mid = (from + to) >>> 1;
+            int compared = compareBookId(mid, high, low);
+            if (compared < 0) {
+                from = mid + 1;
+            } else if (compared > 0) {
+                to = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(from + 1);
+    }
+
+    public String bookId(int ordinal) {
+        byte[] bytes = new byte[UuidBinary.BYTES];
+        summary.get(recordAt(ordinal), bytes);
+        return UuidBinary.toString(bytes);
+    }
+
+    public int price(int ordinal) {
+        return summary.getInt(recordAt(ordinal) + PRICE);
+    }
+
+    public int stockQuantity(int ordinal) {
+        return summary.getInt(recordAt(ordinal) + STOCK_QUANTITY);
+    }
+
+    public BookStatus status(int ordinal) {
+        return STATUSES[summary.get(recordAt(ordinal) + STATUS)];
+    }
+
+    /**
+     * 문자열 컬럼 (TITLE, AUTHOR, ISBN, PUBLISHER, CATEGORY)
+     */
+    public String string(int ordinal, int column) {
+        int offset = stringOffset(ordinal, column);
+        if (offset == NULL_REF) {
+            return null;
+        }
+        byte[] bytes = new byte[Short.toUnsignedInt(summary.getShort(offset))];
+        summary.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 시간 컬럼 epoch millis (PUBLISHED_AT, CREATED_AT, UPDATED_AT), null이면 Long.MIN_VALUE
+     */
+    public long timeMillis(int ordinal, int column) {
+        return summary.getLong(recordAt(ordinal) + column);
+    }
+
+    /**
+     * CompressedText 형식 설명 (없으면 null)
+     */
+    public byte[] description(int ordinal) {
+        long offset = summary.getLong(recordAt(ordinal) + DESCRIPTION);
+        if (offset == NULL_REF) {
+            return null;
+        }
+        byte[] length = new byte[Integer.BYTES];
+        readDescription(offset, length);
+        byte[] bytes = new byte[ByteBuffer.wrap(length).getInt()];
+        readDescription(offset + Integer.BYTES, bytes);
+        return bytes;
+    }
+
+    /**
+     * 순번의 bookId와 (high, low) UUID 비교 (부호 없는 바이트 순서 = 소문자 문자열 순서)
+     */
+    public int compareBookId(int ordinal, long high, long low) {
+        int record = recordAt(ordinal);
+        int compared = Long.compareUnsigned(summary.getLong(record), high);
+        return compared != 0 ? compared : Long.compareUnsigned(summary.getLong(record + Long.BYTES), low);
+    }
+
+    public int compareBookId(int left, int right) {
+        int record = recordAt(right);
+        return compareBookId(left, summary.getLong(record), summary.getLong(record + Long.BYTES));
+    }
+
+    /**
+     * 두 순번의 문자열 컬럼을 UTF-8 바이트 순서(코드 포인트 순서)로 비교 (null이 먼저)
+     */
+    public int compareString(int left, int right, int column) {
+        int leftOffset = stringOffset(left, column);
+        int rightOffset = stringOffset(right, column);
+        if (leftOffset == NULL_REF || rightOffset == NULL_REF) {
+            return Boolean.compare(leftOffset != NULL_REF, rightOffset != NULL_REF);
+        }
+        int leftLength = Short.toUnsignedInt(summary.getShort(leftOffset));
+        int rightLength = Short.toUnsignedInt(summary.getShort(rightOffset));
+        int length = Math.min(leftLength, rightLength);
+        for (int i = 0; i < length; i++) {
+            int compared = Byte.compareUnsigned(summary.get(leftOffset + Short.BYTES + i),
+                summary.get(rightOffset + Short.BYTES + i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(leftLength, rightLength);
+    }
+
+    /**
+     * 문자열 컬럼의 UTF-8 바이트 해시 (null이면 0, Arrays.hashCode(byte[])와 같은 값)
+     */
+    public int stringHash(int ordinal, int column) {
+        int offset = stringOffset(ordinal, column);
+        if (offset == NULL_REF) {
+            return 0;
+        }
+        int length = Short.toUnsignedInt(summary.getShort(offset));
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + summary.get(offset + Short.BYTES + i);
+        }
+        return hash;
+    }
+
+    public boolean stringEquals(int ordinal, int column, byte[] value) {
+        int offset = stringOffset(ordinal, column);
+        if (offset == NULL_REF || Short.toUnsignedInt(summary.getShort(offset)) != value.length) {
+            return false;
+        }
+        for (int i = 0; i < value.length; i++) {
+            if (summary.get(offset + Short.BYTES + i) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 목록 응답용 요약 (요약 컬럼만 읽음)
+     */
+    public BookSummaryResponse summary(int ordinal) {
+        return new BookSummaryResponse(bookId(ordinal), string(ordinal, TITLE), string(ordinal, AUTHOR),
+            price(ordinal), stockQuantity(ordinal), string(ordinal, CATEGORY), status(ordinal));
+    }
+
+    /**
+     * 상세 조회/스냅샷 갱신용 전체 컬럼
+     */
+    public CatalogRecord record(int ordinal) {
+        return new CatalogRecord(bookId(ordinal), string(ordinal, TITLE), string(ordinal, AUTHOR),
+            string(ordinal, ISBN), string(ordinal, PUBLISHER), price(ordinal), stockQuantity(ordinal),
+            description(ordinal), string(ordinal, CATEGORY), status(ordinal),
+            instantOf(timeMillis(ordinal, PUBLISHED_AT)), instantOf(timeMillis(ordinal, CREATED_AT)),
+            instantOf(timeMillis(ordinal, UPDATED_AT)));
+    }
+
+    private int recordAt(int ordinal) {
+        return CatalogSnapshotFile.HEADER_BYTES + ordinal * CatalogSnapshotFile.RECORD_BYTES;
+    }
+
+    private int stringOffset(int ordinal, int column) {
+        int offset = summary.getInt(recordAt(ordinal) + column);
+        return offset == NULL_REF ? NULL_REF : stringBase + offset;
+    }
+
+    // 설명 영역은 나눠서 매핑되어 있으므로 경계를 넘으면 이어서 읽음
+    private void readDescription(long offset, byte[] target) {
+        int copied = 0;
+        while (copied < target.length) {
+            long position = offset + copied;
+            ByteBuffer chunk = descriptionChunks[(int) (position / descriptionChunkBytes)];
+            int index = (int) (position % descriptionChunkBytes);
+            int length = Math.min(target.length - copied, chunk.capacity() - index);
+            chunk.get(index, target, copied, length);
+            copied += length;
+        }
+    }
+
+    private static Instant instantOf(long millis) {
+        return millis == NULL_TIME ? null : Instant.ofEpochMilli(millis);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.exception.ReadOnlyModeException;
+import com.bookmanager.config.datasource.DataSourceHealthMonitor;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * BookService 호출을 DB 상태에 따라 스냅샷으로 대체하는 인터셉터
+ * (트랜잭션 인터셉터보다 앞에서 실행 → 장애 중에는 트랜잭션을 시작하지 않아 커넥션 풀에서 기다리지 않음)
+ *
+ * - 조회 (CatalogSnapshotReads에 같은 시그니처가 있는 메서드)
+ *   장애 중이면 바로 스냅샷, 정상이면 DB 조회 후 커넥션/타임아웃 오류가 나면 장애로 전환하고 스냅샷
+ * - 쓰기 (메서드에 readOnly가 아닌 @Transactional)
+ *   장애 중이면 바로 ReadOnlyModeException, DB 오류로 실패해도 ReadOnlyModeException (503)
+ * - 그 외 (캐시 통계 등 DB를 쓰지 않는 메서드)는 그대로 실행
+ *
+ * 스냅샷으로 응답하면 응답 헤더에 스냅샷 시각과 경과 시간(초) 표시
+ */
+class SnapshotFallbackInterceptor implements MethodInterceptor {
+
+    static final String SOURCE_HEADER = "X-Catalog-Source";
+    static final String SNAPSHOT_AGE_HEADER = "X-Catalog-Snapshot-Age";
+    static final String SNAPSHOT_TAKEN_AT_HEADER = "X-Catalog-Snapshot-Taken-At";
+
+    private final Supplier<CatalogSnapshotStore> snapshotStore;
+    private final Supplier<DataSourceHealthMonitor> healthMonitor;
+    private final Supplier<SimilarBookIndex> similarBookIndex;
+
+    // BookService 메서드 → 대체 메서드 (없으면 empty)
+    private final Map<Method, Optional<Method>> fallbacks = new ConcurrentHashMap<>();
+
+    SnapshotFallbackInterceptor(Supplier<CatalogSnapshotStore> snapshotStore,
+                                Supplier<DataSourceHealthMonitor> healthMonitor,
+                                Supplier<SimilarBookIndex> similarBookIndex) {
+        this.snapshotStore = snapshotStore;
+        this.healthMonitor = healthMonitor;
+        this.similarBookIndex = similarBookIndex;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        DataSourceHealthMonitor health = healthMonitor.get();
+        if (isWrite(method)) {
+            return write(invocation, health);
+        }
+
+        Method fallback = fallbacks.computeIfAbsent(method, SnapshotFallbackInterceptor::fallbackOf).orElse(null);
+        if (fallback == null) {
+            return invocation.proceed();
+        }
+        CatalogSnapshot snapshot = snapshotStore.get().current();
+        if (snapshot != null && health.isDown()) {
+            return fromSnapshot(fallback, invocation.getArguments(), snapshot);
+        }
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException e) {
+            if (!DataSourceHealthMonitor.isConnectivityFailure(e)) {
+                throw e;
+            }
+            health.markDown(e);
+            snapshot = snapshotStore.get().current();
+            if (snapshot == null) {
+                throw e;
+            }
+            return fromSnapshot(fallback, invocation.getArguments(), snapshot);
+        }
+    }
+
+    private static Object write(MethodInvocation invocation, DataSourceHealthMonitor health) throws Throwable {
+        if (health.isDown()) {
+            throw new ReadOnlyModeException(health.retryAfterSeconds(), null);
+        }
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException e) {
+            if (!DataSourceHealthMonitor.isConnectivityFailure(e)) {
+                throw e;
+            }
+            health.markDown(e);
+            throw new ReadOnlyModeException(health.retryAfterSeconds(), e);
+        }
+    }
+
+    private Object fromSnapshot(Method fallback, Object[] args, CatalogSnapshot snapshot) throws Throwable {
+        Object result;
+        try {
+            result = fallback.invoke(new CatalogSnapshotReads(snapshot, similarBookIndex.get()), args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+        markResponse(snapshot);
+        return result;
+    }
+
+    /**
+     * 메서드에 직접 붙은 @Transactional이 readOnly가 아니면 쓰기 (클래스의 기본값은 readOnly 조회)
+     */
+    private static boolean isWrite(Method method) {
+        Transactional transactional = method.getAnnotation(Transactional.class);
+        return transactional != null && !transactional.readOnly();
+    }
+
+    private static Optional<Method> fallbackOf(Method method) {
+        try {
+            return Optional.of(CatalogSnapshotReads.class.getMethod(method.getName(), method.getParameterTypes()))
+                .filter(fallback -> method.getReturnType().isAssignableFrom(fallback.getReturnType()));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청 처리 중이면 응답 헤더에 스냅샷 정보 추가 (요청 밖이나 이미 전송된 응답이면 생략)
+     */
+    private static void markResponse(CatalogSnapshot snapshot) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        long ageSeconds = Math.max(0, Duration.between(snapshot.takenAt(), Instant.now()).toSeconds());
+        response.setHeader(SOURCE_HEADER, "snapshot");
+        response.setHeader(SNAPSHOT_AGE_HEADER, Long.toString(ageSeconds));
+        response.setHeader(SNAPSHOT_TAKEN_AT_HEADER, snapshot.takenAt().toString());
+    }
+
+}
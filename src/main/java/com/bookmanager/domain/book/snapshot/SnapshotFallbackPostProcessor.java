@@ -0,0 +1,49 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.config.datasource.DataSourceHealthMonitor;
+import com.bookmanager.domain.book.service.BookService;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * BookService 프록시 맨 앞에 스냅샷 대체 인터셉터 추가
+ *
+ * 트랜잭션 인터셉터보다 먼저 실행되어야 하므로 기존 프록시 체인의 0번에 추가
+ * (트랜잭션 프록시가 없으면 클래스 기반 프록시로 감쌈)
+ */
+class SnapshotFallbackPostProcessor implements BeanPostProcessor {
+
+    private final SingletonSupplier<CatalogSnapshotStore> snapshotStore;
+    private final SingletonSupplier<DataSourceHealthMonitor> healthMonitor;
+    private final SingletonSupplier<SimilarBookIndex> similarBookIndex;
+
+    SnapshotFallbackPostProcessor(ObjectProvider<CatalogSnapshotStore> snapshotStore,
+                                  ObjectProvider<DataSourceHealthMonitor> healthMonitor,
+                                  ObjectProvider<SimilarBookIndex> similarBookIndex) {
+        this.snapshotStore = SingletonSupplier.of(snapshotStore::getObject);
+        this.healthMonitor = SingletonSupplier.of(healthMonitor::getObject);
+        this.similarBookIndex = SingletonSupplier.of(similarBookIndex::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof BookService)) {
+            return bean;
+        }
+        SnapshotFallbackInterceptor interceptor =
+            new SnapshotFallbackInterceptor(snapshotStore, healthMonitor, similarBookIndex);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+}
@@ -2,11 +2,13 @@ package com.bookmanager.domain.member.controller;
 
 import com.bookmanager.common.MemberStatus;
 import com.bookmanager.common.response.ApiResponse;
+import com.bookmanager.common.response.CursorPage;
 import com.bookmanager.domain.member.dto.request.MemberRequest;
 import com.bookmanager.domain.member.dto.request.MemberUpdateRequest;
 import com.bookmanager.domain.member.dto.response.MemberResponse;
 import com.bookmanager.domain.member.service.MemberService;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -80,6 +82,34 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 전체 회원 목록 커서 조회 (최신 가입순)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<MemberResponse>>> getAllMembersByCursor(
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size) {
+        log.info("전체 회원 목록 커서 조회 API 호출 - After: {}, Size: {}", after, size);
+
+        CursorPage<MemberResponse> response = memberService.getAllMembersByCursor(after, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 특정 기간 가입 회원 커서 조회 (가입순)
+    // 예: /api/members/joined?startDate=2025-01-01T00:00:00Z&endDate=2025-02-01T00:00:00Z
+    @GetMapping("/joined")
+    public ResponseEntity<ApiResponse<CursorPage<MemberResponse>>> getMembersJoinedBetween(
+        @RequestParam Instant startDate,
+        @RequestParam Instant endDate,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size) {
+        log.info("기간별 가입 회원 조회 API 호출 - Start: {}, End: {}", startDate, endDate);
+
+        CursorPage<MemberResponse> response =
+            memberService.getMembersJoinedBetween(startDate, endDate, after, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 이름으로 회원 검색 (페이징)
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<MemberResponse>>> searchMembersByName(
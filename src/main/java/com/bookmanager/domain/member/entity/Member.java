@@ -2,6 +2,7 @@ package com.bookmanager.domain.member.entity;
 
 import com.bookmanager.common.MemberStatus;
 import com.bookmanager.config.BaseTimeEntity;
+import com.bookmanager.config.BinaryUuidType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,6 +13,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
 import org.springframework.data.domain.Persistable;
 
 /**
@@ -32,10 +34,12 @@ public class Member extends BaseTimeEntity implements Persistable<String> {
 
     /**
      * 회원 고유 ID
-     * UUID v7 형식의 문자열로 저장 (시간 정보 포함하여 정렬 가능)
+     * UUID v7 형식의 문자열 (시간 정보 포함하여 정렬 가능)
+     * DB에는 BINARY(16)으로 저장 (BinaryUuidType)
      */
     @Id
-    @Column(name = "member_id", nullable = false, length = 36)
+    @Type(BinaryUuidType.class)
+    @Column(name = "member_id", nullable = false, length = 16)
     private String memberId;
 
     /**
@@ -1,10 +1,13 @@
 package com.bookmanager.domain.member.repository;
 
 import com.bookmanager.common.MemberStatus;
+import com.bookmanager.common.repository.BatchSaveRepository;
 import com.bookmanager.domain.member.entity.Member;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,7 +16,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, String> {
+public interface MemberRepository extends JpaRepository<Member, String>, BatchSaveRepository<Member> {
 
     // 이메일로 회원 조회
     Optional<Member> findByEmail(String email);
@@ -21,6 +24,10 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     // 이메일 존재 여부 확인
     boolean existsByEmail(String email);
 
+    // 주어진 이메일 중 이미 가입된 이메일 목록 (일괄 가입 시 중복 확인)
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     // 이름으로 회원 검색 (부분 일치)
     Page<Member> findByNameContaining(String name, Pageable pageable);
 
@@ -35,6 +42,23 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     Page<Member> findByCreatedAtBetween(@Param("startDate") Instant startDate,
                                         @Param("endDate") Instant endDate, Pageable pageable);
 
+    // 특정 기간에 가입한 회원 커서 조회 - (createdAt, memberId) 기준으로 이전 페이지 마지막 행 다음부터 탐색
+    // idx_created_at은 InnoDB에서 (created_at, member_id) 순서이므로 인덱스 범위 스캔만으로 처리
+    // 첫 페이지는 afterCreatedAt = startDate, afterId = UuidBinary.MIN 으로 호출
+    @Query("SELECT m FROM Member m WHERE m.createdAt BETWEEN :startDate AND :endDate "
+        + "AND (m.createdAt > :afterCreatedAt OR (m.createdAt = :afterCreatedAt AND m.memberId > :afterId)) "
+        + "ORDER BY m.createdAt, m.memberId")
+    List<Member> findByCreatedAtBetweenAfter(@Param("startDate") Instant startDate,
+                                             @Param("endDate") Instant endDate,
+                                             @Param("afterCreatedAt") Instant afterCreatedAt,
+                                             @Param("afterId") String afterId, Limit limit);
+
+    // 전체 회원 커서 조회 (첫 페이지) - memberId(UUID v7) 내림차순 = 최신 가입순
+    List<Member> findAllByOrderByMemberIdDesc(Limit limit);
+
+    // 전체 회원 커서 조회 (다음 페이지)
+    List<Member> findByMemberIdLessThanOrderByMemberIdDesc(String after, Limit limit);
+
     // 상태별 회원 수 집계
     @Query("SELECT m.status, COUNT(m) FROM Member m GROUP by m.status")
     List<Object[]> countByStatus();
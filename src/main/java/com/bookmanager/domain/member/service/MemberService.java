@@ -3,6 +3,9 @@ package com.bookmanager.domain.member.service;
 import com.bookmanager.common.MemberStatus;
 import com.bookmanager.common.exception.DuplicateResourceException;
 import com.bookmanager.common.exception.MemberNotFoundException;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.common.util.KeysetCursor;
+import com.bookmanager.common.util.UuidBinary;
 import com.bookmanager.common.util.UuidV7Creator;
 import com.bookmanager.domain.member.dto.mapper.MemberMapper;
 import com.bookmanager.domain.member.dto.request.MemberRequest;
@@ -10,8 +13,14 @@ import com.bookmanager.domain.member.dto.request.MemberUpdateRequest;
 import com.bookmanager.domain.member.dto.response.MemberResponse;
 import com.bookmanager.domain.member.entity.Member;
 import com.bookmanager.domain.member.repository.MemberRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +32,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MemberService {
 
+    // 이메일 중복 확인 IN 쿼리 한 번에 넣는 최대 개수
+    private static final int EXISTS_CHUNK_SIZE = 1000;
+
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
 
@@ -53,6 +65,44 @@ public class MemberService {
         return memberMapper.toResponse(savedMember);
     }
 
+    // 회원 일괄 가입 (전부 가입하거나 전부 실패)
+    // 이메일 중복은 IN 쿼리로 한 번에 확인하고, INSERT는 saveAllBatched로 JDBC 배치 전송
+    @Transactional
+    public List<MemberResponse> registerMembers(List<MemberRequest> requests) {
+        log.info("회원 일괄 가입 시작 - Count: {}", requests.size());
+
+        // 요청 안의 이메일 중복 + 이미 가입된 이메일 확인
+        Set<String> emails = new HashSet<>(requests.size() * 2);
+        for (MemberRequest request : requests) {
+            if (!emails.add(request.getEmail())) {
+                throw DuplicateResourceException.withEmail(request.getEmail());
+            }
+        }
+        List<String> emailList = List.copyOf(emails);
+        for (int from = 0; from < emailList.size(); from += EXISTS_CHUNK_SIZE) {
+            List<String> existing = memberRepository.findExistingEmails(
+                emailList.subList(from, Math.min(from + EXISTS_CHUNK_SIZE, emailList.size())));
+            if (!existing.isEmpty()) {
+                throw DuplicateResourceException.withEmail(existing.get(0));
+            }
+        }
+
+        // 실제 서비스에선 BCryptPasswordEncoder 암호화 필요
+        String[] memberIds = UuidV7Creator.create(requests.size());
+        List<Member> members = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            MemberRequest request = requests.get(i);
+            members.add(memberMapper.toEntity(request, memberIds[i], request.getPassword()));
+        }
+        List<Member> savedMembers = memberRepository.saveAllBatched(members);
+
+        log.info("회원 일괄 가입 완료 - Count: {}", savedMembers.size());
+
+        return savedMembers.stream()
+            .map(memberMapper::toResponse)
+            .toList();
+    }
+
     // 회원 ID로 단건 조회
     public MemberResponse getMemberById(String memberId) {
         log.info("회원 조회 - ID: {}", memberId);
@@ -81,6 +131,40 @@ public class MemberService {
             .map(memberMapper::toResponse);
     }
 
+    // 전체 회원 목록 커서 조회 (최신 가입순, memberId = UUID v7)
+    public CursorPage<MemberResponse> getAllMembersByCursor(String after, int size) {
+        log.info("전체 회원 목록 커서 조회 - After: {}, Size: {}", after, size);
+
+        KeysetCursor.validateId(after);
+        Limit limit = Limit.of(CursorPage.fetchSize(size));
+        List<Member> members = after == null || after.isBlank()
+            ? memberRepository.findAllByOrderByMemberIdDesc(limit)
+            : memberRepository.findByMemberIdLessThanOrderByMemberIdDesc(after, limit);
+
+        return CursorPage.of(members, size, Member::getMemberId, memberMapper::toResponse);
+    }
+
+    // 특정 기간 가입 회원 커서 조회 (가입순)
+    // after: 이전 페이지의 nextCursor ((가입 시간, memberId)를 인코딩한 값), 첫 페이지는 null
+    public CursorPage<MemberResponse> getMembersJoinedBetween(Instant startDate, Instant endDate,
+                                                             String after, int size) {
+        log.info("기간별 가입 회원 커서 조회 - Start: {}, End: {}, After: {}", startDate, endDate, after);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        KeysetCursor cursor = after == null || after.isBlank()
+            ? new KeysetCursor(startDate, UuidBinary.MIN)
+            : KeysetCursor.decode(after);
+
+        List<Member> members = memberRepository.findByCreatedAtBetweenAfter(startDate, endDate,
+            cursor.createdAt(), cursor.id(), Limit.of(CursorPage.fetchSize(size)));
+
+        return CursorPage.of(members, size,
+            member -> new KeysetCursor(member.getCreatedAt(), member.getMemberId()).encode(),
+            memberMapper::toResponse);
+    }
+
     // 이름으로 회원 검색 (페이징)
     public Page<MemberResponse> searchMembersByName(String name, Pageable pageable) {
         log.info("회원 이름 검색 - Name: {}", name);
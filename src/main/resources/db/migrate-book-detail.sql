@@ -0,0 +1,40 @@
+-- book.description(TEXT) → book_detail 테이블 분리 (MySQL 8.0 이상)
+--
+-- ddl-auto: update는 book_detail 테이블은 만들지만 기존 description 컬럼의 데이터를 옮기거나 지우지 않으므로
+-- 운영 DB는 이 스크립트로 직접 변환
+-- 1) 새 테이블 생성 + 데이터 복사 (기존 버전이 실행 중이어도 됨)
+-- 2) 새 버전 배포 후 마지막으로 한 번 더 복사 (배포 사이에 바뀐 설명 반영)
+-- 3) description 컬럼 삭제
+--
+-- 컬럼 삭제는 테이블을 재구성하므로 중단 없이 실행해야 하면 gh-ost / pt-online-schema-change 사용
+
+USE bookstore;
+
+-- 1. 상세 정보 테이블 생성
+CREATE TABLE IF NOT EXISTS book_detail (
+    book_id BINARY(16) NOT NULL PRIMARY KEY COMMENT '도서 ID (book.book_id)',
+    description BLOB COMMENT '도서 설명 (첫 바이트 형식 헤더 + 압축 데이터, CompressedText)',
+    CONSTRAINT fk_book_detail_book FOREIGN KEY (book_id) REFERENCES book (book_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='도서 상세 정보 테이블';
+
+-- 2. 설명 복사 (설명이 있는 도서만, 이미 복사된 행은 최신 값으로 덮어씀)
+-- CompressedText 형식으로 저장: 128바이트 미만은 RAW(0x00), 그 외는 ZLIB(0x01 + MySQL COMPRESS() 결과)
+-- 행이 많으면 book_id 범위를 나눠 반복 실행해 undo log/복제 지연을 나눔
+INSERT INTO book_detail (book_id, description)
+SELECT book_id,
+       IF(LENGTH(description) < 128, CONCAT(0x00, description), CONCAT(0x01, COMPRESS(description)))
+FROM book WHERE description IS NOT NULL
+ON DUPLICATE KEY UPDATE description = VALUES(description);
+
+-- 3. 복사 누락 확인 (0이어야 함)
+SELECT COUNT(*) FROM book b
+WHERE b.description IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM book_detail d WHERE d.book_id = b.book_id);
+
+-- 4. 새 버전 배포 후 기존 컬럼 삭제
+ALTER TABLE book DROP COLUMN description;
+
+-- 5. 결과 확인
+SELECT BIN_TO_UUID(b.book_id) AS book_id, b.title, LENGTH(d.description) AS stored_bytes
+FROM book b LEFT JOIN book_detail d ON d.book_id = b.book_id
+ORDER BY b.book_id LIMIT 5;
@@ -0,0 +1,73 @@
+-- book.author / publisher / category(VARCHAR) → 사전 테이블 ID(INT) 변환 (MySQL 8.0 이상)
+--
+-- 도서 행에는 사전 ID만 저장하고 이름은 book_author / book_publisher / book_category에 한 번씩만 저장
+-- (BookDictionary가 기동 후 처음 사용할 때 사전 전체를 메모리에 올림)
+-- 1) 사전 테이블 생성 + 기존 이름 등록
+-- 2) ID 컬럼 추가 + 채우기 (기존 버전이 실행 중이어도 됨)
+-- 3) 새 버전 배포 직전 마지막으로 한 번 더 등록/채우기 (배포 사이에 바뀐 행 반영)
+-- 4) 인덱스 교체 + 기존 문자열 컬럼 삭제
+--
+-- 컬럼 추가/삭제는 테이블을 재구성하므로 중단 없이 실행해야 하면 gh-ost / pt-online-schema-change 사용
+-- 샤딩 사용 시 사전 테이블은 샤드 0에만 만들고, 2) 이후는 샤드마다 실행 (ID 채우기는 샤드 0의 사전 테이블을 복사해 와서 조인)
+
+USE bookstore;
+
+-- 1. 사전 테이블 생성 (이름은 대소문자/공백까지 구분해야 하므로 utf8mb4_bin)
+CREATE TABLE IF NOT EXISTS book_author (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '저자 ID',
+    name VARCHAR(100) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '저자'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='저자 사전 테이블';
+
+CREATE TABLE IF NOT EXISTS book_publisher (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '출판사 ID',
+    name VARCHAR(100) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '출판사'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='출판사 사전 테이블';
+
+CREATE TABLE IF NOT EXISTS book_category (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '카테고리 ID',
+    name VARCHAR(50) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '카테고리'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='카테고리 사전 테이블';
+
+INSERT IGNORE INTO book_author (name) SELECT DISTINCT author FROM book;
+INSERT IGNORE INTO book_publisher (name) SELECT DISTINCT publisher FROM book WHERE publisher IS NOT NULL;
+INSERT IGNORE INTO book_category (name) SELECT DISTINCT category FROM book WHERE category IS NOT NULL;
+
+-- 2. ID 컬럼 추가 + 채우기 (비교는 사전과 같은 utf8mb4_bin 기준)
+-- 행이 많으면 book_id 범위를 나눠 반복 실행해 undo log/복제 지연을 나눔
+ALTER TABLE book
+    ADD COLUMN author_id INT NULL COMMENT '저자 ID (book_author.id)' AFTER author,
+    ADD COLUMN publisher_id INT NULL COMMENT '출판사 ID (book_publisher.id)' AFTER publisher,
+    ADD COLUMN category_id INT NULL COMMENT '카테고리 ID (book_category.id)' AFTER category;
+
+UPDATE book b
+    JOIN book_author a ON a.name = b.author COLLATE utf8mb4_bin
+    LEFT JOIN book_publisher p ON p.name = b.publisher COLLATE utf8mb4_bin
+    LEFT JOIN book_category c ON c.name = b.category COLLATE utf8mb4_bin
+SET b.author_id = a.id, b.publisher_id = p.id, b.category_id = c.id;
+
+-- 3. 채우기 누락 확인 (0이어야 함, 0이 아니면 1~2의 INSERT/UPDATE를 다시 실행)
+SELECT COUNT(*) FROM book
+WHERE author_id IS NULL
+   OR (publisher IS NOT NULL AND publisher_id IS NULL)
+   OR (category IS NOT NULL AND category_id IS NULL);
+
+-- 4. 새 버전 배포 후 인덱스 교체 + 기존 컬럼 삭제
+ALTER TABLE book
+    DROP INDEX idx_author,
+    DROP INDEX idx_category,
+    DROP INDEX idx_category_status,
+    MODIFY COLUMN author_id INT NOT NULL COMMENT '저자 ID (book_author.id)',
+    ADD INDEX idx_author (author_id),
+    ADD INDEX idx_category (category_id),
+    ADD INDEX idx_category_status (category_id, status),
+    DROP COLUMN author,
+    DROP COLUMN publisher,
+    DROP COLUMN category;
+
+-- 5. 결과 확인
+SELECT BIN_TO_UUID(b.book_id) AS book_id, b.title, a.name AS author, p.name AS publisher, c.name AS category
+FROM book b
+    JOIN book_author a ON a.id = b.author_id
+    LEFT JOIN book_publisher p ON p.id = b.publisher_id
+    LEFT JOIN book_category c ON c.id = b.category_id
+ORDER BY b.book_id LIMIT 5;
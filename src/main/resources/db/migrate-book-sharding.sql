@@ -0,0 +1,29 @@
+-- 도서 샤딩 준비 (MySQL 8.0 이상)
+--
+-- bookstore.sharding.enabled=true 이면 book/book_detail은 bookId 해시(jump consistent hash)로 샤드에 나뉨
+-- - 샤드 0: 기존 DB (spring.datasource.*), ISBN 디렉터리도 여기에 둠
+-- - 샤드 1~: bookstore.sharding.urls 순서대로, 기존 DB와 같은 book/book_detail 스키마
+--
+-- 기존 도서를 샤드 수에 맞게 옮기는 작업은 이 스크립트에 포함되지 않음
+-- (샤드 0에 이미 도서가 있으면 샤드 1개로 시작한 경우에만 그대로 사용 가능)
+
+USE bookstore;
+
+-- 1. 샤드 0: ISBN 디렉터리 테이블 생성
+CREATE TABLE IF NOT EXISTS book_isbn_directory (
+    isbn VARCHAR(20) NOT NULL PRIMARY KEY COMMENT 'ISBN',
+    book_id BINARY(16) NOT NULL UNIQUE COMMENT '도서 ID',
+    shard_no INT NOT NULL COMMENT '도서가 저장된 샤드 번호'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ISBN 샤드 디렉터리 테이블';
+
+-- 2. 샤드 0: 기존 도서를 디렉터리에 등록 (샤드 1개로 시작하는 경우, 모두 샤드 0)
+INSERT IGNORE INTO book_isbn_directory (isbn, book_id, shard_no)
+SELECT isbn, book_id, 0 FROM book;
+
+-- 3. 샤드 1~: 각 샤드 DB에서 schema.sql의 book, book_detail 테이블 생성 부분 실행
+--    (ISBN 유니크 제약은 샤드 안에서만 유효, 샤드 사이의 중복은 디렉터리 기본 키로 막음)
+
+-- 4. 확인: 디렉터리 누락 (0이어야 함)
+SELECT COUNT(*) FROM book b
+LEFT JOIN book_isbn_directory d ON d.isbn = b.isbn
+WHERE d.isbn IS NULL;
@@ -0,0 +1,13 @@
+-- book.version(낙관적 잠금 버전) 컬럼 추가 (MySQL 8.0 이상)
+--
+-- 기존 행은 0에서 시작, 새 버전은 수정할 때마다 WHERE version = ? 조건으로 1씩 증가
+-- 마지막 컬럼 추가라 ALGORITHM=INSTANT로 테이블 재구성 없이 바로 끝남
+-- 샤딩 사용 시 샤드마다 실행
+
+USE bookstore;
+
+-- 1. 컬럼 추가
+ALTER TABLE book ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 버전', ALGORITHM=INSTANT;
+
+-- 2. 결과 확인
+SELECT BIN_TO_UUID(book_id) AS book_id, title, version, updated_at FROM book ORDER BY book_id LIMIT 5;
@@ -0,0 +1,37 @@
+-- book_detail.description TEXT → 압축 BLOB(CompressedText 형식) 변환 (MySQL 8.0 이상)
+--
+-- migrate-book-detail.sql을 이미 TEXT 컬럼으로 실행한 DB용 (새로 분리하는 경우는 그 스크립트가 바로 압축 형식으로 복사)
+-- 형식: 첫 바이트 헤더
+--   0x00 RAW  + UTF-8 텍스트 (128바이트 미만)
+--   0x01 ZLIB + MySQL COMPRESS() 결과 (원본 길이 4바이트 little-endian + zlib 스트림)
+-- 애플리케이션은 두 형식 모두 읽으므로 이후 압축 방식이 바뀌어도 기존 행은 그대로 둠
+--
+-- 1) 애플리케이션 중지 (변환 중 TEXT/BLOB이 섞인 쓰기 방지)
+-- 2) 아래 순서대로 실행 후 새 버전 배포
+
+USE bookstore;
+
+-- 1. 새 바이너리 컬럼 추가
+ALTER TABLE book_detail ADD COLUMN description_bin BLOB NULL AFTER description;
+
+-- 2. 값 변환 (행이 많으면 영향받은 행이 0이 될 때까지 반복 실행)
+UPDATE book_detail
+SET description_bin = IF(LENGTH(description) < 128, CONCAT(0x00, description),
+                         CONCAT(0x01, COMPRESS(description)))
+WHERE description IS NOT NULL AND description_bin IS NULL
+LIMIT 10000;
+
+-- 3. 변환 누락 확인 (0이어야 함) + 압축 전후 크기
+SELECT COUNT(*) FROM book_detail WHERE description IS NOT NULL AND description_bin IS NULL;
+SELECT SUM(LENGTH(description)) AS text_bytes, SUM(LENGTH(description_bin)) AS stored_bytes FROM book_detail;
+
+-- 4. 컬럼 교체 (테이블 재구성)
+ALTER TABLE book_detail
+    DROP COLUMN description,
+    CHANGE COLUMN description_bin description BLOB NULL
+        COMMENT '도서 설명 (첫 바이트 형식 헤더 + 압축 데이터, CompressedText)';
+
+-- 5. 결과 확인 (ZLIB 행은 UNCOMPRESS로 원문 확인)
+SELECT BIN_TO_UUID(book_id) AS book_id, HEX(LEFT(description, 1)) AS format,
+       IF(LEFT(description, 1) = 0x01, UNCOMPRESS(SUBSTRING(description, 2)), SUBSTRING(description, 2)) AS text
+FROM book_detail LIMIT 5;
@@ -0,0 +1,50 @@
+-- UUID v7 ID 컬럼 VARCHAR(36) → BINARY(16) 변환 (MySQL 8.0 이상, UUID_TO_BIN 사용)
+--
+-- ddl-auto: update는 기존 컬럼 타입을 바꾸지 않으므로 운영 DB는 이 스크립트로 직접 변환
+-- 1) 애플리케이션 중지 (변환 중 VARCHAR/BINARY가 섞인 쓰기 방지)
+-- 2) 아래 순서대로 실행 후 새 버전 배포
+--
+-- UUID v7은 앞 48비트가 시간이므로 UUID_TO_BIN의 swap_flag는 쓰지 않음
+-- (바이트 순서 그대로 = 문자열 정렬 순서, 커서 조회 결과 순서 유지)
+-- 중단 없이 변환해야 하면 같은 ALTER를 gh-ost / pt-online-schema-change로 실행
+
+USE bookstore;
+
+-- 1. 새 바이너리 컬럼 추가
+ALTER TABLE book ADD COLUMN book_id_bin BINARY(16) NULL AFTER book_id;
+ALTER TABLE member ADD COLUMN member_id_bin BINARY(16) NULL AFTER member_id;
+ALTER TABLE supplier_feed_item ADD COLUMN book_id_bin BINARY(16) NULL AFTER book_id;
+
+-- 2. 값 변환 (행이 많으면 영향받은 행이 0이 될 때까지 반복 실행해 undo log/복제 지연을 나눔)
+UPDATE book SET book_id_bin = UUID_TO_BIN(book_id) WHERE book_id_bin IS NULL LIMIT 50000;
+UPDATE member SET member_id_bin = UUID_TO_BIN(member_id) WHERE member_id_bin IS NULL LIMIT 50000;
+UPDATE supplier_feed_item SET book_id_bin = UUID_TO_BIN(book_id) WHERE book_id_bin IS NULL LIMIT 50000;
+
+-- 3. 변환 누락 확인 (모두 0이어야 함)
+SELECT COUNT(*) FROM book WHERE book_id_bin IS NULL;
+SELECT COUNT(*) FROM member WHERE member_id_bin IS NULL;
+SELECT COUNT(*) FROM supplier_feed_item WHERE book_id_bin IS NULL;
+
+-- 4. 컬럼 교체 + PK 재생성
+-- InnoDB 보조 인덱스는 PK를 함께 저장하므로 PK 변경 시 테이블과 모든 보조 인덱스가 재구성됨 (ALTER 한 번에 처리)
+ALTER TABLE book
+    DROP PRIMARY KEY,
+    DROP COLUMN book_id,
+    CHANGE COLUMN book_id_bin book_id BINARY(16) NOT NULL COMMENT '도서 고유 ID' FIRST,
+    ADD PRIMARY KEY (book_id);
+
+ALTER TABLE member
+    DROP PRIMARY KEY,
+    DROP COLUMN member_id,
+    CHANGE COLUMN member_id_bin member_id BINARY(16) NOT NULL COMMENT '회원 고유 ID' FIRST,
+    ADD PRIMARY KEY (member_id);
+
+ALTER TABLE supplier_feed_item
+    DROP INDEX idx_supplier_feed_item_book_id,
+    DROP COLUMN book_id,
+    CHANGE COLUMN book_id_bin book_id BINARY(16) NOT NULL COMMENT '도서 ID',
+    ADD INDEX idx_supplier_feed_item_book_id (book_id);
+
+-- 5. 결과 확인 (조회 시 BIN_TO_UUID로 문자열 표시)
+SELECT BIN_TO_UUID(book_id) AS book_id, title FROM book ORDER BY book_id LIMIT 5;
+SELECT BIN_TO_UUID(member_id) AS member_id, email FROM member ORDER BY member_id LIMIT 5;
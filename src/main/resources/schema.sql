@@ -4,13 +4,19 @@ CREATE DATABASE IF NOT EXISTS bookstore CHARACTER SET utf8mb4 COLLATE utf8mb4_un
 USE bookstore;
 
 -- 기존 테이블 삭제 (재실행 시)
+DROP TABLE IF EXISTS book_isbn_directory;
+DROP TABLE IF EXISTS supplier_feed_item;
+DROP TABLE IF EXISTS book_detail;
 DROP TABLE IF EXISTS book;
+DROP TABLE IF EXISTS book_author;
+DROP TABLE IF EXISTS book_publisher;
+DROP TABLE IF EXISTS book_category;
 DROP TABLE IF EXISTS member;
 
 -- 회원 테이블 생성
 CREATE TABLE member (
-    -- 회원 ID (UUID v7 형식의 문자열)
-                        member_id VARCHAR(36) NOT NULL PRIMARY KEY COMMENT '회원 고유 ID',
+    -- 회원 ID (UUID v7, 16바이트 바이너리 - 애플리케이션에서는 문자열로 사용)
+                        member_id BINARY(16) NOT NULL PRIMARY KEY COMMENT '회원 고유 ID',
 
     -- 회원 정보
                         email VARCHAR(100) NOT NULL UNIQUE COMMENT '이메일 (로그인 ID)',
@@ -31,26 +37,45 @@ CREATE TABLE member (
                         INDEX idx_created_at (created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='회원 정보 테이블';
 
+-- 저자/출판사/카테고리 사전 테이블 생성 (도서 테이블에는 이름 대신 사전 ID 저장, 샤드 0에만 생성)
+-- 이름은 대소문자/공백까지 구분해야 하므로 utf8mb4_bin
+CREATE TABLE book_author (
+                      id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '저자 ID',
+                      name VARCHAR(100) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '저자'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='저자 사전 테이블';
+
+CREATE TABLE book_publisher (
+                      id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '출판사 ID',
+                      name VARCHAR(100) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '출판사'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='출판사 사전 테이블';
+
+CREATE TABLE book_category (
+                      id INT NOT NULL AUTO_INCREMENT PRIMARY KEY COMMENT '카테고리 ID',
+                      name VARCHAR(50) COLLATE utf8mb4_bin NOT NULL UNIQUE COMMENT '카테고리'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='카테고리 사전 테이블';
+
 -- 도서 테이블 생성
 CREATE TABLE book (
-    -- 도서 ID (UUID v7 형식의 문자열)
-                      book_id VARCHAR(36) NOT NULL PRIMARY KEY COMMENT '도서 고유 ID',
+    -- 도서 ID (UUID v7, 16바이트 바이너리 - 애플리케이션에서는 문자열로 사용)
+                      book_id BINARY(16) NOT NULL PRIMARY KEY COMMENT '도서 고유 ID',
 
     -- 도서 기본 정보
                       title VARCHAR(200) NOT NULL COMMENT '도서 제목',
-                      author VARCHAR(100) NOT NULL COMMENT '저자',
+                      author_id INT NOT NULL COMMENT '저자 ID (book_author.id)',
                       isbn VARCHAR(20) NOT NULL UNIQUE COMMENT 'ISBN (국제 표준 도서 번호)',
-                      publisher VARCHAR(100) COMMENT '출판사',
+                      publisher_id INT COMMENT '출판사 ID (book_publisher.id)',
 
     -- 도서 상세 정보
                       price INT NOT NULL COMMENT '가격',
                       stock_quantity INT NOT NULL DEFAULT 0 COMMENT '재고 수량',
-                      description TEXT COMMENT '도서 설명',
-                      category VARCHAR(50) COMMENT '카테고리',
+                      category_id INT COMMENT '카테고리 ID (book_category.id)',
 
     -- 도서 상태
                       status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE' COMMENT '도서 상태 (AVAILABLE, OUT_OF_STOCK, DISCONTINUED)',
 
+    -- 낙관적 잠금 버전 (수정할 때마다 1 증가)
+                      version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 버전',
+
     -- 시간 정보 (Instant 타입을 TIMESTAMP로 저장)
                       published_at TIMESTAMP(6) COMMENT '출판일',
                       created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '등록 시간',
@@ -58,36 +83,79 @@ CREATE TABLE book (
 
     -- 인덱스 설정 (대규모 트래픽 대비 성능 최적화)
                       INDEX idx_title (title),
-                      INDEX idx_author (author),
+                      INDEX idx_author (author_id),
                       INDEX idx_isbn (isbn),
-                      INDEX idx_category (category),
+                      INDEX idx_category (category_id),
                       INDEX idx_status (status),
                       INDEX idx_price (price),
                       INDEX idx_created_at (created_at),
 
     -- 복합 인덱스 (자주 함께 조회되는 컬럼)
-                      INDEX idx_category_status (category, status),
+                      INDEX idx_category_status (category_id, status),
                       INDEX idx_status_stock (status, stock_quantity)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='도서 정보 테이블';
 
+-- 도서 상세 정보 테이블 생성 (큰 TEXT 컬럼을 분리해 목록/검색 시 book 행만 읽도록 함)
+CREATE TABLE book_detail (
+                      book_id BINARY(16) NOT NULL PRIMARY KEY COMMENT '도서 ID (book.book_id)',
+                      description BLOB COMMENT '도서 설명 (첫 바이트 형식 헤더 + 압축 데이터, CompressedText)',
+                      CONSTRAINT fk_book_detail_book FOREIGN KEY (book_id) REFERENCES book (book_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='도서 상세 정보 테이블';
+
+-- 공급사 피드 관리 테이블 생성 (피드 동기화 시 바뀐 행만 반영하기 위한 내용 해시)
+CREATE TABLE supplier_feed_item (
+                      supplier_code VARCHAR(50) NOT NULL COMMENT '공급사 코드',
+                      isbn VARCHAR(20) NOT NULL COMMENT 'ISBN',
+                      book_id BINARY(16) NOT NULL COMMENT '도서 ID',
+                      content_hash BIGINT NOT NULL COMMENT '마지막으로 반영한 피드 행 내용 해시',
+                      synced_at TIMESTAMP(6) NOT NULL COMMENT '마지막 반영 시간',
+                      PRIMARY KEY (supplier_code, isbn),
+                      INDEX idx_supplier_feed_item_book_id (book_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공급사 피드 관리 테이블';
+
+-- ISBN → 샤드 디렉터리 (bookstore.sharding.enabled=true일 때만 사용, 샤드 0에만 생성)
+CREATE TABLE book_isbn_directory (
+                      isbn VARCHAR(20) NOT NULL PRIMARY KEY COMMENT 'ISBN',
+                      book_id BINARY(16) NOT NULL UNIQUE COMMENT '도서 ID',
+                      shard_no INT NOT NULL COMMENT '도서가 저장된 샤드 번호'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ISBN 샤드 디렉터리 테이블';
+
 -- 테스트 데이터 삽입
 INSERT INTO member (member_id, email, password, name, phone, status, created_at, updated_at) VALUES
-                                                                                                 ('01935e3a-0001-7000-8000-000000000001', 'test1@example.com', '$2a$10$encrypted_password', '홍길동', '010-1234-5678', 'ACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                 ('01935e3a-0002-7000-8000-000000000002', 'test2@example.com', '$2a$10$encrypted_password', '김철수', '010-2345-6789', 'ACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                 ('01935e3a-0003-7000-8000-000000000003', 'test3@example.com', '$2a$10$encrypted_password', '이영희', '010-3456-7890', 'INACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6));
-
-INSERT INTO book (book_id, title, author, isbn, publisher, price, stock_quantity, description, category, status, published_at, created_at, updated_at) VALUES
-                                                                                                                                                           ('01935e3a-1001-7000-8000-000000000001', 'Effective Java', 'Joshua Bloch', '9780134685991', '인사이트', 36000, 50, 'Java 프로그래밍 필독서', 'IT', 'AVAILABLE', '2018-01-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                                                                           ('01935e3a-1002-7000-8000-000000000002', 'Clean Code', 'Robert C. Martin', '9780132350884', '인사이트', 33000, 30, '클린 코드 작성법', 'IT', 'AVAILABLE', '2013-12-24 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                                                                           ('01935e3a-1003-7000-8000-000000000003', 'Refactoring', 'Martin Fowler', '9780134757599', '한빛미디어', 35000, 0, '리팩토링 2판', 'IT', 'OUT_OF_STOCK', '2020-04-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                                                                           ('01935e3a-1004-7000-8000-000000000004', 'Design Patterns', 'Gang of Four', '9780201633612', '프리렉', 54000, 20, '디자인 패턴 바이블', 'IT', 'AVAILABLE', '2015-03-15 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
-                                                                                                                                                           ('01935e3a-1005-7000-8000-000000000005', 'Spring in Action', 'Craig Walls', '9781617294945', '제이펍', 42000, 15, 'Spring Framework 실전 가이드', 'IT', 'AVAILABLE', '2022-01-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6));
+                                                                                                 (UUID_TO_BIN('01935e3a-0001-7000-8000-000000000001'), 'test1@example.com', '$2a$10$encrypted_password', '홍길동', '010-1234-5678', 'ACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                 (UUID_TO_BIN('01935e3a-0002-7000-8000-000000000002'), 'test2@example.com', '$2a$10$encrypted_password', '김철수', '010-2345-6789', 'ACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                 (UUID_TO_BIN('01935e3a-0003-7000-8000-000000000003'), 'test3@example.com', '$2a$10$encrypted_password', '이영희', '010-3456-7890', 'INACTIVE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6));
+
+INSERT INTO book_author (id, name) VALUES
+    (1, 'Joshua Bloch'), (2, 'Robert C. Martin'), (3, 'Martin Fowler'), (4, 'Gang of Four'), (5, 'Craig Walls');
+
+INSERT INTO book_publisher (id, name) VALUES
+    (1, '인사이트'), (2, '한빛미디어'), (3, '프리렉'), (4, '제이펍');
+
+INSERT INTO book_category (id, name) VALUES
+    (1, 'IT');
+
+INSERT INTO book (book_id, title, author_id, isbn, publisher_id, price, stock_quantity, category_id, status, published_at, created_at, updated_at) VALUES
+                                                                                                                                                           (UUID_TO_BIN('01935e3a-1001-7000-8000-000000000001'), 'Effective Java', 1, '9780134685991', 1, 36000, 50, 1, 'AVAILABLE', '2018-01-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                                                                           (UUID_TO_BIN('01935e3a-1002-7000-8000-000000000002'), 'Clean Code', 2, '9780132350884', 1, 33000, 30, 1, 'AVAILABLE', '2013-12-24 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                                                                           (UUID_TO_BIN('01935e3a-1003-7000-8000-000000000003'), 'Refactoring', 3, '9780134757599', 2, 35000, 0, 1, 'OUT_OF_STOCK', '2020-04-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                                                                           (UUID_TO_BIN('01935e3a-1004-7000-8000-000000000004'), 'Design Patterns', 4, '9780201633612', 3, 54000, 20, 1, 'AVAILABLE', '2015-03-15 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)),
+                                                                                                                                                           (UUID_TO_BIN('01935e3a-1005-7000-8000-000000000005'), 'Spring in Action', 5, '9781617294945', 4, 42000, 15, 1, 'AVAILABLE', '2022-01-01 00:00:00.000000', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6));
+
+-- 짧은 설명은 압축하지 않는 형식(RAW, 헤더 0x00)으로 저장
+INSERT INTO book_detail (book_id, description) VALUES
+    (UUID_TO_BIN('01935e3a-1001-7000-8000-000000000001'), CONCAT(0x00, 'Java 프로그래밍 필독서')),
+    (UUID_TO_BIN('01935e3a-1002-7000-8000-000000000002'), CONCAT(0x00, '클린 코드 작성법')),
+    (UUID_TO_BIN('01935e3a-1003-7000-8000-000000000003'), CONCAT(0x00, '리팩토링 2판')),
+    (UUID_TO_BIN('01935e3a-1004-7000-8000-000000000004'), CONCAT(0x00, '디자인 패턴 바이블')),
+    (UUID_TO_BIN('01935e3a-1005-7000-8000-000000000005'), CONCAT(0x00, 'Spring Framework 실전 가이드'));
 
 -- 테이블 정보 확인
 SHOW TABLES;
 DESCRIBE member;
 DESCRIBE book;
+DESCRIBE book_detail;
 
 -- 데이터 확인
-SELECT * FROM member;
-SELECT * FROM book;
\ No newline at end of file
+SELECT BIN_TO_UUID(member_id) AS member_id, email, name, status FROM member;
+SELECT BIN_TO_UUID(book_id) AS book_id, title, isbn, price, status FROM book;
\ No newline at end of file
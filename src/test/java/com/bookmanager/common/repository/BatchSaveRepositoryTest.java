@@ -0,0 +1,127 @@
+package com.bookmanager.common.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.MemberStatus;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.member.entity.Member;
+import com.bookmanager.domain.member.repository.MemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 건별 save()는 요청 하나당 트랜잭션 하나(createBook과 동일)로 측정하기 위해
+ * 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BatchSaveRepository 테스트")
+class BatchSaveRepositoryTest {
+
+    // 처리량 비교는 -Pbenchmark일 때만 실행, 측정 건수 변경: ./gradlew test -Pbenchmark -Dbatch.benchmark.rows=1000000
+    private static final int BENCHMARK_ROWS = Integer.getInteger("batch.benchmark.rows", 100_000);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("saveAllBatched - 배치 크기를 넘는 회원 목록 저장 + 생성 시간 자동 설정")
+    void saveAllBatchedMembers() {
+        // given
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            members.add(Member.builder()
+                .memberId(UuidV7Creator.create())
+                .email("member" + i + "@test.com")
+                .password("password123")
+                .name("회원" + i)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        }
+
+        // when
+        List<Member> saved = memberRepository.saveAllBatched(members);
+
+        // then
+        assertThat(saved).hasSize(2500);
+        assertThat(saved).allMatch(member -> member.getCreatedAt() != null);
+        assertThat(memberRepository.count()).isEqualTo(2500);
+        assertThat(memberRepository.findByEmail("member2499@test.com")).isPresent();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("도서 대량 INSERT - 건별 save() vs saveAllBatched 처리량 비교")
+    void saveThroughput() {
+        // given
+        List<Book> rowAtATime = books(0);
+        List<Book> batched = books(BENCHMARK_ROWS);
+
+        // when - 건별 save() (INSERT마다 트랜잭션 + 커밋)
+        long start = System.nanoTime();
+        for (Book book : rowAtATime) {
+            bookRepository.save(book);
+        }
+        long saveMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // when - saveAllBatched (트랜잭션 하나, batch_size 건씩 JDBC 배치)
+        start = System.nanoTime();
+        bookRepository.saveAllBatched(batched);
+        long batchedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        log.info("도서 {}건 INSERT - save(): {}ms ({} rows/sec), saveAllBatched: {}ms ({} rows/sec)",
+            BENCHMARK_ROWS, saveMillis, rowsPerSecond(saveMillis), batchedMillis, rowsPerSecond(batchedMillis));
+        assertThat(bookRepository.count()).isEqualTo(BENCHMARK_ROWS * 2L);
+        assertThat(batchedMillis).isLessThan(saveMillis);
+    }
+
+    private static List<Book> books(int offset) {
+        List<Book> books = new ArrayList<>(BENCHMARK_ROWS);
+        for (int i = offset; i < offset + BENCHMARK_ROWS; i++) {
+            books.add(Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("Book " + i)
+                .author("Author " + i % 100)
+                .isbn("978" + String.format("%010d", i))
+                .price(10000 + i % 50 * 1000)
+                .stockQuantity(i % 100 + 1)
+                .category("CAT" + i % 20)
+                .status(BookStatus.AVAILABLE)
+                .build());
+        }
+        return books;
+    }
+
+    private static long rowsPerSecond(long millis) {
+        return BENCHMARK_ROWS * 1000L / Math.max(millis, 1);
+    }
+
+}
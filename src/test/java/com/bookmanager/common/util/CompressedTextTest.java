@@ -0,0 +1,78 @@
+package com.bookmanager.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompressedText 테스트")
+class CompressedTextTest {
+
+    @Test
+    @DisplayName("짧은 텍스트는 RAW, 긴 텍스트는 ZLIB으로 저장하고 원문 그대로 복원")
+    void roundTrip() {
+        // given
+        String shortText = "Java 프로그래밍 필독서";
+        String longText = "스프링 부트와 JPA로 만드는 도서 관리 시스템. ".repeat(100);
+
+        // when
+        byte[] shortEncoded = CompressedText.encode(shortText);
+        byte[] longEncoded = CompressedText.encode(longText);
+
+        // then
+        assertThat(shortEncoded[0]).isEqualTo(CompressedText.RAW);
+        assertThat(longEncoded[0]).isEqualTo(CompressedText.ZLIB);
+        assertThat(longEncoded.length).isLessThan(longText.getBytes(StandardCharsets.UTF_8).length / 5);
+        assertThat(CompressedText.decode(shortEncoded)).isEqualTo(shortText);
+        assertThat(CompressedText.decode(longEncoded)).isEqualTo(longText);
+        assertThat(CompressedText.decode(CompressedText.encode(""))).isEmpty();
+        assertThat(CompressedText.encode(null)).isNull();
+        assertThat(CompressedText.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("MySQL COMPRESS() 레이아웃(원본 길이 4바이트 + zlib)에 헤더를 붙인 값도 읽음")
+    void decodeMysqlCompressLayout() {
+        // given - CONCAT(0x01, COMPRESS(text))와 같은 바이트 (끝이 공백이면 MySQL은 '.'을 덧붙임)
+        String text = "마이그레이션 스크립트로 변환된 설명 ";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater();
+        deflater.setInput(utf8);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(CompressedText.ZLIB);
+        out.write(utf8.length);
+        out.write(utf8.length >>> 8);
+        out.write(utf8.length >>> 16);
+        out.write(utf8.length >>> 24);
+        byte[] buffer = new byte[256];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        out.write('.');
+
+        // when & then
+        assertThat(CompressedText.decode(out.toByteArray())).isEqualTo(text);
+        // COMPRESS('')는 빈 문자열
+        assertThat(CompressedText.decode(new byte[]{CompressedText.ZLIB})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 헤더나 손상된 압축 데이터는 예외")
+    void rejectUnknownOrCorrupted() {
+        byte[] corrupted = CompressedText.encode("손상된 설명 ".repeat(100));
+        corrupted[8] ^= 0x5a;
+
+        assertThatThrownBy(() -> CompressedText.decode(new byte[]{0x7f, 1, 2}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("형식");
+        assertThatThrownBy(() -> CompressedText.decode(corrupted))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
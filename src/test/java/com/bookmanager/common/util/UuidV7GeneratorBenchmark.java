@@ -0,0 +1,64 @@
+package com.bookmanager.common.util;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * UUID v7 생성 처리량 비교 (기존 uuid-creator 라이브러리 vs UuidV7Generator)
+ *
+ * 실행: ./gradlew jmh (스레드 1, 2, 4, 8, 16, 32 순서로 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidV7GeneratorBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+    private static final int BATCH_SIZE = 1000;
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    // 기존 구현 (UuidCreator.getTimeOrderedEpoch().toString())
+    @Benchmark
+    public String library() {
+        return UuidCreator.getTimeOrderedEpoch().toString();
+    }
+
+    @Benchmark
+    public String generator() {
+        return generator.create();
+    }
+
+    // 대량 등록 경로 (호출당 1,000개 생성이므로 ID 기준 처리량은 ×1,000)
+    @Benchmark
+    public String[] generatorBatch() {
+        return generator.create(BATCH_SIZE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                .include(UuidV7GeneratorBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+
+}
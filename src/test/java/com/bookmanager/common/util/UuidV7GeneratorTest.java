@@ -0,0 +1,92 @@
+package com.bookmanager.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7Generator 테스트")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("RFC 9562 형식 (버전 7, variant 2, 소문자 8-4-4-4-12) + 앞 48비트는 밀리초")
+    void format() {
+        // given
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_123L);
+
+        // when
+        String id = generator.create();
+        UUID uuid = UUID.fromString(id);
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).isEqualTo(id);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_123L);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 + 시계 역행에서도 같은 스레드 안에서는 항상 증가")
+    void monotonicWithinMillisecond() {
+        // given - 100,000개마다 시계가 1초 뒤로 감
+        AtomicLong calls = new AtomicLong();
+        UuidV7Generator generator = new UuidV7Generator(
+            () -> 1_700_000_000_000L - calls.getAndIncrement() / 100_000 * 1000);
+
+        // when
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            ids.add(generator.create());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 결과도 생성 순서대로 증가하고 직전 단건 생성보다 큼")
+    void batch() {
+        // given
+        UuidV7Generator generator = new UuidV7Generator();
+        String before = generator.create();
+
+        // when
+        String[] ids = generator.create(10_000);
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids[0]).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("32개 스레드가 같은 밀리초에 생성해도 중복 없음")
+    void uniqueAcrossThreads() throws Exception {
+        // given - 모든 스레드가 같은 밀리초 (스레드 난수와 카운터로만 구분되는 경우)
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_000L);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 32; t++) {
+            futures.add(executor.submit(() -> ids.addAll(List.of(generator.create(50_000)))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(32 * 50_000);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.bookmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * H2는 DDL 실행 시 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BinaryUuidType 테스트")
+class BinaryUuidTypeTest {
+
+    // 저장 형식 비교는 -Pbenchmark일 때만 실행, 10M 행 측정: ./gradlew test -Pbenchmark -Duuid.benchmark.rows=10000000
+    private static final int BENCHMARK_ROWS = Integer.getInteger("uuid.benchmark.rows", 200_000);
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_bench_string");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_bench_binary");
+    }
+
+    @Test
+    @DisplayName("16바이트로 저장하고 문자열로 조회 + bookId 정렬 순서 유지")
+    void storeAsBinary() {
+        // given
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            books.add(Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("Book " + i)
+                .author("Author")
+                .isbn(String.format("978%010d", i))
+                .price(10000)
+                .stockQuantity(1)
+                .status(BookStatus.AVAILABLE)
+                .build());
+        }
+        bookRepository.saveAllBatched(books);
+        String bookId = books.get(0).getBookId();
+
+        // when
+        Book found = bookRepository.findById(bookId).orElseThrow();
+        byte[] stored = jdbcTemplate.queryForObject("SELECT book_id FROM book WHERE isbn = ?", byte[].class,
+            found.getIsbn());
+        List<String> ordered = bookRepository.findBookIdBatch(UuidBinary.MIN, PageRequest.of(0, 1000));
+
+        // then
+        assertThat(found.getBookId()).isEqualTo(bookId);
+        assertThat(stored).hasSize(16).isEqualTo(UuidBinary.toBytes(bookId));
+        assertThat(ordered).hasSize(500).isSorted();
+        // 형식이 잘못된 ID는 VARCHAR 때와 같이 조회 결과 없음
+        assertThat(bookRepository.findById("not-a-uuid")).isEmpty();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("UUID 저장 형식별 INSERT 처리량 + 테이블/인덱스 크기 비교 (VARCHAR(36) vs BINARY(16))")
+    void compareStorage() {
+        // given - book과 같은 형태의 PK + 보조 인덱스 2개 (InnoDB 보조 인덱스는 엔트리마다 PK 포함)
+        for (String[] table : new String[][]{{"uuid_bench_string", "VARCHAR(36)"},
+            {"uuid_bench_binary", "BINARY(16)"}}) {
+            jdbcTemplate.execute("CREATE TABLE " + table[0] + " (id " + table[1] + " NOT NULL PRIMARY KEY, "
+                + "category VARCHAR(50), created_at TIMESTAMP(6))");
+            jdbcTemplate.execute("CREATE INDEX idx_" + table[0] + "_category ON " + table[0] + " (category)");
+            jdbcTemplate.execute("CREATE INDEX idx_" + table[0] + "_created_at ON " + table[0] + " (created_at)");
+        }
+
+        // when
+        long stringMillis = insert("uuid_bench_string", id -> id);
+        long binaryMillis = insert("uuid_bench_binary", UuidBinary::toBytes);
+
+        // then
+        long stringBytes = diskSpaceUsed("UUID_BENCH_STRING");
+        long binaryBytes = diskSpaceUsed("UUID_BENCH_BINARY");
+        log.info("UUID 저장 형식 비교 ({}행) - VARCHAR(36): {}ms, {} rows/sec, {} bytes / BINARY(16): {}ms, "
+                + "{} rows/sec, {} bytes",
+            BENCHMARK_ROWS, stringMillis, rowsPerSecond(stringMillis), stringBytes,
+            binaryMillis, rowsPerSecond(binaryMillis), binaryBytes);
+        // InnoDB 기준 키 크기: VARCHAR(36) utf8mb4 = 36 + 길이 1바이트, BINARY(16) = 16 (PK + 보조 인덱스 2개)
+        log.info("InnoDB 예상 키 크기 - VARCHAR(36): {} MB, BINARY(16): {} MB",
+            37L * 3 * BENCHMARK_ROWS / (1024 * 1024), 16L * 3 * BENCHMARK_ROWS / (1024 * 1024));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM uuid_bench_binary", Long.class))
+            .isEqualTo(BENCHMARK_ROWS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM uuid_bench_string", Long.class))
+            .isEqualTo(BENCHMARK_ROWS);
+    }
+
+    private long insert(String table, Function<String, Object> idMapper) {
+        String sql = "INSERT INTO " + table + " (id, category, created_at) VALUES (?, ?, ?)";
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROWS; i++) {
+            rows.add(new Object[]{idMapper.apply(UuidV7Creator.create()), "CAT" + i % 20, now});
+            if (rows.size() == INSERT_BATCH || i == BENCHMARK_ROWS - 1) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    // H2 테이블 + 인덱스가 차지하는 저장 공간 (인메모리 DB에서는 페이지 기준 근사값)
+    private long diskSpaceUsed(String table) {
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('" + table + "')", Long.class);
+    }
+
+    private static long rowsPerSecond(long millis) {
+        return BENCHMARK_ROWS * 1000L / Math.max(millis, 1);
+    }
+
+}
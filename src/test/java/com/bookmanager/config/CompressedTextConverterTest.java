@@ -0,0 +1,189 @@
+package com.bookmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.entity.BookDetail;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * H2는 DDL 실행 시 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CompressedTextConverter 테스트")
+class CompressedTextConverterTest {
+
+    // 저장 형식 비교는 -Pbenchmark일 때만 실행, 대량 측정: ./gradlew test -Pbenchmark -Ddescription.benchmark.rows=100000
+    private static final int BENCHMARK_ROWS = Integer.getInteger("description.benchmark.rows", 5_000);
+    private static final int INSERT_BATCH = 500;
+    private static final int READ_SAMPLES = 2_000;
+
+    // 실제 도서 설명처럼 자주 쓰이는 단어가 반복되는 어휘 (앞쪽일수록 자주 등장)
+    private static final String[] VOCABULARY = {
+        "이", "책은", "the", "and", "독자", "개발자", "of", "위한", "to", "입문서", "스프링", "Java",
+        "실무", "예제", "a", "in", "설명합니다", "데이터베이스", "성능", "설계", "for", "with", "코드",
+        "테스트", "JPA", "architecture", "패턴", "알고리즘", "구조", "응용", "이해", "programming",
+        "클라우드", "분산", "시스템", "guide", "best", "practices", "초보자도", "쉽게", "따라할", "수",
+        "있도록", "단계별로", "구성되어", "있습니다", "저자는", "현업에서", "경험을", "바탕으로", "핵심",
+        "개념과", "원리를", "다룹니다", "microservices", "transaction", "index", "query", "optimization",
+        "리팩터링", "동시성", "보안", "운영", "모니터링", "배포", "자동화", "Kubernetes", "Docker"
+    };
+
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        bookDetailRepository.deleteAllInBatch();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS description_bench_text");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS description_bench_compressed");
+    }
+
+    @Test
+    @DisplayName("긴 설명은 ZLIB 헤더와 함께 압축 저장, 짧은 설명은 RAW로 저장하고 원문 그대로 조회")
+    void storeCompressed() {
+        // given
+        String longId = UuidV7Creator.create();
+        String shortId = UuidV7Creator.create();
+        String longText = description(new Random(1));
+        bookDetailRepository.saveAll(List.of(
+            new BookDetail(longId, longText), new BookDetail(shortId, "짧은 설명")));
+
+        // when
+        byte[] stored = jdbcTemplate.queryForObject("SELECT description FROM book_detail WHERE book_id = ?",
+            byte[].class, (Object) UuidBinary.toBytes(longId));
+        byte[] storedShort = jdbcTemplate.queryForObject("SELECT description FROM book_detail WHERE book_id = ?",
+            byte[].class, (Object) UuidBinary.toBytes(shortId));
+
+        // then
+        assertThat(stored[0]).isEqualTo(CompressedText.ZLIB);
+        assertThat(stored.length).isLessThan(longText.getBytes(StandardCharsets.UTF_8).length / 2);
+        assertThat(storedShort[0]).isEqualTo(CompressedText.RAW);
+        assertThat(bookDetailRepository.findDescriptionById(longId)).contains(longText);
+        assertThat(bookDetailRepository.findById(shortId).orElseThrow().getDescription()).isEqualTo("짧은 설명");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("설명 저장 형식별 크기 + 단건 조회 지연 비교 (TEXT vs 압축 BLOB)")
+    void compareStorage() {
+        // given - H2는 LOB를 테이블 밖에 저장하므로 행 안에 저장되는 VARCHAR/VARBINARY로 비교
+        jdbcTemplate.execute("CREATE TABLE description_bench_text "
+            + "(id BINARY(16) NOT NULL PRIMARY KEY, description VARCHAR(65535))");
+        jdbcTemplate.execute("CREATE TABLE description_bench_compressed "
+            + "(id BINARY(16) NOT NULL PRIMARY KEY, description VARBINARY(65535))");
+        List<byte[]> ids = new ArrayList<>(BENCHMARK_ROWS);
+        List<String> descriptions = new ArrayList<>(BENCHMARK_ROWS);
+        Random random = new Random(42);
+        for (int i = 0; i < BENCHMARK_ROWS; i++) {
+            ids.add(UuidBinary.toBytes(UuidV7Creator.create()));
+            descriptions.add(description(random));
+        }
+
+        // when
+        insert("description_bench_text", ids, descriptions, text -> text);
+        insert("description_bench_compressed", ids, descriptions, CompressedText::encode);
+        long textReadNanos = medianReadNanos("description_bench_text", ids,
+            id -> jdbcTemplate.queryForObject("SELECT description FROM description_bench_text WHERE id = ?",
+                String.class, (Object) id));
+        long compressedReadNanos = medianReadNanos("description_bench_compressed", ids,
+            id -> CompressedText.decode(jdbcTemplate.queryForObject(
+                "SELECT description FROM description_bench_compressed WHERE id = ?", byte[].class, (Object) id)));
+
+        // then
+        long textBytes = octetLength("description_bench_text");
+        long compressedBytes = octetLength("description_bench_compressed");
+        log.info("설명 저장 형식 비교 ({}행) - TEXT: {} bytes (테이블 {} bytes), 단건 조회 중앙값 {}us / "
+                + "압축: {} bytes (테이블 {} bytes), 단건 조회(압축 해제 포함) 중앙값 {}us",
+            BENCHMARK_ROWS, textBytes, diskSpaceUsed("DESCRIPTION_BENCH_TEXT"), textReadNanos / 1000,
+            compressedBytes, diskSpaceUsed("DESCRIPTION_BENCH_COMPRESSED"), compressedReadNanos / 1000);
+        assertThat(compressedBytes).isLessThan(textBytes / 2);
+        int sample = BENCHMARK_ROWS / 2;
+        assertThat(CompressedText.decode(jdbcTemplate.queryForObject(
+            "SELECT description FROM description_bench_compressed WHERE id = ?", byte[].class,
+            (Object) ids.get(sample)))).isEqualTo(descriptions.get(sample));
+    }
+
+    // 2~6KB(UTF-8) 분량의 한글/영문 혼합 설명, 단어 빈도는 Zipf 분포에 가깝게
+    private static String description(Random random) {
+        int targetBytes = 2048 + random.nextInt(4096);
+        StringBuilder text = new StringBuilder();
+        int bytes = 0;
+        while (bytes < targetBytes) {
+            double u = random.nextDouble();
+            String word = VOCABULARY[(int) (VOCABULARY.length * u * u * u)];
+            if (random.nextInt(40) == 0) {
+                // 고유명사/숫자처럼 반복되지 않는 토큰
+                word = word + random.nextInt(10_000);
+            }
+            text.append(word).append(random.nextInt(12) == 0 ? ". " : " ");
+            bytes += word.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        return text.toString();
+    }
+
+    private void insert(String table, List<byte[]> ids, List<String> descriptions, Function<String, Object> mapper) {
+        String sql = "INSERT INTO " + table + " (id, description) VALUES (?, ?)";
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[]{ids.get(i), mapper.apply(descriptions.get(i))});
+            if (rows.size() == INSERT_BATCH || i == ids.size() - 1) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    // 무작위 PK 단건 조회 지연의 중앙값 (상세 조회 API와 같은 접근 패턴)
+    private long medianReadNanos(String table, List<byte[]> ids, Function<byte[], String> reader) {
+        Random random = new Random(7);
+        long[] samples = new long[READ_SAMPLES];
+        for (int i = 0; i < READ_SAMPLES; i++) {
+            byte[] id = ids.get(random.nextInt(ids.size()));
+            long start = System.nanoTime();
+            String description = reader.apply(id);
+            samples[i] = System.nanoTime() - start;
+            assertThat(description).as(table).isNotEmpty();
+        }
+        Arrays.sort(samples);
+        return samples[READ_SAMPLES / 2];
+    }
+
+    private long octetLength(String table) {
+        return jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(description)) FROM " + table, Long.class);
+    }
+
+    // H2 테이블 + 인덱스가 차지하는 저장 공간 (인메모리 DB에서는 페이지 기준 근사값)
+    private long diskSpaceUsed(String table) {
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('" + table + "')", Long.class);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.bookmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.MemberStatus;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.entity.BookDetail;
+import com.bookmanager.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 한 트랜잭션에서 관리 중인 Book/Member가 1 / 100 / 10,000건일 때 flush 비용 비교
+ *
+ * 규모마다 같은 건수의 도서와 회원을 읽은 뒤
+ * - 변경 없음: 읽기만 하고 flush (일반 빌드는 모든 엔티티를 스냅샷과 비교, 향상 빌드는 바뀐 속성 기록만 확인)
+ * - 1건 변경: 도서 한 건의 재고만 바꾸고 flush (updateBook/재고 변경처럼 일부만 수정하는 트랜잭션)
+ * - 전체 변경: 모든 도서 재고와 회원 연락처를 바꾸고 flush (UPDATE 실행 시간 포함)
+ * flush 호출 구간만 측정, 반복마다 clear 후 다시 읽어 영속성 컨텍스트를 같은 상태로 맞춤
+ *
+ * 일반 빌드와 바이트코드 향상 빌드 비교 (측정은 -Pbenchmark일 때만 실행)
+ *   ./gradlew test -Pbenchmark --tests '*FlushCostBenchmarkTest*'
+ *   ./gradlew test -Pbenchmark --tests '*FlushCostBenchmarkTest*' -PhibernateEnhance
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("flush 비용 벤치마크")
+class FlushCostBenchmarkTest {
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final int INSERT_BATCH = 1_000;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @ParameterizedTest(name = "관리 엔티티 {0}건씩")
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @ValueSource(ints = {1, 100, 10_000})
+    @DisplayName("변경 없음 / 1건 변경 / 전체 변경 flush 시간")
+    void flushCost(int size) {
+        // given
+        insert(size);
+
+        // when
+        long clean = measure((books, members) -> {
+        });
+        long one = measure((books, members) -> books.get(0).addStock(1));
+        long all = measure((books, members) -> {
+            books.forEach(book -> book.addStock(1));
+            members.forEach(member -> member.updateMemberInfo(member.getName(), "010-9999-" + member.getPhone()
+                .substring(member.getPhone().length() - 4)));
+        });
+
+        // then
+        log.info("flush 비용 ({}) - Book/Member 각 {}건, 변경 없음: {}us, 1건 변경: {}us, 전체 변경: {}us",
+            SelfDirtinessTracker.class.isAssignableFrom(Book.class) ? "바이트코드 향상" : "스냅샷 비교",
+            size, clean / 1_000, one / 1_000, all / 1_000);
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        entityManager.clear();
+        assertThat(entityManager.find(Book.class, firstBookId()).getStockQuantity())
+            .isEqualTo(1 + WARMUP + ITERATIONS + WARMUP + ITERATIONS);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.hibernate.enhanced", matches = "true")
+    @DisplayName("향상 빌드 - 엔티티가 바뀐 속성을 직접 기록하고, 설명은 접근할 때 로딩")
+    void enhancedEntities() {
+        // given
+        insert(1);
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        String bookId = firstBookId();
+        entityManager.persist(new BookDetail(bookId, "지연 로딩 설명"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Book book = entityManager.find(Book.class, bookId);
+        book.addStock(1);
+        BookDetail detail = entityManager.find(BookDetail.class, bookId);
+        boolean loadedWithEntity = Hibernate.isPropertyInitialized(detail, "description");
+
+        // then
+        assertThat(book).isInstanceOf(SelfDirtinessTracker.class);
+        assertThat(((SelfDirtinessTracker) book).$$_hibernate_getDirtyAttributes()).contains("stockQuantity");
+        assertThat(loadedWithEntity).isFalse();
+        assertThat(detail.getDescription()).isEqualTo("지연 로딩 설명");
+        assertThat(Hibernate.isPropertyInitialized(detail, "description")).isTrue();
+    }
+
+    // 반복마다 전체를 다시 읽고 변경을 적용한 뒤 flush 시간만 측정 (중앙값, ns)
+    private long measure(BiConsumer<List<Book>, List<Member>> change) {
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            entityManager.clear();
+            List<Book> books = entityManager.createQuery("SELECT b FROM Book b ORDER BY b.bookId", Book.class)
+                .getResultList();
+            List<Member> members = entityManager.createQuery("SELECT m FROM Member m", Member.class)
+                .getResultList();
+            change.accept(books, members);
+
+            long start = System.nanoTime();
+            entityManager.flush();
+            if (i >= WARMUP) {
+                elapsed[i - WARMUP] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+        return elapsed[ITERATIONS / 2];
+    }
+
+    private void insert(int size) {
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        for (int i = 0; i < size; i++) {
+            entityManager.persist(Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("flush 도서 " + i)
+                .author("저자 " + i % 100)
+                .isbn("978" + String.format("%010d", i))
+                .publisher("출판사 " + i % 20)
+                .price(10000 + i % 50 * 500)
+                .stockQuantity(1)
+                .category("CAT" + i % 20)
+                .status(BookStatus.AVAILABLE)
+                .build());
+            entityManager.persist(Member.builder()
+                .memberId(UuidV7Creator.create())
+                .email("flush" + i + "@test.com")
+                .password("password")
+                .name("회원 " + i)
+                .phone(String.format("010-0000-%04d", i % 10_000))
+                .status(MemberStatus.ACTIVE)
+                .build());
+            if ((i + 1) % INSERT_BATCH == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String firstBookId() {
+        return testEntityManager.getEntityManager()
+            .createQuery("SELECT b.bookId FROM Book b ORDER BY b.bookId", String.class)
+            .setMaxResults(1)
+            .getSingleResult();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.bookmanager.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.http.Cookie;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 프라이머리/리플리카를 각각 H2 인메모리 DB로 두고 복제 지연 시뮬레이터로 복제
+ * 자동 반영은 1시간 뒤로 미뤄 두고 syncNow()로 복제 완료 시점을 직접 제어
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.show-sql=false",
+    "bookstore.datasource.routing.enabled=true",
+    "bookstore.datasource.sticky-window-ms=5000",
+    "bookstore.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "bookstore.datasource.replica.lag-simulation.enabled=true",
+    "bookstore.datasource.replica.lag-simulation.lag-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("읽기/쓰기 데이터소스 라우팅 테스트")
+class ReplicationRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaLagSimulator replicaLagSimulator;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        primary.update("DELETE FROM book_detail");
+        primary.update("DELETE FROM book");
+        replicaLagSimulator.syncNow();
+    }
+
+    @Test
+    @DisplayName("쓰기는 프라이머리, 다른 클라이언트의 읽기는 복제가 끝나기 전까지 리플리카의 이전 상태")
+    void readOnlyGoesToReplica() throws Exception {
+        // given
+        String bookId = bookIdOf(createBook("9788900000001"));
+
+        // when & then - 프라이머리에는 있지만 리플리카에는 아직 없음
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject("SELECT COUNT(*) FROM book", Long.class))
+            .isEqualTo(1);
+        mockMvc.perform(get("/api/books/{bookId}", bookId))
+            .andExpect(status().isNotFound());
+
+        // when & then - 복제 후에는 리플리카에서 조회
+        replicaLagSimulator.syncNow();
+        mockMvc.perform(get("/api/books/{bookId}", bookId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.isbn").value("9788900000001"))
+            .andExpect(jsonPath("$.data.description").value("replicated description"));
+    }
+
+    @Test
+    @DisplayName("쓰기한 클라이언트는 쿠키로 sticky-window 동안 프라이머리에서 읽음 (read-your-writes)")
+    void readYourWrites() throws Exception {
+        // given
+        MvcResult created = createBook("9788900000002");
+        Cookie lastWrite = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        String bookId = bookIdOf(created);
+
+        // when & then - 복제 전이어도 쓰기한 클라이언트는 바로 조회
+        assertThat(lastWrite).isNotNull();
+        mockMvc.perform(get("/api/books/{bookId}", bookId).cookie(lastWrite))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.bookId").value(bookId));
+        // 읽기 요청은 쓰기 시각 쿠키를 새로 발급하지 않음
+        mockMvc.perform(get("/api/books/{bookId}", bookId).cookie(lastWrite))
+            .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    @DisplayName("sticky-window가 지난 쿠키나 잘못된 쿠키는 리플리카로 라우팅")
+    void expiredWindowGoesToReplica() throws Exception {
+        // given
+        String bookId = bookIdOf(createBook("9788900000003"));
+        Cookie expired = new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+            Long.toString(System.currentTimeMillis() - 10_000));
+        Cookie malformed = new Cookie(ReadYourWritesFilter.COOKIE_NAME, "primary");
+
+        // when & then
+        mockMvc.perform(get("/api/books/{bookId}", bookId).cookie(expired))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/books/{bookId}", bookId).cookie(malformed))
+            .andExpect(status().isNotFound());
+    }
+
+    private MvcResult createBook(String isbn) throws Exception {
+        String body = """
+            {"title": "복제 지연 테스트", "author": "테스터", "isbn": "%s", "price": 15000,
+             "stockQuantity": 3, "description": "replicated description", "category": "IT"}
+            """.formatted(isbn);
+        return mockMvc.perform(post("/api/books").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+            .andReturn();
+    }
+
+    private static String bookIdOf(MvcResult result) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.data.bookId");
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.bookmanager.domain.book.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dto.response.InventoryValuationResponse.Group;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("InventoryColumns 테스트")
+class InventoryColumnsTest {
+
+    private static final int BOOK_COUNT = 3000;
+    private static final String[] CATEGORIES = {"IT", "소설", "경제", "과학", null};
+    private static final String[] PUBLISHERS = {"한빛", "길벗", "위키북스", "인사이트", "제이펍", null};
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private InventoryColumns columns;
+
+    /**
+     * 카테고리/출판사/상태가 섞이도록 (null 포함) 도서를 저장하고 keyset 배치 조회로 컬럼 생성
+     */
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        BookStatus[] statuses = BookStatus.values();
+        List<Book> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("Book " + i)
+                .author("Author " + (i % 100))
+                .isbn(String.format("978%010d", i))
+                .publisher(PUBLISHERS[random.nextInt(PUBLISHERS.length)])
+                .price((random.nextInt(50) + 1) * 1000)
+                .stockQuantity(random.nextInt(100))
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .status(statuses[random.nextInt(statuses.length)])
+                .build());
+        }
+        bookRepository.saveAll(books);
+        bookRepository.flush();
+
+        columns = new InventoryColumns();
+        String lastBookId = UuidBinary.MIN;
+        while (true) {
+            List<Object[]> rows = bookRepository.findInventoryBatch(lastBookId, PageRequest.of(0, 1000));
+            for (Object[] row : rows) {
+                columns.upsert((String) row[0], (Integer) row[1], (Integer) row[2], (String) row[3],
+                    (String) row[4], (BookStatus) row[5]);
+            }
+            if (rows.size() < 1000) {
+                break;
+            }
+            lastBookId = (String) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("기준/상태 필터별 집계 결과가 DB GROUP BY 결과와 같은지 비교")
+    void aggregate_MatchesDatabase() {
+        assertThat(columns.size()).isEqualTo(BOOK_COUNT);
+
+        for (InventoryDimension dimension : InventoryDimension.values()) {
+            for (BookStatus status : new BookStatus[]{null, BookStatus.AVAILABLE}) {
+                long dbStart = System.nanoTime();
+                List<Group> expected = databaseGroups(dimension, status);
+                long dbElapsed = System.nanoTime() - dbStart;
+
+                long memoryStart = System.nanoTime();
+                List<Group> actual = columns.aggregate(dimension, status, pool);
+                long memoryElapsed = System.nanoTime() - memoryStart;
+
+                log.info("재고 평가 비교 - GroupBy: {}, Status: {}, DB: {}us, Columns: {}us",
+                    dimension, status, dbElapsed / 1000, memoryElapsed / 1000);
+
+                assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("점진적 갱신 (등록/가격·재고 변경/분류 변경/삭제/재등록) 반영 테스트")
+    void incrementalMaintenance() {
+        // given
+        InventoryColumns incremental = new InventoryColumns();
+        String first = UuidV7Creator.create();
+        String second = UuidV7Creator.create();
+        incremental.upsert(first, 10000, 3, "IT", "한빛", BookStatus.AVAILABLE);
+        incremental.upsert(second, 20000, 2, "IT", "길벗", BookStatus.AVAILABLE);
+
+        // when - 같은 도서 재반영은 중복 집계되지 않고, 카테고리 이동/삭제가 반영됨
+        incremental.upsert(first, 15000, 4, "소설", "한빛", BookStatus.AVAILABLE);
+        incremental.upsert(first, 15000, 4, "소설", "한빛", BookStatus.AVAILABLE);
+        incremental.remove(second);
+        incremental.remove(second);
+
+        // then
+        assertThat(incremental.size()).isEqualTo(1);
+        assertThat(incremental.aggregate(InventoryDimension.CATEGORY, null, pool))
+            .containsExactly(new Group("소설", 1, 4, 60000));
+        assertThat(incremental.aggregate(InventoryDimension.STATUS, BookStatus.DISCONTINUED, pool)).isEmpty();
+
+        // 삭제 이벤트보다 늦게 도착한 등록/수정 이벤트는 다시 반영
+        incremental.upsert(second, 20000, 1, null, null, BookStatus.OUT_OF_STOCK);
+        assertThat(incremental.size()).isEqualTo(2);
+        assertThat(incremental.aggregate(InventoryDimension.PUBLISHER, BookStatus.OUT_OF_STOCK, pool))
+            .containsExactly(new Group(null, 1, 1, 20000));
+    }
+
+    @Test
+    @DisplayName("여러 리프 작업으로 나뉘는 행 수에서 병렬 집계 결과가 순차 계산과 같은지 비교")
+    void parallelAggregation_MatchesSequentialSum() {
+        // given - 해시 테이블/컬럼 배열 확장이 여러 번 일어나는 크기
+        int rows = InventoryColumns.LEAF_ROWS * 5 + 123;
+        Random random = new Random(7);
+        InventoryColumns large = new InventoryColumns();
+        Map<String, long[]> expected = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            String bookId = UuidV7Creator.create();
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            int price = random.nextInt(100_000);
+            int stockQuantity = random.nextInt(1000);
+            large.upsert(bookId, price, stockQuantity, category, "출판사 " + (i % 500), BookStatus.AVAILABLE);
+            if (i % 10 == 0) {
+                large.remove(bookId);
+                continue;
+            }
+            long[] totals = expected.computeIfAbsent(category, key -> new long[3]);
+            totals[0]++;
+            totals[1] += stockQuantity;
+            totals[2] += (long) price * stockQuantity;
+        }
+
+        // when
+        long start = System.nanoTime();
+        List<Group> groups = large.aggregate(InventoryDimension.CATEGORY, null, pool);
+        log.info("재고 평가 병렬 집계 - Rows: {}, Elapsed: {}us, Memory: {}KB",
+            rows, (System.nanoTime() - start) / 1000, large.estimatedBytes() / 1024);
+
+        // then
+        assertThat(large.size()).isEqualTo(rows - (rows + 9) / 10);
+        assertThat(groups).containsExactlyInAnyOrderElementsOf(expected.entrySet().stream()
+            .map(entry -> new Group(entry.getKey(), entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+            .toList());
+        // i % 10 == 0 인 행은 삭제했으므로 "출판사 0", "출판사 10", ... 50개 그룹은 남지 않음
+        assertThat(large.aggregate(InventoryDimension.PUBLISHER, null, pool)).hasSize(450);
+    }
+
+    private List<Group> databaseGroups(InventoryDimension dimension, BookStatus status) {
+        List<Object[]> rows = switch (dimension) {
+            case CATEGORY -> bookRepository.sumInventoryByCategory(status);
+            case PUBLISHER -> bookRepository.sumInventoryByPublisher(status);
+            case STATUS -> bookRepository.sumInventoryByStatus(status);
+        };
+        return rows.stream()
+            .map(row -> new Group(row[0] instanceof BookStatus bookStatus ? bookStatus.name() : (String) row[0],
+                ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), ((Number) row[3]).longValue()))
+            .toList();
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.bookmanager.domain.book.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dto.response.PriceDistributionResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+@DisplayName("PriceSketch 가격 분위수 스케치 테스트")
+class PriceSketchTest {
+
+    private static final double[] QUANTILES = {0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0};
+
+    @Test
+    @DisplayName("분위수 상대 오차는 RELATIVE_ACCURACY(1%) + 반올림 0.5원 이하")
+    void quantileWithinRelativeAccuracy() {
+        // given - 균등 / 로그 정규(긴 꼬리) / 몇 가지 가격에 몰린 분포
+        Random random = new Random(42);
+        int[][] distributions = new int[3][200_000];
+        int[] popularPrices = {9900, 12000, 15000, 18000, 22000, 35000};
+        for (int i = 0; i < 200_000; i++) {
+            distributions[0][i] = 1000 + random.nextInt(99_000);
+            distributions[1][i] = (int) Math.min(10_000_000, Math.exp(9.8 + random.nextGaussian()));
+            distributions[2][i] = popularPrices[random.nextInt(popularPrices.length)];
+        }
+
+        for (int[] prices : distributions) {
+            PriceSketch sketch = new PriceSketch();
+            for (int price : prices) {
+                sketch.add(price);
+            }
+            int[] sorted = prices.clone();
+            Arrays.sort(sorted);
+
+            // then
+            for (double q : QUANTILES) {
+                int exact = sorted[(int) (q * (sorted.length - 1))];
+                assertThat((double) sketch.quantile(q))
+                    .isCloseTo(exact, within(exact * PriceSketch.RELATIVE_ACCURACY + 0.5));
+            }
+            assertThat(sketch.count()).isEqualTo(prices.length);
+        }
+    }
+
+    @Test
+    @DisplayName("스케치 메모리는 도서 수가 아니라 가격 범위의 로그에 비례 (1원 ~ 1천만원에서 6KB 미만)")
+    void memoryIsBoundedByPriceRange() {
+        // given - 전체 가격 범위를 덮는 100만 건
+        PriceSketch sketch = new PriceSketch();
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.add(1 + (int) Math.exp(random.nextDouble() * Math.log(10_000_000)));
+        }
+
+        // then - ln(1e7) / ln(1.01 / 0.99) ≈ 806 버킷 * int 4 byte ≈ 3.2KB, 배열 확장 여유(최대 1.5배) 포함
+        log.info("가격 스케치 메모리 - Count: {}, Buckets: {}B", sketch.count(), sketch.estimatedBytes());
+        assertThat(sketch.estimatedBytes()).isLessThan(6 * 1024);
+    }
+
+    @Test
+    @DisplayName("병합 결과는 전체 데이터로 만든 스케치와 같고, 제거는 추가를 정확히 되돌림")
+    void mergeAndRemoveAreExact() {
+        // given
+        Random random = new Random(3);
+        PriceSketch all = new PriceSketch();
+        PriceSketch left = new PriceSketch();
+        PriceSketch right = new PriceSketch();
+        List<Integer> removed = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            int price = random.nextInt(100) == 0 ? 0 : 500 + random.nextInt(200_000);
+            all.add(price);
+            (i % 2 == 0 ? left : right).add(price);
+            if (i % 3 == 0) {
+                removed.add(price);
+            }
+        }
+
+        // when
+        PriceSketch merged = left.copy();
+        merged.merge(right);
+        PriceSketch reduced = all.copy();
+        PriceSketch remaining = new PriceSketch();
+        removed.forEach(reduced::remove);
+        random = new Random(3);
+        for (int i = 0; i < 50_000; i++) {
+            int price = random.nextInt(100) == 0 ? 0 : 500 + random.nextInt(200_000);
+            if (i % 3 != 0) {
+                remaining.add(price);
+            }
+        }
+
+        // then
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q)).isEqualTo(all.quantile(q));
+            assertThat(reduced.quantile(q)).isEqualTo(remaining.quantile(q));
+        }
+        assertThat(reduced.count()).isEqualTo(remaining.count());
+        assertThat(new PriceSketch().quantile(0.5)).isNull();
+    }
+
+    @Test
+    @DisplayName("히스토그램 구간 합계는 도서 수와 같고 구간은 최소~최대 가격을 같은 폭으로 덮음")
+    void histogramCoversRange() {
+        // given
+        PriceSketch sketch = new PriceSketch();
+        for (int price = 10_000; price <= 50_000; price += 100) {
+            sketch.add(price);
+        }
+
+        // when
+        List<PriceDistributionResponse.Bin> histogram = sketch.histogram(8);
+
+        // then
+        assertThat(histogram).hasSize(8);
+        assertThat(histogram.stream().mapToLong(PriceDistributionResponse.Bin::books).sum())
+            .isEqualTo(sketch.count());
+        assertThat((double) histogram.get(0).minPrice()).isCloseTo(10_000, within(10_000 * 0.01 + 1));
+        assertThat((double) histogram.get(7).maxPrice()).isGreaterThanOrEqualTo(50_000 * 0.99);
+        assertThat(histogram).allSatisfy(bin -> assertThat(bin.books()).isPositive());
+    }
+
+    @Test
+    @DisplayName("InventoryColumns는 가격 변경/카테고리 이동/삭제 시 카테고리별 스케치를 갱신")
+    void columnsMaintainSketchesPerCategory() {
+        // given
+        InventoryColumns columns = new InventoryColumns();
+        String moved = UuidV7Creator.create();
+        String deleted = UuidV7Creator.create();
+        for (int i = 0; i < 100; i++) {
+            columns.upsert(UuidV7Creator.create(), 10_000 + i * 100, 1, "IT", null, BookStatus.AVAILABLE);
+        }
+        columns.upsert(moved, 90_000, 1, "IT", null, BookStatus.AVAILABLE);
+        columns.upsert(deleted, 80_000, 1, "IT", null, BookStatus.AVAILABLE);
+
+        // when - 같은 변경을 두 번 반영해도 결과 동일
+        columns.upsert(moved, 15_000, 1, "소설", null, BookStatus.AVAILABLE);
+        columns.upsert(moved, 15_000, 1, "소설", null, BookStatus.AVAILABLE);
+        columns.remove(deleted);
+        columns.remove(deleted);
+
+        // then
+        Map<String, PriceSketch> sketches = columns.priceSketchesByCategory();
+        assertThat(sketches.get("IT").count()).isEqualTo(100);
+        assertThat((double) sketches.get("IT").quantile(1.0)).isCloseTo(19_900, within(19_900 * 0.01 + 0.5));
+        assertThat(columns.priceSketch("소설").count()).isEqualTo(1);
+        assertThat(columns.priceSketch("없는 카테고리").count()).isZero();
+        assertThat(columns.mergedPriceSketch().count()).isEqualTo(101);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.bookmanager.domain.book.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.mapper.BookMapper;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport.Rejection;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.shard.BookShards;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("BookBulkLoader 테스트")
+class BookBulkLoaderTest {
+
+    // 처리량 측정은 -Pbenchmark일 때만 실행: ./gradlew test -Pbenchmark --tests '*BookBulkLoaderTest*'
+    private static final int BENCHMARK_ROWS = 100_000;
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookBatchWriter bookBatchWriter;
+    private BookBulkLoader bookBulkLoader;
+
+    @BeforeEach
+    void setUp() {
+        bookBatchWriter = new BookBatchWriter(bookRepository, BookShards.single(), Mappers.getMapper(BookMapper.class),
+            bookDictionary, jdbcTemplate, transactionManager, eventPublisher);
+        bookBulkLoader = new BookBulkLoader(bookBatchWriter, VALIDATOR, 100, 500, 4, 1000);
+    }
+
+    @Test
+    @DisplayName("검증 실패, 파일 내 중복, 기존 ISBN은 줄 번호와 사유와 함께 거부")
+    void loadWithRejections() throws IOException {
+        // given
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO book (book_id, title, author_id, isbn, price, stock_quantity, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            UuidBinary.toBytes(UuidV7Creator.create()), "기존 도서",
+            bookDictionary.register(DictionaryKind.AUTHOR, "저자"), "9780000000009", 10000, 1, "AVAILABLE", now, now);
+
+        String csv = """
+            title,author,isbn,publisher,price,stock_quantity,description,category,status,published_at
+            Effective Java,Joshua Bloch,9780134685991,인사이트,36000,50,"Java 필독서, 3판",IT,,2018-01-01
+            "Clean ""Code""\",Robert C. Martin,9780132350884,,33000,0,"여러 줄
+            설명",IT,OUT_OF_STOCK,
+            ,저자 없음,9780000000001,,10000,1,,,,
+            가격 오류,저자,9780000000002,,-100,1,,,,
+            숫자 오류,저자,9780000000003,,abc,1,,,,
+            중복,저자,9780134685991,,10000,1,,,,
+            기존,저자,9780000000009,,10000,1,,,,
+            """;
+
+        // when
+        BulkLoadReport report = bookBulkLoader.load(toStream(csv));
+
+        // then
+        assertThat(report.getTotalRows()).isEqualTo(7);
+        assertThat(report.getInsertedRows()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).isEqualTo(5);
+        assertThat(report.getRejections()).extracting(Rejection::line).containsExactly(5L, 6L, 7L, 8L, 9L);
+        assertThat(report.getRejections().get(0).reason()).contains("title");
+        assertThat(report.getRejections().get(1).reason()).contains("가격은 양수여야 합니다.");
+        assertThat(report.getRejections().get(2).reason()).contains("price: 숫자 형식이 아닙니다.");
+        assertThat(report.getRejections().get(3).reason()).isEqualTo("파일 안에서 중복된 ISBN입니다.");
+        assertThat(report.getRejections().get(4).reason()).isEqualTo("이미 등록된 ISBN입니다.");
+
+        Book effectiveJava = bookRepository.findByIsbn("9780134685991").orElseThrow();
+        assertThat(bookDetailRepository.findDescriptionById(effectiveJava.getBookId())).contains("Java 필독서, 3판");
+        assertThat(effectiveJava.getStatus()).isEqualTo(BookStatus.AVAILABLE);
+        assertThat(effectiveJava.getPublishedAt()).isEqualTo(Instant.parse("2017-12-31T15:00:00Z"));
+
+        Book cleanCode = bookRepository.findByIsbn("9780132350884").orElseThrow();
+        assertThat(cleanCode.getTitle()).isEqualTo("Clean \"Code\"");
+        assertThat(bookDetailRepository.findDescriptionById(cleanCode.getBookId())).contains("여러 줄\n설명");
+        assertThat(cleanCode.getStatus()).isEqualTo(BookStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 헤더는 파일 전체 거부")
+    void loadWithoutRequiredColumn() {
+        String csv = "title,author,price\n자바,저자,10000\n";
+
+        assertThatThrownBy(() -> bookBulkLoader.load(toStream(csv)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("isbn")
+            .hasMessageContaining("stockquantity");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("10만 건 대량 등록 처리량 측정 (목표: 10초 이내)")
+    void loadThroughput() throws IOException {
+        // given - 1%는 검증 실패
+        StringBuilder csv = new StringBuilder(BENCHMARK_ROWS * 120)
+            .append("title,author,isbn,publisher,price,stockQuantity,description,category\n");
+        for (int i = 0; i < BENCHMARK_ROWS; i++) {
+            int price = i % 100 == 0 ? 0 : 10000 + i % 50 * 1000;
+            csv.append("Book ").append(i).append(",Author ").append(i % 100).append(",978")
+                .append(String.format("%010d", i)).append(",Publisher ").append(i % 20).append(',')
+                .append(price).append(',').append(i % 100).append(",\"설명, ").append(i).append("\",CAT")
+                .append(i % 20).append('\n');
+        }
+        bookBulkLoader = new BookBulkLoader(bookBatchWriter, VALIDATOR, 2000, 5000, 0, 1000);
+
+        // when
+        BulkLoadReport report = bookBulkLoader.load(toStream(csv.toString()));
+
+        // then
+        log.info("CSV 대량 등록 - Rows: {}, Inserted: {}, Rejected: {}, Elapsed: {}ms, Rows/sec: {}",
+            report.getTotalRows(), report.getInsertedRows(), report.getRejectedRows(),
+            report.getElapsedMillis(), report.getRowsPerSecond());
+        assertThat(report.getInsertedRows()).isEqualTo(BENCHMARK_ROWS - BENCHMARK_ROWS / 100);
+        assertThat(report.getRejectedRows()).isEqualTo(BENCHMARK_ROWS / 100);
+        assertThat(bookRepository.count()).isEqualTo(report.getInsertedRows());
+        assertThat(report.getElapsedMillis()).isLessThan(10_000);
+    }
+
+    private static InputStream toStream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
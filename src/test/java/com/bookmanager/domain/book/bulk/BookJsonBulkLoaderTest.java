@@ -0,0 +1,217 @@
+package com.bookmanager.domain.book.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.mapper.BookMapper;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.shard.BookShards;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Enumeration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("BookJsonBulkLoader 테스트")
+class BookJsonBulkLoaderTest {
+
+    // 처리량 측정은 -Pbenchmark일 때만 실행: ./gradlew test -Pbenchmark --tests '*BookJsonBulkLoaderTest*'
+    private static final int BENCHMARK_ITEMS = 100_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private BookJsonBulkLoader bookJsonBulkLoader;
+
+    @BeforeEach
+    void setUp() {
+        bookJsonBulkLoader = loader(2);
+    }
+
+    @Test
+    @DisplayName("건별 결과를 요청 순서대로 기록 (검증 실패, 형식 오류, 중복, 기존 ISBN은 거부)")
+    void loadWithRejections() throws IOException {
+        // given - 배치 크기 2: 0~1 / 2~3 / 4~5 / 6~7
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO book (book_id, title, author_id, isbn, price, stock_quantity, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            UuidBinary.toBytes(UuidV7Creator.create()), "기존 도서",
+            bookDictionary.register(DictionaryKind.AUTHOR, "저자"), "9780000000009", 10000, 1, "AVAILABLE", now, now);
+
+        String body = "[" + String.join(",",
+            book("Effective Java", "9780134685991", "36000"),
+            book("", "9780000000001", "10000"),
+            book("가격 형식 오류", "9780000000002", "\"abc\""),
+            "42",
+            book("기존", "9780000000009", "10000"),
+            book("이전 배치 중복", "9780134685991", "36000"),
+            book("Clean Code", "9780132350884", "33000"),
+            book("같은 배치 중복", "9780132350884", "33000")) + "]";
+
+        // when
+        JsonNode report = load(body);
+
+        // then
+        JsonNode results = report.get("results");
+        assertThat(results).hasSize(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(results.get(i).get("index").asInt()).isEqualTo(i);
+        }
+        assertThat(results.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(0).get("bookId").asText())
+            .isEqualTo(bookRepository.findByIsbn("9780134685991").orElseThrow().getBookId());
+        assertThat(results.get(1).get("reason").asText()).contains("title");
+        assertThat(results.get(2).get("reason").asText()).startsWith("요청 형식 오류");
+        assertThat(results.get(2).get("isbn").asText()).isEqualTo("9780000000002");
+        assertThat(results.get(3).get("reason").asText()).isEqualTo("도서 등록 요청 객체가 아닙니다.");
+        assertThat(results.get(4).get("reason").asText()).isEqualTo("이미 등록된 ISBN입니다.");
+        assertThat(results.get(5).get("reason").asText()).isEqualTo("이미 등록된 ISBN입니다.");
+        assertThat(results.get(6).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(7).get("reason").asText()).isEqualTo("요청 안에서 중복된 ISBN입니다.");
+
+        assertThat(report.get("totalItems").asLong()).isEqualTo(8);
+        assertThat(report.get("createdItems").asLong()).isEqualTo(2);
+        assertThat(report.get("rejectedItems").asLong()).isEqualTo(6);
+        assertThat(report.has("error")).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 배열이 아니면 아무것도 기록하지 않고 거부")
+    void loadNotArray() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> bookJsonBulkLoader.load(toStream("{\"title\": \"자바\"}"), output))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("중간에 JSON 문법 오류가 나면 그 전까지의 결과와 error를 기록")
+    void loadWithSyntaxError() throws IOException {
+        String body = "[" + book("Effective Java", "9780134685991", "36000") + ", {\"title\": ";
+
+        JsonNode report = load(body);
+
+        assertThat(report.get("results")).hasSize(1);
+        assertThat(report.get("createdItems").asLong()).isEqualTo(1);
+        assertThat(report.get("error").asText()).startsWith("JSON 형식 오류");
+        assertThat(bookRepository.existsByIsbn("9780134685991")).isTrue();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("대량 요청 본문을 한 건씩 읽어 처리 (본문을 메모리에 올리지 않음)")
+    void loadThroughput() throws IOException {
+        // given - 본문은 읽는 시점에 한 건씩 생성
+        bookJsonBulkLoader = loader(5000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Runtime runtime = Runtime.getRuntime();
+
+        // when
+        long start = System.nanoTime();
+        bookJsonBulkLoader.load(generatedBody(BENCHMARK_ITEMS), output);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        // then
+        JsonNode report = objectMapper.readTree(output.toByteArray());
+        log.info("JSON 대량 등록 - Items: {}, Elapsed: {}ms, Items/sec: {}, Heap used: {}MB",
+            report.get("totalItems").asLong(), elapsedMillis, BENCHMARK_ITEMS * 1000L / elapsedMillis,
+            (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024);
+        assertThat(report.get("createdItems").asLong()).isEqualTo(BENCHMARK_ITEMS);
+        assertThat(bookRepository.count()).isEqualTo(BENCHMARK_ITEMS);
+    }
+
+    private BookJsonBulkLoader loader(int batchSize) {
+        BookBatchWriter bookBatchWriter = new BookBatchWriter(bookRepository, BookShards.single(),
+            Mappers.getMapper(BookMapper.class), bookDictionary, jdbcTemplate, transactionManager, eventPublisher);
+        return new BookJsonBulkLoader(bookBatchWriter, Validation.buildDefaultValidatorFactory().getValidator(),
+            objectMapper, batchSize);
+    }
+
+    private JsonNode load(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bookJsonBulkLoader.load(toStream(body), output);
+        return objectMapper.readTree(output.toByteArray());
+    }
+
+    private static String book(String title, String isbn, String price) {
+        return "{\"title\": \"" + title + "\", \"author\": \"저자\", \"isbn\": \"" + isbn + "\", "
+            + "\"price\": " + price + ", \"stockQuantity\": 10, \"category\": \"IT\", "
+            + "\"publishedAt\": \"2020-01-01T00:00:00.000+09:00\"}";
+    }
+
+    private static InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream generatedBody(int count) {
+        return new SequenceInputStream(new Enumeration<>() {
+
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                int i = next++;
+                String chunk;
+                if (i < 0) {
+                    chunk = "[";
+                } else if (i == count) {
+                    chunk = "]";
+                } else {
+                    chunk = (i > 0 ? "," : "") + book("Book " + i, String.format("978%010d", i),
+                        String.valueOf(10000 + i % 50 * 1000));
+                }
+                return toStream(chunk);
+            }
+        });
+    }
+
+}
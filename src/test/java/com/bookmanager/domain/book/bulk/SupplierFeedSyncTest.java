@@ -0,0 +1,199 @@
+package com.bookmanager.domain.book.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.mapper.BookMapper;
+import com.bookmanager.domain.book.dto.response.BulkLoadReport.Rejection;
+import com.bookmanager.domain.book.dto.response.FeedSyncReport;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.shard.BookShards;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("SupplierFeedSync 테스트")
+class SupplierFeedSyncTest {
+
+    // 처리량 측정은 -Pbenchmark일 때만 실행, 1M 행 측정: ./gradlew test -Pbenchmark -Dfeed.benchmark.rows=1000000
+    private static final int BENCHMARK_ROWS = Integer.getInteger("feed.benchmark.rows", 100_000);
+
+    private static final String HEADER = "title,author,isbn,price,stockQuantity,category\n";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private SupplierFeedSync supplierFeedSync;
+
+    @BeforeEach
+    void setUp() {
+        supplierFeedSync = feedSync(2);
+    }
+
+    @Test
+    @DisplayName("바뀐 행만 UPDATE, 새 행 INSERT, 빠진 행 판매 중지, 기존 도서는 편입")
+    void syncDelta() throws IOException {
+        // given - 피드 밖에서 먼저 등록된 도서 (같은 ISBN이 피드에 나오면 편입)
+        Timestamp now = Timestamp.from(Instant.now());
+        String adoptedId = UuidV7Creator.create();
+        jdbcTemplate.update("INSERT INTO book (book_id, title, author_id, isbn, price, stock_quantity, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            UuidBinary.toBytes(adoptedId), "직접 등록",
+            bookDictionary.register(DictionaryKind.AUTHOR, "저자"), "9780000000009", 10000, 1, "AVAILABLE", now, now);
+
+        FeedSyncReport first = supplierFeedSync.sync("SUP-A", toStream(HEADER
+            + "Effective Java,Joshua Bloch,9780134685991,36000,50,IT\n"
+            + "Clean Code,Robert C. Martin,9780132350884,33000,30,IT\n"
+            + "Refactoring,Martin Fowler,9780134757599,35000,10,IT\n"
+            + "Design Patterns,Gang of Four,9780201633612,54000,20,IT\n"
+            + "피드 버전,저자,9780000000009,12000,5,IT\n"));
+        assertThat(first.getInsertedRows()).isEqualTo(4);
+        assertThat(first.getUpdatedRows()).isEqualTo(1);
+        assertThat(bookRepository.findById(adoptedId).orElseThrow().getTitle()).isEqualTo("피드 버전");
+
+        // when - 가격 변경 1, 그대로 2, 빠짐 1(Design Patterns), 새 행 1, 검증 실패 1
+        FeedSyncReport second = supplierFeedSync.sync("SUP-A", toStream(HEADER
+            + "Effective Java,Joshua Bloch,9780134685991,39000,50,IT\n"
+            + "Clean Code,Robert C. Martin,9780132350884,33000,30,IT\n"
+            + "Refactoring,Martin Fowler,9780134757599,-1,10,IT\n"
+            + "피드 버전,저자,9780000000009,12000,5,IT\n"
+            + "Spring in Action,Craig Walls,9781617294945,42000,15,IT\n"));
+
+        // then
+        assertThat(second.getTotalRows()).isEqualTo(5);
+        assertThat(second.getUnchangedRows()).isEqualTo(2);
+        assertThat(second.getUpdatedRows()).isEqualTo(1);
+        assertThat(second.getInsertedRows()).isEqualTo(1);
+        assertThat(second.getDiscontinuedRows()).isEqualTo(1);
+        assertThat(second.getRejectedRows()).isEqualTo(1);
+        assertThat(second.getRejections()).extracting(Rejection::line).containsExactly(4L);
+
+        assertThat(bookRepository.findByIsbn("9780134685991").orElseThrow().getPrice()).isEqualTo(39000);
+        assertThat(bookRepository.findByIsbn("9780201633612").orElseThrow().getStatus())
+            .isEqualTo(BookStatus.DISCONTINUED);
+        // 검증에 실패한 행은 피드에 있는 것으로 보고 기존 값 유지
+        Book refactoring = bookRepository.findByIsbn("9780134757599").orElseThrow();
+        assertThat(refactoring.getPrice()).isEqualTo(35000);
+        assertThat(refactoring.getStatus()).isEqualTo(BookStatus.AVAILABLE);
+        assertThat(trackedCount("SUP-A")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("빠진 도서 비율이 기준을 넘으면 판매 중지를 건너뜀 (잘린 피드 보호)")
+    void skipDiscontinueForTruncatedFeed() throws IOException {
+        // given
+        supplierFeedSync.sync("SUP-B", toStream(HEADER
+            + "A,저자,9780000000101,10000,1,IT\n"
+            + "B,저자,9780000000102,10000,1,IT\n"
+            + "C,저자,9780000000103,10000,1,IT\n"));
+
+        // when
+        FeedSyncReport report = supplierFeedSync.sync("SUP-B", toStream(HEADER
+            + "A,저자,9780000000101,10000,1,IT\n"));
+
+        // then
+        assertThat(report.isDiscontinueSkipped()).isTrue();
+        assertThat(report.getDiscontinuedRows()).isZero();
+        assertThat(bookRepository.findByIsbn("9780000000102").orElseThrow().getStatus())
+            .isEqualTo(BookStatus.AVAILABLE);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("대량 피드에서 바뀐 2%만 반영하는 처리량 측정")
+    void syncThroughput() throws IOException {
+        // given - 첫 동기화로 전체 등록
+        supplierFeedSync = feedSync(5000);
+        supplierFeedSync.sync("SUP-C", toStream(feed(-1)));
+
+        // when - 2%는 가격 변경
+        FeedSyncReport report = supplierFeedSync.sync("SUP-C", toStream(feed(50)));
+
+        // then
+        log.info("피드 동기화 - Rows: {}, Unchanged: {}, Updated: {}, Elapsed: {}ms, Rows/sec: {}",
+            report.getTotalRows(), report.getUnchangedRows(), report.getUpdatedRows(),
+            report.getElapsedMillis(), report.getRowsPerSecond());
+        assertThat(report.getUpdatedRows()).isEqualTo(BENCHMARK_ROWS / 50);
+        assertThat(report.getUnchangedRows()).isEqualTo(BENCHMARK_ROWS - BENCHMARK_ROWS / 50);
+        assertThat(report.getInsertedRows()).isZero();
+        assertThat(report.getDiscontinuedRows()).isZero();
+    }
+
+    private SupplierFeedSync feedSync(int batchSize) {
+        BookBatchWriter bookBatchWriter = new BookBatchWriter(bookRepository, BookShards.single(),
+            Mappers.getMapper(BookMapper.class), bookDictionary, jdbcTemplate, transactionManager, eventPublisher);
+        return new SupplierFeedSync(bookRepository, bookDetailRepository, BookShards.single(), bookBatchWriter,
+            bookDictionary, namedParameterJdbcTemplate, transactionManager, Validation.buildDefaultValidatorFactory().getValidator(),
+            eventPublisher, batchSize, 0.2, 1000);
+    }
+
+    /**
+     * @param changeEvery 이 간격마다 가격을 바꾼 행 (-1이면 변경 없음)
+     */
+    private static String feed(int changeEvery) {
+        StringBuilder feed = new StringBuilder(BENCHMARK_ROWS * 60).append(HEADER);
+        for (int i = 0; i < BENCHMARK_ROWS; i++) {
+            int price = 10000 + i % 50 * 1000 + (changeEvery > 0 && i % changeEvery == 0 ? 500 : 0);
+            feed.append("Book ").append(i).append(",Author ").append(i % 100).append(",978")
+                .append(String.format("%010d", i)).append(',').append(price).append(',')
+                .append(i % 100 + 1).append(",CAT").append(i % 20).append('\n');
+        }
+        return feed.toString();
+    }
+
+    private long trackedCount(String supplierCode) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM supplier_feed_item WHERE supplier_code = ?",
+            Long.class, supplierCode);
+    }
+
+    private static InputStream toStream(String feed) {
+        return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
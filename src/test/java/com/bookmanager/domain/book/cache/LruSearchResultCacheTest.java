@@ -0,0 +1,118 @@
+package com.bookmanager.domain.book.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dto.response.SearchCacheStatsResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("LruSearchResultCache 테스트")
+class LruSearchResultCacheTest {
+
+    @Test
+    @DisplayName("검색어 정규화 테스트 - 공백/전각 문자 차이는 같은 키")
+    void normalizedKeywordsShareKey() {
+        SearchCacheKey key1 = SearchCacheKey.of("TITLE", "  Effective   Java ", null, PageRequest.of(0, 10));
+        SearchCacheKey key2 = SearchCacheKey.of("TITLE", "Ｅｆｆｅｃｔｉｖｅ Java", null, PageRequest.of(0, 10));
+        SearchCacheKey otherPage = SearchCacheKey.of("TITLE", "Effective Java", null, PageRequest.of(1, 10));
+
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1.keyword()).isEqualTo("Effective Java");
+        assertThat(key1).isNotEqualTo(otherPage);
+    }
+
+    @Test
+    @DisplayName("UUID bookId는 압축 저장 후 원래 문자열로 복원")
+    void uuidIdsRoundTrip() {
+        List<String> bookIds = List.of(UuidV7Creator.create(), UuidV7Creator.create());
+
+        CachedSearchResult result = CachedSearchResult.of(bookIds, 2, 0);
+        CachedSearchResult raw = CachedSearchResult.of(List.of("invalid-id"), 1, 0);
+
+        assertThat(result.bookIds()).containsExactlyElementsOf(bookIds);
+        assertThat(result.estimatedBytes()).isLessThan(CachedSearchResult.of(
+            List.of("x".repeat(36), "y".repeat(36)), 2, 0).estimatedBytes());
+        assertThat(raw.bookIds()).containsExactly("invalid-id");
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 기존 결과는 무효화")
+    void versionChangeInvalidates() {
+        LruSearchResultCache cache = new LruSearchResultCache(1024 * 1024, 100);
+        SearchCacheKey key = key("java", 0);
+        cache.put(key, CachedSearchResult.of(List.of(UuidV7Creator.create()), 1, 1));
+
+        assertThat(cache.get(key, 1)).isNotNull();
+        assertThat(cache.get(key, 2)).isNull();
+        assertThat(cache.get(key, 1)).isNull();
+
+        SearchCacheStatsResponse stats = cache.stats(2);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getInvalidations()).isEqualTo(1);
+        assertThat(stats.getEntries()).isZero();
+        assertThat(stats.getUsedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void evictsLeastRecentlyUsedWithinBudget() {
+        // given - 한 항목이 약 500byte, 예산은 약 3개 분량
+        CachedSearchResult sample = result(20);
+        long entryBytes = 48 + key("k0", 0).estimatedBytes() + sample.estimatedBytes();
+        LruSearchResultCache cache = new LruSearchResultCache(entryBytes * 3 + 10, 100);
+
+        cache.put(key("k0", 0), result(20));
+        cache.put(key("k1", 0), result(20));
+        cache.put(key("k2", 0), result(20));
+
+        // k0을 최근 사용으로 갱신
+        assertThat(cache.get(key("k0", 0), 0)).isNotNull();
+
+        // when - 네 번째 항목 저장
+        cache.put(key("k3", 0), result(20));
+
+        // then - k1이 제거되고 예산 이내 유지
+        SearchCacheStatsResponse stats = cache.stats(0);
+        assertThat(stats.getEntries()).isEqualTo(3);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getUsedBytes()).isLessThanOrEqualTo(stats.getMaxBytes());
+        assertThat(cache.get(key("k1", 0), 0)).isNull();
+        assertThat(cache.get(key("k0", 0), 0)).isNotNull();
+        assertThat(cache.get(key("k3", 0), 0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("항목 수 제한을 넘으면 제거 + 적중률 계산")
+    void evictsByEntryCountAndReportsHitRatio() {
+        LruSearchResultCache cache = new LruSearchResultCache(Long.MAX_VALUE, 2);
+
+        cache.put(key("a", 0), result(1));
+        cache.put(key("b", 0), result(1));
+        cache.put(key("c", 0), result(1));
+
+        assertThat(cache.get(key("a", 0), 0)).isNull();
+        assertThat(cache.get(key("b", 0), 0)).isNotNull();
+        assertThat(cache.get(key("c", 0), 0)).isNotNull();
+        assertThat(cache.get(key("c", 0), 0)).isNotNull();
+
+        assertThat(cache.stats(0).getHitRatio()).isEqualTo(0.75);
+    }
+
+    private static SearchCacheKey key(String keyword, int page) {
+        return SearchCacheKey.of("TITLE", keyword, null, PageRequest.of(page, 10));
+    }
+
+    private static CachedSearchResult result(int size) {
+        List<String> bookIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            bookIds.add(UuidV7Creator.create());
+        }
+        return CachedSearchResult.of(bookIds, size, 0);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.bookmanager.domain.book.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 사전 항목은 별도 커넥션에서 바로 커밋되어 테스트 롤백 후에도 남으므로 테스트마다 다른 이름 사용
+ */
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("BookDictionary 테스트")
+class BookDictionaryTest {
+
+    private static final AtomicInteger ISBN_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 이름은 같은 ID로 한 번만 등록, 모르는 이름은 UNKNOWN_ID")
+    void registerAndLookup() {
+        // given
+        String author = "저자-" + UuidV7Creator.create();
+
+        // when
+        Integer id = bookDictionary.register(DictionaryKind.AUTHOR, author);
+        Map<String, Integer> again = bookDictionary.registerAll(DictionaryKind.AUTHOR, List.of(author, author));
+
+        // then
+        assertThat(id).isPositive();
+        assertThat(again).isEqualTo(Map.of(author, id));
+        assertThat(bookDictionary.idOf(DictionaryKind.AUTHOR, author)).isEqualTo(id);
+        assertThat(bookDictionary.nameOf(DictionaryKind.AUTHOR, id)).isEqualTo(author);
+        assertThat(bookDictionary.idOf(DictionaryKind.AUTHOR, "없는 저자-" + UuidV7Creator.create()))
+            .isEqualTo(BookDictionary.UNKNOWN_ID);
+        assertThat(bookDictionary.idOf(DictionaryKind.AUTHOR, null)).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_author WHERE name = ?", Integer.class,
+            author)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("도서 행에는 사전 ID가 저장되고, 조회한 엔티티의 이름은 같은 String 인스턴스를 공유")
+    void booksStoreIdsAndShareNames() {
+        // given
+        String category = "카테고리-" + UuidV7Creator.create();
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(book("Book " + i, "Author " + i, new String(category)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Book> found = bookRepository.findByCategory(category, PageRequest.of(0, 10)).getContent();
+
+        // then
+        Integer categoryId = bookDictionary.idOf(DictionaryKind.CATEGORY, category);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE category_id = ?", Integer.class,
+            categoryId)).isEqualTo(3);
+        assertThat(found).hasSize(3);
+        assertThat(found).allSatisfy(book -> assertThat(book.getCategory()).isSameAs(found.get(0).getCategory()));
+    }
+
+    @Test
+    @DisplayName("저자 부분 검색은 대소문자를 무시하고 사전의 이름 목록에서 찾음")
+    void namesContainingIgnoresCase() {
+        // given
+        String suffix = UuidV7Creator.create();
+        bookDictionary.registerAll(DictionaryKind.AUTHOR,
+            List.of("Martin Fowler " + suffix, "Robert C. MARTIN " + suffix, "Joshua Bloch " + suffix));
+
+        // when
+        List<String> matches = bookDictionary.namesContaining(DictionaryKind.AUTHOR, "martin " + suffix);
+
+        // then
+        assertThat(matches).containsExactlyInAnyOrder("Martin Fowler " + suffix, "Robert C. MARTIN " + suffix);
+    }
+
+    @Test
+    @DisplayName("카테고리별 집계는 정수 ID로 묶은 뒤 이름으로 변환")
+    void countByCategoryGroupsByIds() {
+        // given
+        String it = "IT-" + UuidV7Creator.create();
+        String novel = "소설-" + UuidV7Creator.create();
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(book("Book " + i, "Author", i < 3 ? it : novel));
+        }
+        entityManager.flush();
+
+        // when
+        Map<String, Long> counts = bookRepository.countByCategory().stream()
+            .collect(Collectors.toMap(row -> (String) row[0], row -> (Long) row[1]));
+
+        // then
+        assertThat(counts).containsEntry(it, 3L).containsEntry(novel, 2L);
+    }
+
+    private static Book book(String title, String author, String category) {
+        return Book.builder()
+            .bookId(UuidV7Creator.create())
+            .title(title)
+            .author(author)
+            .isbn(String.format("979%010d", ISBN_SEQUENCE.incrementAndGet()))
+            .price(10000)
+            .stockQuantity(1)
+            .category(category)
+            .status(BookStatus.AVAILABLE)
+            .build();
+    }
+
+}
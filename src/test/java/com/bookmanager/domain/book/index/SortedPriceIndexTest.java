@@ -0,0 +1,223 @@
+package com.bookmanager.domain.book.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.ActiveProfiles;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("SortedPriceIndex 테스트")
+class SortedPriceIndexTest {
+
+    private static final int BOOK_COUNT = 3000;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private SortedPriceIndex index;
+
+    /**
+     * 가격이 겹치도록 (1,000원 단위 50종) 도서를 저장하고 인덱스 생성
+     */
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        BookStatus[] statuses = BookStatus.values();
+        List<Book> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("Book " + i)
+                .author("Author " + (i % 100))
+                .isbn(String.format("978%010d", i))
+                .price((random.nextInt(50) + 1) * 1000)
+                .stockQuantity(random.nextInt(100))
+                .category("IT")
+                .status(statuses[random.nextInt(statuses.length)])
+                .build());
+        }
+        bookRepository.saveAll(books);
+        bookRepository.flush();
+
+        index = SortedPriceIndex.build(bookRepository.findAllPriceEntries()
+            .stream()
+            .map(row -> new SortedPriceIndex.Entry((String) row[0], (Integer) row[1], (BookStatus) row[2]))
+            .toList());
+    }
+
+    @Test
+    @DisplayName("깊은 페이지에서 인덱스 결과가 DB 조회 결과와 같은지 비교")
+    void deepPage_MatchesDatabase() {
+        int deepPage = BOOK_COUNT / PAGE_SIZE - 5;
+
+        for (Direction direction : Direction.values()) {
+            for (BookStatus status : new BookStatus[]{null, BookStatus.AVAILABLE}) {
+                PageRequest pageable = PageRequest.of(deepPage, PAGE_SIZE, Sort.by(direction, "price", "bookId"));
+
+                long dbStart = System.nanoTime();
+                // 인덱스 준비 전 BookService가 쓰는 대체 경로와 비교
+                Page<BookSummaryResponse> dbPage = status == null
+                    ? bookRepository.findSummariesByPriceBetween(1000, 50000, pageable)
+                    : bookRepository.findSummariesByPriceBetweenAndStatus(1000, 50000, status, pageable);
+                long dbElapsed = System.nanoTime() - dbStart;
+
+                long indexStart = System.nanoTime();
+                PriceIndexPage indexPage = index.query(1000, 50000, status,
+                    direction.isDescending(), pageable.getOffset(), PAGE_SIZE);
+                List<Book> hydrated = bookRepository.findAllById(indexPage.bookIds());
+                long indexElapsed = System.nanoTime() - indexStart;
+
+                log.info("가격 검색 비교 - Direction: {}, Status: {}, Offset: {}, DB: {}us, Index+IN: {}us",
+                    direction, status, pageable.getOffset(), dbElapsed / 1000, indexElapsed / 1000);
+
+                assertThat(indexPage.total()).isEqualTo(dbPage.getTotalElements());
+                assertThat(indexPage.bookIds())
+                    .containsExactlyElementsOf(dbPage.map(BookSummaryResponse::getBookId).getContent());
+                assertThat(hydrated).hasSameSizeAs(indexPage.bookIds());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가격 범위 경계값 포함 여부 테스트")
+    void rangeBoundsAreInclusive() {
+        // when
+        PriceIndexPage page = index.query(5000, 5000, null, false, 0, BOOK_COUNT);
+
+        // then
+        assertThat(page.total()).isEqualTo(bookRepository.findByPriceBetween(5000, 5000, PageRequest.of(0, 1))
+            .getTotalElements());
+        page.bookIds().forEach(bookId ->
+            assertThat(bookRepository.findById(bookId).orElseThrow().getPrice()).isEqualTo(5000));
+    }
+
+    @Test
+    @DisplayName("점진적 갱신 (등록/가격 변경/상태 변경/삭제) 후 정렬 유지 테스트")
+    void incrementalMaintenance() {
+        // given - 빈 인덱스에 직접 반영
+        SortedPriceIndex incremental = new SortedPriceIndex();
+        List<SortedPriceIndex.Entry> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            String bookId = String.format("book-%05d", i);
+            int price = random.nextInt(100) * 100;
+            BookStatus status = BookStatus.values()[random.nextInt(3)];
+            incremental.upsert(bookId, price, status);
+            expected.add(new SortedPriceIndex.Entry(bookId, price, status));
+        }
+
+        // when - 가격 변경 / 상태 변경 / 삭제
+        for (int i = 0; i < 2000; i += 3) {
+            SortedPriceIndex.Entry old = expected.get(i);
+            SortedPriceIndex.Entry changed = new SortedPriceIndex.Entry(old.bookId(), old.price() + 50, BookStatus.AVAILABLE);
+            incremental.upsert(changed.bookId(), changed.price(), changed.status());
+            expected.set(i, changed);
+        }
+        for (int i = 1; i < 2000; i += 7) {
+            incremental.remove(expected.get(i).bookId());
+            expected.set(i, null);
+        }
+        List<SortedPriceIndex.Entry> remaining = expected.stream()
+            .filter(entry -> entry != null)
+            .sorted(Comparator.comparingInt(SortedPriceIndex.Entry::price)
+                .thenComparing(SortedPriceIndex.Entry::bookId))
+            .toList();
+
+        // then - 전체 / 상태별 결과가 단순 정렬 결과와 일치
+        assertThat(incremental.size()).isEqualTo(remaining.size());
+        assertThat(incremental.query(0, Integer.MAX_VALUE, null, false, 0, remaining.size()).bookIds())
+            .containsExactlyElementsOf(remaining.stream().map(SortedPriceIndex.Entry::bookId).toList());
+        List<String> availableDescending = new ArrayList<>(remaining.stream()
+            .filter(entry -> entry.status() == BookStatus.AVAILABLE)
+            .filter(entry -> entry.price() >= 2000 && entry.price() <= 6000)
+            .map(SortedPriceIndex.Entry::bookId)
+            .toList());
+        Collections.reverse(availableDescending);
+        assertThat(incremental.query(2000, 6000, BookStatus.AVAILABLE, true, 0, remaining.size()).bookIds())
+            .containsExactlyElementsOf(availableDescending);
+    }
+
+    @Test
+    @DisplayName("같은 가격은 반영 순서와 관계없이 bookId 오름차순")
+    void equalPricesOrderedByBookId() {
+        // given - 일괄 생성 후 bookId가 더 작은 도서가 나중에 커밋된 경우
+        SortedPriceIndex mixed = SortedPriceIndex.build(List.of(
+            new SortedPriceIndex.Entry("book-00002", 1000, BookStatus.AVAILABLE),
+            new SortedPriceIndex.Entry("book-00004", 1000, BookStatus.AVAILABLE)));
+
+        // when
+        mixed.upsert("book-00003", 1000, BookStatus.AVAILABLE);
+        mixed.upsert("book-00001", 1000, BookStatus.AVAILABLE);
+        mixed.upsert("book-00004", 1000, BookStatus.OUT_OF_STOCK);
+        mixed.upsert("book-00004", 1000, BookStatus.AVAILABLE);
+
+        // then
+        assertThat(mixed.query(1000, 1000, null, false, 0, 10).bookIds())
+            .containsExactly("book-00001", "book-00002", "book-00003", "book-00004");
+        assertThat(mixed.query(1000, 1000, BookStatus.AVAILABLE, true, 0, 10).bookIds())
+            .containsExactly("book-00004", "book-00003", "book-00002", "book-00001");
+    }
+
+    @Test
+    @DisplayName("청크 단위 일괄 반영 결과가 건별 upsert 결과와 같은지 비교")
+    void upsertAll_MatchesIndividualUpserts() {
+        // given - 같은 초기 인덱스 두 개
+        Random random = new Random(11);
+        List<SortedPriceIndex.Entry> initial = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 2) {
+            initial.add(new SortedPriceIndex.Entry(String.format("book-%05d", i),
+                random.nextInt(50) * 100, BookStatus.values()[random.nextInt(3)]));
+        }
+        SortedPriceIndex merged = SortedPriceIndex.build(initial);
+        SortedPriceIndex individual = SortedPriceIndex.build(initial);
+
+        // 새 도서(홀수 번호, 커밋 순서는 무작위) + 기존 도서 가격 변경 + 청크 안 중복
+        List<SortedPriceIndex.Entry> chunk = new ArrayList<>();
+        for (int i = 1; i < 1000; i += 2) {
+            chunk.add(new SortedPriceIndex.Entry(String.format("book-%05d", i),
+                random.nextInt(50) * 100, BookStatus.values()[random.nextInt(3)]));
+        }
+        Collections.shuffle(chunk, random);
+        chunk.add(new SortedPriceIndex.Entry("book-00000", 9900, BookStatus.AVAILABLE));
+        chunk.add(new SortedPriceIndex.Entry("book-00001", 100, BookStatus.OUT_OF_STOCK));
+
+        // when
+        merged.upsertAll(chunk);
+        chunk.forEach(entry -> individual.upsert(entry.bookId(), entry.price(), entry.status()));
+
+        // then - 전체 / 상태별 결과가 같음
+        assertThat(merged.size()).isEqualTo(1000);
+        assertThat(merged.query(0, Integer.MAX_VALUE, null, false, 0, 1000).bookIds())
+            .containsExactlyElementsOf(individual.query(0, Integer.MAX_VALUE, null, false, 0, 1000).bookIds());
+        for (BookStatus status : BookStatus.values()) {
+            assertThat(merged.query(0, Integer.MAX_VALUE, status, true, 0, 1000).bookIds())
+                .containsExactlyElementsOf(individual.query(0, Integer.MAX_VALUE, status, true, 0, 1000).bookIds());
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.bookmanager.domain.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("도서 커서(keyset) 페이지 조회 테스트")
+class BookCursorPaginationTest {
+
+    private static final int WALK_BOOK_COUNT = 4_000;
+    private static final int BENCHMARK_BOOK_COUNT = 100_000;
+    private static final int PAGE_SIZE = 10;
+    private static final String[] CATEGORIES = {"IT", "소설", "요리", "여행"};
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    // bookId 내림차순 (= 최신 등록순)
+    private List<String> idsDescending;
+
+    @Test
+    @DisplayName("카테고리 커서 조회로 끝까지 순회하면 누락/중복 없이 최신순")
+    void walkCategory_NoGapsOrDuplicates() {
+        // given
+        insertBooks(WALK_BOOK_COUNT);
+
+        // when
+        List<String> visited = new ArrayList<>();
+        List<BookSummaryResponse> page = bookRepository.findSummariesByCategoryOrderByBookIdDesc("IT",
+            PageRequest.of(0, 100));
+        while (!page.isEmpty()) {
+            page.forEach(book -> visited.add(book.getBookId()));
+            String after = page.get(page.size() - 1).getBookId();
+            page = bookRepository.findSummariesByCategoryAndBookIdLessThan("IT", after, PageRequest.of(0, 100));
+        }
+
+        // then
+        assertThat(visited).hasSize(WALK_BOOK_COUNT / CATEGORIES.length);
+        assertThat(visited).doesNotHaveDuplicates();
+        assertThat(visited).isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    /**
+     * 10,000 페이지 분량의 도서로 측정 (-Pbenchmark일 때만 실행)
+     *   ./gradlew test -Pbenchmark --tests '*BookCursorPaginationTest*'
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("1페이지부터 10,000페이지까지 커서 조회 시간은 일정, OFFSET 조회는 깊이에 비례")
+    void deepPageLatency_KeysetVsOffset() {
+        insertBooks(BENCHMARK_BOOK_COUNT);
+        int[] pages = {1, 10, 100, 1_000, 10_000};
+        double[] keysetMicros = new double[pages.length];
+        double[] offsetMicros = new double[pages.length];
+
+        for (int i = 0; i < pages.length; i++) {
+            int page = pages[i];
+            // page 번째 페이지의 커서 = 이전 페이지 마지막 bookId
+            String after = page == 1 ? null : idsDescending.get((page - 1) * PAGE_SIZE - 1);
+
+            keysetMicros[i] = medianMicros(() -> keysetPage(after, PAGE_SIZE + 1));
+            offsetMicros[i] = medianMicros(() -> bookRepository.findAllSummaries(
+                PageRequest.of(page - 1, PAGE_SIZE, Sort.by(Direction.DESC, "bookId"))).getContent());
+
+            // 같은 페이지 내용인지 확인
+            List<String> keyset = keysetPage(after, PAGE_SIZE).stream()
+                .map(BookSummaryResponse::getBookId)
+                .toList();
+            assertThat(keyset).containsExactlyElementsOf(
+                idsDescending.subList((page - 1) * PAGE_SIZE, page * PAGE_SIZE));
+
+            log.info("Page {} - Keyset: {}us, Offset: {}us", page, keysetMicros[i], offsetMicros[i]);
+        }
+
+        // 마지막 페이지 커서 조회가 첫 페이지 대비 크게 느려지지 않고, OFFSET 조회보다 빠름
+        int last = pages.length - 1;
+        assertThat(keysetMicros[last]).isLessThan(keysetMicros[0] * 5 + 2_000);
+        assertThat(keysetMicros[last]).isLessThan(offsetMicros[last]);
+    }
+
+    // BookService.getAllBooksByCursor와 같은 조회 (첫 페이지 / 다음 페이지)
+    private List<BookSummaryResponse> keysetPage(String after, int limit) {
+        return after == null
+            ? bookRepository.findSummariesOrderByBookIdDesc(PageRequest.of(0, limit))
+            : bookRepository.findSummariesByBookIdLessThan(after, PageRequest.of(0, limit));
+    }
+
+    private static double medianMicros(Supplier<List<BookSummaryResponse>> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long[] elapsed = new long[15];
+        for (int i = 0; i < elapsed.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[elapsed.length / 2] / 1000.0;
+    }
+
+    // 도서를 JDBC 배치로 저장
+    private void insertBooks(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        idsDescending = new ArrayList<>(count);
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < count; i++) {
+            String bookId = UuidV7Creator.create();
+            idsDescending.add(bookId);
+            rows.add(new Object[]{UuidBinary.toBytes(bookId), "Book " + i,
+                bookDictionary.register(DictionaryKind.AUTHOR, "Author " + (i % 100)), String.format("978%010d", i),
+                10000 + i % 50 * 1000, i % 100,
+                bookDictionary.register(DictionaryKind.CATEGORY, CATEGORIES[i % CATEGORIES.length]), "AVAILABLE", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO book (book_id, title, author_id, isbn, price, stock_quantity, "
+            + "category_id, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        Collections.sort(idsDescending, Collections.reverseOrder());
+    }
+
+}
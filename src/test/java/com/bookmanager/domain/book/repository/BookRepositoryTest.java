@@ -4,21 +4,31 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
 import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
 import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.entity.BookDetail;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
+@Import(BookDictionary.class)
 @ActiveProfiles("test")
 @DisplayName("BookRepository 테스트")
 class BookRepositoryTest {
@@ -26,6 +36,12 @@ class BookRepositoryTest {
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     // 테스트용 도서 데이터
     private Book testBook1;
     private Book testBook2;
@@ -45,7 +61,6 @@ class BookRepositoryTest {
             .publisher("Addison-Wesley")
             .price(45000)
             .stockQuantity(50)
-            .description("Java 프로그래밍 필독서")
             .category("IT")
             .status(BookStatus.AVAILABLE)
             .publishedAt(Instant.parse("2018-01-01T00:00:00Z"))
@@ -59,7 +74,6 @@ class BookRepositoryTest {
             .publisher("Prentice Hall")
             .price(35000)
             .stockQuantity(30)
-            .description("클린 코드 작성법")
             .category("IT")
             .status(BookStatus.AVAILABLE)
             .publishedAt(Instant.parse("2008-08-01T00:00:00Z"))
@@ -73,7 +87,6 @@ class BookRepositoryTest {
             .publisher("Addison-Wesley")
             .price(50000)
             .stockQuantity(0)
-            .description("디자인 패턴 바이블")
             .category("IT")
             .status(BookStatus.OUT_OF_STOCK)
             .publishedAt(Instant.parse("1994-10-21T00:00:00Z"))
@@ -97,7 +110,6 @@ class BookRepositoryTest {
             .publisher("Manning")
             .price(40000)
             .stockQuantity(20)
-            .description("Spring Framework 실전 가이드")
             .category("IT")
             .status(BookStatus.AVAILABLE)
             .publishedAt(Instant.now())
@@ -163,16 +175,16 @@ class BookRepositoryTest {
 
     @Test
     @DisplayName("저자로 도서 검색 테스트 (페이징)")
-    void findByAuthorContaining() {
+    void findByAuthorIn() {
         // given - 페이징 정보
         PageRequest pageRequest = PageRequest.of(0, 10);
 
-        // when - 카테고리로 조회
-        Page<Book> result = bookRepository.findByAuthorContaining("Martin", pageRequest);
+        // when - 저자 사전 ID로 조회
+        Page<Book> result = bookRepository.findByAuthorIn(List.of("Robert C. Martin"), pageRequest);
 
-        // then - 조회 결과 검증 (모든 테스트 데이터가 IT 카테고리)
+        // then - 조회 결과 검증
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getAuthor()).contains("Martin");
+        assertThat(result.getContent().get(0).getAuthor()).isEqualTo("Robert C. Martin");
     }
 
     @Test
@@ -217,6 +229,64 @@ class BookRepositoryTest {
             .containsExactlyInAnyOrder(45000, 35000);
     }
 
+    @Test
+    @DisplayName("요약 DTO 조회 테스트 - 정렬/페이징 + 엔티티를 영속성 컨텍스트에 올리지 않음")
+    void findSummariesByPriceBetween() {
+        // given - 저장 시 영속성 컨텍스트에 남은 엔티티 정리
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price"));
+
+        // when
+        Page<BookSummaryResponse> result = bookRepository.findSummariesByPriceBetween(30000, 50000, pageRequest);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(1);
+        BookSummaryResponse summary = result.getContent().get(0);
+        assertThat(summary.getBookId()).isEqualTo(testBook3.getBookId());
+        assertThat(summary.getTitle()).isEqualTo("Design Patterns");
+        assertThat(summary.getStatus()).isEqualTo("OUT_OF_STOCK");
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("도서 설명은 book_detail에 저장하고 단건/검색 인덱스 조회에서만 읽음")
+    void bookDetail() {
+        // given
+        bookDetailRepository.save(new BookDetail(testBook1.getBookId(), "Java 프로그래밍 필독서"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<String> description = bookDetailRepository.findDescriptionById(testBook1.getBookId());
+        Optional<String> missing = bookDetailRepository.findDescriptionById(testBook2.getBookId());
+        List<Object[]> indexRows = bookRepository.findSearchIndexBatch(UuidBinary.MIN, PageRequest.of(0, 10));
+
+        // then - 상세 정보가 없는 도서도 검색 인덱스 조회에 포함 (LEFT JOIN)
+        assertThat(description).contains("Java 프로그래밍 필독서");
+        assertThat(missing).isEmpty();
+        assertThat(indexRows).hasSize(3);
+        assertThat(indexRows)
+            .filteredOn(row -> row[0].equals(testBook1.getBookId()))
+            .singleElement()
+            .satisfies(row -> assertThat(row[5]).isEqualTo("Java 프로그래밍 필독서"));
+    }
+
+    @Test
+    @DisplayName("bookId 목록으로 요약 조회 테스트 (IN 쿼리)")
+    void findSummariesByBookIdIn() {
+        // when
+        List<BookSummaryResponse> result = bookRepository.findSummariesByBookIdIn(
+            List.of(testBook1.getBookId(), testBook2.getBookId()));
+
+        // then
+        assertThat(result)
+            .extracting(BookSummaryResponse::getTitle)
+            .containsExactlyInAnyOrder("Effective Java", "Clean Code");
+    }
+
     @Test
     @DisplayName("재고가 부족한 도서 조회 테스트")
     void findLowStockBooks() {
@@ -229,28 +299,49 @@ class BookRepositoryTest {
     }
 
     @Test
-    @DisplayName("도서 수정 테스트")
+    @DisplayName("도서 수정 테스트 (Dirty Checking + version 증가)")
     void updateBook() {
         // given - 수정할 도서 조회
+        bookRepository.flush();
+        entityManager.clear();
         Book book = bookRepository.findById(testBook1.getBookId()).orElseThrow();
-        String originalTitle = book.getTitle();
-
-        // when - 도서 정보 수정 (Dirty Checking)
-        book.updateBookInfo(
-            "Effective Java 3rd Edition",
-            book.getAuthor(),
-            book.getPublisher(),
-            50000,
-            "Java 프로그래밍 필독서 3판",
-            book.getCategory()
-        );
+
+        // when - 재고/상태 수정 (Dirty Checking)
+        book.addStock(10);
+        book.changeStatus(BookStatus.DISCONTINUED);
         bookRepository.flush();             // 영속성 컨텍스트의 변경사항을 DB에 반영
+        entityManager.clear();
 
         // then - 수정된 도서 검증
         Book updatedBook = bookRepository.findById(testBook1.getBookId()).orElseThrow();
-        assertThat(updatedBook.getTitle()).isNotEqualTo(originalTitle);
-        assertThat(updatedBook.getTitle()).isEqualTo("Effective Java 3rd Edition");
+        assertThat(updatedBook.getStockQuantity()).isEqualTo(60);
+        assertThat(updatedBook.getStatus()).isEqualTo(BookStatus.DISCONTINUED);
+        assertThat(updatedBook.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("컬럼 부분 수정 - 바뀐 컬럼만 UPDATE하고 version 증가")
+    void updateColumnsById() {
+        // given - flush로 version 0 행 저장
+        bookRepository.flush();
+        entityManager.clear();
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+        // when - 가격만 수정, 이어서 이전 version으로 한 번 더 수정
+        int updated = bookRepository.updateColumnsById(testBook1.getBookId(), 0L, updatedAt,
+            Map.of("price", 50000));
+        int stale = bookRepository.updateColumnsById(testBook1.getBookId(), 0L, updatedAt,
+            Map.of("price", 60000));
+        entityManager.clear();
+
+        // then - 첫 수정만 반영, 나머지 컬럼은 그대로
+        Book updatedBook = bookRepository.findById(testBook1.getBookId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(stale).isZero();
         assertThat(updatedBook.getPrice()).isEqualTo(50000);
+        assertThat(updatedBook.getTitle()).isEqualTo("Effective Java");
+        assertThat(updatedBook.getVersion()).isEqualTo(1L);
+        assertThat(updatedBook.getUpdatedAt()).isEqualTo(updatedAt);
     }
 
     @Test
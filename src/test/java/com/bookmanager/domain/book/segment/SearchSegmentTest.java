@@ -0,0 +1,190 @@
+package com.bookmanager.domain.book.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bookmanager.common.BookStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+@Slf4j
+@DisplayName("검색 세그먼트 파일/디렉터리 테스트")
+class SearchSegmentTest {
+
+    private static final int NUM_HASHES = 8;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("세그먼트 쓰기 후 메모리 매핑으로 읽으면 같은 레코드")
+    void writeAndReadRoundTrip() throws IOException {
+        // given
+        Path path = tempDir.resolve("segment.seg");
+        List<SegmentRecord> records = List.of(
+            SegmentRecord.live("a", 15000, BookStatus.AVAILABLE, 1000L, signature(1)),
+            SegmentRecord.live("b", 0, BookStatus.OUT_OF_STOCK, 2000L, null),
+            SegmentRecord.tombstone("c", 3000L));
+
+        // when
+        SegmentFile.write(path, 7, true, NUM_HASHES, records);
+        List<SegmentRecord> read = new ArrayList<>();
+        SegmentFile.Header header = SegmentFile.read(path, NUM_HASHES, read::add);
+
+        // then
+        assertThat(header.segmentId()).isEqualTo(7);
+        assertThat(header.full()).isTrue();
+        assertThat(header.recordCount()).isEqualTo(3);
+        assertThat(header.maxUpdatedAt()).isEqualTo(3000L);
+        assertThat(read).hasSize(3);
+        assertThat(read.get(0).price()).isEqualTo(15000);
+        assertThat(read.get(0).status()).isEqualTo(BookStatus.AVAILABLE);
+        assertThat(read.get(0).signature()).containsExactly(signature(1));
+        assertThat(read.get(1).signature()).isNull();
+        assertThat(read.get(2).deleted()).isTrue();
+        assertThat(Files.exists(tempDir.resolve("segment.seg.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("손상된 세그먼트는 체크섬으로 감지")
+    void detectsCorruption() throws IOException {
+        // given
+        Path path = tempDir.resolve("segment.seg");
+        SegmentFile.write(path, 1, true, NUM_HASHES,
+            List.of(SegmentRecord.live("a", 1000, BookStatus.AVAILABLE, 1L, signature(1))));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[SegmentFile.HEADER_BYTES + 5] ^= 0x7F;
+        Files.write(path, bytes);
+
+        // when & then
+        assertThatThrownBy(() -> SegmentFile.read(path, NUM_HASHES, record -> { }))
+            .isInstanceOf(SegmentCorruptedException.class)
+            .hasMessageContaining("체크섬");
+    }
+
+    @Test
+    @DisplayName("시그니처 길이 설정이 바뀌면 시그니처는 사용하지 않음")
+    void ignoresSignaturesOfDifferentLength() throws IOException {
+        // given
+        SegmentDirectory writer = new SegmentDirectory(tempDir, NUM_HASHES);
+        writer.append(List.of(SegmentRecord.live("a", 1000, BookStatus.AVAILABLE, 1L, signature(1))), true);
+
+        // when
+        SegmentDirectory.Snapshot snapshot = new SegmentDirectory(tempDir, 16).load();
+
+        // then
+        assertThat(snapshot.signaturesUsable()).isFalse();
+        assertThat(snapshot.records().get("a").signature()).isNull();
+        assertThat(snapshot.records().get("a").price()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("델타 세그먼트가 이전 세그먼트를 덮어쓰고, 병합 후에도 같은 상태")
+    void deltaSegmentsOverrideAndMerge() throws IOException {
+        // given
+        SegmentDirectory directory = new SegmentDirectory(tempDir, NUM_HASHES);
+        assertThat(directory.load()).isNull();
+
+        directory.append(List.of(
+            SegmentRecord.live("a", 1000, BookStatus.AVAILABLE, 10L, signature(1)),
+            SegmentRecord.live("b", 2000, BookStatus.AVAILABLE, 20L, signature(2)),
+            SegmentRecord.live("c", 3000, BookStatus.AVAILABLE, 30L, signature(3))), true);
+        directory.append(List.of(
+            SegmentRecord.live("b", 2500, BookStatus.DISCONTINUED, 40L, signature(4)),
+            SegmentRecord.tombstone("c", 50L)), false);
+        directory.append(List.of(
+            SegmentRecord.live("d", 4000, BookStatus.AVAILABLE, 60L, null)), false);
+
+        // when
+        SegmentDirectory.Snapshot loaded = directory.load();
+
+        // then
+        assertThat(loaded.segmentCount()).isEqualTo(3);
+        assertThat(loaded.watermark()).isEqualTo(60L);
+        assertThat(loaded.records().keySet()).containsExactly("a", "b", "d");
+        assertThat(loaded.records().get("b").price()).isEqualTo(2500);
+        assertThat(loaded.records().get("b").status()).isEqualTo(BookStatus.DISCONTINUED);
+
+        // when - 병합
+        directory.merge(loaded.liveRecords());
+        SegmentDirectory.Snapshot merged = directory.load();
+
+        // then - 세그먼트 하나, 삭제 표시 없이 같은 상태
+        assertThat(directory.segments()).hasSize(1);
+        assertThat(merged.records().keySet()).containsExactly("a", "b", "d");
+        assertThat(merged.records().get("b").signature()).containsExactly(signature(4));
+        assertThat(merged.watermark()).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("FULL 세그먼트 이전 세그먼트는 읽지 않음 (병합 중 중단된 경우)")
+    void startsFromLatestFullSegment() throws IOException {
+        // given - 병합 결과를 쓴 직후 이전 세그먼트를 지우기 전에 중단된 상태
+        SegmentDirectory directory = new SegmentDirectory(tempDir, NUM_HASHES);
+        directory.append(List.of(SegmentRecord.live("old", 1000, BookStatus.AVAILABLE, 1L, null)), true);
+        directory.append(List.of(SegmentRecord.live("a", 1000, BookStatus.AVAILABLE, 2L, null)), true);
+        directory.append(List.of(SegmentRecord.live("b", 2000, BookStatus.AVAILABLE, 3L, null)), false);
+
+        // when
+        SegmentDirectory.Snapshot snapshot = directory.load();
+
+        // then
+        assertThat(snapshot.segmentCount()).isEqualTo(2);
+        assertThat(snapshot.records().keySet()).containsExactly("a", "b");
+    }
+
+    // 측정은 -Pbenchmark일 때만 실행: ./gradlew test -Pbenchmark --tests '*SearchSegmentTest*'
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("대량 세그먼트 로드 시간 (DB 조회 + 시그니처 계산 없이 파일에서 복원)")
+    void loadsLargeSegmentQuickly() throws IOException {
+        // given - 도서 200,000권, 시그니처 64개
+        int books = 200_000;
+        int numHashes = 64;
+        Random random = new Random(1);
+        List<SegmentRecord> records = new ArrayList<>(books);
+        for (int i = 0; i < books; i++) {
+            int[] signature = new int[numHashes];
+            for (int h = 0; h < numHashes; h++) {
+                signature[h] = random.nextInt();
+            }
+            records.add(SegmentRecord.live(String.format("book-%08d", i), random.nextInt(100_000),
+                BookStatus.AVAILABLE, i, signature));
+        }
+        SegmentDirectory directory = new SegmentDirectory(tempDir, numHashes);
+        long writeStart = System.nanoTime();
+        directory.append(records, true);
+        long writeMillis = (System.nanoTime() - writeStart) / 1_000_000;
+
+        // when
+        long loadStart = System.nanoTime();
+        SegmentDirectory.Snapshot snapshot = directory.load();
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        log.info("검색 세그먼트 - Books: {}, Size: {}KB, Write: {}ms, Load: {}ms",
+            books, Files.size(directory.segments().get(0)) / 1024, writeMillis, loadMillis);
+
+        // then
+        assertThat(snapshot.records()).hasSize(books);
+        assertThat(snapshot.records().get("book-00012345").signature())
+            .containsExactly(records.get(12345).signature());
+        assertThat(loadMillis).isLessThan(10_000);
+    }
+
+    private static int[] signature(int seed) {
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            signature[i] = seed * 31 + i;
+        }
+        return signature;
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.bookmanager.domain.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
+import com.bookmanager.domain.book.shard.BookShards;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@DataJpaTest
+@Import(BookDictionary.class)
+@ActiveProfiles("test")
+@DisplayName("BookExportService 테스트")
+class BookExportServiceTest {
+
+    // 처리량 측정은 -Pbenchmark일 때만 실행, 1M 행 측정: ./gradlew test -Pbenchmark -Dexport.benchmark.rows=1000000
+    private static final int BENCHMARK_ROWS = Integer.getInteger("export.benchmark.rows", 200_000);
+
+    private static final Instant OLD = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant RECENT = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookDictionary bookDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        bookExportService = new BookExportService(entityManager, BookShards.single(), transactionManager,
+            objectMapper, 1000);
+    }
+
+    @Test
+    @DisplayName("한 줄에 도서 하나씩 NDJSON 출력 + 카테고리/상태/수정 시간 필터")
+    void exportWithFilters() throws IOException {
+        // given - IT 6권(최근 수정 2권), 소설 4권, IT 중 1권은 절판
+        insertBooks(10, i -> i < 6 ? "IT" : "소설", i -> i == 0 ? BookStatus.DISCONTINUED : BookStatus.AVAILABLE,
+            i -> i < 2 ? RECENT : OLD);
+
+        // when
+        List<JsonNode> all = export(null, null, null);
+        List<JsonNode> it = export("IT", null, null);
+        List<JsonNode> available = export("IT", BookStatus.AVAILABLE, null);
+        List<JsonNode> changed = export(null, null, RECENT.minusSeconds(1));
+
+        // then
+        assertThat(all).hasSize(10);
+        assertThat(it).hasSize(6);
+        assertThat(available).hasSize(5);
+        assertThat(changed).hasSize(2);
+        assertThat(all).extracting(node -> node.get("bookId").asText()).isSorted();
+        JsonNode discontinued = it.stream()
+            .filter(node -> node.get("title").asText().equals("Book 0"))
+            .findFirst().orElseThrow();
+        assertThat(discontinued.get("status").asText()).isEqualTo("DISCONTINUED");
+        assertThat(discontinued.get("category").asText()).isEqualTo("IT");
+        assertThat(discontinued.get("description").asText()).isEqualTo("설명 0");
+        assertThat(discontinued.has("updatedAt")).isTrue();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("대량 내보내기 처리량 측정 (행 수와 무관하게 일정한 메모리)")
+    void exportThroughput() throws IOException {
+        // given
+        insertBooks(BENCHMARK_ROWS, i -> "CAT" + (i % 20), i -> BookStatus.AVAILABLE, i -> OLD);
+        entityManager.clear();
+        CountingOutputStream output = new CountingOutputStream();
+
+        // when
+        Runtime runtime = Runtime.getRuntime();
+        long start = System.nanoTime();
+        long count = bookExportService.exportBooks(null, null, null, output);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+
+        // then
+        log.info("카탈로그 내보내기 - Rows: {}, Bytes: {}MB, Elapsed: {}ms, Rows/sec: {}, Heap used: {}MB",
+            count, output.bytes / 1024 / 1024, elapsedMillis, count * 1000 / elapsedMillis, usedMemory / 1024 / 1024);
+        assertThat(count).isEqualTo(BENCHMARK_ROWS);
+        assertThat(output.lines).isEqualTo(BENCHMARK_ROWS);
+    }
+
+    private List<JsonNode> export(String category, BookStatus status, Instant updatedSince) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bookExportService.exportBooks(category, status, updatedSince, output);
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private void insertBooks(int count, IntFunction<String> category,
+                             IntFunction<BookStatus> status,
+                             IntFunction<Instant> updatedAt) {
+        List<Object[]> rows = new ArrayList<>(Math.min(count, 10_000));
+        List<Object[]> details = new ArrayList<>(Math.min(count, 10_000));
+        Timestamp createdAt = Timestamp.from(OLD);
+        for (int i = 0; i < count; i++) {
+            byte[] bookId = UuidBinary.toBytes(UuidV7Creator.create());
+            rows.add(new Object[]{bookId, "Book " + i, bookDictionary.register(DictionaryKind.AUTHOR, "Author " + (i % 100)),
+                String.format("978%010d", i), 10000 + i % 50 * 1000, i % 100,
+                bookDictionary.register(DictionaryKind.CATEGORY, category.apply(i)), status.apply(i).name(), createdAt, Timestamp.from(updatedAt.apply(i))});
+            details.add(new Object[]{bookId, CompressedText.encode("설명 " + i)});
+            if (rows.size() == 10_000 || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO book (book_id, title, author_id, isbn, price, stock_quantity, "
+                    + "category_id, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                jdbcTemplate.batchUpdate("INSERT INTO book_detail (book_id, description) VALUES (?, ?)", details);
+                rows.clear();
+                details.clear();
+            }
+        }
+    }
+
+    /**
+     * 내용은 버리고 바이트/줄 수만 세는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+
+}
@@ -3,29 +3,51 @@ package com.bookmanager.domain.book.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.CountMode;
 import com.bookmanager.common.exception.BookNotFoundException;
 import com.bookmanager.common.exception.DuplicateResourceException;
+import com.bookmanager.common.exception.VersionConflictException;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.common.response.SliceResponse;
 import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.cache.ApproximateCountCache;
+import com.bookmanager.domain.book.cache.BookSearchCache;
+import com.bookmanager.domain.book.cache.CachedSearchResult;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dictionary.DictionaryKind;
 import com.bookmanager.domain.book.dto.mapper.BookMapper;
 import com.bookmanager.domain.book.dto.request.BookRequest;
 import com.bookmanager.domain.book.dto.request.BookUpdateRequest;
 import com.bookmanager.domain.book.dto.response.BookResponse;
 import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.dto.response.SimilarBookResponse;
 import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.entity.BookDetail;
+import com.bookmanager.domain.book.event.BookChangedEvent;
+import com.bookmanager.domain.book.event.BookSnapshot;
+import com.bookmanager.domain.book.index.BookPriceIndex;
+import com.bookmanager.domain.book.index.PriceIndexPage;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
 import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.similar.LshIndex;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,10 +56,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,9 +73,30 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookDetailRepository bookDetailRepository;
+
     @Mock
     private BookMapper bookMapper;     // MapStruct Mapper Mock 추가
 
+    @Mock
+    private BookPriceIndex bookPriceIndex;
+
+    @Mock
+    private BookSearchCache bookSearchCache;
+
+    @Mock
+    private SimilarBookIndex similarBookIndex;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private BookDictionary bookDictionary;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookService bookService;
 
@@ -71,7 +117,6 @@ class BookServiceTest {
             .publisher("Addison-Wesley")
             .price(45000)
             .stockQuantity(50)
-            .description("Java 프로그래밍 필독서")
             .category("IT")
             .status(BookStatus.AVAILABLE)
             .publishedAt(Instant.now())
@@ -128,7 +173,9 @@ class BookServiceTest {
         given(bookRepository.existsByIsbn(anyString())).willReturn(false);
         given(bookMapper.toEntity(any(BookRequest.class), anyString())).willReturn(testBook);
         given(bookRepository.save(any(Book.class))).willReturn(testBook);
-        given(bookMapper.toResponse(any(Book.class))).willReturn(testResponse);
+        given(bookMapper.toDetail(any(BookRequest.class), anyString()))
+            .willAnswer(invocation -> new BookDetail(invocation.getArgument(1), "Java 프로그래밍 필독서"));
+        given(bookMapper.toResponse(any(Book.class), eq("Java 프로그래밍 필독서"))).willReturn(testResponse);
 
         // when - 도서 등록 실행
         BookResponse response = bookService.createBook(testRequest);
@@ -142,7 +189,8 @@ class BookServiceTest {
         verify(bookRepository, times(1)).existsByIsbn(anyString());
         verify(bookMapper, times(1)).toEntity(any(BookRequest.class), anyString());
         verify(bookRepository, times(1)).save(any(Book.class));
-        verify(bookMapper, times(1)).toResponse(any(Book.class));
+        verify(bookDetailRepository, times(1)).save(any(BookDetail.class));
+        verify(bookMapper, times(1)).toResponse(any(Book.class), eq("Java 프로그래밍 필독서"));
     }
 
     @Test
@@ -165,7 +213,9 @@ class BookServiceTest {
     void getBookById_Success() {
         // given - Mock 동작 정의
         given(bookRepository.findById(anyString())).willReturn(Optional.of(testBook));
-        given(bookMapper.toResponse(any(Book.class))).willReturn(testResponse);
+        given(bookDetailRepository.findDescriptionById(testBook.getBookId()))
+            .willReturn(Optional.of("Java 프로그래밍 필독서"));
+        given(bookMapper.toResponse(testBook, "Java 프로그래밍 필독서")).willReturn(testResponse);
 
         // when - 도서 조회 실행
         BookResponse response = bookService.getBookById(testBook.getBookId());
@@ -195,7 +245,7 @@ class BookServiceTest {
     void getBookByIsbn_Success() {
         // given - Mock 동작 정의
         given(bookRepository.findByIsbn(anyString())).willReturn(Optional.of(testBook));
-        given(bookMapper.toResponse(any(Book.class))).willReturn(testResponse);
+        given(bookMapper.toResponse(any(Book.class), any())).willReturn(testResponse);
 
         // when
         BookResponse response = bookService.getBookByIsbn(testBook.getIsbn());
@@ -211,13 +261,12 @@ class BookServiceTest {
     @Test
     @DisplayName("전체 도서 목록 조회 테스트 (페이징)")
     void getAllBooks() {
-        // given - Mock 페이지 데이터 생성
-        List<Book> bookList = Arrays.asList(testBook);
-        Page<Book> bookPage = new PageImpl<>(bookList);
+        // given - Mock 페이지 데이터 생성 (요약 DTO로 바로 조회)
+        List<BookSummaryResponse> bookList = Arrays.asList(testBookSummaryResponse);
+        Page<BookSummaryResponse> bookPage = new PageImpl<>(bookList);
         Pageable pageable = PageRequest.of(0, 10);
 
-        given(bookRepository.findAll(pageable)).willReturn(bookPage);
-        given(bookMapper.toSummaryResponse(any(Book.class))).willReturn(testBookSummaryResponse);
+        given(bookRepository.findAllSummaries(pageable)).willReturn(bookPage);
 
         // when
         Page<BookSummaryResponse> response = bookService.getAllBooks(pageable);
@@ -227,18 +276,108 @@ class BookServiceTest {
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getTitle()).isEqualTo("Effective Java");
 
-        verify(bookRepository, times(1)).findAll(pageable);
+        verify(bookRepository, times(1)).findAllSummaries(pageable);
+        verify(bookMapper, never()).toSummaryResponse(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("제목 검색 Slice 조회 테스트 - COUNT 쿼리 없이 근사 전체 건수 사용")
+    void searchBooksByTitleSlice_Approx() {
+        // given - 다음 페이지가 있는 Slice + 캐시된 근사값
+        Pageable pageable = PageRequest.of(0, 1);
+        Instant countedAt = Instant.now().minusSeconds(10);
+        given(bookRepository.findSummarySliceByTitleContaining("Java", pageable))
+            .willReturn(new SliceImpl<>(List.of(testBookSummaryResponse), pageable, true));
+        given(approximateCountCache.get(eq("TITLE:Java"), any()))
+            .willReturn(new ApproximateCountCache.CountEntry(1234, countedAt));
+
+        // when
+        SliceResponse<BookSummaryResponse> response =
+            bookService.searchBooksByTitleSlice("Java", pageable, CountMode.APPROX);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalElements()).isEqualTo(1234);
+        assertThat(response.getTotalElementsExact()).isFalse();
+        assertThat(response.getTotalElementsAsOf()).isEqualTo(countedAt);
+        verify(bookRepository, never()).countByTitleContaining(anyString());
+        verify(bookRepository, never()).findSummariesByTitleContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Slice 조회 마지막 페이지 - 정확한 전체 건수를 직접 계산")
+    void getAllBooksSlice_LastPageHasExactTotal() {
+        // given - 3페이지(size 10)에 1건 → 전체 21건
+        Pageable pageable = PageRequest.of(2, 10);
+        given(bookRepository.findAllSummarySlice(pageable))
+            .willReturn(new SliceImpl<>(List.of(testBookSummaryResponse), pageable, false));
+
+        // when
+        SliceResponse<BookSummaryResponse> approx = bookService.getAllBooksSlice(pageable, CountMode.APPROX);
+        SliceResponse<BookSummaryResponse> none = bookService.getAllBooksSlice(pageable, CountMode.NONE);
+
+        // then
+        assertThat(approx.getTotalElements()).isEqualTo(21);
+        assertThat(approx.getTotalElementsExact()).isTrue();
+        assertThat(none.getTotalElements()).isNull();
+        assertThat(none.isLast()).isTrue();
+        verify(approximateCountCache).put("ALL", 21);
+        verify(approximateCountCache, never()).get(anyString(), any());
+        verify(bookRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("전체 도서 목록 커서 조회 테스트 - size + 1건 조회로 다음 페이지 판단")
+    void getAllBooksByCursor() {
+        // given - size 1 요청에 2건 반환 → 다음 페이지 있음
+        BookSummaryResponse nextBook = BookSummaryResponse.builder()
+            .bookId(UuidV7Creator.create())
+            .title("Clean Code")
+            .author("Robert C. Martin")
+            .price(33000)
+            .build();
+        String after = UuidV7Creator.create();
+
+        given(bookRepository.findSummariesByBookIdLessThan(after, PageRequest.of(0, 2)))
+            .willReturn(List.of(testBookSummaryResponse, nextBook));
+
+        // when
+        CursorPage<BookSummaryResponse> response = bookService.getAllBooksByCursor(after, 1);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(testBook.getBookId());
+        verify(bookRepository, never()).findAllSummaries(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 조회 페이지 크기 범위 초과 시 예외")
+    void getAllBooksByCursor_InvalidSize() {
+        assertThatThrownBy(() -> bookService.getAllBooksByCursor(null, CursorPage.MAX_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("커서가 UUID 형식이 아니면 빈 페이지 대신 예외")
+    void getBooksByCursor_InvalidCursor() {
+        assertThatThrownBy(() -> bookService.getAllBooksByCursor("not-a-uuid", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookService.getBooksByCategoryByCursor("IT", "not-a-uuid", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(bookRepository, never()).findSummariesByBookIdLessThan(anyString(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("제목으로 도서 검색 테스트")
     void searchBooksByTitle() {
         // given
-        List<Book> bookList = Arrays.asList(testBook);
-        Page<Book> bookPage = new PageImpl<>(bookList);
+        List<BookSummaryResponse> bookList = Arrays.asList(testBookSummaryResponse);
+        Page<BookSummaryResponse> bookPage = new PageImpl<>(bookList);
         Pageable pageable = PageRequest.of(0, 10);
 
-        given(bookRepository.findByTitleContaining(anyString(), any(Pageable.class)))
+        given(bookRepository.findSummariesByTitleContaining(anyString(), any(Pageable.class)))
             .willReturn(bookPage);
 
         // when
@@ -248,7 +387,146 @@ class BookServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getContent()).hasSize(1);
 
-        verify(bookRepository, times(1)).findByTitleContaining(anyString(), any(Pageable.class));
+        verify(bookRepository, times(1)).findSummariesByTitleContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("제목 검색 캐시 적중 테스트 - 검색/COUNT 쿼리 없이 IN 쿼리로 조회")
+    void searchBooksByTitle_CacheHit() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookSearchCache.get(any()))
+            .willReturn(CachedSearchResult.of(List.of(testBook.getBookId()), 1, 0));
+        given(bookRepository.findSummariesByBookIdIn(List.of(testBook.getBookId())))
+            .willReturn(List.of(testBookSummaryResponse));
+
+        // when
+        Page<BookSummaryResponse> response = bookService.searchBooksByTitle("  Effective  ", pageable);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        verify(bookRepository, never()).findSummariesByTitleContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("가격순 제목 검색은 캐시를 거치지 않음 - 가격 변경은 캐시 버전을 올리지 않으므로")
+    void searchBooksByTitle_SortedByPrice_SkipsCache() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("price"));
+        given(bookRepository.findSummariesByTitleContaining("Effective", pageable))
+            .willReturn(new PageImpl<>(List.of(testBookSummaryResponse), pageable, 1));
+
+        // when
+        Page<BookSummaryResponse> response = bookService.searchBooksByTitle("  Effective  ", pageable);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        verify(bookSearchCache, never()).get(any());
+        verify(bookSearchCache, never()).put(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("저자 검색 캐시 미스 테스트 - 정규화된 검색어로 검색 후 캐시 저장")
+    void searchBooksByAuthor_CacheMiss() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookSearchCache.currentVersion()).willReturn(3L);
+        given(bookDictionary.namesContaining(DictionaryKind.AUTHOR, "Joshua Bloch")).willReturn(List.of("Joshua Bloch"));
+        given(bookRepository.findSummariesByAuthorIn(List.of("Joshua Bloch"), pageable))
+            .willReturn(new PageImpl<>(List.of(testBookSummaryResponse), pageable, 1));
+
+        // when
+        Page<BookSummaryResponse> response = bookService.searchBooksByAuthor(" Joshua   Bloch ", pageable);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        verify(bookSearchCache, times(1)).put(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("가격 범위 검색 테스트 - 가격 인덱스 사용")
+    void searchBooksByPriceRange_UsesIndex() {
+        // given - 인덱스가 페이지의 bookId와 전체 건수를 반환
+        Pageable pageable = PageRequest.of(3, 10, Sort.by(Sort.Direction.DESC, "price"));
+        given(bookPriceIndex.isReady()).willReturn(true);
+        given(bookPriceIndex.query(10000, 50000, BookStatus.AVAILABLE, true, 30L, 10))
+            .willReturn(new PriceIndexPage(List.of(testBook.getBookId()), 31));
+        given(bookRepository.findSummariesByBookIdIn(List.of(testBook.getBookId())))
+            .willReturn(List.of(testBookSummaryResponse));
+
+        // when
+        Page<BookSummaryResponse> response =
+            bookService.searchBooksByPriceRange(10000, 50000, BookStatus.AVAILABLE, pageable);
+
+        // then - OFFSET/COUNT 쿼리 없이 IN 쿼리 한 번으로 조회
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getTotalElements()).isEqualTo(31);
+        verify(bookRepository, never())
+            .findSummariesByPriceBetweenAndStatus(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("가격 범위 검색 테스트 - 인덱스 생성 전에는 DB 조회")
+    void searchBooksByPriceRange_FallbackToDatabase() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookPriceIndex.isReady()).willReturn(false);
+        given(bookRepository.findSummariesByPriceBetween(anyInt(), anyInt(), any(Pageable.class)))
+            .willReturn(new PageImpl<>(List.of(testBookSummaryResponse)));
+
+        // when
+        Page<BookSummaryResponse> response = bookService.searchBooksByPriceRange(null, 50000, null, pageable);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        verify(bookPriceIndex, never()).query(anyInt(), anyInt(), any(), anyBoolean(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("가격 범위 검색 실패 테스트 - 최소 가격이 최대 가격보다 큼")
+    void searchBooksByPriceRange_Fail_InvalidRange() {
+        assertThatThrownBy(() -> bookService.searchBooksByPriceRange(50000, 10000, null, PageRequest.of(0, 10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("유사 도서 조회 테스트 - 인덱스 후보를 유사도 순으로 반환")
+    void getSimilarBooks() {
+        // given
+        BookSummaryResponse similarBook = BookSummaryResponse.builder()
+            .bookId(UuidV7Creator.create())
+            .title("Effective Kotlin")
+            .author("Marcin Moskala")
+            .price(32000)
+            .category("IT")
+            .status("AVAILABLE")
+            .build();
+        given(similarBookIndex.contains(testBook.getBookId())).willReturn(true);
+        given(similarBookIndex.findSimilar(testBook.getBookId(), 5))
+            .willReturn(List.of(new LshIndex.Match(similarBook.getBookId(), 0.75)));
+        given(bookRepository.findSummariesByBookIdIn(List.of(similarBook.getBookId())))
+            .willReturn(List.of(similarBook));
+
+        // when
+        List<SimilarBookResponse> response = bookService.getSimilarBooks(testBook.getBookId(), 5);
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getTitle()).isEqualTo("Effective Kotlin");
+        assertThat(response.get(0).getSimilarity()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("유사 도서 조회 실패 테스트 - 존재하지 않는 도서")
+    void getSimilarBooks_Fail_NotFound() {
+        // given
+        given(similarBookIndex.contains(anyString())).willReturn(false);
+        given(bookRepository.existsById(anyString())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> bookService.getSimilarBooks("invalid-id", 5))
+            .isInstanceOf(BookNotFoundException.class);
     }
 
     @Test
@@ -264,35 +542,20 @@ class BookServiceTest {
             .category("IT")
             .build();
 
-        given(bookRepository.findById(anyString())).willReturn(Optional.of(testBook));
+        given(bookRepository.findVersionedSnapshotById(anyString())).willReturn(versionedRow(testBook, 3L));
+        given(bookRepository.updateColumnsById(eq(testBook.getBookId()), eq(3L), any(Instant.class), anyMap()))
+            .willReturn(1);
+        given(bookDetailRepository.updateDescriptionById(anyString(), anyString())).willReturn(0);
 
-        // updateEntityFromDto가 실제로 Book을 수정하도록 모킹
-        doAnswer(invocation -> {
-            BookUpdateRequest req = invocation.getArgument(0);
-            Book book = invocation.getArgument(1);
-            book.updateBookInfo(
-                req.getTitle(),
-                req.getAuthor(),
-                req.getPublisher(),
-                req.getPrice(),
-                req.getDescription(),
-                req.getCategory()
-            );
-            return null;
-        }).when(bookMapper).updateEntityFromDto(any(BookUpdateRequest.class), any(Book.class));
-
-        // 실제 Book 객체의 현재 상태를 반영하여 응답을 생성
-        // willAnswer를 사용하면 Mock이 호출될 때 실제 Book 객체의 현재 상태를 읽어서
-        // 응답을 생성하므로, updateEntityFromDto가 수정한 값이 반영
-        given(bookMapper.toResponse(any(Book.class))).willAnswer(invocation -> {
-            Book book = invocation.getArgument(0);
+        // 엔티티를 읽지 않으므로 응답은 메모리에서 계산한 수정 후 스냅샷으로 생성
+        given(bookMapper.toResponse(any(BookSnapshot.class))).willAnswer(invocation -> {
+            BookSnapshot snapshot = invocation.getArgument(0);
             return BookResponse.builder()
-                .bookId(book.getBookId())
-                .title(book.getTitle())             // 수정된 값이 반영됨
-                .price(book.getPrice())             // 수정된 값이 반영됨
-                .description(book.getDescription())  // 수정된 값이 반영됨
-                .createdAt(book.getCreatedAt())
-                .updatedAt(book.getUpdatedAt())
+                .bookId(snapshot.getBookId())
+                .title(snapshot.getTitle())
+                .price(snapshot.getPrice())
+                .description(snapshot.getDescription())
+                .version(snapshot.getVersion())
                 .build();
         });
 
@@ -304,8 +567,59 @@ class BookServiceTest {
         assertThat(response.getTitle()).isEqualTo("Effective Java 3rd Edition");
         assertThat(response.getPrice()).isEqualTo(50000);
         assertThat(response.getDescription()).isEqualTo("Updated description");
+        assertThat(response.getVersion()).isEqualTo(4L);
+
+        // 바뀐 컬럼(title, price)만 SET 절에 포함
+        verify(bookRepository, times(1)).updateColumnsById(eq(testBook.getBookId()), eq(3L), any(Instant.class),
+            eq(Map.of("title", "Effective Java 3rd Edition", "price", 50000)));
+        verify(bookRepository, never()).findById(anyString());
+        // 상세 정보가 없던 도서이므로 book_detail 행 생성
+        verify(bookDetailRepository, times(1)).save(any(BookDetail.class));
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
 
-        verify(bookRepository, times(1)).findById(anyString());
+    @Test
+    @DisplayName("도서 정보 수정 - 요청 version이 현재 version과 다르면 예외 발생")
+    void updateBook_VersionConflict() {
+        // given
+        BookUpdateRequest updateRequest = BookUpdateRequest.builder()
+            .price(50000)
+            .version(2L)
+            .build();
+        given(bookRepository.findVersionedSnapshotById(anyString())).willReturn(versionedRow(testBook, 3L));
+
+        // when & then
+        assertThatThrownBy(() -> bookService.updateBook(testBook.getBookId(), updateRequest))
+            .isInstanceOf(VersionConflictException.class);
+        verify(bookRepository, never()).updateColumnsById(anyString(), anyLong(), any(), anyMap());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("도서 정보 수정 - 조회 후 다른 수정이 먼저 반영되면 예외 발생")
+    void updateBook_ConcurrentModification() {
+        // given
+        BookUpdateRequest updateRequest = BookUpdateRequest.builder()
+            .price(50000)
+            .build();
+        given(bookRepository.findVersionedSnapshotById(anyString())).willReturn(versionedRow(testBook, 3L));
+        given(bookRepository.updateColumnsById(anyString(), anyLong(), any(Instant.class), anyMap())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> bookService.updateBook(testBook.getBookId(), updateRequest))
+            .isInstanceOf(VersionConflictException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("도서 정보 수정 - 존재하지 않는 도서면 예외 발생")
+    void updateBook_NotFound() {
+        // given
+        given(bookRepository.findVersionedSnapshotById(anyString())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> bookService.updateBook("invalid-id", BookUpdateRequest.builder().build()))
+            .isInstanceOf(BookNotFoundException.class);
     }
 
     @Test
@@ -437,7 +751,7 @@ class BookServiceTest {
 
     private void MockBookResponse() {
         // 실제 Book 객체의 상태를 반영한 동적 응답
-        given(bookMapper.toResponse(any(Book.class))).willAnswer(invocation -> {
+        given(bookMapper.toResponse(any(Book.class), any())).willAnswer(invocation -> {
             Book book = invocation.getArgument(0);
             return BookResponse.builder()
                 .bookId(book.getBookId())
@@ -447,7 +761,7 @@ class BookServiceTest {
                 .publisher(book.getPublisher())
                 .price(book.getPrice())
                 .stockQuantity(book.getStockQuantity())
-                .description(book.getDescription())
+                .description(invocation.getArgument(1))
                 .category(book.getCategory())
                 .status(book.getStatus().name())  // 변경된 상태!
                 .statusDescription(book.getStatus().getDescription())
@@ -458,5 +772,13 @@ class BookServiceTest {
         });
     }
 
+    // findVersionedSnapshotById 결과 행 (description 없음)
+    private static List<Object[]> versionedRow(Book book, long version) {
+        return List.<Object[]>of(new Object[] {
+            book.getBookId(), book.getTitle(), book.getAuthor(), book.getIsbn(), book.getPublisher(),
+            book.getPrice(), book.getStockQuantity(), null, book.getCategory(), book.getStatus(),
+            book.getPublishedAt(), book.getCreatedAt(), book.getUpdatedAt(), version
+        });
+    }
 
-}
\ No newline at end of file
+}
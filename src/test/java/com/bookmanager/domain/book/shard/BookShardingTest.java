@@ -0,0 +1,221 @@
+package com.bookmanager.domain.book.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bookmanager.common.exception.DuplicateResourceException;
+import com.bookmanager.common.response.CursorPage;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.config.datasource.ShardRoutingDataSource;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BookResponse;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.entity.Book;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.service.BookService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드 4개를 각각 H2 인메모리 DB로 두고 배치/조회/병합 확인
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:shard-0;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.show-sql=false",
+    "bookstore.sharding.enabled=true",
+    "bookstore.sharding.urls=jdbc:h2:mem:shard-1;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE,"
+        + "jdbc:h2:mem:shard-2;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE,"
+        + "jdbc:h2:mem:shard-3;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+@DisplayName("도서 샤딩 테스트")
+class BookShardingTest {
+
+    private static final int BOOKS = 200;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookShards bookShards;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < bookShards.count(); shard++) {
+            JdbcTemplate jdbcTemplate = shardJdbc(shard);
+            jdbcTemplate.update("DELETE FROM book_detail");
+            jdbcTemplate.update("DELETE FROM book");
+        }
+        bookShards.directory().clear();
+    }
+
+    @Test
+    @DisplayName("도서는 bookId 해시 샤드에만 저장되고 ISBN 디렉터리로 다시 찾음")
+    void placesBooksByBookIdHash() {
+        // given & when - 여러 샤드에 걸친 일괄 등록 (호출 트랜잭션 하나)
+        List<BookResponse> created = bookService.createBooks(requests(BOOKS));
+
+        // then - 샤드별 행 수가 bookId 해시와 일치하고 모든 샤드에 분산
+        Map<Integer, Integer> expected = new HashMap<>();
+        created.forEach(book -> expected.merge(bookShards.shardOf(book.getBookId()), 1, Integer::sum));
+        assertThat(expected).hasSize(4);
+        for (int shard = 0; shard < bookShards.count(); shard++) {
+            assertThat(shardJdbc(shard).queryForObject("SELECT COUNT(*) FROM book", Integer.class))
+                .isEqualTo(expected.getOrDefault(shard, 0));
+            assertThat(shardJdbc(shard).queryForObject("SELECT COUNT(*) FROM book_detail", Integer.class))
+                .isEqualTo(expected.getOrDefault(shard, 0));
+        }
+        assertThat(bookRepository.count()).isEqualTo(BOOKS);
+
+        // then - ID/ISBN 단건 조회 (상세 정보도 같은 샤드)
+        BookResponse sample = created.get(BOOKS / 2);
+        assertThat(bookService.getBookById(sample.getBookId()).getDescription()).isEqualTo(sample.getDescription());
+        assertThat(bookService.getBookByIsbn(sample.getIsbn()).getBookId()).isEqualTo(sample.getBookId());
+        assertThat(bookRepository.findByIsbnIn(created.stream().map(BookResponse::getIsbn).toList())).hasSize(BOOKS);
+        assertThat(bookRepository.findExistingIsbns(List.of(sample.getIsbn(), "9790000000000")))
+            .containsExactly(sample.getIsbn());
+    }
+
+    @Test
+    @DisplayName("샤드별 정렬 결과를 합친 Page/Slice는 단일 DB 정렬과 같은 순서")
+    void mergesSortedPages() {
+        // given - 가격이 겹치는 도서 (같은 가격은 bookId 순서)
+        bookService.createBooks(requests(BOOKS));
+        Comparator<BookSummaryResponse> order = Comparator.comparing(BookSummaryResponse::getPrice).reversed()
+            .thenComparing(BookSummaryResponse::getBookId);
+        List<BookSummaryResponse> all = new ArrayList<>(
+            bookRepository.findAllSummaries(PageRequest.of(0, BOOKS)).getContent());
+        all.sort(order);
+        Sort sort = Sort.by(Sort.Direction.DESC, "price");
+
+        for (int page = 0; page * 30 < BOOKS; page++) {
+            // when
+            Page<BookSummaryResponse> result = bookRepository.findAllSummaries(PageRequest.of(page, 30, sort));
+            Slice<BookSummaryResponse> slice = bookRepository.findAllSummarySlice(PageRequest.of(page, 30, sort));
+
+            // then
+            List<String> expected = all.subList(page * 30, Math.min(BOOKS, page * 30 + 30)).stream()
+                .map(BookSummaryResponse::getBookId).toList();
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getBookId).isEqualTo(expected);
+            assertThat(result.getTotalElements()).isEqualTo(BOOKS);
+            assertThat(slice.getContent()).extracting(BookSummaryResponse::getBookId).isEqualTo(expected);
+            assertThat(slice.hasNext()).isEqualTo(page * 30 + 30 < BOOKS);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 조회는 전체 샤드에서 bookId 내림차순으로 이어짐")
+    void mergesCursorPages() {
+        // given
+        List<String> bookIds = new ArrayList<>(
+            bookService.createBooks(requests(BOOKS)).stream().map(BookResponse::getBookId).toList());
+        bookIds.sort(Comparator.reverseOrder());
+
+        // when
+        List<String> visited = new ArrayList<>();
+        String after = null;
+        CursorPage<BookSummaryResponse> page;
+        do {
+            page = bookService.getAllBooksByCursor(after, 17);
+            page.getContent().forEach(book -> visited.add(book.getBookId()));
+            after = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // then
+        assertThat(visited).isEqualTo(bookIds);
+        assertThat(bookRepository.countByCategory()).hasSize(5)
+            .allSatisfy(row -> assertThat(((Number) row[1]).longValue()).isEqualTo(BOOKS / 5));
+    }
+
+    @Test
+    @DisplayName("다른 샤드에 같은 ISBN은 등록되지 않고, 삭제하면 디렉터리에서도 빠짐")
+    void isbnIsUniqueAcrossShards() {
+        // given
+        BookResponse created = bookService.createBook(requests(1).get(0));
+
+        // when & then
+        assertThatThrownBy(() -> bookService.createBook(requests(1).get(0)))
+            .isInstanceOf(DuplicateResourceException.class);
+
+        bookService.deleteBook(created.getBookId());
+        assertThat(bookRepository.existsByIsbn(created.getIsbn())).isFalse();
+        assertThat(bookService.createBook(requests(1).get(0)).getIsbn()).isEqualTo(created.getIsbn());
+    }
+
+    @Test
+    @DisplayName("호출 트랜잭션이 롤백되면 모든 샤드의 INSERT와 디렉터리 예약이 함께 취소")
+    void rollsBackAllShards() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Book> books = IntStream.range(0, 40)
+            .mapToObj(i -> Book.builder()
+                .bookId(UuidV7Creator.create())
+                .title("롤백 " + i)
+                .author("테스터")
+                .isbn(isbn(i))
+                .price(10000)
+                .stockQuantity(1)
+                .category("IT")
+                .build())
+            .toList();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRepository.saveAllBatched(books);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(bookRepository.count()).isZero();
+        assertThat(bookRepository.findExistingIsbns(books.stream().map(Book::getIsbn).toList())).isEmpty();
+    }
+
+    private JdbcTemplate shardJdbc(int shard) {
+        return new JdbcTemplate(shardRoutingDataSource.shard(shard));
+    }
+
+    private static List<BookRequest> requests(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> BookRequest.builder()
+                .title("샤딩 도서 " + i)
+                .author("저자 " + i % 7)
+                .isbn(isbn(i))
+                .price(10000 + i % 13 * 1000)
+                .stockQuantity(i % 9 + 1)
+                .description("설명 " + i)
+                .category("CAT" + i % 5)
+                .build())
+            .toList();
+    }
+
+    private static String isbn(int i) {
+        return "979" + String.format("%010d", i);
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.bookmanager.domain.book.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BookResponse;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.service.BookService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 샤드 1개/2개/4개 처리량 비교 (샤드마다 H2 인메모리 DB, 같은 프로세스의 CPU를 나눠 씀)
+ *
+ * - 등록: createBooks 500건씩 (샤드별 참여 트랜잭션으로 동시에 INSERT)
+ * - 단건 조회: bookId로 한 샤드만 조회 (스레드 8개)
+ * - 페이지 조회: 가격순 Page (전체 샤드 조회 후 병합)
+ *
+ * -Pbenchmark일 때만 실행, 규모 조정: ./gradlew test -Pbenchmark --tests '*BookShardingThroughputTest*' -Dsharding.benchmark.rows=100000
+ */
+@Slf4j
+abstract class BookShardingThroughputTest {
+
+    private static final int ROWS = Integer.getInteger("sharding.benchmark.rows", 20_000);
+    private static final int BATCH = 500;
+    private static final int THREADS = 8;
+    private static final int LOOKUPS = ROWS;
+    private static final int PAGE_QUERIES = 500;
+
+    private static final String H2 = ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private BookShards bookShards;
+
+    @AfterEach
+    void tearDown() {
+        bookDetailRepository.deleteAllInBatch();
+        bookRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("등록/단건 조회/페이지 조회 처리량")
+    void throughput() throws Exception {
+        // 등록
+        List<String> bookIds = new ArrayList<>(ROWS);
+        long start = System.nanoTime();
+        for (int from = 0; from < ROWS; from += BATCH) {
+            int offset = from;
+            List<BookRequest> requests = IntStream.range(0, Math.min(BATCH, ROWS - from))
+                .mapToObj(i -> request(offset + i))
+                .toList();
+            bookService.createBooks(requests).forEach(book -> bookIds.add(book.getBookId()));
+        }
+        long insertRate = rate(ROWS, start);
+        assertThat(bookRepository.count()).isEqualTo(ROWS);
+
+        // 단건 조회
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                int first = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = first; i < LOOKUPS; i += THREADS) {
+                        BookResponse book = bookService.getBookById(bookIds.get(i));
+                        assertThat(book.getBookId()).isEqualTo(bookIds.get(i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long lookupRate = rate(LOOKUPS, start);
+
+        // 페이지 조회 (앞쪽 10페이지 반복)
+        start = System.nanoTime();
+        for (int i = 0; i < PAGE_QUERIES; i++) {
+            assertThat(bookService.getAllBooks(PageRequest.of(i % 10, 20, Sort.by("price"))).getContent())
+                .hasSize(20);
+        }
+        long pageRate = rate(PAGE_QUERIES, start);
+
+        log.info("샤드 {}개 - Rows: {}, 등록: {} rows/s, 단건 조회: {} ops/s, 페이지 조회: {} ops/s",
+            bookShards.count(), ROWS, insertRate, lookupRate, pageRate);
+    }
+
+    private static long rate(int operations, long start) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return operations * 1000L / elapsedMillis;
+    }
+
+    private static BookRequest request(int i) {
+        return BookRequest.builder()
+            .title("처리량 도서 " + i)
+            .author("저자 " + i % 100)
+            .isbn("978" + String.format("%010d", i))
+            .price(10000 + i % 50 * 500)
+            .stockQuantity(i % 20 + 1)
+            .description("처리량 측정용 설명 " + i)
+            .category("CAT" + i % 20)
+            .build();
+    }
+
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:throughput-1-0" + H2,
+        "spring.jpa.show-sql=false",
+        "bookstore.sharding.enabled=true"
+    })
+    @ActiveProfiles("test")
+    @DisplayName("도서 샤딩 처리량 - 샤드 1개")
+    static class OneShard extends BookShardingThroughputTest {
+    }
+
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:throughput-2-0" + H2,
+        "spring.jpa.show-sql=false",
+        "bookstore.sharding.enabled=true",
+        "bookstore.sharding.urls=jdbc:h2:mem:throughput-2-1" + H2
+    })
+    @ActiveProfiles("test")
+    @DisplayName("도서 샤딩 처리량 - 샤드 2개")
+    static class TwoShards extends BookShardingThroughputTest {
+    }
+
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:throughput-4-0" + H2,
+        "spring.jpa.show-sql=false",
+        "bookstore.sharding.enabled=true",
+        "bookstore.sharding.urls=jdbc:h2:mem:throughput-4-1" + H2 + ",jdbc:h2:mem:throughput-4-2" + H2
+            + ",jdbc:h2:mem:throughput-4-3" + H2
+    })
+    @ActiveProfiles("test")
+    @DisplayName("도서 샤딩 처리량 - 샤드 4개")
+    static class FourShards extends BookShardingThroughputTest {
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.bookmanager.domain.book.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bookmanager.common.util.UuidV7Creator;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BookShards 테스트")
+class BookShardsTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    @DisplayName("UUID v7 bookId는 샤드에 고르게 분산")
+    void distributesEvenly() {
+        // given
+        int[] counts = new int[4];
+
+        // when
+        for (String bookId : UuidV7Creator.create(KEYS)) {
+            counts[BookShards.jumpConsistentHash(UUID.fromString(bookId).getLeastSignificantBits(), 4)]++;
+        }
+
+        // then - 샤드마다 평균의 ±5% 이내
+        for (int count : counts) {
+            assertThat(count).isBetween(KEYS / 4 * 95 / 100, KEYS / 4 * 105 / 100);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드를 하나 늘리면 약 1/N의 도서만 새 샤드로 이동")
+    void movesOnlyToNewShard() {
+        // given
+        int moved = 0;
+
+        // when
+        for (String bookId : UuidV7Creator.create(KEYS)) {
+            long key = UUID.fromString(bookId).getLeastSignificantBits();
+            int before = BookShards.jumpConsistentHash(key, 4);
+            int after = BookShards.jumpConsistentHash(key, 5);
+            if (before != after) {
+                // then - 기존 샤드 사이의 이동은 없음
+                assertThat(after).isEqualTo(4);
+                moved++;
+            }
+        }
+
+        // then
+        assertThat(moved).isBetween(KEYS / 5 * 90 / 100, KEYS / 5 * 110 / 100);
+    }
+
+    @Test
+    @DisplayName("샤딩하지 않으면 모든 도서가 샤드 0")
+    void singleShard() {
+        BookShards bookShards = BookShards.single();
+
+        assertThat(bookShards.count()).isEqualTo(1);
+        assertThat(bookShards.sharded()).isFalse();
+        assertThat(bookShards.shardOf(UuidV7Creator.create())).isZero();
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.bookmanager.domain.book.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@Slf4j
+@DisplayName("MinHash + LSH 유사 도서 인덱스 테스트")
+class MinHashLshTest {
+
+    private static final int NUM_HASHES = 64;
+    private static final int BANDS = 16;
+
+    private final MinHasher minHasher = new MinHasher(NUM_HASHES, 42);
+
+    @Test
+    @DisplayName("시그니처 유사도는 실제 Jaccard 유사도에 근접")
+    void similarityApproximatesJaccard() {
+        // given - 단어 20개 중 15개 공유 → Jaccard = 15 / 25 = 0.6
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            common.append("common").append(i).append(' ');
+        }
+        String a = common + "alpha1 alpha2 alpha3 alpha4 alpha5";
+        String b = common + "beta1 beta2 beta3 beta4 beta5";
+
+        // when
+        double estimated = MinHasher.similarity(
+            minHasher.signature(null, a, null), minHasher.signature(null, b, null));
+
+        // then - 표준오차 sqrt(0.6 * 0.4 / 64) ≈ 0.06
+        assertThat(estimated).isBetween(0.4, 0.8);
+        assertThat(MinHasher.similarity(
+            minHasher.signature("Same", a, "IT"), minHasher.signature("Same", a, "IT"))).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("텍스트가 없으면 시그니처를 만들지 않음")
+    void emptyTextHasNoSignature() {
+        assertThat(minHasher.signature(null, "  - ", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비슷한 설명의 도서는 찾고, 관련 없는 도서는 제외")
+    void findsNearDuplicates() {
+        // given
+        LshIndex index = new LshIndex(NUM_HASHES, BANDS);
+        index.upsert("java-1", minHasher.signature("Effective Java",
+            "자바 프로그래밍 모범 사례와 디자인 패턴 객체 생성 제네릭 람다 스트림 동시성", "IT"));
+        index.upsert("java-2", minHasher.signature("Effective Java 3판",
+            "자바 프로그래밍 모범 사례와 디자인 패턴 객체 생성 제네릭 람다 스트림 직렬화", "IT"));
+        index.upsert("cook-1", minHasher.signature("집밥 레시피",
+            "한식 찌개 반찬 김치 요리법 계절 재료 손질 방법", "요리"));
+
+        // when
+        List<LshIndex.Match> matches = index.query("java-1", 10, 100);
+
+        // then
+        assertThat(matches).extracting(LshIndex.Match::bookId).containsExactly("java-2");
+        assertThat(matches.get(0).similarity()).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("설명 변경/삭제 시 해당 도서만 점진적으로 갱신")
+    void incrementalUpdate() {
+        // given
+        LshIndex index = new LshIndex(NUM_HASHES, BANDS);
+        String description = "스프링 부트 JPA 트랜잭션 영속성 컨텍스트 지연 로딩 페치 조인";
+        index.upsert("spring-1", minHasher.signature("Spring JPA", description, "IT"));
+        index.upsert("other", minHasher.signature("여행 가이드", "유럽 배낭 여행 숙소 교통 일정", "여행"));
+        assertThat(index.query("other", 10, 100)).isEmpty();
+
+        // when - other의 설명을 spring-1과 같게 변경
+        index.upsert("other", minHasher.signature("Spring JPA 실전", description, "IT"));
+
+        // then
+        assertThat(index.query("spring-1", 10, 100)).extracting(LshIndex.Match::bookId).containsExactly("other");
+
+        // when - 삭제
+        index.remove("other");
+
+        // then
+        assertThat(index.query("spring-1", 10, 100)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // 측정은 -Pbenchmark일 때만 실행: ./gradlew test -Pbenchmark --tests '*MinHashLshTest*'
+    @Test
+    @EnabledIfSystemProperty(named = "bookstore.benchmark", matches = "true")
+    @DisplayName("대량 카탈로그에서 조회 시간은 카탈로그 크기와 무관 (후보만 비교)")
+    void queryLatencyOnLargeCatalog() {
+        // given - 어휘 5,000개에서 단어 30개씩 뽑은 도서 50,000권 + 근접 중복 한 쌍
+        Random random = new Random(1);
+        LshIndex index = new LshIndex(NUM_HASHES, BANDS);
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 30; w++) {
+                text.append("word").append(random.nextInt(5000)).append(' ');
+            }
+            index.upsert("book-" + i, minHasher.signature(null, text.toString(), "cat" + (i % 20)));
+        }
+        index.upsert("dup", minHasher.signature(null,
+            "unique1 unique2 unique3 unique4 unique5 unique6 unique7 unique8 unique9 unique10", "X"));
+        index.upsert("dup-2", minHasher.signature(null,
+            "unique1 unique2 unique3 unique4 unique5 unique6 unique7 unique8 unique9 unique11", "X"));
+
+        // when - JIT 워밍업 후 측정
+        int queries = 2000;
+        for (int q = 0; q < queries; q++) {
+            index.query("book-" + random.nextInt(50_000), 10, 500);
+        }
+        long start = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            index.query("book-" + random.nextInt(50_000), 10, 500);
+        }
+        double averageMicros = (System.nanoTime() - start) / 1000.0 / queries;
+        log.info("유사 도서 조회 평균 시간 - Books: {}, Avg: {}us", index.size(), averageMicros);
+
+        // then
+        assertThat(index.query("dup", 10, 500)).extracting(LshIndex.Match::bookId).contains("dup-2");
+        assertThat(averageMicros).isLessThan(1000);
+    }
+
+}
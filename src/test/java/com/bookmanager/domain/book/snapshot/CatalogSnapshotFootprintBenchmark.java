@@ -0,0 +1,220 @@
+package com.bookmanager.domain.book.snapshot;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.util.UuidBinary;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * 카탈로그 스냅샷 힙 사용량/GC 정지/조회 지연 비교 (힙 객체 배열 vs 메모리 매핑 OffHeapCatalog)
+ *
+ * 각 방식마다
+ * - 힙: 적재 전후 Full GC 후 사용 중인 힙 차이
+ * - GC: 조회 부하 중 GC 횟수/총 정지 시간/최대 정지 시간, 적재 상태에서 System.gc() 한 번의 정지 시간
+ * - 지연: bookId 단건 조회 + 최신순 커서 20건 조회를 번갈아 실행한 p50/p99/p99.9
+ *
+ * 실행 (힙 객체 방식이 5백만 건에 약 3GB를 쓰므로 최대 힙 지정)
+ *   JAVA_TOOL_OPTIONS=-Xmx8g ./gradlew jmh \
+ *     -PjmhMain=com.bookmanager.domain.book.snapshot.CatalogSnapshotFootprintBenchmark
+ * 도서 수 변경 (기본 5,000,000): 위 명령에 --args='1000000'
+ */
+public class CatalogSnapshotFootprintBenchmark {
+
+    private static final String[] CATEGORIES = {"IT", "소설", "경제", "과학", "역사", "예술", "여행", "요리", "건강", "교육"};
+    private static final BookStatus[] STATUSES = BookStatus.values();
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final int WARMUP_QUERIES = 200_000;
+    private static final int MEASURED_QUERIES = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    public static void main(String[] args) throws Exception {
+        int books = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        GcRecorder gc = new GcRecorder();
+        onHeap(books, gc);
+        offHeap(books, gc);
+    }
+
+    // 스냅샷을 힙 객체로 보관 (정렬된 CatalogRecord 배열 + 이진 탐색)
+    private static void onHeap(int books, GcRecorder gc) {
+        long baseline = usedHeapAfterGc();
+        CatalogRecord[] records = new CatalogRecord[books];
+        for (int i = 0; i < books; i++) {
+            records[i] = record(i);
+        }
+        Comparator<CatalogRecord> byBookId = Comparator.comparing(CatalogRecord::bookId);
+        report("힙 객체", books, usedHeapAfterGc() - baseline, fullGcMillis(), measure(gc, books,
+            bookId -> records[Arrays.binarySearch(records, probe(bookId), byBookId)].toSummary(),
+            (after, limit) -> {
+                int found = Arrays.binarySearch(records, probe(after), byBookId);
+                int end = found >= 0 ? found : -found - 1;
+                List<BookSummaryResponse> page = new ArrayList<>(limit);
+                for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+                    page.add(records[i].toSummary());
+                }
+                return page;
+            }));
+    }
+
+    // 메모리 매핑 파일 + 순번 인덱스 (CatalogSnapshot)
+    private static void offHeap(int books, GcRecorder gc) throws IOException {
+        Path directory = Files.createTempDirectory("catalog-benchmark");
+        Path file = directory.resolve("catalog.snapshot");
+        try {
+            CatalogSnapshotFile.write(file, NOW, () -> generate(books));
+            long baseline = usedHeapAfterGc();
+            CatalogSnapshot snapshot = new CatalogSnapshot(CatalogSnapshotFile.open(file));
+            report("오프힙 (매핑 파일 " + Files.size(file) / (1 << 20) + "MB)", books,
+                usedHeapAfterGc() - baseline, fullGcMillis(), measure(gc, books,
+                    bookId -> snapshot.findById(bookId).orElseThrow().toSummary(),
+                    (after, limit) -> snapshot.findLatest(null, after, limit)));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static Result measure(GcRecorder gc, int books, Function<String, BookSummaryResponse> findById,
+                                  BiFunction<String, Integer, List<BookSummaryResponse>> findLatest) {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            query(random, books, findById, findLatest, i);
+        }
+        gc.reset();
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            query(random, books, findById, findLatest, i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return new Result(percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999),
+            gc.count.get(), gc.totalMillis.get(), gc.maxMillis.get());
+    }
+
+    // 조회 대상 bookId 문자열은 두 방식 모두 요청마다 생성 (요청 파라미터와 같음)
+    private static void query(SplittableRandom random, int books, Function<String, BookSummaryResponse> findById,
+                              BiFunction<String, Integer, List<BookSummaryResponse>> findLatest, int i) {
+        String bookId = bookId(random.nextInt(books));
+        if (i % 2 == 0) {
+            findById.apply(bookId);
+        } else {
+            findLatest.apply(bookId, PAGE_SIZE);
+        }
+    }
+
+    private static void report(String name, int books, long heapBytes, long fullGcMillis, Result result) {
+        System.out.printf("%s - Books: %,d, Heap: %,dMB (%.0f B/book), Full GC: %dms%n",
+            name, books, heapBytes / (1 << 20), (double) heapBytes / books, fullGcMillis);
+        System.out.printf("  조회 %,d건 - p50: %.1fus, p99: %.1fus, p99.9: %.1fus, GC: %d회 / %dms (최대 %dms)%n",
+            MEASURED_QUERIES, result.p50 / 1000.0, result.p99 / 1000.0, result.p999 / 1000.0,
+            result.gcCount, result.gcMillis, result.gcMaxMillis);
+    }
+
+    private static Iterator<CatalogRecord> generate(int books) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < books;
+            }
+
+            @Override
+            public CatalogRecord next() {
+                return record(next++);
+            }
+        };
+    }
+
+    // 순번 오름차순 = bookId 오름차순
+    private static CatalogRecord record(int i) {
+        return new CatalogRecord(bookId(i), "벤치마크 도서 제목 " + i, "저자 " + i % 50_000,
+            "979" + String.format("%010d", i), "출판사 " + i % 2_000, 10_000 + i % 400 * 100, i % 50, null,
+            CATEGORIES[i % CATEGORIES.length], STATUSES[i % STATUSES.length], NOW, NOW, NOW);
+    }
+
+    private static String bookId(int i) {
+        return UuidBinary.toString(ByteBuffer.allocate(UuidBinary.BYTES)
+            .putLong(0x0190_0000_0000_7000L | (long) i << 16)
+            .putLong(0x8000_0000_0000_0000L | i)
+            .array());
+    }
+
+    private static CatalogRecord probe(String bookId) {
+        return new CatalogRecord(bookId, null, null, null, null, 0, 0, null, null, null, null, null, null);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long fullGcMillis() {
+        long start = System.nanoTime();
+        System.gc();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+
+    private record Result(long p50, long p99, long p999, long gcCount, long gcMillis, long gcMaxMillis) {
+    }
+
+    /**
+     * GC 알림으로 정지 시간 집계
+     */
+    private static class GcRecorder {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        GcRecorder() {
+            NotificationListener listener = (notification, handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long duration = info.getGcInfo().getDuration();
+                count.incrementAndGet();
+                totalMillis.addAndGet(duration);
+                maxMillis.accumulateAndGet(duration, Math::max);
+            };
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) bean).addNotificationListener(listener, null, null);
+            }
+        }
+
+        void reset() {
+            count.set(0);
+            totalMillis.set(0);
+            maxMillis.set(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,286 @@
+package com.bookmanager.domain.book.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.bookmanager.common.BookStatus;
+import com.bookmanager.common.exception.ReadOnlyModeException;
+import com.bookmanager.common.util.CompressedText;
+import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.config.datasource.DataSourceHealthMonitor;
+import com.bookmanager.domain.book.analytics.InventoryAnalytics;
+import com.bookmanager.domain.book.cache.ApproximateCountCache;
+import com.bookmanager.domain.book.cache.BookSearchCache;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
+import com.bookmanager.domain.book.dto.mapper.BookMapper;
+import com.bookmanager.domain.book.dto.request.BookRequest;
+import com.bookmanager.domain.book.dto.response.BookResponse;
+import com.bookmanager.domain.book.dto.response.BookSummaryResponse;
+import com.bookmanager.domain.book.index.BookPriceIndex;
+import com.bookmanager.domain.book.repository.BookDetailRepository;
+import com.bookmanager.domain.book.repository.BookRepository;
+import com.bookmanager.domain.book.service.BookService;
+import com.bookmanager.domain.book.similar.SimilarBookIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("카탈로그 스냅샷/읽기 전용 모드 테스트")
+class CatalogSnapshotTest {
+
+    private static final Instant TAKEN_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("스냅샷 쓰기 후 메모리 매핑으로 읽으면 같은 레코드 (null 컬럼, 압축 설명 포함)")
+    void writeAndReadRoundTrip() throws IOException {
+        // given
+        Path path = tempDir.resolve("catalog.snapshot");
+        String longDescription = "자바 프로그래밍 필독서. ".repeat(50);
+        List<CatalogRecord> records = List.of(
+            record("IT", 45000, 10, BookStatus.AVAILABLE, longDescription),
+            new CatalogRecord(UuidV7Creator.create(), "제목", "저자", "9780000000002", null, 0, 0, null,
+                null, BookStatus.DISCONTINUED, null, TAKEN_AT, TAKEN_AT),
+            record("소설", 12000, 3, BookStatus.OUT_OF_STOCK, "짧은 설명"));
+
+        // when (설명 영역을 7바이트 단위로 나눠 매핑 → 설명이 매핑 경계에 걸쳐도 읽을 수 있는지 확인)
+        CatalogSnapshotFile.write(path, TAKEN_AT, records);
+        OffHeapCatalog catalog = CatalogSnapshotFile.open(path, 7);
+
+        // then
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(catalog.takenAt()).isEqualTo(TAKEN_AT);
+        assertThat(catalog.record(0).bookId()).isEqualTo(records.get(0).bookId());
+        assertThat(catalog.record(0).toResponse().getDescription()).isEqualTo(longDescription);
+        assertThat(catalog.description(0).length).isLessThan(longDescription.length());
+        assertThat(catalog.record(2).toResponse().getDescription()).isEqualTo("짧은 설명");
+        assertThat(catalog.summary(2).getTitle()).isEqualTo(records.get(2).title());
+        assertThat(catalog.summary(2).getStatus()).isEqualTo("OUT_OF_STOCK");
+
+        CatalogRecord nulls = catalog.record(1);
+        assertThat(nulls.publisher()).isNull();
+        assertThat(nulls.category()).isNull();
+        assertThat(nulls.description()).isNull();
+        assertThat(nulls.publishedAt()).isNull();
+        assertThat(nulls.status()).isEqualTo(BookStatus.DISCONTINUED);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    @DisplayName("bookId 오름차순이 아닌 레코드는 기록하지 않고 기존 파일 유지")
+    void rejectsUnsortedRecords() throws IOException {
+        // given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogRecord first = record("IT", 1000, 1, BookStatus.AVAILABLE, null);
+        CatalogRecord second = record("IT", 2000, 2, BookStatus.AVAILABLE, null);
+        CatalogSnapshotFile.write(path, TAKEN_AT, List.of(first));
+
+        // when & then
+        assertThatThrownBy(() -> CatalogSnapshotFile.write(path, TAKEN_AT.plusSeconds(1), List.of(second, first)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(CatalogSnapshotFile.open(path).takenAt()).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 체크섬으로 감지")
+    void detectsCorruption() throws IOException {
+        // given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, TAKEN_AT, List.of(record("IT", 1000, 1, BookStatus.AVAILABLE, null)));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[CatalogSnapshotFile.HEADER_BYTES + 3] ^= 0x7F;
+        Files.write(path, bytes);
+
+        // when & then
+        assertThatThrownBy(() -> CatalogSnapshotFile.open(path))
+            .isInstanceOf(CatalogSnapshotCorruptedException.class)
+            .hasMessageContaining("체크섬");
+    }
+
+    @Test
+    @DisplayName("순번 인덱스 조회 - 커서, 가격 범위, 정렬 페이지")
+    void queriesIndex() throws IOException {
+        // given (bookId 생성 순서 = 등록 순서)
+        List<CatalogRecord> records = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            records.add(record(i % 3 == 0 ? "IT" : "소설", 1000 * (i % 10), i,
+                i % 2 == 0 ? BookStatus.AVAILABLE : BookStatus.OUT_OF_STOCK, null));
+        }
+        CatalogSnapshot snapshot = snapshotOf(records);
+
+        // when
+        List<BookSummaryResponse> latestIt = snapshot.findLatest("IT", null, 3);
+        List<BookSummaryResponse> nextIt = snapshot.findLatest("IT", latestIt.get(2).getBookId(), 100);
+        Page<BookSummaryResponse> byPrice = snapshot.findByPriceBetween(2000, 5000, BookStatus.AVAILABLE, true,
+            PageRequest.of(0, 5));
+        Page<BookSummaryResponse> byStock =
+            snapshot.findAll(PageRequest.of(1, 10, Sort.by("stockQuantity").descending()));
+        Page<BookSummaryResponse> byStatusAndPrice = snapshot.findByCategory("IT",
+            PageRequest.of(0, 4, Sort.by("status", "price").and(Sort.by("bookId").descending())));
+
+        // then
+        assertThat(latestIt).extracting(BookSummaryResponse::getBookId)
+            .containsExactly(records.get(27).bookId(), records.get(24).bookId(), records.get(21).bookId());
+        assertThat(nextIt).hasSize(7);
+        assertThat(nextIt.get(0).getBookId()).isEqualTo(records.get(18).bookId());
+        assertThat(byPrice.getTotalElements()).isEqualTo(6);
+        assertThat(byPrice.getContent()).extracting(BookSummaryResponse::getPrice)
+            .containsExactly(4000, 4000, 4000, 2000, 2000);
+        assertThat(byStock.getContent()).extracting(BookSummaryResponse::getStockQuantity)
+            .containsExactly(19, 18, 17, 16, 15, 14, 13, 12, 11, 10);
+        assertThat(byStatusAndPrice.getTotalElements()).isEqualTo(10);
+        assertThat(byStatusAndPrice.getContent()).extracting(BookSummaryResponse::getBookId)
+            .containsExactly(records.get(0).bookId(), records.get(12).bookId(), records.get(24).bookId(),
+                records.get(6).bookId());
+        assertThat(snapshot.findByIsbn(records.get(5).isbn())).contains(records.get(5));
+        assertThat(snapshot.findByIsbn("9799999999999")).isEmpty();
+        assertThat(snapshot.findById("not-a-uuid")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신 시 이전 스냅샷과 변경분을 병합하고 삭제된 도서는 제외")
+    void refreshMergesChangesAndDeletions() throws IOException {
+        // given
+        List<CatalogRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(record("IT", 1000 * (i + 1), i, BookStatus.AVAILABLE, null));
+        }
+        BookRepository bookRepository = mock(BookRepository.class);
+        given(bookRepository.findSnapshotBatch(any(), any()))
+            .willReturn(records.stream().map(CatalogSnapshotTest::row).toList());
+        DataSourceHealthMonitor health = new DataSourceHealthMonitor(mock(DataSource.class), 2000, 1000);
+        CatalogSnapshotStore store = new CatalogSnapshotStore(bookRepository, health, tempDir, 60_000);
+        store.refresh();
+
+        // 1번 가격 변경, 3번 삭제, 6번 등록
+        CatalogRecord repriced = new CatalogRecord(records.get(1).bookId(), "개정판", "저자", records.get(1).isbn(),
+            "출판사", 99000, 1, null, "IT", BookStatus.AVAILABLE, TAKEN_AT, TAKEN_AT, TAKEN_AT.plusSeconds(60));
+        CatalogRecord added = record("소설", 5000, 7, BookStatus.AVAILABLE, "새 도서");
+        given(bookRepository.findSnapshotChanges(any(), any())).willReturn(List.of(row(repriced), row(added)));
+        given(bookRepository.count()).willReturn(5L);
+        given(bookRepository.findBookIdBatch(any(), any())).willReturn(List.of(records.get(0).bookId(),
+            records.get(1).bookId(), records.get(2).bookId(), records.get(4).bookId(), added.bookId()));
+
+        // when
+        store.refresh();
+
+        // then
+        CatalogSnapshot snapshot = store.current();
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.findById(records.get(3).bookId())).isEmpty();
+        assertThat(snapshot.findById(records.get(1).bookId())).get()
+            .extracting(CatalogRecord::title, CatalogRecord::price).containsExactly("개정판", 99000);
+        assertThat(snapshot.findLatest(null, null, 1)).extracting(BookSummaryResponse::getBookId)
+            .containsExactly(added.bookId());
+        assertThat(snapshot.findById(added.bookId()).orElseThrow().toResponse().getDescription())
+            .isEqualTo("새 도서");
+
+        // 재기동 시 파일에서 같은 스냅샷 로드
+        CatalogSnapshotStore restarted = new CatalogSnapshotStore(bookRepository, health, tempDir, 60_000);
+        restarted.loadFile();
+        assertThat(restarted.current().size()).isEqualTo(5);
+        assertThat(restarted.current().takenAt()).isEqualTo(snapshot.takenAt());
+    }
+
+    @Test
+    @DisplayName("DB 장애 시 조회는 스냅샷으로 응답하고 쓰기는 커넥션을 기다리지 않고 거부")
+    void fallsBackToSnapshotWhenDatabaseIsDown() throws IOException {
+        // given
+        CatalogRecord stored = record("IT", 45000, 50, BookStatus.AVAILABLE, "Java 프로그래밍 필독서");
+        CatalogSnapshot snapshot = snapshotOf(List.of(stored));
+        CatalogSnapshotStore store = mock(CatalogSnapshotStore.class);
+        given(store.current()).willReturn(snapshot);
+        DataSourceHealthMonitor health = new DataSourceHealthMonitor(mock(DataSource.class), 2000, 1000);
+
+        BookRepository bookRepository = mock(BookRepository.class);
+        given(bookRepository.findById(anyString()))
+            .willThrow(new CannotCreateTransactionException("Connection is not available"));
+        BookService bookService = proxy(new BookService(bookRepository, mock(BookDetailRepository.class),
+            mock(BookMapper.class), mock(BookPriceIndex.class), mock(BookSearchCache.class),
+            mock(SimilarBookIndex.class), mock(ApproximateCountCache.class), mock(InventoryAnalytics.class),
+            mock(BookDictionary.class), mock(ApplicationEventPublisher.class)),
+            store, health);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        // when
+        BookResponse book = bookService.getBookById(stored.bookId());
+
+        // then
+        assertThat(book.getTitle()).isEqualTo(stored.title());
+        assertThat(book.getDescription()).isEqualTo("Java 프로그래밍 필독서");
+        assertThat(health.isDown()).isTrue();
+        assertThat(response.getHeader(SnapshotFallbackInterceptor.SOURCE_HEADER)).isEqualTo("snapshot");
+        assertThat(Long.parseLong(response.getHeader(SnapshotFallbackInterceptor.SNAPSHOT_AGE_HEADER)))
+            .isPositive();
+
+        // 장애 중 쓰기는 트랜잭션을 시작하지 않고 바로 거부
+        BookRequest request = BookRequest.builder().isbn("9780134685991").build();
+        assertThatThrownBy(() -> bookService.createBook(request))
+            .isInstanceOf(ReadOnlyModeException.class);
+        verify(bookRepository, never()).existsByIsbn(any());
+    }
+
+    private CatalogSnapshot snapshotOf(List<CatalogRecord> records) throws IOException {
+        Path path = tempDir.resolve("index.snapshot");
+        CatalogSnapshotFile.write(path, TAKEN_AT, records);
+        return new CatalogSnapshot(CatalogSnapshotFile.open(path));
+    }
+
+    // BookRepository.SNAPSHOT 조회 결과 형식
+    private static Object[] row(CatalogRecord record) {
+        return new Object[]{record.bookId(), record.title(), record.author(), record.isbn(), record.publisher(),
+            record.price(), record.stockQuantity(), CompressedText.decode(record.description()), record.category(),
+            record.status(), record.publishedAt(), record.createdAt(), record.updatedAt()};
+    }
+
+    private static BookService proxy(BookService target, CatalogSnapshotStore store, DataSourceHealthMonitor health) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new SnapshotFallbackInterceptor(() -> store, () -> health, () -> null));
+        return (BookService) proxyFactory.getProxy();
+    }
+
+    private static CatalogRecord record(String category, int price, int stockQuantity, BookStatus status,
+                                        String description) {
+        String bookId = UuidV7Creator.create();
+        String isbn = "978" + bookId.substring(bookId.length() - 10);
+        return new CatalogRecord(bookId, "도서 " + bookId, "저자", isbn, "출판사", price, stockQuantity,
+            CompressedText.encode(description), category, status, TAKEN_AT, TAKEN_AT, TAKEN_AT);
+    }
+
+}
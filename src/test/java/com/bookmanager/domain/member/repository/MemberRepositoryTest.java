@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.bookmanager.common.MemberStatus;
+import com.bookmanager.common.util.UuidBinary;
 import com.bookmanager.common.util.UuidV7Creator;
+import com.bookmanager.domain.book.dictionary.BookDictionary;
 import com.bookmanager.domain.member.entity.Member;
 import java.time.Instant;
 import java.util.List;
@@ -14,11 +16,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
+@Import(BookDictionary.class)
 @ActiveProfiles("test")
 @DisplayName("MemberRepository 테스트")
 class MemberRepositoryTest {
@@ -177,6 +182,30 @@ class MemberRepositoryTest {
         assertThat(result.getContent()).hasSize(3);
     }
 
+    @Test
+    @DisplayName("특정 기간 가입 회원 커서 조회 테스트 - 페이지를 이어서 조회하면 누락/중복 없음")
+    void findByCreatedAtBetweenAfter() {
+        // given
+        Instant startDate = Instant.now().minusSeconds(3600);
+        Instant endDate = Instant.now().plusSeconds(3600);
+
+        // when - 첫 페이지 (2건 + 다음 페이지 확인용 1건)
+        List<Member> firstPage = memberRepository.findByCreatedAtBetweenAfter(
+            startDate, endDate, startDate, UuidBinary.MIN, Limit.of(3));
+        Member last = firstPage.get(1);
+        List<Member> secondPage = memberRepository.findByCreatedAtBetweenAfter(
+            startDate, endDate, last.getCreatedAt(), last.getMemberId(), Limit.of(3));
+
+        // then
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getMemberId()).isEqualTo(firstPage.get(2).getMemberId());
+        assertThat(List.of(firstPage.get(0), firstPage.get(1), secondPage.get(0)))
+            .extracting(Member::getMemberId)
+            .containsExactlyInAnyOrder(
+                testMember1.getMemberId(), testMember2.getMemberId(), testMember3.getMemberId());
+    }
+
     @Test
     @DisplayName("상태별 회원 수 집계 테스트")
     void countByStatusGroupBy() {
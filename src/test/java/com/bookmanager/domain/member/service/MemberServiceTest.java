@@ -254,6 +254,15 @@ class MemberServiceTest {
             times(1)).findByNameContaining(anyString(), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("회원 커서 조회 실패 테스트 - UUID 형식이 아닌 커서")
+    void getAllMembersByCursor_Fail_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> memberService.getAllMembersByCursor("not-a-uuid", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(memberRepository, never()).findByMemberIdLessThanOrderByMemberIdDesc(anyString(), any());
+    }
+
 
 
 }
\ No newline at end of file